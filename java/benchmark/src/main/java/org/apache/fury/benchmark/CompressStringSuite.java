@@ -34,6 +34,7 @@ public class CompressStringSuite {
   private static char[] utf16StrChars = utf16Str.toCharArray();
   private static String latinStr = StringUtils.random(utf16StrChars.length, 0);
   private static char[] latinStrChars = latinStr.toCharArray();
+  private static char[] latinInflatedChars = new char[latinStrChars.length];
 
   @Benchmark
   public Object compressLatinCharsToHeap() {
@@ -104,6 +105,27 @@ public class CompressStringSuite {
     return StringUtils.isLatin(latinStrChars);
   }
 
+  @Benchmark
+  public Object compressLatinCharsSuperWordToHeap() {
+    return StringUtils.compressLatin(latinStrChars, heapBuffer, 0, latinStrChars.length);
+  }
+
+  @Benchmark
+  public Object inflateLatinScalar() {
+    byte[] heapBuffer = CompressStringSuite.heapBuffer;
+    char[] chars = latinInflatedChars;
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) (heapBuffer[i] & 0xff);
+    }
+    return chars;
+  }
+
+  @Benchmark
+  public Object inflateLatinSuperWord() {
+    StringUtils.inflateLatin(heapBuffer, 0, latinInflatedChars, latinInflatedChars.length);
+    return latinInflatedChars;
+  }
+
   public static void main(String[] args) throws Exception {
     System.out.printf("utf16StrChars length %s\n", utf16StrChars.length);
     System.out.printf("latinStrChars length %s\n", latinStrChars.length);
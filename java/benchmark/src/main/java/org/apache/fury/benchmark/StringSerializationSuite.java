@@ -20,16 +20,28 @@
 package org.apache.fury.benchmark;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.fury.Fury;
 import org.apache.fury.benchmark.state.FstState;
 import org.apache.fury.benchmark.state.FuryState;
 import org.apache.fury.benchmark.state.HessionState;
 import org.apache.fury.benchmark.state.JDKState;
 import org.apache.fury.benchmark.state.KryoState;
 import org.apache.fury.benchmark.state.ProtostuffState;
+import org.apache.fury.config.Language;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.serializer.StringSerializer;
+import org.apache.fury.util.StringUtils;
+import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 @BenchmarkMode(Mode.Throughput)
@@ -73,4 +85,66 @@ public class StringSerializationSuite {
     JDKState.serialize(state.bos, state.data.str);
     return state.bos;
   }
+
+  @State(Scope.Thread)
+  public static class UTF8State {
+    @Param({"ascii", "latin", "utf16"})
+    public String kind;
+
+    public String str;
+    public StringSerializer serializer;
+    public MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(1024);
+
+    @Setup(Level.Trial)
+    public void setup() {
+      String ascii = StringUtils.random(64, 0);
+      switch (kind) {
+        case "ascii":
+          str = ascii;
+          break;
+        case "latin":
+          str = ascii + "caf\u00e9";
+          break;
+        default:
+          str = ascii + "你好, Fury";
+      }
+      Fury fury = Fury.builder().withLanguage(Language.XLANG).build();
+      serializer = new StringSerializer(fury);
+      serializer.writeUTF8String(buffer, str);
+    }
+  }
+
+  @Benchmark
+  public Object fury_writeUTF8Str(UTF8State state) {
+    state.buffer.writerIndex(0);
+    state.serializer.writeUTF8String(state.buffer, state.str);
+    return state.buffer;
+  }
+
+  /** Baseline of {@link #fury_writeUTF8Str} which encodes string by {@link String#getBytes}. */
+  @Benchmark
+  public Object getBytes_writeUTF8Str(UTF8State state) {
+    state.buffer.writerIndex(0);
+    byte[] bytes = state.str.getBytes(StandardCharsets.UTF_8);
+    state.buffer.writeVarUint32(bytes.length);
+    state.buffer.writeBytes(bytes);
+    return state.buffer;
+  }
+
+  @Benchmark
+  public Object fury_readUTF8Str(UTF8State state) {
+    state.buffer.readerIndex(0);
+    return state.serializer.readUTF8String(state.buffer);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      String commandLine =
+          "org.apache.fury.*StringSerializationSuite.*UTF8Str -f 1 -wi 3 -i 3 -t 1 -w 2s -r 2s"
+              + " -rf csv";
+      System.out.println(commandLine);
+      args = commandLine.split(" ");
+    }
+    Main.main(args);
+  }
 }
@@ -65,5 +65,10 @@ public abstract class AbstractThreadSafeFury implements ThreadSafeFury {
     processCallback(fury -> fury.setSerializerFactory(serializerFactory));
   }
 
+  @Override
+  public void setRefTracking(Class<?> cls, boolean trackingRef) {
+    processCallback(fury -> fury.setRefTracking(cls, trackingRef));
+  }
+
   protected abstract void processCallback(Consumer<Fury> callback);
 }
@@ -20,9 +20,16 @@
 package org.apache.fury;
 
 import java.io.OutputStream;
+import java.util.List;
 import java.util.function.Function;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.io.FuryMappedFileReader;
+import org.apache.fury.io.FuryMappedFileWriter;
+import org.apache.fury.io.FuryOutputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.io.FuryWritableChannel;
+import org.apache.fury.io.SerializedBatch;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.serializer.BufferCallback;
 import org.apache.fury.serializer.Serializer;
@@ -82,6 +89,14 @@ public interface BaseFury {
 
   void setSerializerFactory(SerializerFactory serializerFactory);
 
+  /**
+   * Set whether to track reference for objects of <code>cls</code> when reference tracking is
+   * enabled, which takes precedence over {@link org.apache.fury.annotation.Ref} annotated on the
+   * class. Disable it only for types whose objects are never shared or cyclic to save the cost of
+   * reference tracking. This should be invoked before serializing any objects.
+   */
+  void setRefTracking(Class<?> cls, boolean trackingRef);
+
   /** Return serialized <code>obj</code> as a byte array. */
   byte[] serialize(Object obj);
 
@@ -104,6 +119,57 @@ public interface BaseFury {
 
   void serialize(OutputStream outputStream, Object obj, BufferCallback callback);
 
+  /**
+   * Serialize <code>obj</code> to a {@link FuryOutputStream}. Serialized data will be flushed to
+   * the stream in chunks while the object graph is being written, so the whole graph won't be
+   * buffered in memory.
+   */
+  void serialize(FuryOutputStream outputStream, Object obj);
+
+  void serialize(FuryOutputStream outputStream, Object obj, BufferCallback callback);
+
+  /**
+   * Serialize <code>obj</code> to a {@link FuryWritableChannel}. Serialized data will be flushed to
+   * the channel in chunks while the object graph is being written.
+   */
+  void serialize(FuryWritableChannel channel, Object obj);
+
+  void serialize(FuryWritableChannel channel, Object obj, BufferCallback callback);
+
+  /**
+   * Serialize <code>obj</code> to a memory-mapped file by {@link FuryMappedFileWriter}. Serialized
+   * data will be written to the mapped file window directly without an intermediate heap buffer.
+   */
+  void serialize(FuryMappedFileWriter writer, Object obj);
+
+  void serialize(FuryMappedFileWriter writer, Object obj, BufferCallback callback);
+
+  /**
+   * Serialize <code>obj</code> to a {@link FuryGatheringChannel}. Serialized data will be appended
+   * to a chain of segments with large payloads referenced instead of copied, and written to the
+   * channel by a gathering write.
+   */
+  void serialize(FuryGatheringChannel channel, Object obj);
+
+  void serialize(FuryGatheringChannel channel, Object obj, BufferCallback callback);
+
+  /**
+   * Serialize <code>objects</code> into <code>buffer</code> as a batch, which amortizes per-call
+   * setup across all records.
+   *
+   * @param shareMeta whether class names and meta strings are shared across records.
+   * @return start offsets of records in <code>buffer</code>, followed by the end offset.
+   */
+  int[] serializeBatch(MemoryBuffer buffer, List<?> objects, boolean shareMeta);
+
+  /**
+   * Serialize <code>objects</code> as a batch.
+   *
+   * @param shareMeta whether class names and meta strings are shared across records. Records of a
+   *     batch with shared meta can only be deserialized together.
+   */
+  SerializedBatch serializeBatch(List<?> objects, boolean shareMeta);
+
   /** Deserialize <code>obj</code> from a byte array. */
   Object deserialize(byte[] bytes);
 
@@ -128,6 +194,47 @@ public interface BaseFury {
 
   Object deserialize(FuryReadableChannel channel, Iterable<MemoryBuffer> outOfBandBuffers);
 
+  /** Deserialize <code>obj</code> from a memory-mapped file by {@link FuryMappedFileReader}. */
+  Object deserialize(FuryMappedFileReader reader);
+
+  Object deserialize(FuryMappedFileReader reader, Iterable<MemoryBuffer> outOfBandBuffers);
+
+  /**
+   * Deserialize values of <code>fieldNames</code> of the root object of type <code>cls</code>
+   * without deserializing the whole object.
+   *
+   * @return field values in the order of <code>fieldNames</code>, or null if the root object is
+   *     null.
+   */
+  Object[] deserializeFields(byte[] bytes, Class<?> cls, String... fieldNames);
+
+  Object[] deserializeFields(MemoryBuffer buffer, Class<?> cls, String... fieldNames);
+
+  /** Deserialize all records of a batch serialized by {@link #serializeBatch}. */
+  List<Object> deserializeBatch(byte[] bytes);
+
+  List<Object> deserializeBatch(MemoryBuffer buffer);
+
+  /**
+   * Deserialize a record at the reader index of <code>buffer</code>, which is sliced from a batch
+   * serialized without shared meta.
+   */
+  Object deserializeBatchRecord(MemoryBuffer buffer);
+
+  /**
+   * Deserialize record <code>index</code> of <code>batch</code>.
+   *
+   * @throws IllegalStateException if the batch is serialized with shared meta.
+   */
+  Object deserializeBatchRecord(SerializedBatch batch, int index);
+
+  /**
+   * Deep copy <code>obj</code> in memory without a serialization round trip. Immutable objects such
+   * as strings, boxed primitives and {@code java.time} values are shared by the copy. Shared
+   * references and circular references are kept only when ref tracking is enabled.
+   */
+  <T> T copy(T obj);
+
   /**
    * Serialize java object without class info, deserialization should use {@link
    * #deserializeJavaObject}.
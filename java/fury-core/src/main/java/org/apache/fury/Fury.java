@@ -29,22 +29,35 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.annotation.CodegenInvoke;
 import org.apache.fury.builder.JITContext;
+import org.apache.fury.collection.IdentityMap;
 import org.apache.fury.config.CompatibleMode;
 import org.apache.fury.config.Config;
 import org.apache.fury.config.FuryBuilder;
 import org.apache.fury.config.Language;
 import org.apache.fury.config.LongEncoding;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.io.FuryMappedFileReader;
+import org.apache.fury.io.FuryMappedFileWriter;
+import org.apache.fury.io.FuryOutputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.io.FuryStreamReader;
+import org.apache.fury.io.FuryStreamWriter;
+import org.apache.fury.io.FuryWritableChannel;
+import org.apache.fury.io.SerializedBatch;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.memory.MemoryAllocator;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.resolver.ClassInfo;
 import org.apache.fury.resolver.ClassInfoHolder;
 import org.apache.fury.resolver.ClassResolver;
 import org.apache.fury.resolver.MapRefResolver;
+import org.apache.fury.resolver.MetaContext;
 import org.apache.fury.resolver.MetaStringResolver;
 import org.apache.fury.resolver.NoRefResolver;
 import org.apache.fury.resolver.RefResolver;
@@ -52,6 +65,7 @@ import org.apache.fury.resolver.SerializationContext;
 import org.apache.fury.serializer.ArraySerializers;
 import org.apache.fury.serializer.BufferCallback;
 import org.apache.fury.serializer.BufferObject;
+import org.apache.fury.serializer.ObjectFieldsReader;
 import org.apache.fury.serializer.OpaqueObjects;
 import org.apache.fury.serializer.PrimitiveSerializers.LongSerializer;
 import org.apache.fury.serializer.Serializer;
@@ -93,10 +107,16 @@ public final class Fury implements BaseFury {
   private static final boolean isLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
   private static final byte BITMAP = isLittleEndian ? isLittleEndianFlag : 0;
   private static final int BUFFER_SIZE_LIMIT = 128 * 1024;
+
+  /** Large values written to a stream are copied and flushed in chunks of this size. */
+  public static final int STREAM_CHUNK_SIZE = 4096;
+
   private static final short MAGIC_NUMBER = 0x62D4;
 
   private final Config config;
   private final boolean refTracking;
+  // class defs are appended at the end of data in meta share mode unless they are written inline.
+  private final boolean shareMetaAtEnd;
   private final RefResolver refResolver;
   private final ClassResolver classResolver;
   private final MetaStringResolver metaStringResolver;
@@ -110,11 +130,17 @@ public final class Fury implements BaseFury {
   private final boolean compressInt;
   private final LongEncoding longEncoding;
   private final Generics generics;
+  private final FuryMetrics metrics;
+  private final MemoryAllocator memoryAllocator;
   private Language peerLanguage;
   private BufferCallback bufferCallback;
+  private FuryStreamWriter streamWriter;
   private Iterator<MemoryBuffer> outOfBandBuffers;
   private boolean peerOutOfBandEnabled;
   private int depth;
+  // Copies of objects being copied by `copy`, used only when ref tracking is enabled.
+  private final IdentityMap<Object, Object> originToCopyMap;
+  private MemoryBuffer copyBuffer;
 
   public Fury(FuryBuilder builder, ClassLoader classLoader) {
     // Avoid set classLoader in `FuryBuilder`, which won't be clear when
@@ -122,6 +148,7 @@ public final class Fury implements BaseFury {
     config = new Config(builder);
     this.language = config.getLanguage();
     this.refTracking = config.trackingRef();
+    shareMetaAtEnd = config.isMetaShareEnabled() && !config.isInlineClassDefsEnabled();
     compressInt = config.compressInt();
     longEncoding = config.longEncoding();
     if (refTracking) {
@@ -138,6 +165,9 @@ public final class Fury implements BaseFury {
     nativeObjects = new ArrayList<>();
     generics = new Generics(this);
     stringSerializer = new StringSerializer(this);
+    metrics = config.getMetrics();
+    memoryAllocator = config.getMemoryAllocator();
+    originToCopyMap = refTracking ? new IdentityMap<>() : null;
     LOG.info("Created new fury {}", this);
   }
 
@@ -186,6 +216,11 @@ public final class Fury implements BaseFury {
     classResolver.setSerializerFactory(serializerFactory);
   }
 
+  @Override
+  public void setRefTracking(Class<?> cls, boolean trackingRef) {
+    classResolver.setRefTracking(cls, trackingRef);
+  }
+
   public SerializerFactory getSerializerFactory() {
     return classResolver.getSerializerFactory();
   }
@@ -224,6 +259,19 @@ public final class Fury implements BaseFury {
 
   @Override
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj, BufferCallback callback) {
+    FuryMetrics metrics = this.metrics;
+    if (metrics != null) {
+      int writerIndex = buffer.writerIndex();
+      int size = buffer.size();
+      long startTime = System.nanoTime();
+      serializeInternal(buffer, obj, callback);
+      reportWrite(metrics, buffer, obj, buffer.writerIndex() - writerIndex, size, startTime);
+      return buffer;
+    }
+    return serializeInternal(buffer, obj, callback);
+  }
+
+  private MemoryBuffer serializeInternal(MemoryBuffer buffer, Object obj, BufferCallback callback) {
     if (language == Language.XLANG) {
       buffer.writeInt16(MAGIC_NUMBER);
     }
@@ -261,6 +309,78 @@ public final class Fury implements BaseFury {
     }
   }
 
+  /**
+   * Serialize <code>objects</code> into <code>buffer</code> as a batch of records. Header, locking
+   * and resolver states are set up once for the whole batch, and reference tracking is scoped to
+   * every record. Cross-language and out-of-band serialization are not supported.
+   *
+   * @param shareMeta whether class names and meta strings written by a record are shared by later
+   *     records. If true, records must be deserialized together by {@link #deserializeBatch};
+   *     otherwise every record can also be deserialized alone by {@link #deserializeBatchRecord}.
+   * @return start offsets of records in <code>buffer</code>, followed by the end offset of the last
+   *     record, so record <code>i</code> is in <code>[offsets[i], offsets[i + 1])</code>.
+   */
+  @Override
+  public int[] serializeBatch(MemoryBuffer buffer, List<?> objects, boolean shareMeta) {
+    Preconditions.checkArgument(
+        language == Language.JAVA, "Batch serialization supports only java language");
+    int numRecords = objects.size();
+    int[] offsets = new int[numRecords + 1];
+    buffer.writeByte(BITMAP);
+    buffer.writeVarUint32Small7(numRecords);
+    buffer.writeBoolean(shareMeta);
+    try {
+      jitContext.lock();
+      if (depth != 0) {
+        throwDepthSerializationException();
+      }
+      FuryMetrics metrics = this.metrics;
+      int size = buffer.size();
+      for (int i = 0; i < numRecords; i++) {
+        int offset = buffer.writerIndex();
+        offsets[i] = offset;
+        Object obj = objects.get(i);
+        if (metrics != null) {
+          long startTime = System.nanoTime();
+          write(buffer, obj);
+          reportWrite(metrics, buffer, obj, buffer.writerIndex() - offset, size, startTime);
+          size = buffer.size();
+        } else {
+          write(buffer, obj);
+        }
+        reportRefTableReset(true);
+        refResolver.resetWrite();
+        if (!shareMeta) {
+          metaStringResolver.resetWrite();
+          if (config.isScopedMetaShareEnabled()) {
+            serializationContext.resetWrite();
+          }
+        }
+      }
+      offsets[numRecords] = buffer.writerIndex();
+      return offsets;
+    } catch (StackOverflowError t) {
+      throw processStackOverflowError(t);
+    } finally {
+      resetWrite();
+      jitContext.unlock();
+    }
+  }
+
+  /**
+   * Serialize <code>objects</code> as a batch, see {@link #serializeBatch(MemoryBuffer, List,
+   * boolean)}.
+   */
+  @Override
+  public SerializedBatch serializeBatch(List<?> objects, boolean shareMeta) {
+    MemoryBuffer buf = getBuffer();
+    buf.writerIndex(0);
+    int[] offsets = serializeBatch(buf, objects, shareMeta);
+    byte[] bytes = buf.getBytes(0, buf.writerIndex());
+    resetBuffer();
+    return new SerializedBatch(bytes, offsets, shareMeta);
+  }
+
   @Override
   public void serialize(OutputStream outputStream, Object obj) {
     serializeToStream(outputStream, buf -> serialize(buf, obj, null));
@@ -271,6 +391,135 @@ public final class Fury implements BaseFury {
     serializeToStream(outputStream, buf -> serialize(buf, obj, callback));
   }
 
+  @Override
+  public void serialize(FuryOutputStream outputStream, Object obj) {
+    serializeToStream(outputStream, obj, null);
+  }
+
+  @Override
+  public void serialize(FuryOutputStream outputStream, Object obj, BufferCallback callback) {
+    serializeToStream(outputStream, obj, callback);
+  }
+
+  @Override
+  public void serialize(FuryWritableChannel channel, Object obj) {
+    serializeToStream(channel, obj, null);
+  }
+
+  @Override
+  public void serialize(FuryWritableChannel channel, Object obj, BufferCallback callback) {
+    serializeToStream(channel, obj, callback);
+  }
+
+  @Override
+  public void serialize(FuryMappedFileWriter writer, Object obj) {
+    serializeToStream(writer, obj, null);
+  }
+
+  @Override
+  public void serialize(FuryMappedFileWriter writer, Object obj, BufferCallback callback) {
+    serializeToStream(writer, obj, callback);
+  }
+
+  @Override
+  public void serialize(FuryGatheringChannel channel, Object obj) {
+    serializeToStream(channel, obj, null);
+  }
+
+  @Override
+  public void serialize(FuryGatheringChannel channel, Object obj, BufferCallback callback) {
+    serializeToStream(channel, obj, callback);
+  }
+
+  private void serializeToStream(FuryStreamWriter writer, Object obj, BufferCallback callback) {
+    // Meta share without inline class defs and xlang protocol back-patch offsets at the head of
+    // the buffer after the whole object graph is written, the data can be flushed only when the
+    // graph is written.
+    if (language == Language.JAVA && !shareMetaAtEnd) {
+      streamWriter = writer;
+    }
+    try {
+      MemoryBuffer buffer = writer.getBuffer();
+      FuryMetrics metrics = this.metrics;
+      if (metrics != null) {
+        int writerIndex = buffer.writerIndex();
+        int size = buffer.size();
+        long flushedBytes = writer.flushedBytes();
+        long startTime = System.nanoTime();
+        serializeInternal(buffer, obj, callback);
+        // Data may be flushed in the middle of serialization, which resets writer index.
+        long bytes = writer.flushedBytes() - flushedBytes + buffer.writerIndex() - writerIndex;
+        reportWrite(metrics, buffer, obj, bytes, size, startTime);
+      } else {
+        serializeInternal(buffer, obj, callback);
+      }
+      writer.flushBuffer();
+    } finally {
+      streamWriter = null;
+      writer.shrinkBuffer();
+    }
+  }
+
+  /**
+   * Flush serialized data to the {@link FuryStreamWriter} if current serialization is writing to a
+   * stream and buffered data exceeds the chunk size. This method must be invoked only at object
+   * boundaries, where no written offsets in <code>buffer</code> are held by callers.
+   */
+  public void tryFlushStream(MemoryBuffer buffer) {
+    FuryStreamWriter writer = streamWriter;
+    // Serializers may write nested objects into a temporary buffer, skip flush for that buffer.
+    if (writer != null && writer.getBuffer() == buffer) {
+      writer.tryFlushBuffer();
+    }
+  }
+
+  /**
+   * Write a primitive array with its size in bytes, same as {@link
+   * MemoryBuffer#writePrimitiveArrayWithSize}. If current serialization is writing to a stream by
+   * <code>buffer</code>, a large array is copied and flushed in chunks, so the buffer won't grow to
+   * hold it as a whole.
+   */
+  public void writePrimitiveArrayWithSize(
+      MemoryBuffer buffer, Object arr, int offset, int numBytes) {
+    if (numBytes <= STREAM_CHUNK_SIZE || !isStreaming(buffer)) {
+      buffer.writePrimitiveArrayWithSize(arr, offset, numBytes);
+    } else {
+      buffer.writeVarUint32(numBytes);
+      writePrimitiveArrayChunks(buffer, arr, offset, numBytes);
+    }
+  }
+
+  /**
+   * Write <code>numBytes</code> of primitive array <code>arr</code> from <code>offset</code>
+   * without size, which is flushed in chunks if current serialization is writing to a stream by
+   * <code>buffer</code>.
+   */
+  public void writePrimitiveArray(MemoryBuffer buffer, Object arr, int offset, int numBytes) {
+    if (numBytes <= STREAM_CHUNK_SIZE || !isStreaming(buffer)) {
+      buffer.writePrimitiveArray(arr, offset, numBytes);
+    } else {
+      writePrimitiveArrayChunks(buffer, arr, offset, numBytes);
+    }
+  }
+
+  private boolean isStreaming(MemoryBuffer buffer) {
+    FuryStreamWriter writer = streamWriter;
+    return writer != null && writer.getBuffer() == buffer;
+  }
+
+  private void writePrimitiveArrayChunks(
+      MemoryBuffer buffer, Object arr, int offset, int numBytes) {
+    FuryStreamWriter writer = streamWriter;
+    int written = 0;
+    while (written < numBytes) {
+      int size = Math.min(STREAM_CHUNK_SIZE, numBytes - written);
+      buffer.writePrimitiveArray(arr, offset + written, size);
+      written += size;
+      // No offsets are held in the middle of an array, it's safe to flush here.
+      writer.tryFlushBuffer();
+    }
+  }
+
   private StackOverflowError processStackOverflowError(StackOverflowError e) {
     if (!refTracking) {
       String msg =
@@ -291,7 +540,12 @@ public final class Fury implements BaseFury {
   public MemoryBuffer getBuffer() {
     MemoryBuffer buf = buffer;
     if (buf == null) {
-      buf = buffer = MemoryBuffer.newHeapBuffer(64);
+      MemoryAllocator allocator = memoryAllocator;
+      if (allocator == null) {
+        buf = buffer = MemoryBuffer.newHeapBuffer(64);
+      } else {
+        buf = buffer = allocator.newHeapBuffer(64);
+      }
     }
     return buf;
   }
@@ -299,14 +553,22 @@ public final class Fury implements BaseFury {
   public void resetBuffer() {
     MemoryBuffer buf = buffer;
     if (buf != null && buf.size() > BUFFER_SIZE_LIMIT) {
-      buffer = MemoryBuffer.newHeapBuffer(BUFFER_SIZE_LIMIT);
+      MemoryAllocator allocator = memoryAllocator;
+      if (allocator == null) {
+        buffer = MemoryBuffer.newHeapBuffer(BUFFER_SIZE_LIMIT);
+      } else {
+        // Return the grown memory to the pool, the buffer keeps growing by the allocator.
+        byte[] heapMemory = buf.getHeapMemory();
+        byte[] newMemory = allocator.allocateHeap(BUFFER_SIZE_LIMIT);
+        buf.initHeapBuffer(newMemory, 0, newMemory.length);
+        allocator.releaseHeap(heapMemory);
+      }
     }
   }
 
   private void write(MemoryBuffer buffer, Object obj) {
     int startOffset = buffer.writerIndex();
-    boolean shareMeta = config.isMetaShareEnabled();
-    if (shareMeta) {
+    if (shareMetaAtEnd) {
       buffer.writeInt32(-1); // preserve 4-byte for nativeObjects start offsets.
     }
     // reduce caller stack
@@ -315,7 +577,7 @@ public final class Fury implements BaseFury {
       classResolver.writeClass(buffer, classInfo);
       writeData(buffer, classInfo, obj);
     }
-    if (shareMeta) {
+    if (shareMetaAtEnd) {
       buffer.putInt32(startOffset, buffer.writerIndex());
       classResolver.writeClassDefs(buffer);
     }
@@ -339,22 +601,50 @@ public final class Fury implements BaseFury {
 
   /** Serialize a nullable referencable object to <code>buffer</code>. */
   public void writeRef(MemoryBuffer buffer, Object obj) {
-    if (!refResolver.writeRefOrNull(buffer, obj)) {
-      ClassInfo classInfo = classResolver.getOrUpdateClassInfo(obj.getClass());
+    tryFlushStream(buffer);
+    if (obj == null) {
+      buffer.writeByte(Fury.NULL_FLAG);
+      return;
+    }
+    ClassInfo classInfo = classResolver.getOrUpdateClassInfo(obj.getClass());
+    // Skip identity map lookup for types whose ref tracking is disabled, the reader
+    // handles not-null flag in the same way as ref value flag.
+    if (writeRefValueFlag(buffer, obj, classInfo)) {
       classResolver.writeClass(buffer, classInfo);
       writeData(buffer, classInfo, obj);
     }
   }
 
   public void writeRef(MemoryBuffer buffer, Object obj, ClassInfoHolder classInfoHolder) {
-    if (!refResolver.writeRefOrNull(buffer, obj)) {
-      ClassInfo classInfo = classResolver.getClassInfo(obj.getClass(), classInfoHolder);
+    tryFlushStream(buffer);
+    if (obj == null) {
+      buffer.writeByte(Fury.NULL_FLAG);
+      return;
+    }
+    ClassInfo classInfo = classResolver.getClassInfo(obj.getClass(), classInfoHolder);
+    if (writeRefValueFlag(buffer, obj, classInfo)) {
       classResolver.writeClass(buffer, classInfo);
       writeData(buffer, classInfo, obj);
     }
   }
 
+  /**
+   * Write ref flag for not-null <code>obj</code> by ref tracking policy of its class.
+   *
+   * @return true if bytes need to be written for the object.
+   */
+  @CodegenInvoke
+  public boolean writeRefValueFlag(MemoryBuffer buffer, Object obj, ClassInfo classInfo) {
+    if (classInfo.getSerializer().needToWriteRef()) {
+      return refResolver.writeRefValueFlag(buffer, obj);
+    } else {
+      buffer.writeByte(Fury.NOT_NULL_VALUE_FLAG);
+      return true;
+    }
+  }
+
   public void writeRef(MemoryBuffer buffer, Object obj, ClassInfo classInfo) {
+    tryFlushStream(buffer);
     Serializer<Object> serializer = classInfo.getSerializer();
     if (serializer.needToWriteRef()) {
       if (!refResolver.writeRefOrNull(buffer, obj)) {
@@ -377,6 +667,7 @@ public final class Fury implements BaseFury {
   }
 
   public <T> void writeRef(MemoryBuffer buffer, T obj, Serializer<T> serializer) {
+    tryFlushStream(buffer);
     if (serializer.needToWriteRef()) {
       if (!refResolver.writeRefOrNull(buffer, obj)) {
         depth++;
@@ -431,12 +722,14 @@ public final class Fury implements BaseFury {
    * object graph.
    */
   public void writeNonRef(MemoryBuffer buffer, Object obj) {
+    tryFlushStream(buffer);
     ClassInfo classInfo = classResolver.getOrUpdateClassInfo(obj.getClass());
     classResolver.writeClass(buffer, classInfo);
     writeData(buffer, classInfo, obj);
   }
 
   public void writeNonRef(MemoryBuffer buffer, Object obj, ClassInfo classInfo) {
+    tryFlushStream(buffer);
     classResolver.writeClass(buffer, classInfo);
     Serializer serializer = classInfo.getSerializer();
     depth++;
@@ -445,6 +738,7 @@ public final class Fury implements BaseFury {
   }
 
   public <T> void writeNonRef(MemoryBuffer buffer, T obj, Serializer<T> serializer) {
+    tryFlushStream(buffer);
     depth++;
     serializer.write(buffer, obj);
     depth--;
@@ -546,7 +840,6 @@ public final class Fury implements BaseFury {
       case ClassResolver.STRING_CLASS_ID:
         stringSerializer.writeJavaString(buffer, (String) obj);
         break;
-        // TODO(add fastpath for other types)
       default:
         depth++;
         classInfo.getSerializer().write(buffer, obj);
@@ -554,6 +847,18 @@ public final class Fury implements BaseFury {
     }
   }
 
+  /**
+   * Returns the {@link FuryGatheringChannel} if current serialization is writing to its buffer,
+   * which can reference large payloads instead of copying them into <code>buffer</code>.
+   */
+  public FuryGatheringChannel getGatheringChannel(MemoryBuffer buffer) {
+    FuryStreamWriter writer = streamWriter;
+    if (writer instanceof FuryGatheringChannel && writer.getBuffer() == buffer) {
+      return (FuryGatheringChannel) writer;
+    }
+    return null;
+  }
+
   public void writeBufferObject(MemoryBuffer buffer, BufferObject bufferObject) {
     if (bufferCallback == null || bufferCallback.apply(bufferObject)) {
       buffer.writeBoolean(true);
@@ -567,11 +872,14 @@ public final class Fury implements BaseFury {
       } else {
         buffer.writeVarUint32(totalBytes);
       }
-      int writerIndex = buffer.writerIndex();
-      buffer.ensure(writerIndex + bufferObject.totalBytes());
-      bufferObject.writeTo(buffer);
-      int size = buffer.writerIndex() - writerIndex;
-      Preconditions.checkArgument(size == totalBytes);
+      FuryGatheringChannel channel = getGatheringChannel(buffer);
+      if (channel == null || !bufferObject.writeTo(channel)) {
+        int writerIndex = buffer.writerIndex();
+        buffer.ensure(writerIndex + bufferObject.totalBytes());
+        bufferObject.writeTo(buffer);
+        int size = buffer.writerIndex() - writerIndex;
+        Preconditions.checkArgument(size == totalBytes);
+      }
     } else {
       buffer.writeBoolean(false);
     }
@@ -591,7 +899,10 @@ public final class Fury implements BaseFury {
       } else {
         buffer.writeVarUint32(totalBytes);
       }
-      bufferObject.writeTo(buffer);
+      FuryGatheringChannel channel = getGatheringChannel(buffer);
+      if (channel == null || !bufferObject.writeTo(channel)) {
+        bufferObject.writeTo(buffer);
+      }
     } else {
       buffer.writeBoolean(false);
     }
@@ -607,8 +918,14 @@ public final class Fury implements BaseFury {
       } else {
         size = buffer.readVarUint32();
       }
+      // Fill data from stream first if buffer is reading from a stream.
+      buffer.checkReadableBytes(size);
       MemoryBuffer slice = buffer.slice(buffer.readerIndex(), size);
       buffer.readerIndex(buffer.readerIndex() + size);
+      FuryStreamReader streamReader = buffer.getStreamReader();
+      if (streamReader != null) {
+        streamReader.onBufferSliced();
+      }
       return slice;
     } else {
       Preconditions.checkArgument(outOfBandBuffers.hasNext());
@@ -712,49 +1029,32 @@ public final class Fury implements BaseFury {
    */
   @Override
   public Object deserialize(MemoryBuffer buffer, Iterable<MemoryBuffer> outOfBandBuffers) {
+    FuryMetrics metrics = this.metrics;
+    if (metrics != null) {
+      int readerIndex = buffer.readerIndex();
+      long startTime = System.nanoTime();
+      Object obj = deserializeInternal(buffer, outOfBandBuffers);
+      reportRead(metrics, buffer, obj, readerIndex, startTime);
+      return obj;
+    }
+    return deserializeInternal(buffer, outOfBandBuffers);
+  }
+
+  private Object deserializeInternal(MemoryBuffer buffer, Iterable<MemoryBuffer> outOfBandBuffers) {
     try {
       jitContext.lock();
       if (depth != 0) {
         throwDepthDeserializationException();
       }
-      if (language == Language.XLANG) {
-        short magicNumber = buffer.readInt16();
-        assert magicNumber == MAGIC_NUMBER
-            : String.format(
-                "The fury xlang serialization must start with magic number 0x%x. Please "
-                    + "check whether the serialization is based on the xlang protocol and the data didn't corrupt.",
-                MAGIC_NUMBER);
-      }
-      byte bitmap = buffer.readByte();
+      byte bitmap = readHeader(buffer, outOfBandBuffers);
       if ((bitmap & isNilFlag) == isNilFlag) {
         return null;
       }
-      boolean isLittleEndian = (bitmap & isLittleEndianFlag) == isLittleEndianFlag;
-      Preconditions.checkArgument(Fury.isLittleEndian, isLittleEndian);
-      boolean isTargetXLang = (bitmap & isCrossLanguageFlag) == isCrossLanguageFlag;
-      if (isTargetXLang) {
-        peerLanguage = Language.values()[buffer.readByte()];
-      } else {
-        peerLanguage = Language.JAVA;
-      }
-      peerOutOfBandEnabled = (bitmap & isOutOfBandFlag) == isOutOfBandFlag;
-      if (peerOutOfBandEnabled) {
-        Preconditions.checkNotNull(
-            outOfBandBuffers,
-            "outOfBandBuffers shouldn't be null when the serialized stream is "
-                + "produced with bufferCallback not null.");
-        this.outOfBandBuffers = outOfBandBuffers.iterator();
-      } else {
-        Preconditions.checkArgument(
-            outOfBandBuffers == null,
-            "outOfBandBuffers should be null when the serialized stream is "
-                + "produced with bufferCallback null.");
-      }
       Object obj;
-      if (isTargetXLang) {
+      if ((bitmap & isCrossLanguageFlag) == isCrossLanguageFlag) {
         obj = xdeserializeInternal(buffer);
       } else {
-        if (config.isMetaShareEnabled()) {
+        if (shareMetaAtEnd) {
           classResolver.readClassDefs(buffer);
         }
         obj = readRef(buffer);
@@ -768,6 +1068,321 @@ public final class Fury implements BaseFury {
     }
   }
 
+  /** Read header of serialized data and returns the bitmap. */
+  private byte readHeader(MemoryBuffer buffer, Iterable<MemoryBuffer> outOfBandBuffers) {
+    if (language == Language.XLANG) {
+      short magicNumber = buffer.readInt16();
+      assert magicNumber == MAGIC_NUMBER
+          : String.format(
+              "The fury xlang serialization must start with magic number 0x%x. Please "
+                  + "check whether the serialization is based on the xlang protocol and the data didn't corrupt.",
+              MAGIC_NUMBER);
+    }
+    byte bitmap = buffer.readByte();
+    if ((bitmap & isNilFlag) == isNilFlag) {
+      return bitmap;
+    }
+    boolean isLittleEndian = (bitmap & isLittleEndianFlag) == isLittleEndianFlag;
+    Preconditions.checkArgument(Fury.isLittleEndian, isLittleEndian);
+    boolean isTargetXLang = (bitmap & isCrossLanguageFlag) == isCrossLanguageFlag;
+    if (isTargetXLang) {
+      peerLanguage = Language.values()[buffer.readByte()];
+    } else {
+      peerLanguage = Language.JAVA;
+    }
+    peerOutOfBandEnabled = (bitmap & isOutOfBandFlag) == isOutOfBandFlag;
+    if (peerOutOfBandEnabled) {
+      Preconditions.checkNotNull(
+          outOfBandBuffers,
+          "outOfBandBuffers shouldn't be null when the serialized stream is "
+              + "produced with bufferCallback not null.");
+      this.outOfBandBuffers = outOfBandBuffers.iterator();
+    } else {
+      Preconditions.checkArgument(
+          outOfBandBuffers == null,
+          "outOfBandBuffers should be null when the serialized stream is "
+              + "produced with bufferCallback null.");
+    }
+    return bitmap;
+  }
+
+  @Override
+  public List<Object> deserializeBatch(byte[] bytes) {
+    return deserializeBatch(MemoryBuffer.fromByteArray(bytes));
+  }
+
+  /** Deserialize all records of a batch serialized by {@link #serializeBatch}. */
+  @Override
+  public List<Object> deserializeBatch(MemoryBuffer buffer) {
+    try {
+      jitContext.lock();
+      if (depth != 0) {
+        throwDepthDeserializationException();
+      }
+      byte bitmap = readHeader(buffer, null);
+      Preconditions.checkArgument(
+          (bitmap & isCrossLanguageFlag) != isCrossLanguageFlag,
+          "Batch deserialization of cross-language data is not supported");
+      int numRecords = buffer.readVarUint32Small7();
+      boolean shareMeta = buffer.readBoolean();
+      List<Object> records = new ArrayList<>(numRecords);
+      FuryMetrics metrics = this.metrics;
+      for (int i = 0; i < numRecords; i++) {
+        if (metrics != null) {
+          int readerIndex = buffer.readerIndex();
+          long startTime = System.nanoTime();
+          Object obj = readBatchRecord(buffer);
+          reportRead(metrics, buffer, obj, readerIndex, startTime);
+          records.add(obj);
+        } else {
+          records.add(readBatchRecord(buffer));
+        }
+        reportRefTableReset(false);
+        refResolver.resetRead();
+        if (!shareMeta) {
+          metaStringResolver.resetRead();
+          if (config.isScopedMetaShareEnabled()) {
+            serializationContext.resetRead();
+          }
+        }
+      }
+      return records;
+    } catch (Throwable t) {
+      throw ExceptionUtils.handleReadFailed(this, t);
+    } finally {
+      resetRead();
+      jitContext.unlock();
+    }
+  }
+
+  /**
+   * Deserialize a record of a batch serialized by {@link #serializeBatch} without shared meta. The
+   * reader index of <code>buffer</code> must be the offset of the record returned by {@link
+   * #serializeBatch}.
+   */
+  @Override
+  public Object deserializeBatchRecord(MemoryBuffer buffer) {
+    try {
+      jitContext.lock();
+      if (depth != 0) {
+        throwDepthDeserializationException();
+      }
+      peerLanguage = Language.JAVA;
+      FuryMetrics metrics = this.metrics;
+      if (metrics != null) {
+        int readerIndex = buffer.readerIndex();
+        long startTime = System.nanoTime();
+        Object obj = readBatchRecord(buffer);
+        reportRead(metrics, buffer, obj, readerIndex, startTime);
+        return obj;
+      }
+      return readBatchRecord(buffer);
+    } catch (Throwable t) {
+      throw ExceptionUtils.handleReadFailed(this, t);
+    } finally {
+      resetRead();
+      jitContext.unlock();
+    }
+  }
+
+  /**
+   * Deserialize record <code>index</code> of <code>batch</code>, which must be serialized without
+   * shared meta.
+   */
+  @Override
+  public Object deserializeBatchRecord(SerializedBatch batch, int index) {
+    return deserializeBatchRecord(batch.getRecordBuffer(index));
+  }
+
+  private Object readBatchRecord(MemoryBuffer buffer) {
+    if (shareMetaAtEnd) {
+      // Class defs are written after data of every record, skip them after the record is read.
+      int endReaderIndex = classResolver.readClassDefs(buffer);
+      Object obj = readRef(buffer);
+      buffer.readerIndex(endReaderIndex);
+      return obj;
+    }
+    return readRef(buffer);
+  }
+
+  @Override
+  public <T> T copy(T obj) {
+    try {
+      jitContext.lock();
+      return copyObject(obj);
+    } catch (StackOverflowError t) {
+      throw processStackOverflowError(t);
+    } finally {
+      if (refTracking) {
+        originToCopyMap.clear();
+      }
+      jitContext.unlock();
+    }
+  }
+
+  /**
+   * Copy an object of the graph being copied by {@link #copy}. This method should be used by {@link
+   * Serializer#copy} to copy nested objects.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T copyObject(T obj) {
+    if (obj == null) {
+      return null;
+    }
+    ClassInfo classInfo = classResolver.getOrUpdateClassInfo(obj.getClass());
+    switch (classInfo.getClassId()) {
+      case ClassResolver.BOOLEAN_CLASS_ID:
+      case ClassResolver.BYTE_CLASS_ID:
+      case ClassResolver.CHAR_CLASS_ID:
+      case ClassResolver.SHORT_CLASS_ID:
+      case ClassResolver.INTEGER_CLASS_ID:
+      case ClassResolver.FLOAT_CLASS_ID:
+      case ClassResolver.LONG_CLASS_ID:
+      case ClassResolver.DOUBLE_CLASS_ID:
+      case ClassResolver.STRING_CLASS_ID:
+        return obj;
+      default:
+        return copyObject(obj, (Serializer<T>) classInfo.getSerializer());
+    }
+  }
+
+  /** Copy an object of the graph being copied by {@link #copy} using provided serializer. */
+  @SuppressWarnings("unchecked")
+  public <T> T copyObject(T obj, Serializer<T> serializer) {
+    if (obj == null || serializer.isImmutable()) {
+      return obj;
+    }
+    if (!refTracking) {
+      return serializer.copy(obj);
+    }
+    Object copied = originToCopyMap.get(obj);
+    if (copied != null) {
+      return (T) copied;
+    }
+    T copy = serializer.copy(obj);
+    originToCopyMap.put(obj, copy);
+    return copy;
+  }
+
+  /**
+   * Record <code>copy</code> as the copy of <code>origin</code>. Serializers should invoke this
+   * before copying nested objects, so that circular references to <code>origin</code> are copied as
+   * references to <code>copy</code>. This is a no-op if ref tracking is disabled.
+   */
+  public void reference(Object origin, Object copy) {
+    if (refTracking) {
+      originToCopyMap.put(origin, copy);
+    }
+  }
+
+  /**
+   * Copy <code>obj</code> by serializing it into a temporary buffer and deserializing it back. This
+   * is used by serializers which can't copy objects directly. Shared references between <code>obj
+   * </code> and other objects of the graph being copied are not preserved.
+   *
+   * <p>This method resets serialization state of this fury, so it can't be invoked while a
+   * serialization or deserialization is in progress. The {@link MetaContext} set by users is
+   * restored after copy.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T copyBySerialization(T obj) {
+    if (depth != 0) {
+      throw new IllegalStateException(
+          "Can't copy " + obj.getClass() + " by serialization during serialization.");
+    }
+    MemoryBuffer buf = copyBuffer;
+    if (buf == null) {
+      buf = copyBuffer = MemoryBuffer.newHeapBuffer(64);
+    }
+    buf.writerIndex(0);
+    buf.readerIndex(0);
+    MetaContext metaContext = serializationContext.getMetaContext();
+    if (config.isMetaShareEnabled()) {
+      // Class defs are written and read in this call only.
+      serializationContext.setMetaContext(new MetaContext());
+    }
+    try {
+      write(buf, obj);
+      if (shareMetaAtEnd) {
+        classResolver.readClassDefs(buf);
+      }
+      return (T) readRef(buf);
+    } finally {
+      resetWrite();
+      resetRead();
+      serializationContext.setMetaContext(metaContext);
+      if (buf.size() > BUFFER_SIZE_LIMIT) {
+        copyBuffer = null;
+      }
+    }
+  }
+
+  @Override
+  public Object[] deserializeFields(byte[] bytes, Class<?> cls, String... fieldNames) {
+    return deserializeFields(MemoryUtils.wrap(bytes), cls, fieldNames);
+  }
+
+  /**
+   * Deserialize values of <code>fieldNames</code> of the root object of type <code>cls</code>
+   * serialized by {@link #serialize}, without deserializing the whole object. See {@link
+   * ObjectFieldsReader} for how unread fields are skipped. The reader index of <code>buffer</code>
+   * is undefined after this call since the remaining data may be not read.
+   *
+   * <p>Fields are matched by name, the first field in read order will be used if there are
+   * duplicate field names in class hierarchy. Reference of nested objects to the root object will
+   * be null since the root object isn't created.
+   *
+   * @return field values in the order of <code>fieldNames</code>, or null if the root object is
+   *     null.
+   */
+  @Override
+  public Object[] deserializeFields(MemoryBuffer buffer, Class<?> cls, String... fieldNames) {
+    ObjectFieldsReader fieldsReader = classResolver.getObjectFieldsReader(cls);
+    fieldsReader.checkFieldNames(fieldNames);
+    try {
+      jitContext.lock();
+      if (depth != 0) {
+        throwDepthDeserializationException();
+      }
+      byte bitmap = readHeader(buffer, null);
+      if ((bitmap & isNilFlag) == isNilFlag) {
+        return null;
+      }
+      Preconditions.checkArgument(
+          (bitmap & isCrossLanguageFlag) != isCrossLanguageFlag,
+          "Deserialize fields of cross-language data is not supported");
+      if (shareMetaAtEnd) {
+        classResolver.readClassDefs(buffer);
+      }
+      int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+      if (nextReadRefId < NOT_NULL_VALUE_FLAG) {
+        return null;
+      }
+      ClassInfo classInfo = classResolver.readClassInfo(buffer);
+      Preconditions.checkArgument(
+          classInfo.getCls() == cls,
+          "Expect serialized object of %s but got %s",
+          cls,
+          classInfo.getCls());
+      Serializer<?> serializer = classInfo.getSerializer();
+      if (fieldsReader.canReadFields(serializer)) {
+        depth++;
+        Object[] fieldValues = fieldsReader.readFields(buffer, serializer, fieldNames);
+        depth--;
+        return fieldValues;
+      } else {
+        Object obj = readDataInternal(buffer, classInfo);
+        refResolver.setReadObject(nextReadRefId, obj);
+        return fieldsReader.getFieldValues(obj, fieldNames);
+      }
+    } catch (Throwable t) {
+      throw ExceptionUtils.handleReadFailed(this, t);
+    } finally {
+      resetRead();
+      jitContext.unlock();
+    }
+  }
+
   @Override
   public Object deserialize(FuryInputStream inputStream) {
     return deserialize(inputStream, null);
@@ -794,6 +1409,20 @@ public final class Fury implements BaseFury {
     return deserialize(buf, outOfBandBuffers);
   }
 
+  @Override
+  public Object deserialize(FuryMappedFileReader reader) {
+    return deserialize(reader, null);
+  }
+
+  @Override
+  public Object deserialize(FuryMappedFileReader reader, Iterable<MemoryBuffer> outOfBandBuffers) {
+    try {
+      return deserialize(reader.getBuffer(), outOfBandBuffers);
+    } finally {
+      reader.shrinkBuffer();
+    }
+  }
+
   private Object xdeserializeInternal(MemoryBuffer buffer) {
     Object obj;
     int nativeObjectsStartOffset = buffer.readInt32();
@@ -865,6 +1494,47 @@ public final class Fury implements BaseFury {
     }
   }
 
+  /**
+   * Deserialize a nullable object of a field annotated by {@code @Ref(false)}, which is written
+   * with {@link #NOT_NULL_VALUE_FLAG} even if <code>serializer</code> tracks reference. Ref flags
+   * are accepted too since the peer may not ignore ref of this field.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T readRefIgnored(MemoryBuffer buffer, Serializer<T> serializer) {
+    RefResolver refResolver = this.refResolver;
+    int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+    if (nextReadRefId >= NOT_NULL_VALUE_FLAG) {
+      if (nextReadRefId == NOT_NULL_VALUE_FLAG && serializer.needToWriteRef()) {
+        refResolver.preserveStubRefId();
+      }
+      T obj = serializer.read(buffer);
+      refResolver.setReadObject(nextReadRefId, obj);
+      return obj;
+    } else {
+      return (T) refResolver.getReadObject();
+    }
+  }
+
+  /**
+   * Deserialize a nullable object of a field annotated by {@code @Ref(false)}, see {@link
+   * #readRefIgnored(MemoryBuffer, Serializer)}.
+   */
+  public Object readRefIgnored(MemoryBuffer buffer, ClassInfoHolder classInfoHolder) {
+    RefResolver refResolver = this.refResolver;
+    int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+    if (nextReadRefId >= NOT_NULL_VALUE_FLAG) {
+      ClassInfo classInfo = classResolver.readClassInfo(buffer, classInfoHolder);
+      if (nextReadRefId == NOT_NULL_VALUE_FLAG && classInfo.getSerializer().needToWriteRef()) {
+        refResolver.preserveStubRefId();
+      }
+      Object o = readDataInternal(buffer, classInfo);
+      refResolver.setReadObject(nextReadRefId, o);
+      return o;
+    } else {
+      return refResolver.getReadObject();
+    }
+  }
+
   /** Deserialize not-null and non-reference object from <code>buffer</code>. */
   public Object readNonRef(MemoryBuffer buffer) {
     return readDataInternal(buffer, classResolver.readClassInfo(buffer));
@@ -917,7 +1587,6 @@ public final class Fury implements BaseFury {
         return buffer.readFloat64();
       case ClassResolver.STRING_CLASS_ID:
         return stringSerializer.readJavaString(buffer);
-        // TODO(add fastpath for other types)
       default:
         depth++;
         Object read = classInfo.getSerializer().read(buffer);
@@ -1020,12 +1689,25 @@ public final class Fury implements BaseFury {
 
   @Override
   public void serializeJavaObject(MemoryBuffer buffer, Object obj) {
+    FuryMetrics metrics = this.metrics;
+    if (metrics != null) {
+      int writerIndex = buffer.writerIndex();
+      int size = buffer.size();
+      long startTime = System.nanoTime();
+      serializeJavaObjectInternal(buffer, obj);
+      reportWrite(metrics, buffer, obj, buffer.writerIndex() - writerIndex, size, startTime);
+    } else {
+      serializeJavaObjectInternal(buffer, obj);
+    }
+  }
+
+  private void serializeJavaObjectInternal(MemoryBuffer buffer, Object obj) {
     try {
       jitContext.lock();
       if (depth != 0) {
         throwDepthSerializationException();
       }
-      if (config.isMetaShareEnabled()) {
+      if (shareMetaAtEnd) {
         int startOffset = buffer.writerIndex();
         buffer.writeInt32(-1); // preserve 4-byte for nativeObjects start offsets.
         if (!refResolver.writeRefOrNull(buffer, obj)) {
@@ -1063,14 +1745,26 @@ public final class Fury implements BaseFury {
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public <T> T deserializeJavaObject(MemoryBuffer buffer, Class<T> cls) {
+    FuryMetrics metrics = this.metrics;
+    if (metrics != null) {
+      int readerIndex = buffer.readerIndex();
+      long startTime = System.nanoTime();
+      T obj = deserializeJavaObjectInternal(buffer, cls);
+      reportRead(metrics, buffer, obj, readerIndex, startTime);
+      return obj;
+    }
+    return deserializeJavaObjectInternal(buffer, cls);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T deserializeJavaObjectInternal(MemoryBuffer buffer, Class<T> cls) {
     try {
       jitContext.lock();
       if (depth != 0) {
         throwDepthDeserializationException();
       }
-      if (config.isMetaShareEnabled()) {
+      if (shareMetaAtEnd) {
         classResolver.readClassDefs(buffer);
       }
       T obj;
@@ -1141,6 +1835,19 @@ public final class Fury implements BaseFury {
    */
   @Override
   public void serializeJavaObjectAndClass(MemoryBuffer buffer, Object obj) {
+    FuryMetrics metrics = this.metrics;
+    if (metrics != null) {
+      int writerIndex = buffer.writerIndex();
+      int size = buffer.size();
+      long startTime = System.nanoTime();
+      serializeJavaObjectAndClassInternal(buffer, obj);
+      reportWrite(metrics, buffer, obj, buffer.writerIndex() - writerIndex, size, startTime);
+    } else {
+      serializeJavaObjectAndClassInternal(buffer, obj);
+    }
+  }
+
+  private void serializeJavaObjectAndClassInternal(MemoryBuffer buffer, Object obj) {
     try {
       jitContext.lock();
       if (depth != 0) {
@@ -1179,12 +1886,24 @@ public final class Fury implements BaseFury {
    */
   @Override
   public Object deserializeJavaObjectAndClass(MemoryBuffer buffer) {
+    FuryMetrics metrics = this.metrics;
+    if (metrics != null) {
+      int readerIndex = buffer.readerIndex();
+      long startTime = System.nanoTime();
+      Object obj = deserializeJavaObjectAndClassInternal(buffer);
+      reportRead(metrics, buffer, obj, readerIndex, startTime);
+      return obj;
+    }
+    return deserializeJavaObjectAndClassInternal(buffer);
+  }
+
+  private Object deserializeJavaObjectAndClassInternal(MemoryBuffer buffer) {
     try {
       jitContext.lock();
       if (depth != 0) {
         throwDepthDeserializationException();
       }
-      if (config.isMetaShareEnabled()) {
+      if (shareMetaAtEnd) {
         classResolver.readClassDefs(buffer);
       }
       return readRef(buffer);
@@ -1260,6 +1979,7 @@ public final class Fury implements BaseFury {
   }
 
   public void resetWrite() {
+    reportRefTableReset(true);
     refResolver.resetWrite();
     classResolver.resetWrite();
     metaStringResolver.resetWrite();
@@ -1270,6 +1990,7 @@ public final class Fury implements BaseFury {
   }
 
   public void resetRead() {
+    reportRefTableReset(false);
     refResolver.resetRead();
     classResolver.resetRead();
     metaStringResolver.resetRead();
@@ -1279,6 +2000,29 @@ public final class Fury implements BaseFury {
     depth = 0;
   }
 
+  private void reportRefTableReset(boolean write) {
+    if (metrics != null && refTracking) {
+      int size = write ? refResolver.writtenRefCount() : refResolver.readRefCount();
+      metrics.onRefTableReset(write, size);
+    }
+  }
+
+  private void reportWrite(
+      FuryMetrics metrics, MemoryBuffer buffer, Object obj, long bytes, int size, long startTime) {
+    long nanos = System.nanoTime() - startTime;
+    if (buffer.size() > size) {
+      metrics.onBufferGrow(size, buffer.size());
+    }
+    metrics.onSerialize(obj == null ? null : obj.getClass(), bytes, nanos);
+  }
+
+  private void reportRead(
+      FuryMetrics metrics, MemoryBuffer buffer, Object obj, int readerIndex, long startTime) {
+    long nanos = System.nanoTime() - startTime;
+    int bytes = buffer.readerIndex() - readerIndex;
+    metrics.onDeserialize(obj == null ? null : obj.getClass(), bytes, nanos);
+  }
+
   private void throwDepthSerializationException() {
     String method = "Fury#" + (language != Language.JAVA ? "x" : "") + "writeXXX";
     throw new IllegalStateException(
@@ -1295,6 +2039,11 @@ public final class Fury implements BaseFury {
             method));
   }
 
+  /** Returns listener of serialization metrics, or null if metrics are disabled. */
+  public FuryMetrics getMetrics() {
+    return metrics;
+  }
+
   public JITContext getJITContext() {
     return jitContext;
   }
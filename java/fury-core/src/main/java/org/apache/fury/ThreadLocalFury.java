@@ -21,12 +21,19 @@ package org.apache.fury;
 
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.concurrent.ThreadSafe;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.io.FuryMappedFileReader;
+import org.apache.fury.io.FuryMappedFileWriter;
+import org.apache.fury.io.FuryOutputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.io.FuryWritableChannel;
+import org.apache.fury.io.SerializedBatch;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.resolver.ClassResolver;
@@ -37,7 +44,8 @@ import org.apache.fury.util.LoaderBinding.StagingType;
 /**
  * A thread safe serialization entrance for {@link Fury} by binding a {@link Fury} for every thread.
  * Note that the thread shouldn't be created and destroyed frequently, otherwise the {@link Fury}
- * will be created and destroyed frequently, which is slow.
+ * will be created and destroyed frequently, which is slow. Use {@link
+ * org.apache.fury.config.FuryBuilder#buildVirtualThreadSafeFury} for virtual threads instead.
  */
 @ThreadSafe
 public class ThreadLocalFury extends AbstractThreadSafeFury {
@@ -125,6 +133,56 @@ public class ThreadLocalFury extends AbstractThreadSafeFury {
     bindingThreadLocal.get().get().serialize(outputStream, obj, callback);
   }
 
+  @Override
+  public void serialize(FuryOutputStream outputStream, Object obj) {
+    bindingThreadLocal.get().get().serialize(outputStream, obj);
+  }
+
+  @Override
+  public void serialize(FuryOutputStream outputStream, Object obj, BufferCallback callback) {
+    bindingThreadLocal.get().get().serialize(outputStream, obj, callback);
+  }
+
+  @Override
+  public void serialize(FuryWritableChannel channel, Object obj) {
+    bindingThreadLocal.get().get().serialize(channel, obj);
+  }
+
+  @Override
+  public void serialize(FuryWritableChannel channel, Object obj, BufferCallback callback) {
+    bindingThreadLocal.get().get().serialize(channel, obj, callback);
+  }
+
+  @Override
+  public void serialize(FuryMappedFileWriter writer, Object obj) {
+    bindingThreadLocal.get().get().serialize(writer, obj);
+  }
+
+  @Override
+  public void serialize(FuryMappedFileWriter writer, Object obj, BufferCallback callback) {
+    bindingThreadLocal.get().get().serialize(writer, obj, callback);
+  }
+
+  @Override
+  public void serialize(FuryGatheringChannel channel, Object obj) {
+    bindingThreadLocal.get().get().serialize(channel, obj);
+  }
+
+  @Override
+  public void serialize(FuryGatheringChannel channel, Object obj, BufferCallback callback) {
+    bindingThreadLocal.get().get().serialize(channel, obj, callback);
+  }
+
+  @Override
+  public int[] serializeBatch(MemoryBuffer buffer, List<?> objects, boolean shareMeta) {
+    return bindingThreadLocal.get().get().serializeBatch(buffer, objects, shareMeta);
+  }
+
+  @Override
+  public SerializedBatch serializeBatch(List<?> objects, boolean shareMeta) {
+    return bindingThreadLocal.get().get().serializeBatch(objects, shareMeta);
+  }
+
   @Override
   public Object deserialize(byte[] bytes) {
     return bindingThreadLocal.get().get().deserialize(bytes);
@@ -175,6 +233,51 @@ public class ThreadLocalFury extends AbstractThreadSafeFury {
     return bindingThreadLocal.get().get().deserialize(channel, outOfBandBuffers);
   }
 
+  @Override
+  public Object deserialize(FuryMappedFileReader reader) {
+    return bindingThreadLocal.get().get().deserialize(reader);
+  }
+
+  @Override
+  public Object deserialize(FuryMappedFileReader reader, Iterable<MemoryBuffer> outOfBandBuffers) {
+    return bindingThreadLocal.get().get().deserialize(reader, outOfBandBuffers);
+  }
+
+  @Override
+  public Object[] deserializeFields(byte[] bytes, Class<?> cls, String... fieldNames) {
+    return bindingThreadLocal.get().get().deserializeFields(bytes, cls, fieldNames);
+  }
+
+  @Override
+  public Object[] deserializeFields(MemoryBuffer buffer, Class<?> cls, String... fieldNames) {
+    return bindingThreadLocal.get().get().deserializeFields(buffer, cls, fieldNames);
+  }
+
+  @Override
+  public List<Object> deserializeBatch(byte[] bytes) {
+    return bindingThreadLocal.get().get().deserializeBatch(bytes);
+  }
+
+  @Override
+  public List<Object> deserializeBatch(MemoryBuffer buffer) {
+    return bindingThreadLocal.get().get().deserializeBatch(buffer);
+  }
+
+  @Override
+  public Object deserializeBatchRecord(MemoryBuffer buffer) {
+    return bindingThreadLocal.get().get().deserializeBatchRecord(buffer);
+  }
+
+  @Override
+  public Object deserializeBatchRecord(SerializedBatch batch, int index) {
+    return bindingThreadLocal.get().get().deserializeBatchRecord(batch, index);
+  }
+
+  @Override
+  public <T> T copy(T obj) {
+    return bindingThreadLocal.get().get().copy(obj);
+  }
+
   @Override
   public byte[] serializeJavaObject(Object obj) {
     return bindingThreadLocal.get().get().serializeJavaObject(obj);
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reference tracking policy of a class or field, which takes effect only when reference tracking is
+ * enabled by {@code FuryBuilder#withRefTracking}.
+ *
+ * <p>Objects of a class annotated by {@code @Ref(false)} are never tracked, so no identity map
+ * lookup is paid for them. Values of a field annotated by {@code @Ref(false)} are written without
+ * reference tracking even if their type is tracked, which is useful for fields holding objects
+ * never shared with other parts of the graph. Don't disable reference tracking for objects which
+ * are shared or cyclic, otherwise they will be deserialized as different objects or overflow the
+ * stack.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD})
+public @interface Ref {
+  /** Whether to track reference. */
+  boolean value() default true;
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.builder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import org.apache.fury.Fury;
+import org.apache.fury.codegen.CodeGenerator;
+import org.apache.fury.codegen.CompileUnit;
+import org.apache.fury.codegen.JaninoUtils;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.reflect.TypeRef;
+import org.apache.fury.resolver.ClassResolver;
+import org.apache.fury.resolver.FieldResolver;
+import org.apache.fury.serializer.CodegenSerializer;
+import org.apache.fury.serializer.CompatibleSerializer;
+import org.apache.fury.serializer.ObjectSerializer;
+import org.apache.fury.serializer.Serializer;
+import org.apache.fury.util.Preconditions;
+import org.apache.fury.util.StringUtils;
+
+/**
+ * Generate serializers ahead of time, so applications can load precompiled serializers from the
+ * artifact instead of compiling them by janino at startup.
+ *
+ * <p>Serializers are generated for a {@link Fury} which must be created with same config and
+ * registrations as the runtime one, and are named by a {@link #fingerprint fingerprint} of those
+ * and the fury build. If config, registrations or fury build differ at runtime, the precompiled
+ * classes won't be matched and serializers will be generated by JIT as usual, so the generated
+ * classes should be regenerated when fury is upgraded.
+ *
+ * <p>It can be invoked in build phase such as `process-classes` by `exec-maven-plugin`:
+ *
+ * <pre>{@code
+ * java org.apache.fury.builder.AotSerializers <outputDir> <furyFactoryClass> [className...]
+ * }</pre>
+ *
+ * <p>Where {@code furyFactoryClass} is a {@link Supplier} of {@link Fury} with a public no-arg
+ * constructor, {@code outputDir} is usually {@code target/classes}. Classes registered to the
+ * supplied {@link Fury} and the optional extra classes will be generated.
+ */
+public class AotSerializers {
+  private static final Logger LOG = LoggerFactory.getLogger(AotSerializers.class);
+
+  /** Resource which lists all serializer classes generated ahead of time. */
+  public static final String INDEX_RESOURCE = "META-INF/fury/aot-serializers";
+
+  private static final Map<ClassLoader, Set<String>> indexCache =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Returns a fingerprint of config, registrations and fury build which is same across processes.
+   * Serializers generated by another fury build won't match it and will be generated by JIT.
+   */
+  public static String fingerprint(Fury fury) {
+    return Integer.toHexString(fury.getConfig().getStableConfigHash())
+        + "_"
+        + Long.toHexString(fury.getClassResolver().getRegistrationHash())
+        + "_"
+        + Integer.toHexString(String.valueOf(CodecUtils.BUILD_FINGERPRINT).hashCode());
+  }
+
+  /** Generate serializers for all classes registered in <code>fury</code>. */
+  public static List<String> generate(Fury fury, Path outputDir) {
+    return generate(fury, outputDir, fury.getClassResolver().getUserRegisteredClasses());
+  }
+
+  /**
+   * Generate serializers for <code>classes</code> into <code>outputDir</code>, classes which won't
+   * be serialized by a generated serializer will be skipped.
+   *
+   * @return qualified names of generated serializer classes.
+   */
+  public static List<String> generate(Fury fury, Path outputDir, Collection<Class<?>> classes) {
+    Preconditions.checkArgument(
+        fury.getConfig().isCodeGenEnabled(), "Code generation must be enabled");
+    String fingerprint = fingerprint(fury);
+    List<String> generated = new ArrayList<>();
+    for (Class<?> cls : classes) {
+      for (BaseObjectCodecBuilder builder : createCodecBuilders(fury, cls)) {
+        builder.setAotFingerprint(fingerprint);
+        generated.add(compile(cls, builder, outputDir));
+      }
+    }
+    try {
+      writeIndex(outputDir, generated);
+    } catch (IOException e) {
+      throw new RuntimeException("Write serializers index failed", e);
+    }
+    return generated;
+  }
+
+  private static List<BaseObjectCodecBuilder> createCodecBuilders(Fury fury, Class<?> cls) {
+    ClassResolver classResolver = fury.getClassResolver();
+    if (!CodegenSerializer.supportCodegenForJavaSerialization(cls)
+        || cls.isInterface()
+        || cls.isArray()) {
+      return Collections.emptyList();
+    }
+    // Only classes which use object serializer in interpreter mode will be jit.
+    Class<? extends Serializer> sc = classResolver.getSerializerClass(cls, false);
+    if (sc != ObjectSerializer.class && sc != CompatibleSerializer.class) {
+      return Collections.emptyList();
+    }
+    List<BaseObjectCodecBuilder> builders = new ArrayList<>();
+    if (fury.getCompatibleMode() == CompatibleMode.COMPATIBLE) {
+      if (fury.getConfig().isMetaShareEnabled()) {
+        builders.add(new ObjectCodecBuilder(cls, fury));
+        // Only peers which have same class schema will match this serializer.
+        builders.add(
+            new MetaSharedCodecBuilder(
+                TypeRef.of(cls), fury, classResolver.getClassDef(cls, true)));
+      } else {
+        builders.add(
+            new CompatibleCodecBuilder(
+                TypeRef.of(cls),
+                fury,
+                FieldResolver.of(fury, cls, true, false),
+                Generated.GeneratedSerializer.class));
+      }
+    } else {
+      builders.add(new ObjectCodecBuilder(cls, fury));
+    }
+    return builders;
+  }
+
+  private static String compile(Class<?> cls, BaseObjectCodecBuilder builder, Path outputDir) {
+    CompileUnit unit =
+        new CompileUnit(
+            CodeGenerator.getPackage(cls), builder.codecClassName(cls), builder::genCode);
+    ClassLoader loader = cls.getClassLoader();
+    if (loader == null) {
+      loader = Fury.class.getClassLoader();
+    }
+    Map<String, byte[]> classes = JaninoUtils.toBytecode(loader, unit);
+    for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      Path path = outputDir.resolve(entry.getKey());
+      try {
+        Files.createDirectories(path.getParent());
+        Files.write(path, entry.getValue());
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Write class file %s failed", path), e);
+      }
+    }
+    return builder.codecQualifiedClassName(cls);
+  }
+
+  private static void writeIndex(Path outputDir, List<String> generated) throws IOException {
+    Path indexPath = outputDir.resolve(INDEX_RESOURCE);
+    Set<String> names = new LinkedHashSet<>();
+    if (Files.exists(indexPath)) {
+      names.addAll(Files.readAllLines(indexPath, StandardCharsets.UTF_8));
+    }
+    names.addAll(generated);
+    Files.createDirectories(indexPath.getParent());
+    Files.write(indexPath, names, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns serializer class generated ahead of time for <code>beanClass</code>, or null if not
+   * found.
+   */
+  static <T> Class<? extends Serializer<T>> loadAotCodecClass(
+      Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder) {
+    ClassLoader loader = beanClass.getClassLoader();
+    if (loader == null) {
+      return null;
+    }
+    return loadAotCodecClass(loader, beanClass, fury, codecBuilder);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Class<? extends Serializer<T>> loadAotCodecClass(
+      ClassLoader loader, Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder) {
+    Set<String> index = getIndex(loader);
+    if (index.isEmpty()) {
+      return null;
+    }
+    String className = codecBuilder.aotCodecClassName(beanClass, fingerprint(fury));
+    String pkg = CodeGenerator.getPackage(beanClass);
+    if (StringUtils.isNotBlank(pkg)) {
+      className = pkg + "." + className;
+    }
+    if (!index.contains(className)) {
+      return null;
+    }
+    try {
+      return (Class<? extends Serializer<T>>) loader.loadClass(className);
+    } catch (ClassNotFoundException e) {
+      LOG.warn("Serializer {} is listed in {} but can't be loaded", className, INDEX_RESOURCE);
+      return null;
+    }
+  }
+
+  private static Set<String> getIndex(ClassLoader loader) {
+    Set<String> index = indexCache.get(loader);
+    if (index == null) {
+      index = new HashSet<>();
+      try {
+        Enumeration<URL> resources = loader.getResources(INDEX_RESOURCE);
+        while (resources.hasMoreElements()) {
+          try (BufferedReader reader =
+              new BufferedReader(
+                  new InputStreamReader(
+                      resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+              line = line.trim();
+              if (!line.isEmpty()) {
+                index.add(line);
+              }
+            }
+          }
+        }
+      } catch (IOException e) {
+        LOG.warn("Read {} failed: {}", INDEX_RESOURCE, e);
+      }
+      indexCache.put(loader, index);
+    }
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static void main(String[] args) throws Exception {
+    Preconditions.checkArgument(
+        args.length >= 2,
+        "Usage: AotSerializers <outputDir> <furyFactoryClass> [className...], got %s",
+        Arrays.toString(args));
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    if (loader == null) {
+      loader = AotSerializers.class.getClassLoader();
+    }
+    Supplier<Fury> factory =
+        (Supplier<Fury>) loader.loadClass(args[1]).getDeclaredConstructor().newInstance();
+    Fury fury = factory.get();
+    Set<Class<?>> classes = new LinkedHashSet<>(fury.getClassResolver().getUserRegisteredClasses());
+    for (int i = 2; i < args.length; i++) {
+      classes.add(Class.forName(args[i], false, loader));
+    }
+    List<String> generated = generate(fury, Paths.get(args[0]), classes);
+    LOG.info("Generated {} serializers into {}", generated.size(), args[0]);
+  }
+}
@@ -48,6 +48,7 @@ import static org.apache.fury.type.TypeUtils.isBoxed;
 import static org.apache.fury.type.TypeUtils.isPrimitive;
 import static org.apache.fury.util.Preconditions.checkArgument;
 
+import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -73,6 +74,8 @@ import org.apache.fury.codegen.Expression.ListExpression;
 import org.apache.fury.codegen.Expression.Literal;
 import org.apache.fury.codegen.Expression.Reference;
 import org.apache.fury.codegen.Expression.Return;
+import org.apache.fury.codegen.Expression.StaticInvoke;
+import org.apache.fury.codegen.Expression.While;
 import org.apache.fury.codegen.ExpressionUtils;
 import org.apache.fury.codegen.ExpressionVisitor.ExprHolder;
 import org.apache.fury.collection.Tuple2;
@@ -90,9 +93,12 @@ import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.PrimitiveSerializers.LongSerializer;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.serializer.StringSerializer;
+import org.apache.fury.serializer.TimeSerializers;
 import org.apache.fury.serializer.collection.AbstractCollectionSerializer;
 import org.apache.fury.serializer.collection.AbstractMapSerializer;
 import org.apache.fury.serializer.collection.CollectionFlags;
+import org.apache.fury.serializer.collection.MapChunkIterator;
+import org.apache.fury.type.Descriptor;
 import org.apache.fury.type.TypeUtils;
 import org.apache.fury.util.GraalvmSupport;
 import org.apache.fury.util.Preconditions;
@@ -116,6 +122,7 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   private static final TypeRef<?> COLLECTION_SERIALIZER_TYPE =
       TypeRef.of(AbstractCollectionSerializer.class);
   private static final TypeRef<?> MAP_SERIALIZER_TYPE = TypeRef.of(AbstractMapSerializer.class);
+  private static final TypeRef<?> MAP_CHUNK_ITERATOR_TYPE = TypeRef.of(MapChunkIterator.class);
 
   protected final Reference refResolverRef;
   protected final Reference classResolverRef =
@@ -128,6 +135,7 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   protected final Class<?> parentSerializerClass;
   private final Map<String, String> jitCallbackUpdateFields;
   protected LinkedList<String> walkPath = new LinkedList<>();
+  private String aotFingerprint;
 
   public BaseObjectCodecBuilder(TypeRef<?> beanType, Fury fury, Class<?> parentSerializerClass) {
     super(new CodegenContext(), beanType);
@@ -157,7 +165,33 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     jitCallbackUpdateFields = new HashMap<>();
   }
 
+  /**
+   * Generate code with a class name which is same across processes, so the compiled class can be
+   * shipped ahead of time and found by {@link AotSerializers} at runtime.
+   */
+  void setAotFingerprint(String aotFingerprint) {
+    this.aotFingerprint = aotFingerprint;
+  }
+
   public String codecClassName(Class<?> beanClass) {
+    if (aotFingerprint != null) {
+      return aotCodecClassName(beanClass, aotFingerprint);
+    }
+    StringBuilder nameBuilder = codecClassNamePrefix(beanClass);
+    nameBuilder.append('_').append(fury.getConfig().getConfigHash());
+    String classUniqueId = CodeGenerator.getClassUniqueId(beanClass);
+    if (StringUtils.isNotBlank(classUniqueId)) {
+      nameBuilder.append('_').append(classUniqueId);
+    }
+    return nameBuilder.toString();
+  }
+
+  /** Returns name of the serializer class generated ahead of time by {@link AotSerializers}. */
+  public String aotCodecClassName(Class<?> beanClass, String aotFingerprint) {
+    return codecClassNamePrefix(beanClass).append("_Aot").append(aotFingerprint).toString();
+  }
+
+  private StringBuilder codecClassNamePrefix(Class<?> beanClass) {
     String name = ReflectionUtils.getClassNameWithoutPackage(beanClass).replace("$", "_");
     StringBuilder nameBuilder = new StringBuilder(name);
     if (fury.trackingRef()) {
@@ -167,13 +201,7 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     } else {
       nameBuilder.append("Fury");
     }
-    nameBuilder.append(codecSuffix()).append("Codec");
-    nameBuilder.append('_').append(fury.getConfig().getConfigHash());
-    String classUniqueId = CodeGenerator.getClassUniqueId(beanClass);
-    if (StringUtils.isNotBlank(classUniqueId)) {
-      nameBuilder.append('_').append(classUniqueId);
-    }
-    return nameBuilder.toString();
+    return nameBuilder.append(codecSuffix()).append("Codec");
   }
 
   public String codecQualifiedClassName(Class<?> beanClass) {
@@ -202,6 +230,7 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     ctx.addField(ctx.type(Fury.class), FURY_NAME);
     Expression encodeExpr = buildEncodeExpression();
     Expression decodeExpr = buildDecodeExpression();
+    Expression copyExpr = buildCopyExpression();
     String constructorCode =
         StringUtils.format(
             ""
@@ -228,11 +257,25 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         Object.class,
         ROOT_OBJECT_NAME);
     ctx.overrideMethod("read", decodeCode, Object.class, MemoryBuffer.class, BUFFER_NAME);
+    if (copyExpr != null) {
+      ctx.clearExprState();
+      String copyCode = copyExpr.genCode(ctx).code();
+      copyCode = ctx.optimizeMethodCode(copyCode);
+      ctx.overrideMethod("copy", copyCode, Object.class, Object.class, ROOT_OBJECT_NAME);
+    }
     registerJITNotifyCallback();
     ctx.addConstructor(constructorCode, Fury.class, "fury", Class.class, POJO_CLASS_TYPE_NAME);
     return ctx.genCode();
   }
 
+  /**
+   * Returns an expression that deep copies java bean of type {@link CodecBuilder#beanClass}, or
+   * null if the copy of generated serializer isn't generated.
+   */
+  protected Expression buildCopyExpression() {
+    return null;
+  }
+
   protected static class CutPoint {
     public boolean genNewMethod;
     public Set<Expression> cutPoints = new HashSet<>();
@@ -306,6 +349,12 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     // access rawType without jit lock to reduce lock competition.
     Class<?> rawType = getRawType(typeRef);
     if (visitFury(fury -> fury.getClassResolver().needToWriteRef(rawType))) {
+      if (serializer == null
+          && !isMonomorphic(rawType)
+          && !useCollectionSerialization(typeRef)
+          && !useMapSerialization(typeRef)) {
+        return writeRefForNonFinalObject(inputObject, buffer, typeRef);
+      }
       return new If(
           not(writeRefOrNull(buffer, inputObject)),
           serializeForNotNull(inputObject, buffer, typeRef, serializer, generateNewMethod));
@@ -326,6 +375,38 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
   }
 
+  /**
+   * Returns an expression that serialize a nullable field value to <code>buffer</code>. Values of
+   * fields annotated by {@code @Ref(false)} are written with a not-null flag without looking up the
+   * ref map, which is read by {@link #deserializeField}.
+   */
+  protected Expression serializeField(
+      Expression fieldValue, Expression buffer, Descriptor descriptor) {
+    TypeRef<?> typeRef = descriptor.getTypeRef();
+    Class<?> rawType = getRawType(typeRef);
+    if (!typeRef.isPrimitive()
+        && ClassResolver.isRefIgnored(descriptor.getField())
+        && visitFury(fury -> fury.getClassResolver().needToWriteRef(rawType))) {
+      return new If(
+          ExpressionUtils.eqNull(fieldValue),
+          new Invoke(buffer, "writeByte", new Literal(Fury.NULL_FLAG, PRIMITIVE_BYTE_TYPE)),
+          new ListExpression(
+              new Invoke(
+                  buffer, "writeByte", new Literal(Fury.NOT_NULL_VALUE_FLAG, PRIMITIVE_BYTE_TYPE)),
+              serializeForNotNull(fieldValue, buffer, typeRef)));
+    }
+    return serializeFor(fieldValue, buffer, typeRef);
+  }
+
+  /**
+   * Returns an expression of whether objects of bean class are tracked by reference, which is
+   * decided by ref tracking policy of bean class.
+   */
+  protected Expression needToWriteRef() {
+    // Serializer has a `needToWriteRef` field.
+    return new Reference("super.needToWriteRef", PRIMITIVE_BOOLEAN_TYPE);
+  }
+
   protected Expression writeRefOrNull(Expression buffer, Expression object) {
     return inlineInvoke(refResolverRef, "writeRefOrNull", PRIMITIVE_BOOLEAN_TYPE, buffer, object);
   }
@@ -416,6 +497,10 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
       return new Invoke(serializer, "write", buffer, inputObject);
     }
     if (isMonomorphic(clz)) {
+      if (inlineCompactTime(clz)) {
+        long epochSecond = fury.getConfig().timeEpochSecond();
+        return TimeSerializers.writeCompactTimeExpr(clz, buffer, inputObject, epochSecond);
+      }
       serializer = getOrCreateSerializer(clz);
       return new Invoke(serializer, "write", buffer, inputObject);
     } else {
@@ -423,6 +508,21 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
   }
 
+  /**
+   * Whether write/read compressed time of <code>cls</code> inline instead of calling its
+   * serializer, which is skipped if users registered a custom serializer for <code>cls</code>. For
+   * non-final types such as {@link java.util.Date}, only values of exactly <code>cls</code> are
+   * inlined, subclasses still go through their serializers.
+   */
+  protected boolean inlineCompactTime(Class<?> cls) {
+    if (!fury.getConfig().compressTime()) {
+      return false;
+    }
+    Class<? extends Serializer> serializerClass = TimeSerializers.getInlinedSerializerClass(cls);
+    return serializerClass != null
+        && serializerClass == visitFury(f -> f.getClassResolver().getSerializerClass(cls));
+  }
+
   // Note that `CompatibleCodecBuilder` may mark some final objects as non-final.
   protected Expression writeForNotNullNonFinalObject(
       Expression inputObject, Expression buffer, TypeRef<?> typeRef) {
@@ -440,17 +540,74 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
                   inlineInvoke(classResolverRef, "getClassInfo", classInfoTypeRef, clsExpr))));
     }
     writeClassAndObject.add(classResolver.writeClassExpr(classResolverRef, buffer, classInfo));
-    writeClassAndObject.add(
+    Expression writeObject =
         new Invoke(
             inlineInvoke(classInfo, "getSerializer", SERIALIZER_TYPE),
             "write",
             PRIMITIVE_VOID_TYPE,
             buffer,
-            inputObject));
+            inputObject);
+    if (inlineCompactTime(clz)) {
+      long epochSecond = fury.getConfig().timeEpochSecond();
+      Expression value = new Cast(inputObject, TypeRef.of(clz));
+      writeObject =
+          new If(
+              eq(clsExpr, Literal.ofClass(clz)),
+              TimeSerializers.writeCompactTimeExpr(clz, buffer, value, epochSecond),
+              writeObject);
+    }
+    writeClassAndObject.add(writeObject);
     return invokeGenerated(
         ctx, ofHashSet(buffer, inputObject), writeClassAndObject, "writeClassAndObject", false);
   }
 
+  /**
+   * Write a nullable object of non-final type, ref tracking of subclasses may be disabled, so the
+   * ref is looked up only after the actual class is known.
+   */
+  private Expression writeRefForNonFinalObject(
+      Expression inputObject, Expression buffer, TypeRef<?> typeRef) {
+    Class<?> clz = getRawType(typeRef);
+    Expression clsExpr = new Invoke(inputObject, "getClass", "cls", CLASS_TYPE);
+    ListExpression writeRefAndObject = new ListExpression();
+    Tuple2<Reference, Boolean> classInfoRef = addClassInfoField(clz);
+    Expression classInfo = classInfoRef.f0;
+    if (classInfoRef.f1) {
+      writeRefAndObject.add(
+          new If(
+              neq(new Invoke(classInfo, "getCls", CLASS_TYPE), clsExpr),
+              new Assign(
+                  classInfo,
+                  inlineInvoke(classResolverRef, "getClassInfo", classInfoTypeRef, clsExpr))));
+    }
+    Expression writeClassAndObject =
+        new ListExpression(
+            classResolver.writeClassExpr(classResolverRef, buffer, classInfo),
+            new Invoke(
+                inlineInvoke(classInfo, "getSerializer", SERIALIZER_TYPE),
+                "write",
+                PRIMITIVE_VOID_TYPE,
+                buffer,
+                inputObject));
+    writeRefAndObject.add(
+        new If(
+            inlineInvoke(
+                furyRef,
+                "writeRefValueFlag",
+                PRIMITIVE_BOOLEAN_TYPE,
+                buffer,
+                inputObject,
+                classInfo),
+            writeClassAndObject));
+    Expression action =
+        invokeGenerated(
+            ctx, ofHashSet(buffer, inputObject), writeRefAndObject, "writeRefAndObject", false);
+    return new If(
+        ExpressionUtils.eqNull(inputObject),
+        new Invoke(buffer, "writeByte", new Literal(Fury.NULL_FLAG, PRIMITIVE_BYTE_TYPE)),
+        action);
+  }
+
   /**
    * Returns a serializer expression which will be used to call write/read method to avoid virtual
    * methods calls in most situations.
@@ -910,10 +1067,16 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
       }
     } else {
       if (trackingRef) {
-        write =
-            new If(
-                not(writeRefOrNull(buffer, elem)),
-                serializeForNotNull(elem, buffer, elementType, elemSerializer, generateNewMethod));
+        if (elemSerializer == null) {
+          // Elements have different classes, ref tracking of element class may be disabled.
+          write = serializeFor(elem, buffer, elementType, generateNewMethod);
+        } else {
+          write =
+              new If(
+                  not(writeRefOrNull(buffer, elem)),
+                  serializeForNotNull(
+                      elem, buffer, elementType, elemSerializer, generateNewMethod));
+        }
       } else {
         write =
             new If(
@@ -922,7 +1085,9 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
                 serializeForNotNull(elem, buffer, elementType, elemSerializer, generateNewMethod));
       }
     }
-    return new ListExpression(elem, write);
+    // flush chunked stream between elements, no buffer offsets are held at this point.
+    Expression flush = new Invoke(furyRef, "tryFlushStream", buffer);
+    return new ListExpression(flush, elem, write);
   }
 
   /**
@@ -964,17 +1129,38 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     } else if (!AbstractMapSerializer.class.isAssignableFrom(serializer.type().getRawType())) {
       serializer = new Cast(serializer, TypeRef.of(AbstractMapSerializer.class), "mapSerializer");
     }
-    Expression write =
-        new If(
-            inlineInvoke(serializer, "supportCodegenHook", PRIMITIVE_BOOLEAN_TYPE),
-            jitWriteMap(buffer, map, serializer, typeRef),
-            new Invoke(serializer, "write", buffer, map));
+    Tuple2<TypeRef<?>, TypeRef<?>> keyValueType = TypeUtils.getMapKeyValueType(typeRef);
+    boolean chunkMap = fury.getConfig().chunkMap();
+    Expression write;
+    if (chunkMap && useMapSerializerForEntries(keyValueType.f0, keyValueType.f1)) {
+      write = new Invoke(serializer, "write", buffer, map);
+    } else {
+      write =
+          new If(
+              inlineInvoke(serializer, "supportCodegenHook", PRIMITIVE_BOOLEAN_TYPE),
+              chunkMap
+                  ? jitWriteMapChunks(buffer, map, serializer, typeRef)
+                  : jitWriteMap(buffer, map, serializer, typeRef),
+              new Invoke(serializer, "write", buffer, map));
+    }
     if (generateNewMethod) {
       return invokeGenerated(ctx, ofHashSet(buffer, map, serializer), write, "writeMap", false);
     }
     return write;
   }
 
+  /**
+   * Whether map entries are written by {@link AbstractMapSerializer} instead of generated code when
+   * {@link org.apache.fury.config.FuryBuilder#withMapChunked} is enabled, both write entries as
+   * chunks described in {@link MapChunkIterator}. Generated code is used only when key and value
+   * types are final, then key/value serializers are known and can be inlined. For other maps,
+   * classes of every chunk are resolved at runtime, generated code would make the same class info
+   * lookup and virtual serializer calls as the chunk loop of the map serializer.
+   */
+  protected boolean useMapSerializerForEntries(TypeRef<?> keyType, TypeRef<?> valueType) {
+    return !isMonomorphic(getRawType(keyType)) || !isMonomorphic(getRawType(valueType));
+  }
+
   private Expression jitWriteMap(
       Expression buffer, Expression map, Expression serializer, TypeRef<?> typeRef) {
     Tuple2<TypeRef<?>, TypeRef<?>> keyValueType = TypeUtils.getMapKeyValueType(typeRef);
@@ -1007,11 +1193,98 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
               Expression valueAction =
                   serializeFor(value, exprHolder.get("buffer"), valueType, genMethodForValue);
               walkPath.removeLast();
-              return new ListExpression(keyAction, valueAction);
+              Expression flush = new Invoke(furyRef, "tryFlushStream", exprHolder.get("buffer"));
+              return new ListExpression(flush, keyAction, valueAction);
             });
     return new ListExpression(onMapWrite, writeKeyValues);
   }
 
+  /**
+   * Write entries of map whose key and value types are final as chunks, which is the JIT-version of
+   * code:
+   *
+   * <pre>{@code
+   * MapChunkIterator chunks = serializer.newChunkIterator(map);
+   * while (chunks.nextChunk()) {
+   *   fury.tryFlushStream(buffer);
+   *   buffer.writeByte(chunks.header());
+   *   for (int i = 0; i < chunks.size(); i++) {
+   *     if (chunks.hasKey()) writeKey(chunks.key(i));
+   *     if (chunks.hasValue()) writeValue(chunks.value(i));
+   *   }
+   * }
+   * serializer.releaseChunkIterator(chunks);
+   * }</pre>
+   */
+  private Expression jitWriteMapChunks(
+      Expression buffer, Expression map, Expression serializer, TypeRef<?> typeRef) {
+    Tuple2<TypeRef<?>, TypeRef<?>> keyValueType = TypeUtils.getMapKeyValueType(typeRef);
+    TypeRef<?> keyType = keyValueType.f0;
+    TypeRef<?> valueType = keyValueType.f1;
+    Invoke onMapWrite =
+        new Invoke(serializer, "onMapWrite", TypeUtils.mapOf(keyType, valueType), buffer, map);
+    Expression chunks =
+        new Invoke(
+            serializer, "newChunkIterator", "chunks", MAP_CHUNK_ITERATOR_TYPE, false, onMapWrite);
+    Expression chunkSize = new Invoke(chunks, "size", "chunkSize", PRIMITIVE_INT_TYPE);
+    Expression hasKey = new Invoke(chunks, "hasKey", "hasKey", PRIMITIVE_BOOLEAN_TYPE);
+    Expression hasValue = new Invoke(chunks, "hasValue", "hasValue", PRIMITIVE_BOOLEAN_TYPE);
+    ExprHolder exprHolder =
+        ExprHolder.of("buffer", buffer, "chunks", chunks, "hasKey", hasKey, "hasValue", hasValue);
+    ForLoop writeKeyValues =
+        new ForLoop(
+            new Literal(0, PRIMITIVE_INT_TYPE),
+            chunkSize,
+            new Literal(1, PRIMITIVE_INT_TYPE),
+            i -> {
+              Expression key =
+                  new Invoke(exprHolder.get("chunks"), "key", "keyObj", OBJECT_TYPE, false, i);
+              key = tryCastIfPublic(key, keyType, "key");
+              Expression value =
+                  new Invoke(exprHolder.get("chunks"), "value", "valueObj", OBJECT_TYPE, false, i);
+              value = tryCastIfPublic(value, valueType, "value");
+              walkPath.add("key:" + keyType);
+              Expression keyAction = writeMapChunkElement(key, exprHolder.get("buffer"), keyType);
+              walkPath.removeLast();
+              walkPath.add("value:" + valueType);
+              Expression valueAction =
+                  writeMapChunkElement(value, exprHolder.get("buffer"), valueType);
+              walkPath.removeLast();
+              return new ListExpression(
+                  new If(exprHolder.get("hasKey"), keyAction),
+                  new If(exprHolder.get("hasValue"), valueAction));
+            });
+    Expression writeChunk =
+        new ListExpression(
+            new Invoke(furyRef, "tryFlushStream", buffer),
+            new Invoke(buffer, "writeByte", inlineInvoke(chunks, "header", PRIMITIVE_INT_TYPE)),
+            chunkSize,
+            hasKey,
+            hasValue,
+            writeKeyValues);
+    While writeChunks =
+        new While(
+            eq(
+                inlineInvoke(chunks, "nextChunk", PRIMITIVE_BOOLEAN_TYPE),
+                new Literal(true, PRIMITIVE_BOOLEAN_TYPE)),
+            writeChunk);
+    return new ListExpression(
+        onMapWrite, chunks, writeChunks, new Invoke(serializer, "releaseChunkIterator", chunks));
+  }
+
+  /**
+   * Write a not-null key/value of a map chunk, only ref flag is written if ref tracking is needed.
+   */
+  private Expression writeMapChunkElement(Expression elem, Expression buffer, TypeRef<?> typeRef) {
+    boolean generateNewMethod = useCollectionSerialization(typeRef) || useMapSerialization(typeRef);
+    Expression write = serializeForNotNull(elem, buffer, typeRef, null, generateNewMethod);
+    Class<?> rawType = getRawType(typeRef);
+    if (visitFury(fury -> fury.getClassResolver().needToWriteRef(rawType))) {
+      return new If(not(writeRefOrNull(buffer, elem)), write);
+    }
+    return write;
+  }
+
   protected Expression readRefOrNull(Expression buffer) {
     return new Invoke(refResolverRef, "readRefOrNull", "tag", PRIMITIVE_BYTE_TYPE, false, buffer);
   }
@@ -1051,11 +1324,73 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
   }
 
+  /**
+   * Returns an expression that deserialize a nullable field value from <code>buffer</code>, see
+   * {@link #serializeField}. A stub ref id is preserved for not-null values of fields annotated by
+   * {@code @Ref(false)} whose serializer tracks reference, which is decided here for final types
+   * and by the serializer of the read class otherwise.
+   */
+  protected Expression deserializeField(
+      Expression buffer, Descriptor descriptor, Function<Expression, Expression> callback) {
+    TypeRef<?> typeRef = descriptor.getTypeRef();
+    Class<?> rawType = getRawType(typeRef);
+    Field field = descriptor.getField();
+    // Fields which don't exist in current class may be annotated by peer.
+    boolean refIgnored = field == null || ClassResolver.isRefIgnored(field);
+    if (typeRef.isPrimitive()
+        || !refIgnored
+        || !visitFury(fury -> fury.getClassResolver().needToWriteRef(rawType))) {
+      return deserializeFor(buffer, typeRef, callback);
+    }
+    Expression refId = tryPreserveRefId(buffer);
+    return readPreservedRef(
+        refId, callback, () -> deserializeForNotNullIgnoreRef(buffer, typeRef, refId));
+  }
+
+  private Expression deserializeForNotNullIgnoreRef(
+      Expression buffer, TypeRef<?> typeRef, Expression refId) {
+    Class<?> cls = getRawType(typeRef);
+    Expression notNullValue = eq(refId, new Literal(Fury.NOT_NULL_VALUE_FLAG, PRIMITIVE_BYTE_TYPE));
+    Expression preserveStubRefId = new Invoke(refResolverRef, "preserveStubRefId");
+    if (isMonomorphic(cls) || inlineCompactTime(cls)) {
+      return new ListExpression(
+          new If(notNullValue, preserveStubRefId), deserializeForNotNull(buffer, typeRef, null));
+    }
+    Expression classInfo = readClassInfo(cls, buffer, false);
+    Expression serializer =
+        new Invoke(classInfo, "getSerializer", "serializer", SERIALIZER_TYPE, false);
+    Expression preserveStubRefIdIfTracked =
+        new If(
+            notNullValue,
+            new If(
+                inlineInvoke(serializer, "needToWriteRef", PRIMITIVE_BOOLEAN_TYPE),
+                preserveStubRefId));
+    Expression typedSerializer = serializer;
+    if (useCollectionSerialization(typeRef)) {
+      typedSerializer =
+          new Cast(
+              serializer, TypeRef.of(AbstractCollectionSerializer.class), "collectionSerializer");
+    } else if (useMapSerialization(typeRef)) {
+      typedSerializer =
+          new Cast(serializer, TypeRef.of(AbstractMapSerializer.class), "mapSerializer");
+    }
+    return new ListExpression(
+        serializer,
+        preserveStubRefIdIfTracked,
+        deserializeForNotNull(buffer, typeRef, typedSerializer, null));
+  }
+
   private Expression readRef(
       Expression buffer,
       Function<Expression, Expression> callback,
       Supplier<Expression> deserializeForNotNull) {
-    Expression refId = tryPreserveRefId(buffer);
+    return readPreservedRef(tryPreserveRefId(buffer), callback, deserializeForNotNull);
+  }
+
+  private Expression readPreservedRef(
+      Expression refId,
+      Function<Expression, Expression> callback,
+      Supplier<Expression> deserializeForNotNull) {
     // indicates that the object is first read.
     Expression needDeserialize =
         ExpressionUtils.egt(refId, new Literal(Fury.NOT_NULL_VALUE_FLAG, PRIMITIVE_BYTE_TYPE));
@@ -1086,6 +1421,18 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     return new If(notNull, callback.apply(value), callback.apply(nullValue(typeRef)), false);
   }
 
+  /** Read a not-null key/value of a map chunk written by {@link #writeMapChunkElement}. */
+  private Expression readMapChunkElement(Expression buffer, TypeRef<?> typeRef) {
+    boolean genNewMethod = useCollectionSerialization(typeRef) || useMapSerialization(typeRef);
+    Supplier<Expression> read =
+        () -> deserializeForNotNull(buffer, typeRef, new CutPoint(genNewMethod));
+    Class<?> rawType = getRawType(typeRef);
+    if (visitFury(fury -> fury.getClassResolver().needToWriteRef(rawType))) {
+      return readRef(buffer, e -> e, read);
+    }
+    return read.get();
+  }
+
   protected Expression deserializeForNotNull(
       Expression buffer, TypeRef<?> typeRef, CutPoint cutPoint) {
     return deserializeForNotNull(buffer, typeRef, null, cutPoint);
@@ -1133,6 +1480,10 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
       } else {
         if (isMonomorphic(cls)) {
           Preconditions.checkState(serializer == null);
+          if (inlineCompactTime(cls)) {
+            long epochSecond = fury.getConfig().timeEpochSecond();
+            return TimeSerializers.readCompactTimeExpr(cls, buffer, epochSecond);
+          }
           serializer = getOrCreateSerializer(cls);
           Class<?> returnType =
               ReflectionUtils.getReturnType(getRawType(serializer.type()), "read");
@@ -1148,7 +1499,20 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   protected Expression readForNotNullNonFinal(
       Expression buffer, TypeRef<?> typeRef, Expression serializer) {
     if (serializer == null) {
-      Expression classInfo = readClassInfo(getRawType(typeRef), buffer);
+      Class<?> cls = getRawType(typeRef);
+      if (inlineCompactTime(cls)) {
+        // Class info is read once and shared by the class check and the serializer fallback.
+        Expression classInfo = readClassInfo(cls, buffer, false);
+        serializer = inlineInvoke(classInfo, "getSerializer", SERIALIZER_TYPE);
+        long epochSecond = fury.getConfig().timeEpochSecond();
+        return new If(
+            eq(inlineInvoke(classInfo, "getCls", CLASS_TYPE), Literal.ofClass(cls)),
+            TimeSerializers.readCompactTimeExpr(cls, buffer, epochSecond),
+            new Invoke(serializer, "read", OBJECT_TYPE, buffer),
+            false,
+            OBJECT_TYPE);
+      }
+      Expression classInfo = readClassInfo(cls, buffer);
       serializer = inlineInvoke(classInfo, "getSerializer", SERIALIZER_TYPE);
     }
     return new Invoke(serializer, "read", OBJECT_TYPE, buffer);
@@ -1404,7 +1768,39 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
           "Expected AbstractMapSerializer but got %s",
           serializer.type());
     }
+    boolean chunkMap = fury.getConfig().chunkMap();
+    if (chunkMap && useMapSerializerForEntries(keyType, valueType)) {
+      Expression read = new Invoke(serializer, "read", OBJECT_TYPE, buffer);
+      if (cutPoint != null && cutPoint.genNewMethod) {
+        cutPoint.add(buffer);
+        return invokeGenerated(
+            ctx, cutPoint.cutPoints, new ListExpression(read, new Return(read)), "readMap", false);
+      }
+      return read;
+    }
     Invoke supportHook = inlineInvoke(serializer, "supportCodegenHook", PRIMITIVE_BOOLEAN_TYPE);
+    Expression hookRead =
+        chunkMap
+            ? jitReadMapChunks(buffer, serializer, keyType, valueType)
+            : jitReadMap(buffer, serializer, keyType, valueType);
+    hookRead = new Invoke(serializer, "onMapRead", OBJECT_TYPE, hookRead);
+    Expression action =
+        new If(supportHook, hookRead, new Invoke(serializer, "read", OBJECT_TYPE, buffer), false);
+    if (cutPoint != null && cutPoint.genNewMethod) {
+      cutPoint.add(buffer);
+      return invokeGenerated(
+          ctx,
+          cutPoint.cutPoints,
+          new ListExpression(action, new Return(action)),
+          "readMap",
+          false);
+    }
+    return action;
+  }
+
+  /** JIT-version of `AbstractMapSerializer.javaRead` hook which reads entries one by one. */
+  private Expression jitReadMap(
+      Expression buffer, Expression serializer, TypeRef<?> keyType, TypeRef<?> valueType) {
     Expression newMap = new Invoke(serializer, "newMap", MAP_TYPE, buffer);
     Expression size = new Invoke(serializer, "getAndClearNumElements", "size", PRIMITIVE_INT_TYPE);
     Expression start = new Literal(0, PRIMITIVE_INT_TYPE);
@@ -1433,20 +1829,65 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
               return new Invoke(exprHolder.get("map"), "put", keyAction, valueAction);
             });
     // first newMap to create map, last newMap as expr value
-    Expression hookRead = new ListExpression(newMap, size, readKeyValues, newMap);
-    hookRead = new Invoke(serializer, "onMapRead", OBJECT_TYPE, hookRead);
-    Expression action =
-        new If(supportHook, hookRead, new Invoke(serializer, "read", OBJECT_TYPE, buffer), false);
-    if (cutPoint != null && cutPoint.genNewMethod) {
-      cutPoint.add(buffer);
-      return invokeGenerated(
-          ctx,
-          cutPoint.cutPoints,
-          new ListExpression(action, new Return(action)),
-          "readMap",
-          false);
-    }
-    return action;
+    return new ListExpression(newMap, size, readKeyValues, newMap);
+  }
+
+  /** Read entries of a map written by {@link #jitWriteMapChunks}. */
+  private Expression jitReadMapChunks(
+      Expression buffer, Expression serializer, TypeRef<?> keyType, TypeRef<?> valueType) {
+    Expression newMap = new Invoke(serializer, "newMap", MAP_TYPE, buffer);
+    Expression size = new Invoke(serializer, "getAndClearNumElements", "size", PRIMITIVE_INT_TYPE);
+    Expression header =
+        new StaticInvoke(
+            MapChunkIterator.class,
+            "readChunkHeader",
+            "header",
+            PRIMITIVE_INT_TYPE,
+            false,
+            buffer,
+            size);
+    Expression chunkSize =
+        new StaticInvoke(
+            MapChunkIterator.class, "chunkSize", "chunkSize", PRIMITIVE_INT_TYPE, false, header);
+    Expression hasKey =
+        new StaticInvoke(
+            MapChunkIterator.class, "hasKey", "hasKey", PRIMITIVE_BOOLEAN_TYPE, false, header);
+    Expression hasValue =
+        new StaticInvoke(
+            MapChunkIterator.class, "hasValue", "hasValue", PRIMITIVE_BOOLEAN_TYPE, false, header);
+    ExprHolder exprHolder =
+        ExprHolder.of("map", newMap, "buffer", buffer, "hasKey", hasKey, "hasValue", hasValue);
+    ForLoop readKeyValues =
+        new ForLoop(
+            new Literal(0, PRIMITIVE_INT_TYPE),
+            chunkSize,
+            new Literal(1, PRIMITIVE_INT_TYPE),
+            i -> {
+              walkPath.add("key:" + keyType);
+              Expression keyAction = readMapChunkElement(exprHolder.get("buffer"), keyType);
+              walkPath.removeLast();
+              walkPath.add("value:" + valueType);
+              Expression valueAction = readMapChunkElement(exprHolder.get("buffer"), valueType);
+              walkPath.removeLast();
+              return new Invoke(
+                  exprHolder.get("map"),
+                  "put",
+                  new If(exprHolder.get("hasKey"), keyAction, nullValue(keyType), false),
+                  new If(exprHolder.get("hasValue"), valueAction, nullValue(valueType), false));
+            });
+    // JIT-version of `AbstractMapSerializer.finalKVChunkedJavaRead`.
+    While readChunks =
+        new While(
+            gt(size, new Literal(0, PRIMITIVE_INT_TYPE)),
+            new ListExpression(
+                header,
+                chunkSize,
+                hasKey,
+                hasValue,
+                readKeyValues,
+                new Assign(size, ExpressionUtils.subtract(size, chunkSize))));
+    // first newMap to create map, last newMap as expr value
+    return new ListExpression(newMap, size, readChunks, newMap);
   }
 
   @Override
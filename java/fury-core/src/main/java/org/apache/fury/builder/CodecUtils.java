@@ -19,11 +19,18 @@
 
 package org.apache.fury.builder;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Collections;
 import org.apache.fury.Fury;
+import org.apache.fury.codegen.BytecodeCache;
 import org.apache.fury.codegen.CodeGenerator;
 import org.apache.fury.codegen.CompileUnit;
 import org.apache.fury.meta.ClassDef;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.reflect.TypeRef;
 import org.apache.fury.resolver.ClassResolver;
 import org.apache.fury.resolver.FieldResolver;
@@ -32,6 +39,7 @@ import org.apache.fury.util.Preconditions;
 
 /** Codec util to create and load jit serializer class. */
 public class CodecUtils {
+  static final String BUILD_FINGERPRINT = buildFingerprint();
 
   // TODO(chaokunyang) how to uninstall org.apache.fury.codegen/builder classes for graalvm build
   // time
@@ -40,7 +48,7 @@ public class CodecUtils {
       Class<T> cls, Fury fury) {
     Preconditions.checkNotNull(fury);
     BaseObjectCodecBuilder codecBuilder = new ObjectCodecBuilder(cls, fury);
-    return loadOrGenCodecClass(cls, fury, codecBuilder);
+    return loadAotOrGenCodecClass(cls, fury, codecBuilder);
   }
 
   public static <T> Class<? extends Serializer<T>> loadOrGenMetaSharedCodecClass(
@@ -48,13 +56,17 @@ public class CodecUtils {
     Preconditions.checkNotNull(fury);
     MetaSharedCodecBuilder codecBuilder =
         new MetaSharedCodecBuilder(TypeRef.of(cls), fury, classDef);
-    return loadOrGenCodecClass(cls, fury, codecBuilder);
+    return loadAotOrGenCodecClass(cls, fury, codecBuilder);
   }
 
   public static <T> Class<? extends Serializer<T>> loadOrGenCompatibleCodecClass(
       Class<T> cls, Fury fury) {
+    Preconditions.checkNotNull(fury);
     FieldResolver resolver = FieldResolver.of(fury, cls, true, false);
-    return loadOrGenCompatibleCodecClass(cls, fury, resolver, Generated.GeneratedSerializer.class);
+    BaseObjectCodecBuilder codecBuilder =
+        new CompatibleCodecBuilder(
+            TypeRef.of(cls), fury, resolver, Generated.GeneratedSerializer.class);
+    return loadAotOrGenCodecClass(cls, fury, codecBuilder);
   }
 
   public static <T> Class<? extends Serializer<T>> loadOrGenCompatibleCodecClass(
@@ -65,15 +77,83 @@ public class CodecUtils {
     return loadOrGenCodecClass(cls, fury, codecBuilder);
   }
 
-  @SuppressWarnings("unchecked")
+  private static <T> Class<? extends Serializer<T>> loadAotOrGenCodecClass(
+      Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder) {
+    // Serializers generated ahead of time by `AotSerializers` don't need to be compiled.
+    Class<? extends Serializer<T>> aotClass =
+        AotSerializers.loadAotCodecClass(beanClass, fury, codecBuilder);
+    if (aotClass != null) {
+      return aotClass;
+    }
+    String cacheKey = null;
+    if (BytecodeCache.isEnabled()) {
+      String fingerprint = AotSerializers.fingerprint(fury);
+      // Cached bytecode embeds class name, which must be same across processes.
+      codecBuilder.setAotFingerprint(fingerprint);
+      cacheKey = bytecodeCacheKey(beanClass, codecBuilder, fingerprint);
+    }
+    return loadOrGenCodecClass(beanClass, fury, codecBuilder, cacheKey);
+  }
+
+  /**
+   * Returns a key of generated code for {@link BytecodeCache}, which changes when config,
+   * registrations, codec builder or fury build changes. Generated source is hashed by {@link
+   * BytecodeCache} too, so changes of the bean class or its nested field types are covered.
+   */
+  private static String bytecodeCacheKey(
+      Class<?> beanClass, BaseObjectCodecBuilder codecBuilder, String fingerprint) {
+    if (BUILD_FINGERPRINT == null) {
+      return null;
+    }
+    StringBuilder keyBuilder = new StringBuilder(fingerprint);
+    keyBuilder.append('|').append(codecBuilder.getClass().getName());
+    keyBuilder.append('|').append(codecBuilder.parentSerializerClass.getName());
+    keyBuilder.append('|').append(beanClass.getName());
+    keyBuilder.append('|').append(BUILD_FINGERPRINT);
+    return keyBuilder.toString();
+  }
+
+  /**
+   * Returns a fingerprint of fury classes which generated code is compiled against, same source may
+   * compile to different bytecode against a different build.
+   */
+  private static String buildFingerprint() {
+    String version = Fury.class.getPackage().getImplementationVersion();
+    if (version != null && !version.endsWith("-SNAPSHOT")) {
+      return version;
+    }
+    // Snapshot builds and classes directories share a version, use the location and modified time
+    // of fury classes instead.
+    URL url = Fury.class.getResource(Fury.class.getSimpleName() + ".class");
+    try {
+      if (url != null && "jar".equals(url.getProtocol())) {
+        url = ((JarURLConnection) url.openConnection()).getJarFileURL();
+      }
+      if (url == null || !"file".equals(url.getProtocol())) {
+        return null;
+      }
+      long lastModified = new File(url.toURI()).lastModified();
+      return lastModified == 0 ? null : version + '@' + url + '@' + lastModified;
+    } catch (IOException | URISyntaxException e) {
+      return null;
+    }
+  }
+
   static <T> Class<? extends Serializer<T>> loadOrGenCodecClass(
       Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder) {
+    return loadOrGenCodecClass(beanClass, fury, codecBuilder, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Class<? extends Serializer<T>> loadOrGenCodecClass(
+      Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder, String cacheKey) {
     // use genCodeFunc to avoid gen code repeatedly
     CompileUnit compileUnit =
         new CompileUnit(
             CodeGenerator.getPackage(beanClass),
             codecBuilder.codecClassName(beanClass),
             codecBuilder::genCode);
+    compileUnit.setCacheKey(cacheKey);
     CodeGenerator codeGenerator;
     ClassLoader beanClassClassLoader =
         beanClass.getClassLoader() == null
@@ -106,9 +186,22 @@ public class CodecUtils {
         classResolver.setCodeGenerator(loaders, codeGenerator);
       }
     }
-    ClassLoader classLoader =
-        codeGenerator.compile(
-            Collections.singletonList(compileUnit), compileState -> compileState.lock.lock());
+    FuryMetrics metrics = fury.getMetrics();
+    long startTime = System.nanoTime();
+    ClassLoader classLoader;
+    try {
+      classLoader =
+          codeGenerator.compile(
+              Collections.singletonList(compileUnit), compileState -> compileState.lock.lock());
+    } catch (Throwable t) {
+      if (metrics != null) {
+        metrics.onJITCompiled(beanClass, System.nanoTime() - startTime, false);
+      }
+      throw t;
+    }
+    if (metrics != null) {
+      metrics.onJITCompiled(beanClass, System.nanoTime() - startTime, true);
+    }
     String className = codecBuilder.codecQualifiedClassName(beanClass);
     try {
       return (Class<? extends Serializer<T>>) classLoader.loadClass(className);
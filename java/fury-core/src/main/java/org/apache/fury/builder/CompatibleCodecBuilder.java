@@ -342,7 +342,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
     walkPath.add(descriptor.getDeclaringClass() + descriptor.getName());
     Expression fieldValue = getFieldValue(bean, descriptor);
     walkPath.removeLast();
-    return serializeFor(fieldValue, buffer, descriptor.getTypeRef());
+    return serializeField(fieldValue, buffer, descriptor);
   }
 
   @Override
@@ -353,7 +353,9 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
     Reference buffer = new Reference(BUFFER_NAME, bufferTypeRef, false);
     ListExpression expressionBuilder = new ListExpression();
     Expression bean = newBean();
-    Expression referenceObject = new Invoke(refResolverRef, "reference", PRIMITIVE_VOID_TYPE, bean);
+    Expression referenceObject =
+        new If(
+            needToWriteRef(), new Invoke(refResolverRef, "reference", PRIMITIVE_VOID_TYPE, bean));
     expressionBuilder.add(bean);
     expressionBuilder.add(referenceObject);
 
@@ -501,9 +503,9 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
   private Expression readEmbedTypes4(
       Expression bean, Expression buffer, Descriptor descriptor, Expression partFieldInfo) {
     Expression deserializeAction =
-        deserializeFor(
+        deserializeField(
             buffer,
-            descriptor.getTypeRef(),
+            descriptor,
             expr -> setFieldValue(bean, descriptor, tryInlineCast(expr, descriptor.getTypeRef())));
     return new ListExpression(
         deserializeAction,
@@ -706,9 +708,9 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
   private Expression readEmbedTypes8Field(
       Expression bean, Expression buffer, Descriptor descriptor, Expression partFieldInfo) {
     Expression deserializeAction =
-        deserializeFor(
+        deserializeField(
             buffer,
-            descriptor.getTypeRef(),
+            descriptor,
             expr -> setFieldValue(bean, descriptor, tryInlineCast(expr, descriptor.getTypeRef())));
     return new ListExpression(
         deserializeAction,
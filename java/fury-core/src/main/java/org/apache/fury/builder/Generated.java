@@ -28,6 +28,7 @@ import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.meta.ClassDef;
 import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.serializer.CompatibleSerializerBase;
+import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.util.Preconditions;
 
@@ -95,9 +96,23 @@ public interface Generated {
 
   /** Base class for all type consist serializers. */
   abstract class GeneratedObjectSerializer extends GeneratedSerializer implements Generated {
+    private ObjectSerializer copySerializer;
+
     public GeneratedObjectSerializer(Fury fury, Class<?> cls) {
       super(fury, cls);
     }
+
+    /**
+     * Copy by reflection, this will be overridden by generated code for types other than records.
+     */
+    @Override
+    public Object copy(Object value) {
+      ObjectSerializer copySerializer = this.copySerializer;
+      if (copySerializer == null) {
+        this.copySerializer = copySerializer = new ObjectSerializer(fury, type);
+      }
+      return copySerializer.copy(value);
+    }
   }
 
   /** Base class for all serializers with meta shared by {@link ClassDef}. */
@@ -115,6 +130,11 @@ public interface Generated {
     public void write(MemoryBuffer buffer, Object value) {
       serializer.write(buffer, value);
     }
+
+    @Override
+    public Object copy(Object value) {
+      return serializer.copy(value);
+    }
   }
 
   /** Base class for all compatible serializers. */
@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import org.apache.fury.Fury;
@@ -45,6 +44,11 @@ public class JITContext {
   private int furyVisitState;
   private int numRunningTask;
   private final Map<Object, List<NotifyCallback>> hasJITResult;
+  // Jit tasks waiting for a compilation thread, hottest task will be compiled first.
+  private final List<JITTask<?>> pendingTasks;
+  private final Map<Object, JITTask<?>> pendingTaskMap;
+  // Jit task executed by current compilation thread, used to batch nested jit tasks.
+  private static final ThreadLocal<JITTask<?>> runningTask = new ThreadLocal<>();
 
   public JITContext(Fury fury) {
     this.fury = fury;
@@ -53,6 +57,8 @@ public class JITContext {
     // It's ok the cost for fail lock is slightly higher than no-fair lock.
     jitLock = new ReentrantLock(true);
     hasJITResult = new HashMap<>();
+    pendingTasks = new ArrayList<>();
+    pendingTaskMap = new HashMap<>();
   }
 
   /**
@@ -74,48 +80,25 @@ public class JITContext {
     try {
       lock();
       if (fury.getConfig().isCodeGenEnabled()) {
-        // add `isAsyncVisitingFury()` check so nested object field serializers will
-        // be jit-serializers too. Otherwise, we need to switch these field serializers
-        // in jit-serializers, which is tricking.
-        // TODO(chaokunyang) Submit nested object field serializers jit task to executor,
-        //  and update serializer field when jit finished.
-        if (fury.getConfig().isAsyncCompilationEnabled() && !isAsyncVisitingFury()) {
-          // TODO(chaokunyang) stash callbacks and submit jit task if the serialization speed
-          // is really needed.
-          ExecutorService compilationService = CodeGenerator.getCompilationService();
+        if (fury.getConfig().isAsyncCompilationEnabled()) {
           hasJITResult.put(callback.id(), new ArrayList<>());
           numRunningTask++;
-          compilationService.execute(
-              () -> {
-                try {
-                  T result = jitAction.call();
-                  try {
-                    lock();
-                    callback.onSuccess(result);
-                    for (NotifyCallback notifyCallback : hasJITResult.get(callback.id())) {
-                      notifyCallback.onNotifyResult(result);
-                    }
-                  } finally {
-                    numRunningTask--;
-                    if (numRunningTask == 0) {
-                      hasJITResult.clear();
-                    }
-                    unlock();
-                  }
-                } catch (Throwable t) {
-                  try {
-                    lock();
-                    callback.onFailure(t);
-                    // ignore onNotifyResult in failed case.
-                  } finally {
-                    numRunningTask--;
-                    if (numRunningTask == 0) {
-                      hasJITResult.clear();
-                    }
-                    unlock();
-                  }
-                }
-              });
+          JITTask<T> task = new JITTask<>(jitAction, callback);
+          if (callback.id() != null) {
+            pendingTaskMap.put(callback.id(), task);
+          }
+          pendingTasks.add(task);
+          JITTask<?> parent = runningTask.get();
+          if (parent != null && isAsyncVisitingFury()) {
+            // Nested field serializers registered by a running jit task are compiled in same
+            // batch as the parent, and field serializers of parent will be updated by
+            // `registerJITNotifyCallback` when they finish. The batch is already running, no
+            // need to submit another compilation.
+            parent.children.add(task);
+            task.nested = true;
+          } else {
+            CodeGenerator.getCompilationService().execute(this::runPendingTasks);
+          }
           return interpreterModeAction.call();
         } else {
           return jitAction.call();
@@ -131,6 +114,155 @@ public class JITContext {
     }
   }
 
+  /**
+   * Compile the hottest pending task and its nested tasks, then invoke their callbacks by holding
+   * jit lock only once.
+   */
+  private void runPendingTasks() {
+    List<JITTask<?>> batch = new ArrayList<>();
+    try {
+      lock();
+      JITTask<?> task = pollHottestTask();
+      if (task == null) {
+        // Already executed by other compilation thread in a batch.
+        return;
+      }
+      batch.add(task);
+    } finally {
+      unlock();
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      JITTask<?> task = batch.get(i);
+      runningTask.set(task);
+      try {
+        task.run();
+      } finally {
+        runningTask.remove();
+      }
+      try {
+        lock();
+        for (JITTask<?> child : task.children) {
+          if (pendingTasks.remove(child)) {
+            batch.add(child);
+          }
+        }
+      } finally {
+        unlock();
+      }
+    }
+    try {
+      lock();
+      for (JITTask<?> task : batch) {
+        try {
+          task.finish();
+        } finally {
+          numRunningTask--;
+          if (numRunningTask == 0) {
+            hasJITResult.clear();
+          }
+        }
+      }
+    } finally {
+      unlock();
+    }
+  }
+
+  private JITTask<?> pollHottestTask() {
+    JITTask<?> hottest = null;
+    int index = -1;
+    // Pending tasks are few, a linear scan is cheaper than maintaining a heap whose priorities
+    // change on every serialization.
+    for (int i = 0; i < pendingTasks.size(); i++) {
+      JITTask<?> task = pendingTasks.get(i);
+      // Nested tasks have no compilation submitted for them, leave them to their batch.
+      if (task.nested) {
+        continue;
+      }
+      if (hottest == null || task.hits > hottest.hits) {
+        hottest = task;
+        index = i;
+      }
+    }
+    if (hottest != null) {
+      pendingTasks.remove(index);
+    }
+    return hottest;
+  }
+
+  /**
+   * Returns the pending jit task whose callback id is <code>id</code>, or null if there is no such
+   * task. Interpreter mode serializers record their usage to this task so that hot types will be
+   * compiled first.
+   */
+  @Internal
+  public JITTask<?> getPendingTask(Object id) {
+    if (!asyncCompilationEnabled || id == null) {
+      return null;
+    }
+    try {
+      lock();
+      return pendingTaskMap.get(id);
+    } finally {
+      unlock();
+    }
+  }
+
+  /** A submitted jit task, which will be compiled by order of usage frequency. */
+  @Internal
+  public final class JITTask<T> {
+    /** Interpreter mode serializers record one hit for every such number of calls. */
+    public static final int HIT_SAMPLE_INTERVAL = 256;
+
+    private final Callable<T> jitAction;
+    private final SerializerJITCallback<T> callback;
+    private final List<JITTask<?>> children = new ArrayList<>();
+    // Whether this task is compiled in the batch of a parent task.
+    private boolean nested;
+    // Only updated by the serialization thread of the fury instance which owns this context,
+    // volatile is enough to make it visible to compilation threads.
+    private volatile int hits;
+    private T result;
+    private Throwable error;
+
+    private JITTask(Callable<T> jitAction, SerializerJITCallback<T> callback) {
+      this.jitAction = jitAction;
+      this.callback = callback;
+    }
+
+    /**
+     * Record usages of the interpreter mode serializer which waits for this task. Serializers
+     * should only invoke this once every {@link #HIT_SAMPLE_INTERVAL} reads or writes to keep
+     * overhead off the serialization path.
+     */
+    public void hit() {
+      hits++;
+    }
+
+    private void run() {
+      try {
+        result = jitAction.call();
+      } catch (Throwable t) {
+        error = t;
+      }
+    }
+
+    // Must be invoked with jit lock held.
+    private void finish() {
+      if (callback.id() != null) {
+        pendingTaskMap.remove(callback.id());
+      }
+      if (error != null) {
+        callback.onFailure(error);
+        // ignore onNotifyResult in failed case.
+      } else {
+        callback.onSuccess(result);
+        for (NotifyCallback notifyCallback : hasJITResult.get(callback.id())) {
+          notifyCallback.onNotifyResult(result);
+        }
+      }
+    }
+  }
+
   /** Subscribe jit notify callback to be invoked after target jit finished. */
   public void registerJITNotifyCallback(Object id, NotifyCallback notifyCallback) {
     Preconditions.checkNotNull(id);
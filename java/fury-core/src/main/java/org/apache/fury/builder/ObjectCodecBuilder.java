@@ -45,6 +45,7 @@ import org.apache.fury.Fury;
 import org.apache.fury.codegen.Code;
 import org.apache.fury.codegen.CodegenContext;
 import org.apache.fury.codegen.Expression;
+import org.apache.fury.codegen.Expression.If;
 import org.apache.fury.codegen.Expression.Inlineable;
 import org.apache.fury.codegen.Expression.Invoke;
 import org.apache.fury.codegen.Expression.ListExpression;
@@ -60,6 +61,7 @@ import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.PrimitiveSerializers.LongSerializer;
 import org.apache.fury.type.Descriptor;
 import org.apache.fury.type.DescriptorGrouper;
+import org.apache.fury.type.TypeUtils;
 import org.apache.fury.util.Preconditions;
 import org.apache.fury.util.function.SerializableSupplier;
 import org.apache.fury.util.record.RecordUtils;
@@ -209,7 +211,7 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
             // `bean` will be replaced by `Reference` to cut-off expr dependency.
             Expression fieldValue = getFieldValue(bean, d);
             walkPath.add(d.getDeclaringClass() + d.getName());
-            Expression fieldExpr = serializeFor(fieldValue, buffer, d.getTypeRef());
+            Expression fieldExpr = serializeField(fieldValue, buffer, d);
             walkPath.removeLast();
             groupExpressions.add(fieldExpr);
           }
@@ -442,7 +444,8 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     if (!isRecord) {
       bean = newBean();
       Expression referenceObject =
-          new Invoke(refResolverRef, "reference", PRIMITIVE_VOID_TYPE, bean);
+          new If(
+              needToWriteRef(), new Invoke(refResolverRef, "reference", PRIMITIVE_VOID_TYPE, bean));
       expressions.add(bean);
       expressions.add(referenceObject);
     } else {
@@ -485,6 +488,69 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     return expressions;
   }
 
+  /**
+   * Return an expression that deep copies java bean of type {@link CodecBuilder#beanClass}. Records
+   * are copied by {@link ObjectSerializer#copy} instead.
+   */
+  @Override
+  protected Expression buildCopyExpression() {
+    if (isRecord) {
+      return null;
+    }
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, OBJECT_TYPE, false);
+    ListExpression expressions = new ListExpression();
+    Expression origin = tryCastIfPublic(inputObject, beanType, ctx.newName(beanClass));
+    Expression bean = newBean();
+    expressions.add(origin);
+    expressions.add(bean);
+    expressions.add(new Invoke(furyRef, "reference", origin, bean));
+    DescriptorGrouper grouper = objectCodecOptimizer.descriptorGrouper;
+    int numGroups = getNumGroups(objectCodecOptimizer);
+    List<List<Descriptor>> groups = new ArrayList<>(objectCodecOptimizer.primitiveGroups);
+    groups.addAll(objectCodecOptimizer.boxedWriteGroups);
+    groups.addAll(objectCodecOptimizer.finalWriteGroups);
+    groups.addAll(objectCodecOptimizer.otherWriteGroups);
+    for (Descriptor d : grouper.getCollectionDescriptors()) {
+      groups.add(Collections.singletonList(d));
+    }
+    for (Descriptor d : grouper.getMapDescriptors()) {
+      groups.add(Collections.singletonList(d));
+    }
+    for (List<Descriptor> group : groups) {
+      if (group.isEmpty()) {
+        continue;
+      }
+      boolean inline = group.size() == 1 && numGroups < 10;
+      expressions.add(copyGroup(group, origin, bean, inline));
+    }
+    expressions.add(new Expression.Return(bean));
+    return expressions;
+  }
+
+  private Expression copyGroup(
+      List<Descriptor> group, Expression origin, Expression bean, boolean inline) {
+    SerializableSupplier<Expression> expressionSupplier =
+        () -> {
+          ListExpression groupExpressions = new ListExpression();
+          for (Descriptor d : group) {
+            Expression fieldValue = getFieldValue(origin, d);
+            Class<?> rawType = d.getRawType();
+            // primitives, boxed values and strings are immutable, share them with the copy.
+            if (!rawType.isPrimitive() && !TypeUtils.isBoxed(rawType) && rawType != String.class) {
+              fieldValue =
+                  tryInlineCast(
+                      new Invoke(furyRef, "copyObject", OBJECT_TYPE, fieldValue), d.getTypeRef());
+            }
+            groupExpressions.add(setFieldValue(bean, d, fieldValue));
+          }
+          return groupExpressions;
+        };
+    if (inline) {
+      return expressionSupplier.get();
+    }
+    return objectCodecOptimizer.invokeGenerated(expressionSupplier, "copyFields");
+  }
+
   private void deserializeReadGroup(
       List<List<Descriptor>> readGroups,
       int numGroups,
@@ -556,9 +622,9 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
             ExpressionVisitor.ExprHolder exprHolder = ExpressionVisitor.ExprHolder.of("bean", bean);
             walkPath.add(d.getDeclaringClass() + d.getName());
             Expression action =
-                deserializeFor(
+                deserializeField(
                     buffer,
-                    d.getTypeRef(),
+                    d,
                     // `bean` will be replaced by `Reference` to cut-off expr
                     // dependency.
                     expr ->
@@ -581,7 +647,7 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     ListExpression groupExpressions = new ListExpression();
     // use Reference to cut-off expr dependency.
     for (Descriptor d : group) {
-      Expression v = deserializeFor(buffer, d.getTypeRef(), expr -> expr);
+      Expression v = deserializeField(buffer, d, expr -> expr);
       Expression action = setFieldValue(bean, d, tryInlineCast(v, d.getTypeRef()));
       groupExpressions.add(action);
     }
@@ -621,14 +687,16 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     List<Expression> expressions = new ArrayList<>();
     int numPrimitiveFields = getNumPrimitiveFields(primitiveGroups);
     Literal totalSizeLiteral = Literal.ofInt(totalSize);
+    // After this check, following read can be totally unsafe without checks.
+    // The check may fill a stream buffer and reallocate heap memory, so heap memory
+    // and reader address must be got after the check.
+    expressions.add(new Invoke(buffer, "checkReadableBytes", totalSizeLiteral));
     Expression heapBuffer =
         new Invoke(buffer, "getHeapMemory", "heapBuffer", PRIMITIVE_BYTE_ARRAY_TYPE);
     Expression readerAddr =
         new Invoke(buffer, "getUnsafeReaderAddress", "readerAddr", PRIMITIVE_LONG_TYPE);
     expressions.add(heapBuffer);
     expressions.add(readerAddr);
-    // After this check, following read can be totally unsafe without checks
-    expressions.add(new Invoke(buffer, "checkReadableBytes", totalSizeLiteral));
     int acc = 0;
     for (List<Descriptor> group : primitiveGroups) {
       ListExpression groupExpressions = new ListExpression();
@@ -686,16 +754,17 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
       Expression bean, Expression buffer, List<List<Descriptor>> primitiveGroups) {
     List<Expression> expressions = new ArrayList<>();
     int numPrimitiveFields = getNumPrimitiveFields(primitiveGroups);
-    Expression heapBuffer =
-        new Invoke(buffer, "getHeapMemory", "heapBuffer", PRIMITIVE_BYTE_ARRAY_TYPE);
-    expressions.add(heapBuffer);
     for (List<Descriptor> group : primitiveGroups) {
       ListExpression groupExpressions = new ListExpression();
-      Expression readerAddr =
-          new Invoke(buffer, "getUnsafeReaderAddress", "readerAddr", PRIMITIVE_LONG_TYPE);
       // After this check, following read can be totally unsafe without checks.
       ReplaceStub checkReadableBytesStub = new ReplaceStub();
       expressions.add(checkReadableBytesStub);
+      // The check may fill a stream buffer and reallocate heap memory, get heap memory
+      // and reader address for every group after the check.
+      Expression heapBuffer =
+          new Invoke(buffer, "getHeapMemory", "heapBuffer", PRIMITIVE_BYTE_ARRAY_TYPE);
+      Expression readerAddr =
+          new Invoke(buffer, "getUnsafeReaderAddress", "readerAddr", PRIMITIVE_LONG_TYPE);
       int acc = 0;
       boolean compressStarted = false;
       for (Descriptor descriptor : group) {
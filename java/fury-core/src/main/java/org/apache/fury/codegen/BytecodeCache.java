@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.util.MurmurHash3;
+import org.apache.fury.util.StringUtils;
+
+/**
+ * A persistent cache of compiled bytecode, which is enabled by setting system property or
+ * environment variable {@link #CACHE_DIR_KEY} to a local directory. Later process starts will load
+ * cached classes instead of generating code and compiling it by janino again.
+ *
+ * <p>Only {@link CompileUnit}s which have a {@link CompileUnit#setCacheKey cache key} are cached.
+ * Entries are looked up by the cache key and a hash of the generated source, so code is still
+ * generated but janino compilation is skipped on a hit. The cache key must change whenever the same
+ * source may compile to different bytecode, such as a different fury build, and the class name of
+ * the unit must be same across processes since it's embedded in the bytecode.
+ */
+public final class BytecodeCache {
+  private static final Logger LOG = LoggerFactory.getLogger(BytecodeCache.class);
+  public static final String CACHE_DIR_KEY = "FURY_CODE_CACHE_DIR";
+  private static final int MAGIC = 0x46435643;
+
+  public static String getCacheDir() {
+    return System.getProperty(CACHE_DIR_KEY, System.getenv(CACHE_DIR_KEY));
+  }
+
+  public static boolean isEnabled() {
+    return StringUtils.isNotBlank(getCacheDir());
+  }
+
+  /** Returns cached classes compiled from <code>units</code>, or null if not cached. */
+  static Map<String, byte[]> load(List<CompileUnit> units) {
+    Path path = cachePath(units);
+    if (path == null || !Files.exists(path)) {
+      return null;
+    }
+    try (InputStream inputStream = Files.newInputStream(path);
+        DataInputStream in = new DataInputStream(inputStream)) {
+      if (in.readInt() != MAGIC) {
+        return null;
+      }
+      int numClasses = in.readInt();
+      Map<String, byte[]> classes = new HashMap<>(numClasses);
+      for (int i = 0; i < numClasses; i++) {
+        String name = in.readUTF();
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        classes.put(name, bytes);
+      }
+      for (CompileUnit unit : units) {
+        if (!classes.containsKey(CodeGenerator.classFilepath(unit))) {
+          return null;
+        }
+      }
+      LOG.info("Load cached classes of {} from {}", units, path);
+      return classes;
+    } catch (IOException e) {
+      LOG.warn("Load cached classes from {} failed: {}", path, e);
+      return null;
+    }
+  }
+
+  /** Persist classes compiled from <code>units</code>, failures will be ignored. */
+  static void store(List<CompileUnit> units, Map<String, byte[]> classes) {
+    Path path = cachePath(units);
+    if (path == null) {
+      return;
+    }
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        out.writeInt(MAGIC);
+        out.writeInt(classes.size());
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+          out.writeUTF(entry.getKey());
+          out.writeInt(entry.getValue().length);
+          out.write(entry.getValue());
+        }
+      }
+      Files.createDirectories(path.getParent());
+      // Other processes may read or write same entry concurrently, write to a temp file
+      // first and rename it to make the entry visible atomically.
+      Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+      Files.write(tmp, bytes.toByteArray());
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Store compiled classes to {} failed: {}", path, e);
+    }
+  }
+
+  private static Path cachePath(List<CompileUnit> units) {
+    String cacheDir = getCacheDir();
+    if (StringUtils.isBlank(cacheDir) || units.isEmpty()) {
+      return null;
+    }
+    StringBuilder keyBuilder = new StringBuilder();
+    for (CompileUnit unit : units) {
+      if (unit.getCacheKey() == null) {
+        return null;
+      }
+      keyBuilder.append(unit.getQualifiedClassName()).append('#').append(unit.getCacheKey());
+      // Generated code depends on types of nested fields, registrations and other states which
+      // are hard to cover by the key, the source identifies it exactly.
+      byte[] code = unit.getCode().getBytes(StandardCharsets.UTF_8);
+      long[] codeHash = MurmurHash3.murmurhash3_x64_128(code, 0, code.length, 47);
+      keyBuilder.append('#').append(Long.toHexString(codeHash[0]));
+      keyBuilder.append(Long.toHexString(codeHash[1])).append('\n');
+    }
+    byte[] key = keyBuilder.toString().getBytes(StandardCharsets.UTF_8);
+    long[] hash = MurmurHash3.murmurhash3_x64_128(key, 0, key.length, 47);
+    String fileName =
+        String.format(
+            "%s_%s%s.classes",
+            units.get(0).getQualifiedClassName(),
+            Long.toHexString(hash[0]),
+            Long.toHexString(hash[1]));
+    return Paths.get(cacheDir, fileName);
+  }
+}
@@ -141,8 +141,12 @@ public class CodeGenerator {
       compileState.lock.unlock();
     } else {
       try {
-        classes =
-            JaninoUtils.toBytecode(parentClassLoader, compileUnits.toArray(new CompileUnit[0]));
+        classes = BytecodeCache.load(compileUnits);
+        if (classes == null) {
+          classes =
+              JaninoUtils.toBytecode(parentClassLoader, compileUnits.toArray(new CompileUnit[0]));
+          BytecodeCache.store(compileUnits, classes);
+        }
         compileState.result = classes;
         compileState.finished = true;
       } finally {
@@ -33,6 +33,7 @@ public class CompileUnit {
   String mainClassName;
   private String code;
   private Supplier<String> genCodeFunc;
+  private String cacheKey;
 
   public CompileUnit(String pkg, String mainClassName, String code) {
     this.pkg = pkg;
@@ -57,6 +58,18 @@ public class CompileUnit {
     return code;
   }
 
+  public String getCacheKey() {
+    return cacheKey;
+  }
+
+  /**
+   * Set a key which identifies the generated code, so the compiled classes can be persisted by
+   * {@link BytecodeCache} and reused by later processes.
+   */
+  public void setCacheKey(String cacheKey) {
+    this.cacheKey = cacheKey;
+  }
+
   public String getQualifiedClassName() {
     if (StringUtils.isNotBlank(pkg)) {
       return pkg + "." + mainClassName;
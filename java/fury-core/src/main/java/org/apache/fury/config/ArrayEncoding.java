@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.config;
+
+/**
+ * Encoding option for <code>int[]</code>/<code>long[]</code>. Default encoding is {@link #RAW},
+ * other encodings write a header byte before the array to indicate which codec is used, so data
+ * written by any of them can be read by fury which uses an encoding other than {@link #RAW}.
+ */
+public enum ArrayEncoding {
+  /** Write elements as little endian fixed-width bytes, can be copied in bulk. */
+  RAW,
+  /** Write every element as zigzag variable-length int/long, good for arrays of small numbers. */
+  VARINT,
+  /**
+   * Write differences between adjacent elements as zigzag variable-length int/long, good for sorted
+   * or slowly changing arrays such as ids and timestamps.
+   */
+  DELTA,
+  /**
+   * Split array into blocks of 128 elements, every block writes its minimum element and packs
+   * offsets to the minimum with the bit width of the largest offset (frame of reference). Good for
+   * arrays of numbers in a narrow range.
+   */
+  BIT_PACKING,
+}
@@ -20,12 +20,15 @@
 package org.apache.fury.config;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.fury.Fury;
+import org.apache.fury.memory.MemoryAllocator;
 import org.apache.fury.meta.MetaCompressor;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.serializer.TimeSerializers;
 import org.apache.fury.util.Preconditions;
@@ -47,12 +50,20 @@ public class Config implements Serializable {
   private final boolean compressInt;
   private final boolean compressLong;
   private final LongEncoding longEncoding;
+  private final ArrayEncoding arrayEncoding;
+  private final boolean compressTime;
+  private final long timeEpochSecond;
+  private final boolean compressBigNumber;
+  private final boolean chunkMap;
   private final boolean requireClassRegistration;
   private final boolean suppressClassRegistrationWarnings;
   private final boolean registerGuavaTypes;
   private final boolean metaShareEnabled;
   private final boolean scopedMetaShareEnabled;
+  private final boolean inlineClassDefsEnabled;
   private final MetaCompressor metaCompressor;
+  private final transient FuryMetrics metrics;
+  private final transient MemoryAllocator memoryAllocator;
   private final boolean asyncCompilationEnabled;
   private final boolean deserializeNonexistentClass;
   private final boolean scalaOptimizationEnabled;
@@ -69,6 +80,11 @@ public class Config implements Serializable {
     compressInt = builder.compressInt;
     longEncoding = builder.longEncoding;
     compressLong = longEncoding != LongEncoding.LE_RAW_BYTES;
+    arrayEncoding = builder.arrayEncoding;
+    compressTime = builder.compressTime;
+    timeEpochSecond = builder.timeEpochSecond;
+    compressBigNumber = builder.compressBigNumber;
+    chunkMap = builder.chunkMap;
     requireClassRegistration = builder.requireClassRegistration;
     suppressClassRegistrationWarnings = builder.suppressClassRegistrationWarnings;
     registerGuavaTypes = builder.registerGuavaTypes;
@@ -79,7 +95,10 @@ public class Config implements Serializable {
     defaultJDKStreamSerializerType = builder.defaultJDKStreamSerializerType;
     metaShareEnabled = builder.metaShareEnabled;
     scopedMetaShareEnabled = builder.scopedMetaShareEnabled;
+    inlineClassDefsEnabled = builder.inlineClassDefsEnabled;
     metaCompressor = builder.metaCompressor;
+    metrics = builder.metrics;
+    memoryAllocator = builder.memoryAllocator;
     deserializeNonexistentClass = builder.deserializeNonexistentClass;
     if (deserializeNonexistentClass) {
       // Only in meta share mode or compatibleMode, fury knows how to deserialize
@@ -159,6 +178,46 @@ public class Config implements Serializable {
     return longEncoding;
   }
 
+  /** Returns encoding of <code>int[]</code>/<code>long[]</code>. */
+  public ArrayEncoding arrayEncoding() {
+    return arrayEncoding;
+  }
+
+  /**
+   * Whether write time types such as {@link java.time.Instant}/{@link java.util.Date} as variable
+   * length seconds relative to {@link #timeEpochSecond} and sub-second part in the coarsest unit
+   * which represents it exactly.
+   *
+   * @see FuryBuilder#withTimeCompressed(boolean)
+   */
+  public boolean compressTime() {
+    return compressTime;
+  }
+
+  /** Returns epoch second which compressed time types are written relative to. */
+  public long timeEpochSecond() {
+    return timeEpochSecond;
+  }
+
+  /**
+   * Whether write {@link java.math.BigDecimal}/{@link java.math.BigInteger} whose unscaled value
+   * fits in a long as variable length long instead of byte array.
+   *
+   * @see FuryBuilder#withBigNumberCompressed(boolean)
+   */
+  public boolean compressBigNumber() {
+    return compressBigNumber;
+  }
+
+  /**
+   * Whether write map entries as chunks which share key/value class info.
+   *
+   * @see FuryBuilder#withMapChunked(boolean)
+   */
+  public boolean chunkMap() {
+    return chunkMap;
+  }
+
   public boolean requireClassRegistration() {
     return requireClassRegistration;
   }
@@ -195,6 +254,15 @@ public class Config implements Serializable {
     return scopedMetaShareEnabled;
   }
 
+  /**
+   * Whether class definitions are written inline when a class is first seen in meta share mode.
+   *
+   * @see FuryBuilder#withInlineClassDefs(boolean)
+   */
+  public boolean isInlineClassDefsEnabled() {
+    return inlineClassDefsEnabled;
+  }
+
   /**
    * Returns a {@link MetaCompressor} to compress class metadata such as field names and types. The
    * returned {@link MetaCompressor} should be thread safe.
@@ -203,6 +271,22 @@ public class Config implements Serializable {
     return metaCompressor;
   }
 
+  /**
+   * Returns listener of serialization metrics, or null if metrics are disabled. Metrics don't
+   * affect serialization, thus it's not part of config equality.
+   */
+  public FuryMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns allocator of buffers owned by fury, or null if buffers are allocated on heap directly.
+   * Allocator doesn't affect serialized data, thus it's not part of config equality.
+   */
+  public MemoryAllocator getMemoryAllocator() {
+    return memoryAllocator;
+  }
+
   /**
    * Whether deserialize/skip data of un-existed class. If not enabled, an exception will be thrown
    * if class not exist.
@@ -258,6 +342,7 @@ public class Config implements Serializable {
         && registerGuavaTypes == config.registerGuavaTypes
         && metaShareEnabled == config.metaShareEnabled
         && scopedMetaShareEnabled == config.scopedMetaShareEnabled
+        && inlineClassDefsEnabled == config.inlineClassDefsEnabled
         && Objects.equals(metaCompressor, config.metaCompressor)
         && asyncCompilationEnabled == config.asyncCompilationEnabled
         && deserializeNonexistentClass == config.deserializeNonexistentClass
@@ -265,7 +350,12 @@ public class Config implements Serializable {
         && language == config.language
         && compatibleMode == config.compatibleMode
         && Objects.equals(defaultJDKStreamSerializerType, config.defaultJDKStreamSerializerType)
-        && longEncoding == config.longEncoding;
+        && longEncoding == config.longEncoding
+        && arrayEncoding == config.arrayEncoding
+        && compressTime == config.compressTime
+        && timeEpochSecond == config.timeEpochSecond
+        && compressBigNumber == config.compressBigNumber
+        && chunkMap == config.chunkMap;
   }
 
   @Override
@@ -285,11 +375,17 @@ public class Config implements Serializable {
         compressInt,
         compressLong,
         longEncoding,
+        arrayEncoding,
+        compressTime,
+        timeEpochSecond,
+        compressBigNumber,
+        chunkMap,
         requireClassRegistration,
         suppressClassRegistrationWarnings,
         registerGuavaTypes,
         metaShareEnabled,
         scopedMetaShareEnabled,
+        inlineClassDefsEnabled,
         metaCompressor,
         asyncCompilationEnabled,
         deserializeNonexistentClass,
@@ -307,4 +403,42 @@ public class Config implements Serializable {
     }
     return configHash;
   }
+
+  /**
+   * Returns a hash of this config which is same across processes, unlike {@link #getConfigHash}
+   * which is only unique in current process. Used to match serializers generated ahead of time.
+   */
+  public int getStableConfigHash() {
+    return Arrays.hashCode(
+        new Object[] {
+          language.name(),
+          trackingRef,
+          basicTypesRefIgnored,
+          stringRefIgnored,
+          timeRefIgnored,
+          codeGenEnabled,
+          checkClassVersion,
+          compatibleMode.name(),
+          checkJdkClassSerializable,
+          defaultJDKStreamSerializerType == null ? "" : defaultJDKStreamSerializerType.getName(),
+          compressString,
+          compressInt,
+          compressLong,
+          longEncoding.name(),
+          arrayEncoding.name(),
+          compressTime,
+          timeEpochSecond,
+          compressBigNumber,
+          chunkMap,
+          requireClassRegistration,
+          registerGuavaTypes,
+          metaShareEnabled,
+          scopedMetaShareEnabled,
+          inlineClassDefsEnabled,
+          metaCompressor == null ? "" : metaCompressor.getClass().getName(),
+          deserializeNonexistentClass,
+          scalaOptimizationEnabled,
+          deserializeNonexistentEnumValueAsNull
+        });
+  }
 }
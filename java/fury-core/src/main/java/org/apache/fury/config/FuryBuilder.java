@@ -19,6 +19,7 @@
 
 package org.apache.fury.config;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import org.apache.fury.Fury;
@@ -26,9 +27,12 @@ import org.apache.fury.ThreadLocalFury;
 import org.apache.fury.ThreadSafeFury;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.memory.MemoryAllocator;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.meta.DeflaterMetaCompressor;
 import org.apache.fury.meta.MetaCompressor;
+import org.apache.fury.metrics.FuryMetrics;
+import org.apache.fury.pool.ClassLoaderFuryPooled;
 import org.apache.fury.pool.ThreadPoolFury;
 import org.apache.fury.resolver.ClassResolver;
 import org.apache.fury.serializer.JavaSerializer;
@@ -65,6 +69,11 @@ public final class FuryBuilder {
   ClassLoader classLoader;
   boolean compressInt = true;
   public LongEncoding longEncoding = LongEncoding.SLI;
+  ArrayEncoding arrayEncoding = ArrayEncoding.RAW;
+  boolean compressTime = false;
+  long timeEpochSecond = 0;
+  boolean compressBigNumber = false;
+  boolean chunkMap = false;
   boolean compressString = true;
   CompatibleMode compatibleMode = CompatibleMode.SCHEMA_CONSISTENT;
   boolean checkJdkClassSerializable = true;
@@ -72,6 +81,7 @@ public final class FuryBuilder {
   boolean requireClassRegistration = true;
   boolean metaShareEnabled = false;
   boolean scopedMetaShareEnabled = false;
+  boolean inlineClassDefsEnabled = false;
   boolean codeGenEnabled = true;
   Boolean deserializeNonexistentClass;
   boolean asyncCompilationEnabled = false;
@@ -80,6 +90,8 @@ public final class FuryBuilder {
   boolean suppressClassRegistrationWarnings = true;
   boolean deserializeNonexistentEnumValueAsNull = false;
   MetaCompressor metaCompressor = new DeflaterMetaCompressor();
+  FuryMetrics metrics;
+  MemoryAllocator memoryAllocator;
 
   public FuryBuilder() {}
 
@@ -155,6 +167,65 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Set encoding of <code>int[]</code>/<code>long[]</code>, default is {@link ArrayEncoding#RAW}.
+   * This option takes effect for java serialization only, cross-language serialization always uses
+   * {@link ArrayEncoding#RAW}. Arrays written to out-of-band buffers are not encoded either.
+   */
+  public FuryBuilder withArrayEncoding(ArrayEncoding arrayEncoding) {
+    this.arrayEncoding = Objects.requireNonNull(arrayEncoding);
+    return this;
+  }
+
+  /**
+   * Whether write time types as variable length seconds relative to epoch set by {@link
+   * #withTimeEpoch} and sub-second part in the coarsest unit among second/milli/micro/nano which
+   * represents it exactly. Disabled by default, applies to {@link Instant}, {@link
+   * java.time.LocalDateTime}, {@link java.time.ZonedDateTime}, {@link java.time.OffsetDateTime},
+   * {@link java.util.Date} and its sql subclasses. This option takes effect for java serialization
+   * only.
+   */
+  public FuryBuilder withTimeCompressed(boolean timeCompressed) {
+    this.compressTime = timeCompressed;
+    return this;
+  }
+
+  /**
+   * Set epoch which compressed time values are written relative to, default is {@link
+   * Instant#EPOCH}. Time values close to this epoch take fewer bytes, only seconds of the epoch is
+   * used. Deserializing fury must use the same epoch.
+   *
+   * @see #withTimeCompressed(boolean)
+   */
+  public FuryBuilder withTimeEpoch(Instant epoch) {
+    this.timeEpochSecond = Objects.requireNonNull(epoch).getEpochSecond();
+    return this;
+  }
+
+  /**
+   * Whether write {@link java.math.BigDecimal} and {@link java.math.BigInteger} whose unscaled
+   * value fits in a long as a variable length long instead of a byte array. Disabled by default,
+   * data written with this option enabled can only be read by fury with this option enabled. This
+   * option takes effect for java serialization only.
+   */
+  public FuryBuilder withBigNumberCompressed(boolean bigNumberCompressed) {
+    this.compressBigNumber = bigNumberCompressed;
+    return this;
+  }
+
+  /**
+   * Whether write map entries as chunks of adjacent entries which have same key/value classes and
+   * nullness, key/value class info is written once per chunk instead of once per entry. This saves
+   * space and lookups for maps whose key or value type isn't final, such as {@code Map<String,
+   * Object>} holding values of few types. Disabled by default, data written with this option
+   * enabled can only be read by fury with this option enabled. This option takes effect for java
+   * serialization only.
+   */
+  public FuryBuilder withMapChunked(boolean mapChunked) {
+    this.chunkMap = mapChunked;
+    return this;
+  }
+
   /** Whether compress string for small size. */
   public FuryBuilder withStringCompressed(boolean stringCompressed) {
     this.compressString = stringCompressed;
@@ -254,6 +325,21 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Whether to write class definitions inline when a class is first seen in meta share mode,
+   * instead of appending all new class definitions at the end of serialized data. This makes meta
+   * share data writable and readable in a single forward pass, which is required by streaming
+   * serialization such as {@link org.apache.fury.io.FuryOutputStream}. Meta share mode will be
+   * enabled if this option is enabled.
+   */
+  public FuryBuilder withInlineClassDefs(boolean inline) {
+    inlineClassDefsEnabled = inline;
+    if (inline) {
+      metaShareEnabled = true;
+    }
+    return this;
+  }
+
   /**
    * Set a compressor for meta compression. Note that the passed {@link MetaCompressor} should be
    * thread-safe. By default, a `Deflater` based compressor {@link DeflaterMetaCompressor} will be
@@ -264,6 +350,27 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Set a listener of serialization metrics such as {@link org.apache.fury.metrics.FuryStats}.
+   * Metrics are disabled by default. The passed {@link FuryMetrics} must be thread-safe if it's
+   * shared by multiple fury instances, and it doesn't take part in config equality.
+   */
+  public FuryBuilder withMetrics(FuryMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  /**
+   * Set allocator of buffers owned by fury such as {@link
+   * org.apache.fury.memory.PooledMemoryAllocator}, so buffer growth under large messages can reuse
+   * memory instead of allocating new arrays. Buffers are allocated on heap directly by default. The
+   * allocator will be shared by all fury instances created by this builder.
+   */
+  public FuryBuilder withMemoryAllocator(MemoryAllocator memoryAllocator) {
+    this.memoryAllocator = memoryAllocator;
+    return this;
+  }
+
   /**
    * Whether deserialize/skip data of un-existed class.
    *
@@ -390,11 +497,25 @@ public final class FuryBuilder {
     return threadSafeFury;
   }
 
+  /**
+   * Build thread safe fury for virtual threads. {@link ThreadLocalFury} creates a fury for every
+   * thread, which is unbounded for virtual threads. The returned fury borrows a fury from a
+   * lock-free pool for every call instead. The pool never blocks: a new fury is created when no
+   * idle fury is available, so the number of fury follows the number of concurrent calls rather
+   * than the number of threads. At most {@link ClassLoaderFuryPooled#getMaxIdleSize} idle fury,
+   * which is twice the number of cores rounded up to a power of two, are retained after a burst of
+   * calls, extra fury are discarded when they are returned.
+   */
+  public ThreadSafeFury buildVirtualThreadSafeFury() {
+    return buildThreadSafeFuryPool(0, ClassLoaderFuryPooled.UNBOUNDED);
+  }
+
   /**
    * Build pooled ThreadSafeFury.
    *
    * @param minPoolSize min pool size
-   * @param maxPoolSize max pool size
+   * @param maxPoolSize max pool size, borrowing blocks when all fury are in use unless it's {@link
+   *     ClassLoaderFuryPooled#UNBOUNDED}
    * @return ThreadSafeFuryPool
    */
   public ThreadSafeFury buildThreadSafeFuryPool(int minPoolSize, int maxPoolSize) {
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.MemoryAllocator;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A {@link FuryStreamWriter} which serializes objects into a chain of segments and writes them to a
+ * {@link GatheringByteChannel} by one gathering write per serialization.
+ *
+ * <p>When a segment is filled at object boundaries, it's sealed and a new segment is started, so
+ * written data won't be copied by buffer growth. Payloads of large <code>byte[]</code>, {@link
+ * ByteBuffer} and buffer objects are referenced as segments instead of being copied into the
+ * buffer, those payloads must not be modified until the serialization finishes. Since offsets of
+ * the buffer are kept unchanged by referenced payloads, serializers which back-patch written data
+ * still work.
+ */
+@NotThreadSafe
+public class FuryGatheringChannel implements FuryStreamWriter, WritableByteChannel {
+  private final GatheringByteChannel channel;
+  private final int segmentSize;
+  private final int minReferenceSize;
+  private final MemoryAllocator allocator;
+  private final MemoryBuffer buffer;
+  // Sealed segments which will be written to the channel by next flush.
+  private final List<ByteBuffer> segments = new ArrayList<>();
+  // Arrays of sealed segments, which will be released after written.
+  private final List<byte[]> sealedArrays = new ArrayList<>();
+  // Payloads referenced by current segment and their offsets in the buffer.
+  private final List<ByteBuffer> payloads = new ArrayList<>();
+  private int[] payloadOffsets = new int[4];
+  // Referenced payloads are counted when referenced since they are never in the buffer.
+  private long flushedBytes;
+
+  public FuryGatheringChannel(GatheringByteChannel channel) {
+    this(channel, 64 * 1024, 4096, null);
+  }
+
+  /**
+   * Create a gathering channel.
+   *
+   * @param segmentSize size of a segment, which is sealed when it's filled at object boundaries.
+   * @param minReferenceSize min size of payloads to be referenced instead of copied.
+   * @param allocator allocator of segment memory, or null to allocate segments on heap directly.
+   */
+  public FuryGatheringChannel(
+      GatheringByteChannel channel,
+      int segmentSize,
+      int minReferenceSize,
+      MemoryAllocator allocator) {
+    Preconditions.checkArgument(segmentSize > 0, "Segment size must be positive: " + segmentSize);
+    this.channel = channel;
+    this.segmentSize = segmentSize;
+    this.minReferenceSize = minReferenceSize;
+    this.allocator = allocator;
+    this.buffer =
+        allocator == null
+            ? MemoryBuffer.newHeapBuffer(segmentSize)
+            : allocator.newHeapBuffer(segmentSize);
+  }
+
+  private byte[] allocate(int size) {
+    MemoryAllocator allocator = this.allocator;
+    return allocator == null ? new byte[size] : allocator.allocateHeap(size);
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  /** Returns min size of payloads which can be written by {@link #writeByReference}. */
+  public int getMinReferenceSize() {
+    return minReferenceSize;
+  }
+
+  /**
+   * Reference <code>payload</code> as a segment at current writer index of the buffer instead of
+   * copying it. The payload must not be modified until data are flushed.
+   */
+  public void writeByReference(ByteBuffer payload) {
+    int numPayloads = payloads.size();
+    if (numPayloads == payloadOffsets.length) {
+      int[] newOffsets = new int[numPayloads << 1];
+      System.arraycopy(payloadOffsets, 0, newOffsets, 0, numPayloads);
+      payloadOffsets = newOffsets;
+    }
+    payloadOffsets[numPayloads] = buffer.writerIndex();
+    payloads.add(payload.duplicate());
+    flushedBytes += payload.remaining();
+  }
+
+  /** Add data of current buffer and referenced payloads to segments. */
+  private void addSegments(byte[] heapMemory, int end) {
+    List<ByteBuffer> segments = this.segments;
+    List<ByteBuffer> payloads = this.payloads;
+    int start = 0;
+    for (int i = 0; i < payloads.size(); i++) {
+      int offset = payloadOffsets[i];
+      if (offset > start) {
+        segments.add(ByteBuffer.wrap(heapMemory, start, offset - start));
+        start = offset;
+      }
+      segments.add(payloads.get(i));
+    }
+    if (end > start) {
+      segments.add(ByteBuffer.wrap(heapMemory, start, end - start));
+    }
+    payloads.clear();
+  }
+
+  /** Seal current segment and start a new segment if current segment is filled. */
+  @Override
+  public void tryFlushBuffer() {
+    MemoryBuffer buf = buffer;
+    int writerIndex = buf.writerIndex();
+    if (writerIndex >= segmentSize) {
+      byte[] heapMemory = buf.getHeapMemory();
+      addSegments(heapMemory, writerIndex);
+      flushedBytes += writerIndex;
+      sealedArrays.add(heapMemory);
+      byte[] newMemory = allocate(segmentSize);
+      buf.initHeapBuffer(newMemory, 0, newMemory.length);
+      buf.writerIndex(0);
+    }
+  }
+
+  /** Write all segments to the channel by a gathering write. */
+  @Override
+  public void flushBuffer() {
+    MemoryBuffer buf = buffer;
+    addSegments(buf.getHeapMemory(), buf.writerIndex());
+    flushedBytes += buf.writerIndex();
+    List<ByteBuffer> segments = this.segments;
+    if (segments.isEmpty()) {
+      return;
+    }
+    ByteBuffer[] srcs = segments.toArray(new ByteBuffer[0]);
+    ByteBuffer last = srcs[srcs.length - 1];
+    try {
+      while (last.hasRemaining()) {
+        channel.write(srcs);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to write the provided byte channel", e);
+    }
+    segments.clear();
+    buf.writerIndex(0);
+    MemoryAllocator allocator = this.allocator;
+    if (allocator != null) {
+      for (byte[] array : sealedArrays) {
+        allocator.releaseHeap(array);
+      }
+    }
+    sealedArrays.clear();
+  }
+
+  @Override
+  public void shrinkBuffer() {
+    MemoryBuffer buf = buffer;
+    if (buf.size() > segmentSize && buf.writerIndex() == 0 && payloads.isEmpty()) {
+      byte[] heapMemory = buf.getHeapMemory();
+      byte[] newMemory = allocate(segmentSize);
+      buf.initHeapBuffer(newMemory, 0, newMemory.length);
+      if (allocator != null) {
+        allocator.releaseHeap(heapMemory);
+      }
+    }
+  }
+
+  @Override
+  public long flushedBytes() {
+    return flushedBytes;
+  }
+
+  @Override
+  public int write(ByteBuffer src) {
+    int remaining = src.remaining();
+    buffer.write(src, remaining);
+    tryFlushBuffer();
+    return remaining;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flushBuffer();
+    } finally {
+      channel.close();
+    }
+  }
+}
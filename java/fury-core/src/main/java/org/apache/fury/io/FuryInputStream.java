@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.MemoryAllocator;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.Platform;
 
@@ -35,19 +36,45 @@ import org.apache.fury.memory.Platform;
 public class FuryInputStream extends InputStream implements FuryStreamReader {
   private final InputStream stream;
   private final int bufferSize;
+  private final MemoryAllocator allocator;
   private final MemoryBuffer buffer;
+  // Whether a slice of current heap memory is handed out, such memory can't be released for reuse.
+  private boolean sliced;
 
   public FuryInputStream(InputStream stream) {
     this(stream, 4096);
   }
 
   public FuryInputStream(InputStream stream, int bufferSize) {
+    this(stream, bufferSize, null);
+  }
+
+  /**
+   * Create a stream whose buffer memory is allocated by <code>allocator</code>, or on heap directly
+   * if <code>allocator</code> is null.
+   */
+  public FuryInputStream(InputStream stream, int bufferSize, MemoryAllocator allocator) {
     this.stream = stream;
     this.bufferSize = bufferSize;
-    byte[] bytes = new byte[bufferSize];
+    this.allocator = allocator;
+    byte[] bytes = allocate(bufferSize);
     this.buffer = MemoryBuffer.fromByteArray(bytes, 0, 0, this);
   }
 
+  private byte[] allocate(int size) {
+    MemoryAllocator allocator = this.allocator;
+    return allocator == null ? new byte[size] : allocator.allocateHeap(size);
+  }
+
+  private void release(byte[] bytes) {
+    MemoryAllocator allocator = this.allocator;
+    if (allocator != null && !sliced) {
+      allocator.releaseHeap(bytes);
+    }
+    // New memory has no slices.
+    sliced = false;
+  }
+
   @Override
   public int fillBuffer(int minFillSize) {
     MemoryBuffer buffer = this.buffer;
@@ -74,19 +101,19 @@ public class FuryInputStream extends InputStream implements FuryStreamReader {
     }
   }
 
-  private static byte[] growBuffer(int minFillSize, MemoryBuffer buffer) {
+  private byte[] growBuffer(int minFillSize, MemoryBuffer buffer) {
     int newSize;
     int targetSize = buffer.size() + minFillSize;
     newSize =
         targetSize < MemoryBuffer.BUFFER_GROW_STEP_THRESHOLD
             ? targetSize << 2
             : (int) Math.min(targetSize * 1.5d, Integer.MAX_VALUE);
-    byte[] newBuffer = new byte[newSize];
+    byte[] newBuffer = allocate(newSize);
     byte[] heapMemory = buffer.getHeapMemory();
     System.arraycopy(heapMemory, 0, newBuffer, 0, buffer.size());
     buffer.initHeapBuffer(newBuffer, 0, buffer.size());
-    heapMemory = newBuffer;
-    return heapMemory;
+    release(heapMemory);
+    return newBuffer;
   }
 
   @Override
@@ -170,6 +197,11 @@ public class FuryInputStream extends InputStream implements FuryStreamReader {
     return buffer;
   }
 
+  @Override
+  public void onBufferSliced() {
+    sliced = true;
+  }
+
   public InputStream getStream() {
     return stream;
   }
@@ -183,10 +215,11 @@ public class FuryInputStream extends InputStream implements FuryStreamReader {
     int bufferSize = this.bufferSize;
     if (remaining > bufferSize || buffer.size() > bufferSize) {
       byte[] heapMemory = buffer.getHeapMemory();
-      byte[] newBuffer = new byte[Math.max(bufferSize, remaining)];
+      byte[] newBuffer = allocate(Math.max(bufferSize, remaining));
       System.arraycopy(heapMemory, buffer.readerIndex(), newBuffer, 0, remaining);
       buffer.initHeapBuffer(newBuffer, 0, remaining);
       buffer.readerIndex(0);
+      release(heapMemory);
     }
   }
 
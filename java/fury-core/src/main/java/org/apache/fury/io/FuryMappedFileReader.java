@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.Platform;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A {@link FuryStreamReader} which deserializes objects from a memory-mapped file directly without
+ * copying file data into a heap buffer. The buffer maps a window of the file, which is remapped to
+ * a larger window of same start when more data are needed, and moved forward to the reader index by
+ * {@link #shrinkBuffer} at object boundaries. So files larger than 2GB such as the ones written by
+ * {@link FuryMappedFileWriter} can be read, while every single object must be smaller than 2GB.
+ *
+ * <p>Mapped windows are released when they are garbage collected.
+ */
+@NotThreadSafe
+public class FuryMappedFileReader implements FuryStreamReader, Closeable {
+  private final FileChannel channel;
+  private final long fileSize;
+  private final int windowSize;
+  private final MemoryBuffer buffer;
+  private MappedByteBuffer mappedBuffer;
+  private long windowStart;
+
+  public FuryMappedFileReader(Path path) throws IOException {
+    this(path, 1 << 20);
+  }
+
+  /**
+   * Create a reader which reads the file at <code>path</code> from the start.
+   *
+   * @param windowSize initial size of mapped window.
+   */
+  public FuryMappedFileReader(Path path, int windowSize) throws IOException {
+    Preconditions.checkArgument(windowSize > 0, "Window size must be positive: " + windowSize);
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.fileSize = channel.size();
+    if (fileSize == 0) {
+      channel.close();
+      throw new IllegalArgumentException("File is empty: " + path);
+    }
+    this.windowSize = windowSize;
+    int size = (int) Math.min(windowSize, fileSize);
+    mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    buffer = MemoryBuffer.fromDirectByteBuffer(mappedBuffer, size, this);
+  }
+
+  private void remap(int size) {
+    try {
+      mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+    } catch (IOException e) {
+      throw new DeserializationException("Failed to map file window at " + windowStart, e);
+    }
+    buffer.initDirectBuffer(ByteBufferUtil.getAddress(mappedBuffer), size, mappedBuffer);
+  }
+
+  @Override
+  public int fillBuffer(int minFillSize) {
+    MemoryBuffer buf = buffer;
+    int size = buf.size();
+    long available = fileSize - windowStart - size;
+    if (available < minFillSize) {
+      throw new IndexOutOfBoundsException(
+          String.format(
+              "No enough data in the file, need %d bytes but only %d left",
+              minFillSize, available));
+    }
+    long targetSize = (long) size + minFillSize;
+    if (targetSize > Integer.MAX_VALUE) {
+      throw new DeserializationException("Object exceeds max window size at " + windowStart);
+    }
+    long newSize = Math.max(targetSize, Math.max((long) size << 1, windowSize));
+    newSize = Math.min(Math.min(newSize, fileSize - windowStart), Integer.MAX_VALUE);
+    remap((int) newSize);
+    return (int) (newSize - size);
+  }
+
+  @Override
+  public void readTo(byte[] dst, int dstIndex, int length) {
+    MemoryBuffer buf = buffer;
+    int remaining = buf.remaining();
+    if (remaining < length) {
+      fillBuffer(length - remaining);
+    }
+    buf.readBytes(dst, dstIndex, length);
+  }
+
+  @Override
+  public void readToUnsafe(Object target, long targetPointer, int numBytes) {
+    MemoryBuffer buf = buffer;
+    int remaining = buf.remaining();
+    if (remaining < numBytes) {
+      fillBuffer(numBytes - remaining);
+    }
+    long address = buf.getUnsafeReaderAddress();
+    Platform.copyMemory(null, address, target, targetPointer, numBytes);
+    buf.increaseReaderIndex(numBytes);
+  }
+
+  @Override
+  public void readToByteBuffer(ByteBuffer dst, int length) {
+    MemoryBuffer buf = buffer;
+    int remaining = buf.remaining();
+    if (remaining < length) {
+      fillBuffer(length - remaining);
+    }
+    buf.read(dst, length);
+  }
+
+  @Override
+  public int readToByteBuffer(ByteBuffer dst) {
+    MemoryBuffer buf = buffer;
+    int remaining = buf.remaining();
+    long available = fileSize - windowStart - buf.size();
+    int length = (int) Math.min(dst.remaining(), remaining + available);
+    readToByteBuffer(dst, length);
+    return length;
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  /** Returns number of bytes read from the file. */
+  public long position() {
+    return windowStart + buffer.readerIndex();
+  }
+
+  /** Returns whether all data of the file are read. */
+  public boolean isEnd() {
+    return position() >= fileSize;
+  }
+
+  /**
+   * Move the window to start at current reader index, then reset the reader index to zero. This
+   * must be invoked only at object boundaries, where no read offsets in the buffer are held.
+   */
+  public void shrinkBuffer() {
+    MemoryBuffer buf = buffer;
+    int readerIndex = buf.readerIndex();
+    // Keep the window if all data are read, since an empty window can't be mapped.
+    if (readerIndex > 0 && windowStart + readerIndex < fileSize) {
+      windowStart += readerIndex;
+      remap((int) Math.min(windowSize, fileSize - windowStart));
+      buf.readerIndex(0);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
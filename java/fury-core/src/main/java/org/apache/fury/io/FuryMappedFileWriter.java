@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A {@link FuryStreamWriter} which serializes objects into a memory-mapped file directly without an
+ * intermediate heap buffer. The buffer maps a window of the file, which is remapped to a larger
+ * window of same start when the buffer grows, and moved forward when data filled the window at
+ * object boundaries. So the written file can be larger than 2GB, while every object written without
+ * flush points such as cross-language or meta share mode must be smaller than 2GB.
+ *
+ * <p>The file is truncated to written size when this writer is closed. Mapped windows are released
+ * when they are garbage collected.
+ */
+@NotThreadSafe
+public class FuryMappedFileWriter implements FuryStreamWriter, Closeable {
+  private final FileChannel channel;
+  private final int windowSize;
+  private final MemoryBuffer buffer;
+  private MappedByteBuffer mappedBuffer;
+  private long windowStart;
+
+  public FuryMappedFileWriter(Path path) throws IOException {
+    this(path, 1 << 20);
+  }
+
+  /**
+   * Create a writer which truncates the file at <code>path</code> and writes it from the start.
+   *
+   * @param windowSize initial size of mapped window, which is also the chunk size to move the
+   *     window forward.
+   */
+  public FuryMappedFileWriter(Path path, int windowSize) throws IOException {
+    Preconditions.checkArgument(windowSize > 0, "Window size must be positive: " + windowSize);
+    this.channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    this.windowSize = windowSize;
+    mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, windowSize);
+    buffer = MemoryBuffer.fromDirectByteBuffer(mappedBuffer, windowSize, null);
+    buffer.setBufferGrower(this::growWindow);
+  }
+
+  private void growWindow(MemoryBuffer buffer, int minSize) {
+    int newSize = (int) Math.min(Math.max((long) buffer.size() << 1, minSize), Integer.MAX_VALUE);
+    remap(newSize);
+  }
+
+  private void remap(int size) {
+    try {
+      mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, size);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to map file window at " + windowStart, e);
+    }
+    buffer.initDirectBuffer(ByteBufferUtil.getAddress(mappedBuffer), size, mappedBuffer);
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  /** Returns number of bytes written to the file. */
+  public long position() {
+    return windowStart + buffer.writerIndex();
+  }
+
+  @Override
+  public void tryFlushBuffer() {
+    if (buffer.writerIndex() >= windowSize) {
+      flushBuffer();
+    }
+  }
+
+  /**
+   * Data is written to the file directly, so this only moves the window to start at current
+   * position, then reset the writer index to zero.
+   */
+  @Override
+  public void flushBuffer() {
+    MemoryBuffer buf = buffer;
+    int writerIndex = buf.writerIndex();
+    if (writerIndex > 0) {
+      windowStart += writerIndex;
+      buf.writerIndex(0);
+      remap(windowSize);
+    }
+  }
+
+  @Override
+  public void shrinkBuffer() {
+    if (buffer.size() > windowSize && buffer.writerIndex() <= windowSize) {
+      remap(windowSize);
+    }
+  }
+
+  @Override
+  public long flushedBytes() {
+    return windowStart;
+  }
+
+  /** Force written data to the storage device. */
+  public void force() {
+    mappedBuffer.force();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      channel.truncate(position());
+    } finally {
+      channel.close();
+    }
+  }
+}
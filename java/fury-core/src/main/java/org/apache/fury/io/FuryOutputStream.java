@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.MemoryAllocator;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A buffered output stream by fury. Serialized data will be flushed to the original stream in
+ * chunks of <code>bufferSize</code> bytes while the object graph is being written, instead of being
+ * buffered as a whole. Do not use original {@link OutputStream} when this stream object created,
+ * use this stream as a wrapper instead.
+ */
+@NotThreadSafe
+public class FuryOutputStream extends OutputStream implements FuryStreamWriter {
+  private final OutputStream stream;
+  private final int bufferSize;
+  private final MemoryAllocator allocator;
+  private final MemoryBuffer buffer;
+  private long flushedBytes;
+
+  public FuryOutputStream(OutputStream stream) {
+    this(stream, 4096);
+  }
+
+  public FuryOutputStream(OutputStream stream, int bufferSize) {
+    this(stream, bufferSize, null);
+  }
+
+  /**
+   * Create a stream whose buffer memory is allocated by <code>allocator</code>, or on heap directly
+   * if <code>allocator</code> is null.
+   */
+  public FuryOutputStream(OutputStream stream, int bufferSize, MemoryAllocator allocator) {
+    Preconditions.checkArgument(bufferSize > 0, "Buffer size must be positive: " + bufferSize);
+    this.stream = stream;
+    this.bufferSize = bufferSize;
+    this.allocator = allocator;
+    this.buffer =
+        allocator == null
+            ? MemoryBuffer.newHeapBuffer(bufferSize)
+            : allocator.newHeapBuffer(bufferSize);
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public void tryFlushBuffer() {
+    if (buffer.writerIndex() >= bufferSize) {
+      flushBuffer();
+    }
+  }
+
+  @Override
+  public void flushBuffer() {
+    try {
+      flushedBytes += StreamWriterUtils.flushBuffer(buffer, stream::write);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void shrinkBuffer() {
+    StreamWriterUtils.shrinkBuffer(buffer, bufferSize, allocator);
+  }
+
+  @Override
+  public long flushedBytes() {
+    return flushedBytes;
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.writeByte((byte) b);
+    tryFlushBuffer();
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    if (length >= bufferSize) {
+      // Write large data to the stream directly instead of growing the buffer.
+      flushBuffer();
+      stream.write(bytes, offset, length);
+      flushedBytes += length;
+    } else {
+      buffer.writeBytes(bytes, offset, length);
+      tryFlushBuffer();
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    flushBuffer();
+    stream.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      stream.close();
+    }
+  }
+}
@@ -25,6 +25,7 @@ import java.nio.channels.ReadableByteChannel;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.apache.fury.exception.DeserializationException;
 import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryAllocator;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.util.Preconditions;
@@ -33,6 +34,10 @@ import org.apache.fury.util.Preconditions;
 public class FuryReadableChannel implements FuryStreamReader, ReadableByteChannel {
   private final ReadableByteChannel channel;
   private final MemoryBuffer memoryBuffer;
+  private final MemoryAllocator allocator;
+  // Whether `byteBuffer` is allocated by `allocator` and can be released to it, which is false if
+  // a slice of it is handed out.
+  private boolean allocated;
   private ByteBuffer byteBuffer;
 
   public FuryReadableChannel(ReadableByteChannel channel) {
@@ -40,10 +45,25 @@ public class FuryReadableChannel implements FuryStreamReader, ReadableByteChanne
   }
 
   public FuryReadableChannel(ReadableByteChannel channel, ByteBuffer directBuffer) {
+    this(channel, directBuffer, null, false);
+  }
+
+  /** Create a channel whose direct buffers are allocated by <code>allocator</code>. */
+  public FuryReadableChannel(ReadableByteChannel channel, MemoryAllocator allocator) {
+    this(channel, allocator.allocateDirect(4096), allocator, true);
+  }
+
+  private FuryReadableChannel(
+      ReadableByteChannel channel,
+      ByteBuffer directBuffer,
+      MemoryAllocator allocator,
+      boolean allocated) {
     Preconditions.checkArgument(
         directBuffer.isDirect(), "FuryReadableChannel support only direct ByteBuffer.");
     this.channel = channel;
     this.byteBuffer = directBuffer;
+    this.allocator = allocator;
+    this.allocated = allocated;
     this.memoryBuffer = MemoryBuffer.fromDirectByteBuffer(directBuffer, 0, this);
   }
 
@@ -59,9 +79,17 @@ public class FuryReadableChannel implements FuryStreamReader, ReadableByteChanne
             newLimit < MemoryBuffer.BUFFER_GROW_STEP_THRESHOLD
                 ? newLimit << 2
                 : (int) Math.min(newLimit * 1.5d, Integer.MAX_VALUE);
-        ByteBuffer newByteBuf = ByteBuffer.allocateDirect(newSize);
+        MemoryAllocator allocator = this.allocator;
+        ByteBuffer newByteBuf =
+            allocator == null
+                ? ByteBuffer.allocateDirect(newSize)
+                : allocator.allocateDirect(newSize);
         byteBuf.position(0);
         newByteBuf.put(byteBuf);
+        if (allocated) {
+          allocator.releaseDirect(byteBuf);
+        }
+        allocated = allocator != null;
         byteBuf = byteBuffer = newByteBuf;
         memoryBuf.initDirectBuffer(ByteBufferUtil.getAddress(byteBuf), position, byteBuf);
       }
@@ -169,4 +197,9 @@ public class FuryReadableChannel implements FuryStreamReader, ReadableByteChanne
   public MemoryBuffer getBuffer() {
     return memoryBuffer;
   }
+
+  @Override
+  public void onBufferSliced() {
+    allocated = false;
+  }
 }
@@ -57,6 +57,13 @@ public interface FuryStreamReader {
    */
   MemoryBuffer getBuffer();
 
+  /**
+   * Notify that a slice of current memory of {@link #getBuffer} is handed out to users, such as an
+   * in-band buffer object. The reader must not release that memory to an allocator for reuse after
+   * this call, since the slice may be still alive.
+   */
+  default void onBufferSliced() {}
+
   /**
    * Create a {@link FuryInputStream} from the provided {@link InputStream}. Note that the provided
    * stream will be owned by the returned {@link FuryInputStream}, <bold>do not</bold> read the
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import org.apache.fury.memory.MemoryBuffer;
+
+/**
+ * A streaming writer to make {@link MemoryBuffer} to support streaming writing. Serialized data is
+ * written into the buffer returned by {@link #getBuffer} and flushed to the underlying sink in
+ * chunks, so the buffer won't hold the whole serialized object graph.
+ *
+ * <p>Data are flushed at object boundaries, and large strings and primitive arrays are copied and
+ * flushed in chunks of {@link org.apache.fury.Fury#STREAM_CHUNK_SIZE}, so the buffer stays bounded
+ * by chunk size for a single large value too.
+ */
+public interface FuryStreamWriter {
+
+  /**
+   * Returns the underlying {@link MemoryBuffer}. This method will return same instance of buffer
+   * for same {@link FuryStreamWriter} instance.
+   */
+  MemoryBuffer getBuffer();
+
+  /** Flush buffered data to the underlying sink if buffered size exceeds the chunk size. */
+  void tryFlushBuffer();
+
+  /**
+   * Flush all buffered data to the underlying sink and reset the writer index of the buffer to
+   * zero.
+   */
+  void flushBuffer();
+
+  /** Release the memory of underlying buffer if it's grown beyond the chunk size. */
+  void shrinkBuffer();
+
+  /**
+   * Returns total number of bytes which have been moved out of the buffer to the underlying sink,
+   * including data written to the sink directly. Bytes written by a serialization are the growth of
+   * this number plus the growth of writer index of the buffer.
+   */
+  long flushedBytes();
+
+  /**
+   * Create a {@link FuryOutputStream} from the provided {@link OutputStream}. Note that the
+   * provided stream will be owned by the returned {@link FuryOutputStream}, <bold>do not</bold>
+   * write the provided {@link OutputStream} anymore, write the returned stream instead.
+   */
+  static FuryOutputStream of(OutputStream stream) {
+    return new FuryOutputStream(stream);
+  }
+
+  /**
+   * Create a {@link FuryWritableChannel} from the provided {@link WritableByteChannel}. Note that
+   * the provided channel will be owned by the returned {@link FuryWritableChannel}, <bold>do
+   * not</bold> write the provided {@link WritableByteChannel} anymore, write the returned channel
+   * instead.
+   */
+  static FuryWritableChannel of(WritableByteChannel channel) {
+    return new FuryWritableChannel(channel);
+  }
+}
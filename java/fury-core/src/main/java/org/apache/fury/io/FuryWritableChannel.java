@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.MemoryAllocator;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A buffered {@link WritableByteChannel} by fury. Serialized data will be flushed to the original
+ * channel in chunks of <code>bufferSize</code> bytes while the object graph is being written.
+ */
+@NotThreadSafe
+public class FuryWritableChannel implements FuryStreamWriter, WritableByteChannel {
+  private final WritableByteChannel channel;
+  private final int bufferSize;
+  private final MemoryAllocator allocator;
+  private final MemoryBuffer buffer;
+  private long flushedBytes;
+
+  public FuryWritableChannel(WritableByteChannel channel) {
+    this(channel, 4096);
+  }
+
+  public FuryWritableChannel(WritableByteChannel channel, int bufferSize) {
+    this(channel, bufferSize, null);
+  }
+
+  /**
+   * Create a channel whose buffer memory is allocated by <code>allocator</code>, or on heap
+   * directly if <code>allocator</code> is null.
+   */
+  public FuryWritableChannel(
+      WritableByteChannel channel, int bufferSize, MemoryAllocator allocator) {
+    Preconditions.checkArgument(bufferSize > 0, "Buffer size must be positive: " + bufferSize);
+    this.channel = channel;
+    this.bufferSize = bufferSize;
+    this.allocator = allocator;
+    this.buffer =
+        allocator == null
+            ? MemoryBuffer.newHeapBuffer(bufferSize)
+            : allocator.newHeapBuffer(bufferSize);
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public void tryFlushBuffer() {
+    if (buffer.writerIndex() >= bufferSize) {
+      flushBuffer();
+    }
+  }
+
+  @Override
+  public void flushBuffer() {
+    try {
+      flushedBytes +=
+          StreamWriterUtils.flushBuffer(
+              buffer,
+              (bytes, offset, length) -> writeFully(ByteBuffer.wrap(bytes, offset, length)));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to write the provided byte channel", e);
+    }
+  }
+
+  @Override
+  public void shrinkBuffer() {
+    StreamWriterUtils.shrinkBuffer(buffer, bufferSize, allocator);
+  }
+
+  @Override
+  public long flushedBytes() {
+    return flushedBytes;
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    int remaining = src.remaining();
+    if (remaining >= bufferSize) {
+      // Write large data to the channel directly instead of growing the buffer.
+      flushBuffer();
+      writeFully(src);
+      flushedBytes += remaining;
+    } else {
+      buffer.write(src, remaining);
+      tryFlushBuffer();
+    }
+    return remaining;
+  }
+
+  private void writeFully(ByteBuffer src) throws IOException {
+    while (src.hasRemaining()) {
+      channel.write(src);
+    }
+  }
+
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flushBuffer();
+    } finally {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import org.apache.fury.memory.MemoryBuffer;
+
+/**
+ * Data of a batch serialized by {@link org.apache.fury.BaseFury#serializeBatch(java.util.List,
+ * boolean)} and offsets of its records. All records can be deserialized by {@link
+ * org.apache.fury.BaseFury#deserializeBatch(byte[])} with {@link #getBytes}, and a record can be
+ * deserialized alone by {@link org.apache.fury.BaseFury#deserializeBatchRecord(SerializedBatch,
+ * int)} if the batch doesn't share meta.
+ */
+public final class SerializedBatch {
+  private final byte[] bytes;
+  private final int[] offsets;
+  private final boolean shareMeta;
+
+  public SerializedBatch(byte[] bytes, int[] offsets, boolean shareMeta) {
+    this.bytes = bytes;
+    this.offsets = offsets;
+    this.shareMeta = shareMeta;
+  }
+
+  /** Returns serialized data of the whole batch. */
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  /** Returns number of records in the batch. */
+  public int numRecords() {
+    return offsets.length - 1;
+  }
+
+  /** Returns the start offset of record <code>index</code> in {@link #getBytes}. */
+  public int getOffset(int index) {
+    return offsets[index];
+  }
+
+  /** Returns serialized size of record <code>index</code>. */
+  public int getRecordSize(int index) {
+    return offsets[index + 1] - offsets[index];
+  }
+
+  /** Returns whether records share class names and meta strings written by previous records. */
+  public boolean isShareMeta() {
+    return shareMeta;
+  }
+
+  /**
+   * Returns a buffer of the batch whose reader index is the offset of record <code>index</code>.
+   *
+   * @throws IllegalStateException if records share meta and can't be read alone.
+   */
+  public MemoryBuffer getRecordBuffer(int index) {
+    if (shareMeta) {
+      throw new IllegalStateException(
+          "Records of a batch serialized with shared meta depend on previous records and can't be "
+              + "deserialized alone, serialize the batch with `shareMeta` false or deserialize "
+              + "the whole batch by `deserializeBatch`");
+    }
+    // Class defs of meta share mode are located by absolute offsets, keep the whole batch.
+    MemoryBuffer buffer = MemoryBuffer.fromByteArray(bytes);
+    buffer.readerIndex(offsets[index]);
+    return buffer;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.IOException;
+import org.apache.fury.memory.MemoryAllocator;
+import org.apache.fury.memory.MemoryBuffer;
+
+/** Buffer flush and shrink logic shared by heap buffer based {@link FuryStreamWriter}s. */
+final class StreamWriterUtils {
+
+  /** Sink of flushed bytes, such as an {@link java.io.OutputStream}. */
+  interface ChunkWriter {
+    void write(byte[] bytes, int offset, int length) throws IOException;
+  }
+
+  /**
+   * Write all data in <code>buffer</code> to <code>writer</code>, then reset the writer index of
+   * the buffer to zero.
+   *
+   * @return number of flushed bytes.
+   */
+  static int flushBuffer(MemoryBuffer buffer, ChunkWriter writer) throws IOException {
+    int size = buffer.writerIndex();
+    if (size > 0) {
+      writer.write(buffer.getHeapMemory(), 0, size);
+      buffer.writerIndex(0);
+    }
+    return size;
+  }
+
+  /**
+   * Replace the memory of <code>buffer</code> by a new array of <code>bufferSize</code> if it's
+   * grown beyond that size and the buffered data still fits in. The new array is allocated by
+   * <code>allocator</code>, or on heap directly if <code>allocator</code> is null.
+   */
+  static void shrinkBuffer(MemoryBuffer buffer, int bufferSize, MemoryAllocator allocator) {
+    if (buffer.size() > bufferSize && buffer.writerIndex() <= bufferSize) {
+      byte[] heapMemory = buffer.getHeapMemory();
+      byte[] newMemory =
+          allocator == null ? new byte[bufferSize] : allocator.allocateHeap(bufferSize);
+      int size = buffer.writerIndex();
+      System.arraycopy(heapMemory, 0, newMemory, 0, size);
+      buffer.initHeapBuffer(newMemory, 0, newMemory.length);
+      buffer.writerIndex(size);
+      if (allocator != null) {
+        allocator.releaseHeap(heapMemory);
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+/** A {@link BufferGrower} which allocates grown memory by a {@link MemoryAllocator}. */
+final class AllocatorBufferGrower implements BufferGrower {
+  private final MemoryAllocator allocator;
+
+  AllocatorBufferGrower(MemoryAllocator allocator) {
+    this.allocator = allocator;
+  }
+
+  @Override
+  public void grow(MemoryBuffer buffer, int minSize) {
+    int newSize =
+        minSize < MemoryBuffer.BUFFER_GROW_STEP_THRESHOLD
+            ? minSize << 2
+            : (int) Math.min(minSize * 1.5d, Integer.MAX_VALUE);
+    byte[] data = allocator.allocateHeap(newSize);
+    byte[] oldData = buffer.getHeapMemory();
+    buffer.copyToUnsafe(0, data, Platform.BYTE_ARRAY_OFFSET, buffer.size());
+    buffer.initHeapBuffer(data, 0, data.length);
+    if (oldData != null) {
+      allocator.releaseHeap(oldData);
+    }
+  }
+}
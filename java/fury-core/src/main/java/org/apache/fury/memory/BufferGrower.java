@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+/**
+ * Strategy to grow a {@link MemoryBuffer} when written data exceeds its size, which can be set by
+ * {@link MemoryBuffer#setBufferGrower}. By default, a buffer grows by copying its data into a new
+ * heap array. Buffers backed by other memory such as mapped files can grow in place instead.
+ */
+@FunctionalInterface
+public interface BufferGrower {
+
+  /**
+   * Grow <code>buffer</code> to at least <code>minSize</code> bytes, and keep data in <code>
+   * [0, buffer.size())</code> unchanged. Implementations should reset memory of the buffer by
+   * {@link MemoryBuffer#initHeapBuffer} or {@link MemoryBuffer#initDirectBuffer}.
+   */
+  void grow(MemoryBuffer buffer, int minSize);
+}
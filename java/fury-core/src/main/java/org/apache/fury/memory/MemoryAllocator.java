@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocator of memory for buffers owned by fury, such as the buffer used by {@link
+ * org.apache.fury.Fury#serialize(Object)} and buffers of fury streams. It can be set by {@link
+ * org.apache.fury.config.FuryBuilder#withMemoryAllocator}. Implementations must be thread-safe
+ * since an allocator is shared by all fury instances created by same builder.
+ *
+ * @see PooledMemoryAllocator
+ */
+public interface MemoryAllocator {
+
+  /** Allocate a heap array of at least <code>size</code> bytes. */
+  byte[] allocateHeap(int size);
+
+  /**
+   * Return an array allocated by {@link #allocateHeap} to this allocator. The array must not be
+   * used by the caller anymore.
+   */
+  void releaseHeap(byte[] bytes);
+
+  /** Allocate a direct buffer of at least <code>size</code> bytes, with position set to 0. */
+  ByteBuffer allocateDirect(int size);
+
+  /**
+   * Return a buffer allocated by {@link #allocateDirect} to this allocator. The buffer must not be
+   * used by the caller anymore.
+   */
+  void releaseDirect(ByteBuffer buffer);
+
+  /**
+   * Create a heap buffer whose memory is allocated by this allocator. When the buffer grows, new
+   * memory is allocated by this allocator too and old memory will be released to this allocator.
+   */
+  default MemoryBuffer newHeapBuffer(int size) {
+    MemoryBuffer buffer = MemoryBuffer.fromByteArray(allocateHeap(size));
+    buffer.setBufferGrower(new AllocatorBufferGrower(this));
+    return buffer;
+  }
+}
@@ -88,6 +88,7 @@ public final class MemoryBuffer {
   private int readerIndex;
   private int writerIndex;
   private final FuryStreamReader streamReader;
+  private BufferGrower bufferGrower;
 
   /**
    * Creates a new memory buffer that represents the memory of the byte array.
@@ -1219,6 +1220,11 @@ public final class MemoryBuffer {
   }
 
   private void growBuffer(int length) {
+    BufferGrower grower = bufferGrower;
+    if (grower != null) {
+      grower.grow(this, length);
+      return;
+    }
     int newSize =
         length < BUFFER_GROW_STEP_THRESHOLD
             ? length << 2
@@ -1228,6 +1234,18 @@ public final class MemoryBuffer {
     initHeapBuffer(data, 0, data.length);
   }
 
+  /**
+   * Set how this buffer grows when written data exceeds its size, null to restore default growth
+   * which copies data into a new heap array.
+   */
+  public void setBufferGrower(BufferGrower bufferGrower) {
+    this.bufferGrower = bufferGrower;
+  }
+
+  public BufferGrower getBufferGrower() {
+    return bufferGrower;
+  }
+
   // -------------------------------------------------------------------------
   //                          Read Methods
   // -------------------------------------------------------------------------
@@ -2038,7 +2056,7 @@ public final class MemoryBuffer {
   public int readAlignedVarUint() {
     int readerIdx = readerIndex;
     // use subtract to avoid overflow
-    if (readerIdx < size - 10) {
+    if (readerIdx > size - 10) {
       return slowReadAlignedVarUint();
     }
     long pos = address + readerIdx;
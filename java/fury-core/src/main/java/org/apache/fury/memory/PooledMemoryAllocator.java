@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A {@link MemoryAllocator} which pools heap arrays and direct buffers by power-of-two size
+ * classes, so memory of large messages can be reused by later messages instead of being allocated
+ * and collected repeatedly. Memory larger than <code>maxPooledSize</code> is not pooled, and every
+ * size class caches at most <code>maxCachedBytesPerSizeClass</code> bytes for heap and direct
+ * memory respectively, but at least one buffer.
+ */
+@ThreadSafe
+public class PooledMemoryAllocator implements MemoryAllocator {
+  private static final int MIN_SHIFT = 6;
+
+  private final int maxShift;
+  private final SizeClass<byte[]>[] heapClasses;
+  private final SizeClass<ByteBuffer>[] directClasses;
+
+  public PooledMemoryAllocator() {
+    this(16 * 1024 * 1024, 16 * 1024 * 1024);
+  }
+
+  /**
+   * Create a pooled allocator.
+   *
+   * @param maxPooledSize max size of pooled memory, which will be rounded up to a power of two.
+   * @param maxCachedBytesPerSizeClass max bytes cached by a size class.
+   */
+  @SuppressWarnings("unchecked")
+  public PooledMemoryAllocator(int maxPooledSize, int maxCachedBytesPerSizeClass) {
+    Preconditions.checkArgument(
+        maxPooledSize >= 1 << MIN_SHIFT && maxPooledSize <= 1 << 30,
+        "Max pooled size out of range: " + maxPooledSize);
+    Preconditions.checkArgument(
+        maxCachedBytesPerSizeClass >= 0,
+        "Max cached bytes must not be negative: " + maxCachedBytesPerSizeClass);
+    maxShift = shift(maxPooledSize);
+    int numClasses = maxShift - MIN_SHIFT + 1;
+    heapClasses = new SizeClass[numClasses];
+    directClasses = new SizeClass[numClasses];
+    for (int i = 0; i < numClasses; i++) {
+      int capacity = Math.max(1, maxCachedBytesPerSizeClass >>> (i + MIN_SHIFT));
+      heapClasses[i] = new SizeClass<>(capacity);
+      directClasses[i] = new SizeClass<>(capacity);
+    }
+  }
+
+  private static int shift(int size) {
+    return Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(size - 1));
+  }
+
+  /** Returns size class index of memory of <code>length</code> bytes, or -1 if not pooled. */
+  private int sizeClassOf(int length) {
+    if (Integer.bitCount(length) != 1) {
+      return -1;
+    }
+    int shift = Integer.numberOfTrailingZeros(length);
+    if (shift < MIN_SHIFT || shift > maxShift) {
+      return -1;
+    }
+    return shift - MIN_SHIFT;
+  }
+
+  @Override
+  public byte[] allocateHeap(int size) {
+    int shift = shift(size);
+    if (shift > maxShift) {
+      return new byte[size];
+    }
+    byte[] bytes = heapClasses[shift - MIN_SHIFT].poll();
+    return bytes != null ? bytes : new byte[1 << shift];
+  }
+
+  @Override
+  public void releaseHeap(byte[] bytes) {
+    int index = sizeClassOf(bytes.length);
+    if (index >= 0) {
+      heapClasses[index].offer(bytes);
+    }
+  }
+
+  @Override
+  public ByteBuffer allocateDirect(int size) {
+    int shift = shift(size);
+    if (shift > maxShift) {
+      return ByteBuffer.allocateDirect(size);
+    }
+    ByteBuffer buffer = directClasses[shift - MIN_SHIFT].poll();
+    return buffer != null ? buffer : ByteBuffer.allocateDirect(1 << shift);
+  }
+
+  @Override
+  public void releaseDirect(ByteBuffer buffer) {
+    Preconditions.checkArgument(buffer.isDirect(), "Not a direct buffer: " + buffer);
+    int index = sizeClassOf(buffer.capacity());
+    if (index >= 0) {
+      buffer.clear();
+      directClasses[index].offer(buffer);
+    }
+  }
+
+  /** Returns total bytes of heap arrays cached by this allocator. */
+  public long getCachedHeapBytes() {
+    return cachedBytes(heapClasses);
+  }
+
+  /** Returns total bytes of direct buffers cached by this allocator. */
+  public long getCachedDirectBytes() {
+    return cachedBytes(directClasses);
+  }
+
+  private static long cachedBytes(SizeClass<?>[] sizeClasses) {
+    long bytes = 0;
+    for (int i = 0; i < sizeClasses.length; i++) {
+      bytes += (long) sizeClasses[i].count.get() << (i + MIN_SHIFT);
+    }
+    return bytes;
+  }
+
+  private static final class SizeClass<T> {
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final int capacity;
+
+    private SizeClass(int capacity) {
+      this.capacity = capacity;
+    }
+
+    T poll() {
+      T value = queue.poll();
+      if (value != null) {
+        count.decrementAndGet();
+      }
+      return value;
+    }
+
+    void offer(T value) {
+      // Reserve a slot first so concurrent offers won't exceed the capacity.
+      if (count.incrementAndGet() > capacity) {
+        count.decrementAndGet();
+      } else {
+        queue.offer(value);
+      }
+    }
+  }
+}
@@ -111,7 +111,8 @@ public class ClassDef implements Serializable {
   // be same too.
   private final long id;
   private final byte[] encoded;
-  private transient List<Descriptor> descriptors;
+  // Class defs may be shared by multiple fury instances, publish descriptors safely.
+  private transient volatile List<Descriptor> descriptors;
 
   ClassDef(
       ClassSpec classSpec,
@@ -220,6 +221,7 @@ public class ClassDef implements Serializable {
    * @param cls class load in current process.
    */
   public List<Descriptor> getDescriptors(ClassResolver resolver, Class<?> cls) {
+    List<Descriptor> descriptors = this.descriptors;
     if (descriptors == null) {
       SortedMap<Field, Descriptor> allDescriptorsMap = resolver.getAllDescriptorsMap(cls, true);
       Map<String, Descriptor> descriptorsMap = new HashMap<>();
@@ -243,6 +245,7 @@ public class ClassDef implements Serializable {
           descriptors.add(newDesc);
         }
       }
+      this.descriptors = descriptors;
     }
     return descriptors;
   }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import org.apache.fury.serializer.Serializer;
+
+/**
+ * Listener of serialization events, which can be set by {@link
+ * org.apache.fury.config.FuryBuilder#withMetrics}. Metrics are disabled by default, and only a null
+ * check is added to serialization if not set.
+ *
+ * <p>Events are reported by the thread which is serializing, an instance shared by multiple {@link
+ * org.apache.fury.Fury} must be thread safe. All methods do nothing by default, implementations can
+ * override only events they are interested in. See {@link FuryStats} for a default implementation
+ * which can be exported by JMX.
+ */
+public interface FuryMetrics {
+
+  /**
+   * Invoked when a root object is serialized. Nested objects aren't reported separately, their
+   * bytes and time are accounted to the root object.
+   *
+   * @param type class of the root object, or null if the object is null.
+   * @param bytes number of bytes written.
+   * @param nanos time took by serialization.
+   */
+  default void onSerialize(Class<?> type, long bytes, long nanos) {}
+
+  /**
+   * Invoked when a root object is deserialized. Nested objects are accounted to the root object
+   * too.
+   *
+   * @param type class of the deserialized object, or null if the object is null.
+   * @param bytes number of bytes read.
+   * @param nanos time took by deserialization.
+   */
+  default void onDeserialize(Class<?> type, long bytes, long nanos) {}
+
+  /**
+   * Invoked when a serializer is created for <code>type</code>, including when a serializer
+   * generated by JIT replaces the interpreter mode serializer.
+   */
+  default void onSerializerCreated(Class<?> type, Class<? extends Serializer> serializerClass) {}
+
+  /**
+   * Invoked when JIT compilation of serializer for <code>type</code> is finished.
+   *
+   * @param nanos time took by code generation and compilation.
+   * @param success whether the compilation succeed.
+   */
+  default void onJITCompiled(Class<?> type, long nanos, boolean success) {}
+
+  /** Invoked when the buffer grows from <code>oldSize</code> to <code>newSize</code> in a call. */
+  default void onBufferGrow(int oldSize, int newSize) {}
+
+  /** Invoked when reference table is reset, <code>size</code> is number of tracked objects. */
+  default void onRefTableReset(boolean write, int size) {}
+}
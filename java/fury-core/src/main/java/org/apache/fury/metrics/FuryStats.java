@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.fury.serializer.CompatibleSerializer;
+import org.apache.fury.serializer.MetaSharedSerializer;
+import org.apache.fury.serializer.ObjectSerializer;
+import org.apache.fury.serializer.Serializer;
+
+/**
+ * A {@link FuryMetrics} which aggregates events in memory. It can be shared by multiple {@link
+ * org.apache.fury.Fury} instances, such as all instances of a thread safe fury:
+ *
+ * <pre>{@code
+ * FuryStats stats = new FuryStats();
+ * ThreadSafeFury fury = Fury.builder().withMetrics(stats).buildThreadSafeFury();
+ * stats.registerMBean("default");
+ * }</pre>
+ *
+ * <p>Besides JMX, stats can be bound to other metrics systems such as micrometer by reading {@link
+ * #getSerializeStats}/{@link #getDeserializeStats} and getters of {@link FuryStatsMXBean}
+ * periodically. Per-type stats are collected for root objects only, nested objects are accounted to
+ * the type of the root object.
+ */
+@ThreadSafe
+@SuppressWarnings("rawtypes")
+public class FuryStats implements FuryMetrics, FuryStatsMXBean {
+  private final ConcurrentHashMap<Class<?>, TypeStats> serializeStats = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<?>, TypeStats> deserializeStats = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<?>, Class<? extends Serializer>> serializerClasses =
+      new ConcurrentHashMap<>();
+  private final LongAdder jitCompiledCount = new LongAdder();
+  private final LongAdder jitFailedCount = new LongAdder();
+  private final LongAdder jitCompileNanos = new LongAdder();
+  private final LongAdder bufferGrowCount = new LongAdder();
+  private final LongAdder bufferGrowBytes = new LongAdder();
+  private final LongAccumulator maxWriteRefTableSize = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxReadRefTableSize = new LongAccumulator(Math::max, 0);
+
+  /** Stats of serialization or deserialization for a type. */
+  @ThreadSafe
+  public static final class TypeStats {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    void record(long bytes, long nanos) {
+      count.increment();
+      this.bytes.add(bytes);
+      this.nanos.add(nanos);
+      latency.record(nanos);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public long getBytes() {
+      return bytes.sum();
+    }
+
+    public long getTotalNanos() {
+      return nanos.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+      return latency;
+    }
+  }
+
+  @Override
+  public void onSerialize(Class<?> type, long bytes, long nanos) {
+    if (type != null) {
+      serializeStats.computeIfAbsent(type, k -> new TypeStats()).record(bytes, nanos);
+    }
+  }
+
+  @Override
+  public void onDeserialize(Class<?> type, long bytes, long nanos) {
+    if (type != null) {
+      deserializeStats.computeIfAbsent(type, k -> new TypeStats()).record(bytes, nanos);
+    }
+  }
+
+  @Override
+  public void onSerializerCreated(Class<?> type, Class<? extends Serializer> serializerClass) {
+    serializerClasses.put(type, serializerClass);
+  }
+
+  @Override
+  public void onJITCompiled(Class<?> type, long nanos, boolean success) {
+    if (success) {
+      jitCompiledCount.increment();
+    } else {
+      jitFailedCount.increment();
+    }
+    jitCompileNanos.add(nanos);
+  }
+
+  @Override
+  public void onBufferGrow(int oldSize, int newSize) {
+    bufferGrowCount.increment();
+    bufferGrowBytes.add(newSize - oldSize);
+  }
+
+  @Override
+  public void onRefTableReset(boolean write, int size) {
+    if (write) {
+      maxWriteRefTableSize.accumulate(size);
+    } else {
+      maxReadRefTableSize.accumulate(size);
+    }
+  }
+
+  /** Returns an unmodifiable view of serialization stats keyed by root type. */
+  public Map<Class<?>, TypeStats> getSerializeStats() {
+    return Collections.unmodifiableMap(serializeStats);
+  }
+
+  /** Returns an unmodifiable view of deserialization stats keyed by root type. */
+  public Map<Class<?>, TypeStats> getDeserializeStats() {
+    return Collections.unmodifiableMap(deserializeStats);
+  }
+
+  /** Returns serializer class of every type whose serializer is created by fury. */
+  public Map<Class<?>, Class<? extends Serializer>> getSerializerClasses() {
+    return Collections.unmodifiableMap(serializerClasses);
+  }
+
+  @Override
+  public long getSerializeCount() {
+    return sum(serializeStats, TypeStats::getCount);
+  }
+
+  @Override
+  public long getDeserializeCount() {
+    return sum(deserializeStats, TypeStats::getCount);
+  }
+
+  @Override
+  public long getSerializedBytes() {
+    return sum(serializeStats, TypeStats::getBytes);
+  }
+
+  @Override
+  public long getDeserializedBytes() {
+    return sum(deserializeStats, TypeStats::getBytes);
+  }
+
+  @Override
+  public Map<String, Long> getSerializeCountByType() {
+    return byType(serializeStats, TypeStats::getCount);
+  }
+
+  @Override
+  public Map<String, Long> getSerializedBytesByType() {
+    return byType(serializeStats, TypeStats::getBytes);
+  }
+
+  @Override
+  public Map<String, Long> getDeserializeCountByType() {
+    return byType(deserializeStats, TypeStats::getCount);
+  }
+
+  @Override
+  public Map<String, Long> getDeserializedBytesByType() {
+    return byType(deserializeStats, TypeStats::getBytes);
+  }
+
+  @Override
+  public Map<String, Long> getSerializeP99NanosByType() {
+    return byType(serializeStats, s -> s.getLatency().getPercentile(0.99));
+  }
+
+  @Override
+  public Map<String, Long> getDeserializeP99NanosByType() {
+    return byType(deserializeStats, s -> s.getLatency().getPercentile(0.99));
+  }
+
+  @Override
+  public long getJITCompiledCount() {
+    return jitCompiledCount.sum();
+  }
+
+  @Override
+  public long getJITFailedCount() {
+    return jitFailedCount.sum();
+  }
+
+  @Override
+  public long getJITCompileNanos() {
+    return jitCompileNanos.sum();
+  }
+
+  @Override
+  public List<String> getInterpreterModeTypes() {
+    List<String> types = new ArrayList<>();
+    serializerClasses.forEach(
+        (type, serializerClass) -> {
+          if (serializerClass == ObjectSerializer.class
+              || serializerClass == CompatibleSerializer.class
+              || serializerClass == MetaSharedSerializer.class) {
+            types.add(type.getName());
+          }
+        });
+    Collections.sort(types);
+    return types;
+  }
+
+  @Override
+  public long getBufferGrowCount() {
+    return bufferGrowCount.sum();
+  }
+
+  @Override
+  public long getBufferGrowBytes() {
+    return bufferGrowBytes.sum();
+  }
+
+  @Override
+  public int getMaxWriteRefTableSize() {
+    return (int) maxWriteRefTableSize.get();
+  }
+
+  @Override
+  public int getMaxReadRefTableSize() {
+    return (int) maxReadRefTableSize.get();
+  }
+
+  /** Reset all stats except serializer classes, which won't be created again. */
+  @Override
+  public void reset() {
+    serializeStats.clear();
+    deserializeStats.clear();
+    jitCompiledCount.reset();
+    jitFailedCount.reset();
+    jitCompileNanos.reset();
+    bufferGrowCount.reset();
+    bufferGrowBytes.reset();
+    maxWriteRefTableSize.reset();
+    maxReadRefTableSize.reset();
+  }
+
+  /**
+   * Register this stats to platform MBean server with object name <code>
+   * org.apache.fury:type=FuryStats,name={name}</code>.
+   */
+  public ObjectName registerMBean(String name) {
+    try {
+      ObjectName objectName =
+          new ObjectName("org.apache.fury:type=FuryStats,name=" + ObjectName.quote(name));
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      server.registerMBean(this, objectName);
+      return objectName;
+    } catch (JMException e) {
+      throw new IllegalStateException(String.format("Register FuryStats %s failed", name), e);
+    }
+  }
+
+  private static long sum(Map<Class<?>, TypeStats> stats, ToLongFunction<TypeStats> func) {
+    long sum = 0;
+    for (TypeStats typeStats : stats.values()) {
+      sum += func.applyAsLong(typeStats);
+    }
+    return sum;
+  }
+
+  private static Map<String, Long> byType(
+      Map<Class<?>, TypeStats> stats, ToLongFunction<TypeStats> func) {
+    Map<String, Long> map = new TreeMap<>();
+    stats.forEach((type, typeStats) -> map.put(type.getName(), func.applyAsLong(typeStats)));
+    return map;
+  }
+}
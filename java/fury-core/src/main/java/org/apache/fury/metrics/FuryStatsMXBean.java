@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/** JMX view of {@link FuryStats}, per-type attributes are keyed by class name. */
+public interface FuryStatsMXBean {
+  long getSerializeCount();
+
+  long getDeserializeCount();
+
+  long getSerializedBytes();
+
+  long getDeserializedBytes();
+
+  Map<String, Long> getSerializeCountByType();
+
+  Map<String, Long> getSerializedBytesByType();
+
+  Map<String, Long> getDeserializeCountByType();
+
+  Map<String, Long> getDeserializedBytesByType();
+
+  /** Returns approximate p99 serialization latency in nanoseconds by type. */
+  Map<String, Long> getSerializeP99NanosByType();
+
+  /** Returns approximate p99 deserialization latency in nanoseconds by type. */
+  Map<String, Long> getDeserializeP99NanosByType();
+
+  long getJITCompiledCount();
+
+  long getJITFailedCount();
+
+  long getJITCompileNanos();
+
+  /** Returns types whose serializer is created but not generated by JIT. */
+  List<String> getInterpreterModeTypes();
+
+  long getBufferGrowCount();
+
+  long getBufferGrowBytes();
+
+  int getMaxWriteRefTableSize();
+
+  int getMaxReadRefTableSize();
+
+  void reset();
+}
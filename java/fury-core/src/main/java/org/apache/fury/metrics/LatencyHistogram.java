@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds. Bucket <code>i</code> counts values in <code>
+ * [2^i, 2^(i+1))</code>, which is accurate enough for spotting slow types and costs only an atomic
+ * increment for every record.
+ */
+@ThreadSafe
+public final class LatencyHistogram {
+  private static final int NUM_BUCKETS = 64;
+  private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+
+  public void record(long nanos) {
+    buckets.incrementAndGet(bucketIndex(nanos));
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      count += buckets.get(i);
+    }
+    return count;
+  }
+
+  /** Returns a snapshot of counts for every bucket. */
+  public long[] getBucketCounts() {
+    long[] counts = new long[NUM_BUCKETS];
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return counts;
+  }
+
+  /**
+   * Returns upper bound in nanoseconds of the bucket which the <code>percentile</code> falls in, or
+   * 0 if nothing is recorded.
+   */
+  public long getPercentile(double percentile) {
+    Preconditions.checkArgument(
+        percentile >= 0 && percentile <= 1, "Percentile %s should be in [0, 1]", percentile);
+    long[] counts = getBucketCounts();
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile));
+    long seen = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return i == NUM_BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+
+  public void reset() {
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      buckets.set(i, 0);
+    }
+  }
+
+  static int bucketIndex(long nanos) {
+    return nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+  }
+}
@@ -24,8 +24,9 @@ import java.util.Queue;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -33,26 +34,55 @@ import org.apache.fury.Fury;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 
-/** A thread-safe object pool of {@link Fury}. */
+/**
+ * A thread-safe object pool of {@link Fury}.
+ *
+ * <p>Idle {@link Fury} instances are kept in a striped slot array, a thread starts probing slots
+ * from an index derived from its thread id, so threads on different cores mostly touch different
+ * slots. Borrowing an idle instance and returning an instance are lock-free; borrowing blocks only
+ * when {@link #maxPoolSize} instances are created and all of them are in use. Blocked threads are
+ * parked by {@link LockSupport}, which doesn't pin the carrier thread of a virtual thread.
+ *
+ * <p>A pool whose max size is {@link #UNBOUNDED} never blocks, it creates a new {@link Fury}
+ * instead. Such a pool retains at most {@link #getMaxIdleSize} idle instances, which is twice the
+ * number of cores rounded up to a power of two. Instances returned when all idle slots are taken
+ * are discarded, so a burst of concurrent calls won't leave instances alive forever.
+ */
 public class ClassLoaderFuryPooled {
 
   private static final Logger LOG = LoggerFactory.getLogger(ClassLoaderFuryPooled.class);
 
+  private static final int SLOTS_PER_CORE = 2;
+
+  /** Max pool size of a pool which creates a new fury instead of waiting for an idle one. */
+  public static final int UNBOUNDED = Integer.MAX_VALUE;
+
   private final Function<ClassLoader, Fury> furyFactory;
   private Consumer<Fury> factoryCallback = f -> {};
 
   private final ClassLoader classLoader;
 
+  /** Idle fury slots, a null slot is empty. */
+  private final AtomicReferenceArray<Fury> idleSlots;
+
+  private final int slotsMask;
+
   /**
-   * idle Fury cache change. by : 1. getLoaderBind() 2. returnObject(LoaderBinding) 3.
-   * addObjAndWarp()
+   * Idle fury which can't be put into {@link #idleSlots} because all slots are taken, which is
+   * always empty for an {@link #UNBOUNDED} pool.
    */
-  private final Queue<Fury> idleCacheQueue;
+  private final Queue<Fury> idleOverflowQueue = new ConcurrentLinkedQueue<>();
+
+  /** Threads blocked for an idle fury because the pool is exhausted. */
+  private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
 
   final WeakHashMap<Fury, Object> allFury = new WeakHashMap<>();
 
-  /** active cache size's number change by : 1. getLoaderBind() 2. returnObject(LoaderBinding). */
-  private final AtomicInteger activeCacheNumber = new AtomicInteger(0);
+  // Guard `allFury` without `synchronized`, which pins carrier thread of virtual threads.
+  private final Lock allFuryLock = new ReentrantLock();
+
+  /** Number of fury created by this pool. */
+  private final AtomicInteger furyNumber = new AtomicInteger(0);
 
   /**
    * Dynamic capacity expansion and contraction The user sets the maximum number of object pools.
@@ -60,9 +90,6 @@ public class ClassLoaderFuryPooled {
    */
   private final int maxPoolSize;
 
-  private final Lock lock = new ReentrantLock();
-  private final Condition furyCondition = lock.newCondition();
-
   public ClassLoaderFuryPooled(
       ClassLoader classLoader,
       Function<ClassLoader, Fury> furyFactory,
@@ -72,54 +99,184 @@ public class ClassLoaderFuryPooled {
     this.maxPoolSize = maxPoolSize;
     this.furyFactory = furyFactory;
     this.classLoader = classLoader;
-    idleCacheQueue = new ConcurrentLinkedQueue<>();
-    while (idleCacheQueue.size() < minPoolSize) {
-      addFury();
+    int numSlots =
+        Math.min(
+            Math.max(maxPoolSize, minPoolSize),
+            Runtime.getRuntime().availableProcessors() * SLOTS_PER_CORE);
+    // round up to power of two so that the probe can be masked.
+    numSlots = Integer.highestOneBit(Math.max(numSlots, 1) * 2 - 1);
+    idleSlots = new AtomicReferenceArray<>(numSlots);
+    slotsMask = numSlots - 1;
+    for (int i = 0; i < minPoolSize; i++) {
+      offerIdle(createFury());
+      furyNumber.incrementAndGet();
     }
   }
 
   public Fury getFury() {
+    Fury fury = pollIdle();
+    if (fury != null) {
+      return fury;
+    }
+    if (maxPoolSize == UNBOUNDED) {
+      fury = createFury();
+      furyNumber.incrementAndGet();
+      return fury;
+    }
     try {
-      lock.lock();
-      Fury fury = idleCacheQueue.poll();
-      while (fury == null) {
-        if (activeCacheNumber.get() < maxPoolSize) {
-          addFury();
-        } else {
-          furyCondition.await();
+      while (true) {
+        int number = furyNumber.get();
+        if (number < maxPoolSize) {
+          if (furyNumber.compareAndSet(number, number + 1)) {
+            try {
+              return createFury();
+            } catch (Throwable t) {
+              furyNumber.decrementAndGet();
+              // let a blocked thread retry creating fury.
+              wakeupWaiter(waiters.peek());
+              throw t;
+            }
+          }
+          continue;
+        }
+        fury = awaitIdle();
+        if (fury != null) {
+          return fury;
         }
-        fury = idleCacheQueue.poll();
       }
-      activeCacheNumber.incrementAndGet();
-      return fury;
     } catch (Exception e) {
       LOG.error(e.getMessage(), e);
       throw new RuntimeException(e);
-    } finally {
-      lock.unlock();
     }
   }
 
   public void returnFury(Fury fury) {
     Objects.requireNonNull(fury);
-    try {
-      lock.lock();
-      idleCacheQueue.add(fury);
-      activeCacheNumber.decrementAndGet();
-      furyCondition.signalAll();
-    } catch (Exception e) {
-      LOG.error(e.getMessage(), e);
-      throw new RuntimeException(e);
-    } finally {
-      lock.unlock();
+    offerIdle(fury);
+    if (maxPoolSize != UNBOUNDED) {
+      wakeupWaiter(waiters.poll());
     }
   }
 
-  private void addFury() {
+  private static void wakeupWaiter(Thread waiter) {
+    if (waiter != null) {
+      LockSupport.unpark(waiter);
+    }
+  }
+
+  /**
+   * Park current thread until an idle fury is available. Returns null if fury can be created since
+   * some fury creation failed.
+   */
+  private Fury awaitIdle() throws InterruptedException {
+    Thread thread = Thread.currentThread();
+    waiters.add(thread);
+    // Check again after enqueued, a fury may be returned before current thread is visible to
+    // `returnFury`.
+    Fury fury = pollIdle();
+    while (fury == null) {
+      LockSupport.park(this);
+      if (Thread.interrupted()) {
+        waiters.remove(thread);
+        throw new InterruptedException();
+      }
+      fury = pollIdle();
+      if (fury == null) {
+        if (furyNumber.get() < maxPoolSize) {
+          waiters.remove(thread);
+          return null;
+        }
+        if (!waiters.contains(thread)) {
+          // woken up but the fury is taken by another thread, wait for next returned fury.
+          waiters.add(thread);
+          fury = pollIdle();
+        }
+      }
+    }
+    if (waiters.remove(thread)) {
+      return fury;
+    }
+    // The wakeup of a `returnFury` is consumed by current thread already, pass it on to another
+    // waiter in case there are still idle fury.
+    wakeupWaiter(waiters.peek());
+    return fury;
+  }
+
+  private Fury pollIdle() {
+    AtomicReferenceArray<Fury> slots = idleSlots;
+    int mask = slotsMask;
+    int probe = probe();
+    for (int i = 0; i <= mask; i++) {
+      int index = (probe + i) & mask;
+      Fury fury = slots.get(index);
+      if (fury != null && slots.compareAndSet(index, fury, null)) {
+        return fury;
+      }
+    }
+    return idleOverflowQueue.poll();
+  }
+
+  private void offerIdle(Fury fury) {
+    AtomicReferenceArray<Fury> slots = idleSlots;
+    int mask = slotsMask;
+    int probe = probe();
+    for (int i = 0; i <= mask; i++) {
+      int index = (probe + i) & mask;
+      if (slots.get(index) == null && slots.compareAndSet(index, null, fury)) {
+        return;
+      }
+    }
+    if (maxPoolSize == UNBOUNDED) {
+      // Trim fury beyond idle slots, an unbounded pool creates a new one when needed.
+      furyNumber.decrementAndGet();
+      return;
+    }
+    idleOverflowQueue.add(fury);
+  }
+
+  /** Returns max number of idle fury retained by an {@link #UNBOUNDED} pool. */
+  public int getMaxIdleSize() {
+    return slotsMask + 1;
+  }
+
+  /** Returns number of idle fury in this pool. */
+  int getIdleSize() {
+    AtomicReferenceArray<Fury> slots = idleSlots;
+    int size = idleOverflowQueue.size();
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private static int probe() {
+    long id = Thread.currentThread().getId();
+    // spread thread ids which are usually allocated sequentially.
+    int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private Fury createFury() {
     Fury fury = furyFactory.apply(classLoader);
     factoryCallback.accept(fury);
-    idleCacheQueue.add(fury);
-    allFury.put(fury, null);
+    allFuryLock.lock();
+    try {
+      allFury.put(fury, null);
+    } finally {
+      allFuryLock.unlock();
+    }
+    return fury;
+  }
+
+  void visitAllFury(Consumer<Fury> callback) {
+    allFuryLock.lock();
+    try {
+      allFury.keySet().forEach(callback);
+    } finally {
+      allFuryLock.unlock();
+    }
   }
 
   void setFactoryCallback(Consumer<Fury> factoryCallback) {
@@ -22,6 +22,8 @@ package org.apache.fury.pool;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.fury.Fury;
@@ -66,6 +68,8 @@ public class FuryPooledObjectFactory {
   /** factoryCallback will be set in every new classLoaderFuryPooled so that can deal every fury. */
   private final Consumer<Fury> factoryCallback;
 
+  private final Lock lock = new ReentrantLock();
+
   public FuryPooledObjectFactory(
       Function<ClassLoader, Fury> furyFactory,
       int minPoolSize,
@@ -116,16 +120,24 @@ public class FuryPooledObjectFactory {
     classLoaderLocal.remove();
   }
 
-  /** Get cache or put new added pooledFury. */
-  private synchronized ClassLoaderFuryPooled getOrAddCache(ClassLoader classLoader) {
-    ClassLoaderFuryPooled classLoaderFuryPooled =
-        classLoaderFuryPooledCache.getIfPresent(classLoader);
-    if (classLoaderFuryPooled == null) {
-      classLoaderFuryPooled =
-          new ClassLoaderFuryPooled(classLoader, furyFactory, minPoolSize, maxPoolSize);
-      classLoaderFuryPooled.setFactoryCallback(factoryCallback);
-      classLoaderFuryPooledCache.put(classLoader, classLoaderFuryPooled);
+  /**
+   * Get cache or put new added pooledFury. A lock is used instead of `synchronized` to avoid
+   * pinning carrier thread of virtual threads.
+   */
+  private ClassLoaderFuryPooled getOrAddCache(ClassLoader classLoader) {
+    lock.lock();
+    try {
+      ClassLoaderFuryPooled classLoaderFuryPooled =
+          classLoaderFuryPooledCache.getIfPresent(classLoader);
+      if (classLoaderFuryPooled == null) {
+        classLoaderFuryPooled =
+            new ClassLoaderFuryPooled(classLoader, furyFactory, minPoolSize, maxPoolSize);
+        classLoaderFuryPooled.setFactoryCallback(factoryCallback);
+        classLoaderFuryPooledCache.put(classLoader, classLoaderFuryPooled);
+      }
+      return classLoaderFuryPooled;
+    } finally {
+      lock.unlock();
     }
-    return classLoaderFuryPooled;
   }
 }
@@ -21,14 +21,21 @@ package org.apache.fury.pool;
 
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.fury.AbstractThreadSafeFury;
 import org.apache.fury.Fury;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.io.FuryMappedFileReader;
+import org.apache.fury.io.FuryMappedFileWriter;
+import org.apache.fury.io.FuryOutputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.io.FuryWritableChannel;
+import org.apache.fury.io.SerializedBatch;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.memory.MemoryBuffer;
@@ -65,7 +72,7 @@ public class ThreadPoolFury extends AbstractThreadSafeFury {
     factoryCallback = factoryCallback.andThen(callback);
     for (ClassLoaderFuryPooled furyPooled :
         furyPooledObjectFactory.classLoaderFuryPooledCache.asMap().values()) {
-      furyPooled.allFury.keySet().forEach(callback);
+      furyPooled.visitAllFury(callback);
     }
   }
 
@@ -130,6 +137,88 @@ public class ThreadPoolFury extends AbstractThreadSafeFury {
         });
   }
 
+  @Override
+  public void serialize(FuryOutputStream outputStream, Object obj) {
+    execute(
+        fury -> {
+          fury.serialize(outputStream, obj);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryOutputStream outputStream, Object obj, BufferCallback callback) {
+    execute(
+        fury -> {
+          fury.serialize(outputStream, obj, callback);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryWritableChannel channel, Object obj) {
+    execute(
+        fury -> {
+          fury.serialize(channel, obj);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryWritableChannel channel, Object obj, BufferCallback callback) {
+    execute(
+        fury -> {
+          fury.serialize(channel, obj, callback);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryMappedFileWriter writer, Object obj) {
+    execute(
+        fury -> {
+          fury.serialize(writer, obj);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryMappedFileWriter writer, Object obj, BufferCallback callback) {
+    execute(
+        fury -> {
+          fury.serialize(writer, obj, callback);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryGatheringChannel channel, Object obj) {
+    execute(
+        fury -> {
+          fury.serialize(channel, obj);
+          return null;
+        });
+  }
+
+  @Override
+  public void serialize(FuryGatheringChannel channel, Object obj, BufferCallback callback) {
+    execute(
+        fury -> {
+          fury.serialize(channel, obj, callback);
+          return null;
+        });
+  }
+
+  @Override
+  public int[] serializeBatch(MemoryBuffer buffer, List<?> objects, boolean shareMeta) {
+    return execute(fury -> fury.serializeBatch(buffer, objects, shareMeta));
+  }
+
+  @Override
+  public SerializedBatch serializeBatch(List<?> objects, boolean shareMeta) {
+    return execute(fury -> fury.serializeBatch(objects, shareMeta));
+  }
+
   @Override
   public Object deserialize(byte[] bytes) {
     return execute(fury -> fury.deserialize(bytes));
@@ -180,6 +269,51 @@ public class ThreadPoolFury extends AbstractThreadSafeFury {
     return execute(fury -> fury.deserialize(channel, outOfBandBuffers));
   }
 
+  @Override
+  public Object deserialize(FuryMappedFileReader reader) {
+    return execute(fury -> fury.deserialize(reader));
+  }
+
+  @Override
+  public Object deserialize(FuryMappedFileReader reader, Iterable<MemoryBuffer> outOfBandBuffers) {
+    return execute(fury -> fury.deserialize(reader, outOfBandBuffers));
+  }
+
+  @Override
+  public Object[] deserializeFields(byte[] bytes, Class<?> cls, String... fieldNames) {
+    return execute(fury -> fury.deserializeFields(bytes, cls, fieldNames));
+  }
+
+  @Override
+  public Object[] deserializeFields(MemoryBuffer buffer, Class<?> cls, String... fieldNames) {
+    return execute(fury -> fury.deserializeFields(buffer, cls, fieldNames));
+  }
+
+  @Override
+  public List<Object> deserializeBatch(byte[] bytes) {
+    return execute(fury -> fury.deserializeBatch(bytes));
+  }
+
+  @Override
+  public List<Object> deserializeBatch(MemoryBuffer buffer) {
+    return execute(fury -> fury.deserializeBatch(buffer));
+  }
+
+  @Override
+  public Object deserializeBatchRecord(MemoryBuffer buffer) {
+    return execute(fury -> fury.deserializeBatchRecord(buffer));
+  }
+
+  @Override
+  public Object deserializeBatchRecord(SerializedBatch batch, int index) {
+    return execute(fury -> fury.deserializeBatchRecord(batch, index));
+  }
+
+  @Override
+  public <T> T copy(T obj) {
+    return execute(fury -> fury.copy(obj));
+  }
+
   @Override
   public byte[] serializeJavaObject(Object obj) {
     return execute(fury -> fury.serializeJavaObject(obj));
@@ -78,6 +78,7 @@ import java.util.stream.Collectors;
 import org.apache.fury.Fury;
 import org.apache.fury.annotation.CodegenInvoke;
 import org.apache.fury.annotation.Internal;
+import org.apache.fury.annotation.Ref;
 import org.apache.fury.builder.CodecUtils;
 import org.apache.fury.builder.Generated;
 import org.apache.fury.builder.JITContext;
@@ -119,6 +120,7 @@ import org.apache.fury.serializer.NonexistentClass.NonexistentMetaShared;
 import org.apache.fury.serializer.NonexistentClass.NonexistentSkip;
 import org.apache.fury.serializer.NonexistentClassSerializers;
 import org.apache.fury.serializer.NonexistentClassSerializers.NonexistentClassSerializer;
+import org.apache.fury.serializer.ObjectFieldsReader;
 import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.OptionalSerializers;
 import org.apache.fury.serializer.PrimitiveSerializers;
@@ -224,12 +226,14 @@ public class ClassResolver {
   private final HashMap<String, Class<?>> typeTagToClassXLangMap = new HashMap<>(8, loadFactor);
   private final MetaStringResolver metaStringResolver;
   private final boolean metaContextShareEnabled;
-  private final Map<Class<?>, ClassDef> classDefMap = new HashMap<>();
+  private final boolean inlineClassDefs;
   private Class<?> currentReadClass;
   // class id of last default registered class.
   private short innerEndClassId;
   private final ExtRegistry extRegistry;
   private final ShimDispatcher shimDispatcher;
+  // Resolved lazily and reset when registrations change, guarded by `extRegistry.registrations`.
+  private volatile SharedRegistry sharedRegistry;
 
   private static class ExtRegistry {
     // Here we set it to 1 because `NO_CLASS_ID` is 0 to avoid calculating it again in
@@ -243,11 +247,13 @@ public class ClassResolver {
     // ex. A->field1: B, B.field1: A
     private final Set<Class<?>> getClassCtx = new HashSet<>();
     private final Map<Class<?>, FieldResolver> fieldResolverMap = new HashMap<>();
+    private final Map<Class<?>, ObjectFieldsReader> fieldsReaderMap = new HashMap<>();
+    private final Map<Class<?>, Boolean> refTrackingPolicies = new HashMap<>();
     private final LongMap<Tuple2<ClassDef, ClassInfo>> classIdToDef = new LongMap<>();
-    private final Map<Class<?>, ClassDef> currentLayerClassDef = new HashMap<>();
-    // TODO(chaokunyang) Better to  use soft reference, see ObjectStreamClass.
-    private final ConcurrentHashMap<Tuple2<Class<?>, Boolean>, SortedMap<Field, Descriptor>>
-        descriptorsCache = new ConcurrentHashMap<>();
+    // Class definitions depend on registered classes and serializers, every registration
+    // is recorded to pick the right shared registry, and mixed into a process-stable hash.
+    private final List<Object> registrations = new ArrayList<>();
+    private long registrationHash = 17;
     private ClassChecker classChecker = (classResolver, className) -> true;
     private GenericType objectGenericType;
     private Map<List<ClassLoader>, CodeGenerator> codeGeneratorMap = new HashMap<>();
@@ -258,6 +264,7 @@ public class ClassResolver {
     metaStringResolver = fury.getMetaStringResolver();
     classInfoCache = NIL_CLASS_INFO;
     metaContextShareEnabled = fury.getConfig().isMetaShareEnabled();
+    inlineClassDefs = fury.getConfig().isInlineClassDefsEnabled();
     extRegistry = new ExtRegistry();
     extRegistry.objectGenericType = buildGenericType(OBJECT_TYPE);
     shimDispatcher = new ShimDispatcher(fury);
@@ -455,6 +462,7 @@ public class ClassResolver {
               registeredId2ClassInfo[id].getCls(), id, cls.getName()));
     }
     extRegistry.registeredClassIdMap.put(cls, id);
+    addRegistration(Tuple2.of(cls, id), cls.getName().hashCode() * 31L + id);
     if (registeredId2ClassInfo.length <= id) {
       ClassInfo[] tmp = new ClassInfo[(id + 1) * 2];
       System.arraycopy(registeredId2ClassInfo, 0, tmp, 0, registeredId2ClassInfo.length);
@@ -490,6 +498,26 @@ public class ClassResolver {
     return extRegistry.registeredClassIdMap.get(cls);
   }
 
+  /** Returns classes registered by users, ordered by class id. */
+  public List<Class<?>> getUserRegisteredClasses() {
+    List<Class<?>> classes = new ArrayList<>();
+    for (int i = innerEndClassId; i < registeredId2ClassInfo.length; i++) {
+      ClassInfo classInfo = registeredId2ClassInfo[i];
+      if (classInfo != null) {
+        classes.add(classInfo.cls);
+      }
+    }
+    return classes;
+  }
+
+  /**
+   * Returns a hash of all class and serializer registrations, which is same across processes if
+   * registrations are same.
+   */
+  public long getRegistrationHash() {
+    return extRegistry.registrationHash;
+  }
+
   public Class<?> getRegisteredClass(short id) {
     if (id < registeredId2ClassInfo.length) {
       ClassInfo classInfo = registeredId2ClassInfo[id];
@@ -616,10 +644,94 @@ public class ClassResolver {
       register(type);
     }
     addSerializer(type, serializer);
+    addRegistration(
+        Tuple2.of(type, serializer.getClass()),
+        type.getName().hashCode() * 31L + serializer.getClass().getName().hashCode());
+  }
+
+  /**
+   * Set whether to track reference for objects of <code>cls</code>, which takes precedence over
+   * {@link Ref} annotated on the class. Serializer of <code>cls</code> will be recreated if it
+   * exists already, but serializers which have cached ref tracking of <code>cls</code> won't be
+   * updated, so this method should be invoked before serializing any objects.
+   */
+  public void setRefTracking(Class<?> cls, boolean trackingRef) {
+    extRegistry.refTrackingPolicies.put(cls, trackingRef);
+    addRegistration(
+        Tuple2.of(cls, trackingRef), cls.getName().hashCode() * 31L + (trackingRef ? 1 : 0));
+    ClassInfo classInfo = classInfoMap.get(cls);
+    if (classInfo != null && classInfo.serializer != null) {
+      addSerializer(cls, Serializers.newSerializer(fury, cls, classInfo.serializer.getClass()));
+    }
+  }
+
+  /**
+   * Returns whether objects of <code>cls</code> may be tracked by reference. This is false if
+   * reference tracking is disabled, or disabled for <code>cls</code> by {@link #setRefTracking} or
+   * {@link Ref}.
+   */
+  public boolean isRefTrackingEnabled(Class<?> cls) {
+    if (!fury.trackingRef()) {
+      return false;
+    }
+    Boolean trackingRef = extRegistry.refTrackingPolicies.get(cls);
+    if (trackingRef != null) {
+      return trackingRef;
+    }
+    Ref ref = cls.getAnnotation(Ref.class);
+    return ref == null || ref.value();
+  }
+
+  /**
+   * Returns whether values of <code>field</code> are written without reference tracking because the
+   * field is annotated by {@code @Ref(false)}. Readers of such fields must preserve a stub ref id
+   * by {@link RefResolver#preserveStubRefId} if the serializer of the value tracks reference.
+   */
+  public static boolean isRefIgnored(Field field) {
+    if (field == null) {
+      return false;
+    }
+    Ref ref = field.getAnnotation(Ref.class);
+    return ref != null && !ref.value();
   }
 
   public void setSerializerFactory(SerializerFactory serializerFactory) {
     this.extRegistry.serializerFactory = serializerFactory;
+    if (serializerFactory != null) {
+      addRegistration(
+          serializerFactory.getClass(), serializerFactory.getClass().getName().hashCode());
+    }
+  }
+
+  private void addRegistration(Object registration, long hash) {
+    synchronized (extRegistry.registrations) {
+      extRegistry.registrations.add(registration);
+      extRegistry.registrationHash = extRegistry.registrationHash * 1000003L + hash;
+      sharedRegistry = null;
+    }
+  }
+
+  /**
+   * Returns metadata shared with other resolvers which have same config, registrations and
+   * classloader.
+   */
+  private SharedRegistry getSharedRegistry() {
+    SharedRegistry sharedRegistry = this.sharedRegistry;
+    if (sharedRegistry == null) {
+      // Jit threads may get it concurrently, snapshot registrations under the lock.
+      synchronized (extRegistry.registrations) {
+        sharedRegistry = this.sharedRegistry;
+        if (sharedRegistry == null) {
+          sharedRegistry =
+              SharedRegistry.get(
+                  fury.getClassLoader(),
+                  fury.getConfig().getConfigHash(),
+                  new ArrayList<>(extRegistry.registrations));
+          this.sharedRegistry = sharedRegistry;
+        }
+      }
+    }
+    return sharedRegistry;
   }
 
   public SerializerFactory getSerializerFactory() {
@@ -909,6 +1021,9 @@ public class ClassResolver {
             @Override
             public void onSuccess(Class<? extends Serializer> result) {
               setSerializer(clz, Serializers.newSerializer(fury, clz, result));
+              if (fury.getMetrics() != null) {
+                fury.getMetrics().onSerializerCreated(clz, result);
+              }
               if (classInfoCache.cls == clz) {
                 classInfoCache = NIL_CLASS_INFO; // clear class info cache
               }
@@ -1043,11 +1158,26 @@ public class ClassResolver {
     return fieldResolver;
   }
 
+  /** Returns reader for reading part of fields of serialized objects of <code>cls</code>. */
+  public ObjectFieldsReader getObjectFieldsReader(Class<?> cls) {
+    ObjectFieldsReader fieldsReader = extRegistry.fieldsReaderMap.get(cls);
+    if (fieldsReader == null) {
+      fieldsReader = new ObjectFieldsReader(fury, cls);
+      extRegistry.fieldsReaderMap.put(cls, fieldsReader);
+    }
+    return fieldsReader;
+  }
+
   // thread safe
   public SortedMap<Field, Descriptor> getAllDescriptorsMap(Class<?> clz, boolean searchParent) {
     // when jit thread query this, it is already built by serialization main thread.
-    return extRegistry.descriptorsCache.computeIfAbsent(
-        Tuple2.of(clz, searchParent), t -> Descriptor.getAllDescriptorsMap(clz, searchParent));
+    SharedRegistry sharedRegistry = getSharedRegistry();
+    Map<Class<?>, SortedMap<Field, Descriptor>> descriptorsCache =
+        searchParent
+            ? sharedRegistry.allDescriptorsCache
+            : sharedRegistry.currentLayerDescriptorsCache;
+    return descriptorsCache.computeIfAbsent(
+        clz, t -> Descriptor.getAllDescriptorsMap(clz, searchParent));
   }
 
   /**
@@ -1059,7 +1189,7 @@ public class ClassResolver {
       ClassInfo classInfo = getClassInfo(cls, false);
       if (classInfo == null || classInfo.serializer == null) {
         // TODO group related logic together for extendability and consistency.
-        return !cls.isEnum();
+        return !cls.isEnum() && isRefTrackingEnabled(cls);
       } else {
         return classInfo.serializer.needToWriteRef();
       }
@@ -1188,7 +1318,11 @@ public class ClassResolver {
     }
 
     Class<? extends Serializer> serializerClass = getSerializerClass(cls);
-    return Serializers.newSerializer(fury, cls, serializerClass);
+    Serializer serializer = Serializers.newSerializer(fury, cls, serializerClass);
+    if (fury.getMetrics() != null) {
+      fury.getMetrics().onSerializerCreated(cls, serializer.getClass());
+    }
+    return serializer;
   }
 
   private String generateSecurityMsg(Class<?> cls) {
@@ -1283,9 +1417,8 @@ public class ClassResolver {
     int newId = classMap.size;
     int id = classMap.putOrGet(classInfo.cls, newId);
     if (id >= 0) {
-      buffer.writeVarUint32(id);
+      writeSharedClassDef(buffer, metaContext, id, null);
     } else {
-      buffer.writeVarUint32(newId);
       ClassDef classDef;
       Serializer<?> serializer = classInfo.serializer;
       Preconditions.checkArgument(serializer.getClass() != NonexistentClassSerializer.class);
@@ -1296,16 +1429,51 @@ public class ClassResolver {
               || serializer instanceof LazyInitBeanSerializer
               || serializer instanceof ObjectSerializer
               || serializer instanceof MetaSharedSerializer)) {
-        classDef =
-            classDefMap.computeIfAbsent(classInfo.cls, cls -> ClassDef.buildClassDef(fury, cls));
+        classDef = getClassDef(classInfo.cls, true);
       } else {
         // Some type will use other serializers such MapSerializer and so on.
-        classDef =
-            classDefMap.computeIfAbsent(
-                classInfo.cls, cls -> ClassDef.buildClassDef(this, cls, new ArrayList<>(), false));
+        classDef = getSharedRegistry().classDefMap.get(classInfo.cls);
+        if (classDef == null) {
+          classDef = ClassDef.buildClassDef(this, classInfo.cls, new ArrayList<>(), false);
+          classDef = putSharedClassDef(getSharedRegistry().classDefMap, classInfo.cls, classDef);
+        }
+      }
+      writeSharedClassDef(buffer, metaContext, newId, classDef);
+    }
+  }
+
+  /**
+   * Write id of a shared class definition. If <code>newClassDef</code> is not null, the class
+   * definition is sent to peer for the first time: it will be written inline right after the id
+   * when inline class defs is enabled, or appended to the end of serialized data by {@link
+   * #writeClassDefs} otherwise.
+   */
+  public void writeSharedClassDef(
+      MemoryBuffer buffer, MetaContext metaContext, int id, ClassDef newClassDef) {
+    if (inlineClassDefs) {
+      if (newClassDef == null) {
+        buffer.writeVarUint32(id << 1);
+      } else {
+        buffer.writeVarUint32((id << 1) | 0b1);
+        newClassDef.writeClassDef(buffer);
+      }
+    } else {
+      buffer.writeVarUint32(id);
+      if (newClassDef != null) {
+        metaContext.writingClassDefs.add(newClassDef);
+      }
+    }
+  }
+
+  private int readSharedClassDefId(MemoryBuffer buffer, MetaContext metaContext) {
+    int id = buffer.readVarUint32Small14();
+    if (inlineClassDefs) {
+      if ((id & 0b1) != 0) {
+        readSharedClassDef(buffer, metaContext);
       }
-      metaContext.writingClassDefs.add(classDef);
+      id >>>= 1;
     }
+    return id;
   }
 
   private Class<?> readClassWithMetaShare(MemoryBuffer buffer) {
@@ -1314,7 +1482,7 @@ public class ClassResolver {
         metaContext,
         "Meta context must be set before serialization,"
             + " please set meta context by SerializationContext.setMetaContext");
-    int id = buffer.readVarUint32Small14();
+    int id = readSharedClassDefId(buffer, metaContext);
     List<ClassInfo> readClassInfos = metaContext.readClassInfos;
     ClassInfo classInfo = readClassInfos.get(id);
     if (classInfo == null) {
@@ -1337,7 +1505,7 @@ public class ClassResolver {
         metaContext,
         "Meta context must be set before serialization,"
             + " please set meta context by SerializationContext.setMetaContext");
-    int id = buffer.readVarUint32Small14();
+    int id = readSharedClassDefId(buffer, metaContext);
     List<ClassInfo> readClassInfos = metaContext.readClassInfos;
     ClassInfo classInfo = readClassInfos.get(id);
     if (classInfo == null) {
@@ -1422,35 +1590,56 @@ public class ClassResolver {
    * Ensure all class definition are read and populated, even there are deserialization exception
    * such as ClassNotFound. So next time a class def written previously identified by an id can be
    * got from the meta context.
+   *
+   * @return reader index at the end of class definitions.
    */
-  public void readClassDefs(MemoryBuffer buffer) {
+  public int readClassDefs(MemoryBuffer buffer) {
     MetaContext metaContext = fury.getSerializationContext().getMetaContext();
     int classDefOffset = buffer.readInt32();
     int readerIndex = buffer.readerIndex();
     buffer.readerIndex(classDefOffset);
     int numClassDefs = buffer.readVarUint32Small14();
     for (int i = 0; i < numClassDefs; i++) {
-      long id = buffer.readInt64();
-      Tuple2<ClassDef, ClassInfo> tuple2 = extRegistry.classIdToDef.get(id);
-      if (tuple2 != null) {
-        int size =
-            (id & SIZE_TWO_BYTES_FLAG) == 0
-                ? buffer.readByte() & 0xff
-                : buffer.readInt16() & 0xffff;
-        buffer.increaseReaderIndex(size);
+      readSharedClassDef(buffer, metaContext);
+    }
+    int endReaderIndex = buffer.readerIndex();
+    buffer.readerIndex(readerIndex);
+    return endReaderIndex;
+  }
+
+  private void readSharedClassDef(MemoryBuffer buffer, MetaContext metaContext) {
+    long id = buffer.readInt64();
+    Tuple2<ClassDef, ClassInfo> tuple2 = extRegistry.classIdToDef.get(id);
+    if (tuple2 != null) {
+      skipClassDef(buffer, id);
+    } else {
+      ClassDef classDef = getSharedRegistry().readClassDefs.get(id);
+      if (classDef != null) {
+        // Decoded by another fury instance already.
+        skipClassDef(buffer, id);
+        tuple2 = putClassDef(classDef, null);
       } else {
         tuple2 = readClassDef(buffer, id);
       }
-      metaContext.readClassDefs.add(tuple2.f0);
-      // Will be set lazily, so even some classes doesn't exist, remaining classinfo
-      // can be created still.
-      metaContext.readClassInfos.add(null);
     }
-    buffer.readerIndex(readerIndex);
+    metaContext.readClassDefs.add(tuple2.f0);
+    // Will be set lazily, so even some classes doesn't exist, remaining classinfo
+    // can be created still.
+    metaContext.readClassInfos.add(null);
+  }
+
+  private static void skipClassDef(MemoryBuffer buffer, long id) {
+    int size =
+        (id & SIZE_TWO_BYTES_FLAG) == 0 ? buffer.readByte() & 0xff : buffer.readInt16() & 0xffff;
+    buffer.increaseReaderIndex(size);
   }
 
   private Tuple2<ClassDef, ClassInfo> readClassDef(MemoryBuffer buffer, long header) {
     ClassDef readClassDef = ClassDef.readClassDef(this, buffer, header);
+    ClassDef prev = getSharedRegistry().readClassDefs.putIfAbsent(header, readClassDef);
+    if (prev != null) {
+      readClassDef = prev;
+    }
     Tuple2<ClassDef, ClassInfo> tuple2 = extRegistry.classIdToDef.get(readClassDef.getId());
     if (tuple2 == null) {
       tuple2 = putClassDef(readClassDef, null);
@@ -1465,17 +1654,24 @@ public class ClassResolver {
   }
 
   public ClassDef getClassDef(Class<?> cls, boolean resolveParent) {
-    if (resolveParent) {
-      return classDefMap.computeIfAbsent(cls, k -> ClassDef.buildClassDef(fury, cls));
-    }
-    ClassDef classDef = extRegistry.currentLayerClassDef.get(cls);
+    Map<Class<?>, ClassDef> classDefs =
+        resolveParent ? getSharedRegistry().classDefMap : getSharedRegistry().currentLayerClassDef;
+    ClassDef classDef = classDefs.get(cls);
     if (classDef == null) {
-      classDef = ClassDef.buildClassDef(fury, cls, false);
-      extRegistry.currentLayerClassDef.put(cls, classDef);
+      // Build outside of map to avoid recursive update when building nested class defs.
+      classDef = ClassDef.buildClassDef(fury, cls, resolveParent);
+      classDef = putSharedClassDef(classDefs, cls, classDef);
     }
     return classDef;
   }
 
+  private static ClassDef putSharedClassDef(
+      Map<Class<?>, ClassDef> classDefs, Class<?> cls, ClassDef classDef) {
+    // Another fury instance may build same class def concurrently, always use the first one.
+    ClassDef prev = classDefs.putIfAbsent(cls, classDef);
+    return prev == null ? classDef : prev;
+  }
+
   /**
    * Native code for ClassResolver.writeClass is too big to inline, so inline it manually.
    *
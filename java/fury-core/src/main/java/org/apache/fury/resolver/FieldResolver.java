@@ -433,7 +433,8 @@ public class FieldResolver {
       if (classId >= minPrimitiveClassId && classId <= maxPrimitiveClassId) {
         fury.readData(buffer, classInfo);
       } else {
-        fury.readRef(buffer, classInfo.getSerializer());
+        // Peer may write the field by `@Ref(false)`.
+        fury.readRefIgnored(buffer, classInfo.getSerializer());
       }
     } else {
       long encodedFieldInfo = buffer.readInt32();
@@ -486,7 +487,8 @@ public class FieldResolver {
           fury.readData(buffer, classInfo);
         }
       } else {
-        fury.readRef(buffer, classInfo.getSerializer());
+        // Peer may write the field by `@Ref(false)`.
+        fury.readRefIgnored(buffer, classInfo.getSerializer());
       }
     } else {
       if ((partFieldInfo & 0b11) == SEPARATE_TYPES_HASH_FLAG) {
@@ -748,6 +750,7 @@ public class FieldResolver {
     protected final ClassResolver classResolver;
     private final FieldAccessor fieldAccessor;
     private final ClassInfoHolder classInfoHolder;
+    private final boolean refIgnored;
 
     public FieldInfo(
         Fury fury,
@@ -772,6 +775,7 @@ public class FieldResolver {
       } else {
         fieldAccessor = FieldAccessor.createAccessor(field);
       }
+      refIgnored = ClassResolver.isRefIgnored(field);
     }
 
     public static FieldInfo of(
@@ -870,6 +874,11 @@ public class FieldResolver {
       return classInfoHolder;
     }
 
+    /** Returns whether values of this field are written without ref by {@code @Ref(false)}. */
+    public boolean isRefIgnored() {
+      return refIgnored;
+    }
+
     public ClassInfo getClassInfo(Class<?> cls) {
       return classResolver.getClassInfo(cls, this.classInfoHolder);
     }
@@ -32,9 +32,12 @@ import org.apache.fury.collection.ObjectArray;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.util.Preconditions;
 
-/** Resolving reference by tracking reference by an IdentityMap. */
-// FIXME Will binding a separate reference resolver to every type have better performance?
-//  If so, we can have sophisticated reference control for every type.
+/**
+ * Resolving reference by tracking reference by an IdentityMap. Reference control for every type is
+ * done by {@link org.apache.fury.serializer.Serializer#needToWriteRef}, objects of types or fields
+ * whose ref tracking is disabled are written with {@link Fury#NOT_NULL_VALUE_FLAG} and never put
+ * into the map.
+ */
 public final class MapRefResolver implements RefResolver {
   private static final boolean ENABLE_FURY_REF_PROFILING =
       "true".equalsIgnoreCase(System.getProperty("fury.enable_ref_profiling"));
@@ -182,6 +185,11 @@ public final class MapRefResolver implements RefResolver {
     return headFlag;
   }
 
+  @Override
+  public void preserveStubRefId() {
+    readRefIds.add(Fury.NOT_NULL_VALUE_FLAG);
+  }
+
   @Override
   public int lastPreservedRefId() {
     return readRefIds.get(readRefIds.size - 1);
@@ -214,6 +222,16 @@ public final class MapRefResolver implements RefResolver {
     return readObjects;
   }
 
+  @Override
+  public int writtenRefCount() {
+    return writtenObjects.size;
+  }
+
+  @Override
+  public int readRefCount() {
+    return readObjects.size();
+  }
+
   @Override
   public void reset() {
     resetWrite();
@@ -72,6 +72,9 @@ public final class NoRefResolver implements RefResolver {
     return buffer.readByte();
   }
 
+  @Override
+  public void preserveStubRefId() {}
+
   @Override
   public int lastPreservedRefId() {
     return -1;
@@ -93,6 +96,16 @@ public final class NoRefResolver implements RefResolver {
   @Override
   public void setReadObject(int id, Object object) {}
 
+  @Override
+  public int writtenRefCount() {
+    return 0;
+  }
+
+  @Override
+  public int readRefCount() {
+    return 0;
+  }
+
   @Override
   public void reset() {}
 
@@ -83,6 +83,13 @@ public interface RefResolver {
    */
   int tryPreserveRefId(MemoryBuffer buffer);
 
+  /**
+   * Preserve a stub reference id for a not-null value which is written without reference by a field
+   * annotated with {@code @Ref(false)}, so that {@link #reference} invoked by its serializer takes
+   * this id instead of the id of another object.
+   */
+  void preserveStubRefId();
+
   /** Returns last preserved reference id. */
   int lastPreservedRefId();
 
@@ -105,6 +112,12 @@ public interface RefResolver {
    */
   void setReadObject(int id, Object object);
 
+  /** Returns number of objects tracked by current serialization. */
+  int writtenRefCount();
+
+  /** Returns number of objects tracked by current deserialization. */
+  int readRefCount();
+
   void reset();
 
   void resetWrite();
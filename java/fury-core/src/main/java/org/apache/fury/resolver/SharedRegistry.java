@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.resolver;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.fury.Fury;
+import org.apache.fury.collection.Tuple2;
+import org.apache.fury.meta.ClassDef;
+import org.apache.fury.type.Descriptor;
+import org.apache.fury.util.GraalvmSupport;
+
+/**
+ * Immutable class metadata shared by all {@link ClassResolver}s which have same config, same
+ * registrations and same classloader. Building descriptors and class definitions takes lots of
+ * reflection, sharing them makes creating a new {@link Fury} instance for an existing config much
+ * cheaper, and reduces memory footprint when many instances are alive, such as in a fury pool.
+ *
+ * <p>Only metadata which won't be mutated after built is kept here. Serializers, class infos and
+ * other state which is bound to a {@link Fury} instance are still kept in every {@link
+ * ClassResolver}.
+ *
+ * <p>Metadata is cached with weak class keys and soft values, so classes which are not used by any
+ * fury instance can still be unloaded.
+ */
+@ThreadSafe
+final class SharedRegistry {
+  private static final Cache<
+          ClassLoader, ConcurrentMap<Tuple2<Integer, List<Object>>, SharedRegistry>>
+      REGISTRIES;
+
+  static {
+    if (GraalvmSupport.isGraalBuildtime()) {
+      REGISTRIES = CacheBuilder.newBuilder().concurrencyLevel(32).build();
+    } else {
+      REGISTRIES = CacheBuilder.newBuilder().weakKeys().softValues().build();
+    }
+  }
+
+  final ConcurrentMap<Class<?>, SortedMap<Field, Descriptor>> allDescriptorsCache = newClassCache();
+  final ConcurrentMap<Class<?>, SortedMap<Field, Descriptor>> currentLayerDescriptorsCache =
+      newClassCache();
+  final ConcurrentMap<Class<?>, ClassDef> classDefMap = newClassCache();
+  final ConcurrentMap<Class<?>, ClassDef> currentLayerClassDef = newClassCache();
+  // Decoded class defs may reference classes by descriptors too.
+  final ConcurrentMap<Long, ClassDef> readClassDefs =
+      CacheBuilder.newBuilder().softValues().concurrencyLevel(64).<Long, ClassDef>build().asMap();
+
+  private SharedRegistry() {}
+
+  private static <V> ConcurrentMap<Class<?>, V> newClassCache() {
+    // Values reference the key class by fields, use soft values to make keys collectable.
+    return CacheBuilder.newBuilder()
+        .weakKeys()
+        .softValues()
+        .concurrencyLevel(64)
+        .<Class<?>, V>build()
+        .asMap();
+  }
+
+  /**
+   * Returns the registry shared by resolvers which are created by <code>classLoader</code> with
+   * config <code>configHash</code> and same <code>registrations</code>, which must be a snapshot
+   * that won't be mutated later.
+   */
+  static SharedRegistry get(ClassLoader classLoader, int configHash, List<Object> registrations) {
+    if (classLoader == null) {
+      classLoader = Fury.class.getClassLoader();
+    }
+    ConcurrentMap<Tuple2<Integer, List<Object>>, SharedRegistry> registries;
+    try {
+      registries = REGISTRIES.get(classLoader, ConcurrentHashMap::new);
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+    return registries.computeIfAbsent(
+        Tuple2.of(configHash, registrations), k -> new SharedRegistry());
+  }
+}
@@ -20,9 +20,14 @@
 package org.apache.fury.serializer;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import org.apache.fury.Fury;
+import org.apache.fury.config.ArrayEncoding;
 import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Language;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.resolver.ClassInfo;
@@ -126,7 +131,9 @@ public class ArraySerializers {
       numElements >>>= 1;
       Object[] value = newArray(numElements);
       RefResolver refResolver = fury.getRefResolver();
-      refResolver.reference(value);
+      if (needToWriteRef) {
+        refResolver.reference(value);
+      }
       if (isFinal) {
         final Serializer componentTypeSerializer = this.componentTypeSerializer;
         if (componentTypeSerializer == null) {
@@ -172,6 +179,18 @@ public class ArraySerializers {
       return (T[]) value;
     }
 
+    @Override
+    public T[] copy(T[] originArray) {
+      int length = originArray.length;
+      Object[] newArray = (Object[]) Array.newInstance(type.getComponentType(), length);
+      Fury fury = this.fury;
+      fury.reference(originArray, newArray);
+      for (int i = 0; i < length; i++) {
+        newArray[i] = fury.copyObject(originArray[i]);
+      }
+      return (T[]) newArray;
+    }
+
     private Object[] newArray(int numElements) {
       Object[] value;
       if ((Class) type == Object[].class) {
@@ -218,6 +237,17 @@ public class ArraySerializers {
       writeTo(buffer);
       return buffer.slice(0, buffer.writerIndex());
     }
+
+    @Override
+    public boolean writeTo(FuryGatheringChannel channel) {
+      // Only byte arrays can be wrapped without copy.
+      if (!(array instanceof byte[]) || length < channel.getMinReferenceSize()) {
+        return false;
+      }
+      int arrayOffset = offset - Platform.BYTE_ARRAY_OFFSET;
+      channel.writeByReference(ByteBuffer.wrap((byte[]) array, arrayOffset, length));
+      return true;
+    }
   }
 
   // Implement all read/write methods in subclasses to avoid
@@ -255,7 +285,7 @@ public class ArraySerializers {
     public void write(MemoryBuffer buffer, boolean[] value) {
       if (fury.getBufferCallback() == null) {
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -279,6 +309,11 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public boolean[] copy(boolean[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class ByteArraySerializer extends PrimitiveArraySerializer<byte[]> {
@@ -290,8 +325,14 @@ public class ArraySerializers {
     @Override
     public void write(MemoryBuffer buffer, byte[] value) {
       if (fury.getBufferCallback() == null) {
-        int size = Math.multiplyExact(value.length, 1);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        FuryGatheringChannel channel = fury.getGatheringChannel(buffer);
+        if (channel != null && value.length >= channel.getMinReferenceSize()) {
+          buffer.writeVarUint32(value.length);
+          channel.writeByReference(ByteBuffer.wrap(value));
+        } else {
+          int size = Math.multiplyExact(value.length, 1);
+          fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
+        }
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, 1, value.length));
@@ -313,6 +354,11 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public byte[] copy(byte[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class CharArraySerializer extends PrimitiveArraySerializer<char[]> {
@@ -325,7 +371,7 @@ public class ArraySerializers {
     public void write(MemoryBuffer buffer, char[] value) {
       if (fury.getBufferCallback() == null) {
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -350,6 +396,11 @@ public class ArraySerializers {
       }
     }
 
+    @Override
+    public char[] copy(char[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
+
     @Override
     public short getXtypeId() {
       return Fury.NOT_SUPPORT_CROSS_LANGUAGE;
@@ -376,7 +427,7 @@ public class ArraySerializers {
     public void write(MemoryBuffer buffer, short[] value) {
       if (fury.getBufferCallback() == null) {
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -400,19 +451,33 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public short[] copy(short[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class IntArraySerializer extends PrimitiveArraySerializer<int[]> {
+    private final ArrayEncoding encoding;
 
     public IntArraySerializer(Fury fury) {
       super(fury, int[].class);
+      encoding =
+          fury.getLanguage() == Language.JAVA
+              ? fury.getConfig().arrayEncoding()
+              : ArrayEncoding.RAW;
     }
 
     @Override
     public void write(MemoryBuffer buffer, int[] value) {
       if (fury.getBufferCallback() == null) {
+        if (encoding != ArrayEncoding.RAW) {
+          PrimitiveArrayCodecs.writeInts(fury, buffer, value, encoding);
+          return;
+        }
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -429,6 +494,9 @@ public class ArraySerializers {
         buf.copyToUnsafe(0, values, offset, size);
         return values;
       } else {
+        if (encoding != ArrayEncoding.RAW) {
+          return PrimitiveArrayCodecs.readInts(buffer);
+        }
         int size = buffer.readVarUint32Small7();
         int numElements = size / elemSize;
         int[] values = new int[numElements];
@@ -436,19 +504,33 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public int[] copy(int[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class LongArraySerializer extends PrimitiveArraySerializer<long[]> {
+    private final ArrayEncoding encoding;
 
     public LongArraySerializer(Fury fury) {
       super(fury, long[].class);
+      encoding =
+          fury.getLanguage() == Language.JAVA
+              ? fury.getConfig().arrayEncoding()
+              : ArrayEncoding.RAW;
     }
 
     @Override
     public void write(MemoryBuffer buffer, long[] value) {
       if (fury.getBufferCallback() == null) {
+        if (encoding != ArrayEncoding.RAW) {
+          PrimitiveArrayCodecs.writeLongs(fury, buffer, value, encoding);
+          return;
+        }
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -465,6 +547,9 @@ public class ArraySerializers {
         buf.copyToUnsafe(0, values, offset, size);
         return values;
       } else {
+        if (encoding != ArrayEncoding.RAW) {
+          return PrimitiveArrayCodecs.readLongs(buffer);
+        }
         int size = buffer.readVarUint32Small7();
         int numElements = size / elemSize;
         long[] values = new long[numElements];
@@ -472,6 +557,11 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public long[] copy(long[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class FloatArraySerializer extends PrimitiveArraySerializer<float[]> {
@@ -484,7 +574,7 @@ public class ArraySerializers {
     public void write(MemoryBuffer buffer, float[] value) {
       if (fury.getBufferCallback() == null) {
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -508,6 +598,11 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public float[] copy(float[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class DoubleArraySerializer extends PrimitiveArraySerializer<double[]> {
@@ -520,7 +615,7 @@ public class ArraySerializers {
     public void write(MemoryBuffer buffer, double[] value) {
       if (fury.getBufferCallback() == null) {
         int size = Math.multiplyExact(value.length, elemSize);
-        buffer.writePrimitiveArrayWithSize(value, offset, size);
+        fury.writePrimitiveArrayWithSize(buffer, value, offset, size);
       } else {
         fury.writeBufferObject(
             buffer, new PrimitiveArrayBufferObject(value, offset, elemSize, value.length));
@@ -544,6 +639,11 @@ public class ArraySerializers {
         return values;
       }
     }
+
+    @Override
+    public double[] copy(double[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
   }
 
   public static final class StringArraySerializer extends Serializer<String[]> {
@@ -616,6 +716,11 @@ public class ArraySerializers {
       return value;
     }
 
+    @Override
+    public String[] copy(String[] originArray) {
+      return Arrays.copyOf(originArray, originArray.length);
+    }
+
     @Override
     public void xwrite(MemoryBuffer buffer, String[] value) {
       int len = value.length;
@@ -21,6 +21,7 @@ package org.apache.fury.serializer;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.memory.MemoryBuffer;
 
 /**
@@ -42,6 +43,16 @@ public interface BufferObject {
   /** Write serialized data as Buffer. */
   MemoryBuffer toBuffer();
 
+  /**
+   * Write serialized object to the buffer of <code>channel</code>, with large payloads referenced
+   * by {@link FuryGatheringChannel#writeByReference} instead of being copied.
+   *
+   * @return false if nothing is written, then {@link #writeTo(MemoryBuffer)} should be used.
+   */
+  default boolean writeTo(FuryGatheringChannel channel) {
+    return false;
+  }
+
   final class ByteBufferBufferObject implements BufferObject {
     private final ByteBuffer buffer;
 
@@ -68,5 +79,15 @@ public interface BufferObject {
       writeTo(buffer);
       return buffer.slice(0, buffer.writerIndex());
     }
+
+    @Override
+    public boolean writeTo(FuryGatheringChannel channel) {
+      if (buffer.remaining() < channel.getMinReferenceSize()) {
+        return false;
+      }
+      channel.writeByReference(buffer);
+      channel.getBuffer().writeByte(buffer.order() == ByteOrder.BIG_ENDIAN ? (byte) 1 : 0);
+      return true;
+    }
   }
 }
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.fury.Fury;
+import org.apache.fury.builder.JITContext;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.reflect.FieldAccessor;
@@ -57,6 +58,10 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   private final boolean isRecord;
   private final MethodHandle constructor;
   private final RecordInfo recordInfo;
+  // Pending async jit task of this class, usage is recorded to compile hot classes first.
+  private final JITContext.JITTask<?> jitTask;
+  // Sampled into `jitTask` hits.
+  private int numCalls;
 
   public CompatibleSerializer(Fury fury, Class<T> cls) {
     super(fury, cls);
@@ -65,6 +70,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
     // Use `setSerializerIfAbsent` to avoid overwriting existing serializer for class when used
     // as data serializer.
     classResolver.setSerializerIfAbsent(cls, this);
+    jitTask = fury.getJITContext().getPendingTask(cls);
     fieldResolver = classResolver.getFieldResolver(cls);
     isRecord = RecordUtils.isRecord(type);
     if (isRecord) {
@@ -89,10 +95,14 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
     recordInfo = null;
     this.constructor = null;
     this.fieldResolver = fieldResolver;
+    jitTask = null;
   }
 
   @Override
   public void write(MemoryBuffer buffer, T value) {
+    if (jitTask != null && ++numCalls % JITContext.JITTask.HIT_SAMPLE_INTERVAL == 0) {
+      jitTask.hit();
+    }
     for (FieldResolver.FieldInfo fieldInfo : fieldResolver.getEmbedTypes4Fields()) {
       buffer.writeInt32((int) fieldInfo.getEncodedFieldInfo());
       readAndWriteFieldValue(buffer, fieldInfo, value);
@@ -155,13 +165,31 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           writeSeparateFieldValue(fieldInfo, buffer, fieldValue);
         } else {
           ClassInfo classInfo = fieldInfo.getClassInfo(classId);
-          Serializer<Object> serializer = classInfo.getSerializer();
-          fury.writeRef(buffer, fieldValue, serializer);
+          writeEmbedFieldValue(fieldInfo, buffer, fieldValue, classInfo.getSerializer());
         }
       }
     }
   }
 
+  private void writeEmbedFieldValue(
+      FieldResolver.FieldInfo fieldInfo,
+      MemoryBuffer buffer,
+      Object fieldValue,
+      Serializer<Object> serializer) {
+    if (fieldInfo.isRefIgnored()) {
+      // Keep consistent with `CompatibleCodecBuilder`, which writes `@Ref(false)` fields
+      // without ref.
+      if (fieldValue == null) {
+        buffer.writeByte(Fury.NULL_FLAG);
+      } else {
+        buffer.writeByte(Fury.NOT_NULL_VALUE_FLAG);
+        fury.writeNonRef(buffer, fieldValue, serializer);
+      }
+    } else {
+      fury.writeRef(buffer, fieldValue, serializer);
+    }
+  }
+
   private void writeFieldValue(
       FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer, Object fieldValue) {
     short classId = fieldInfo.getEmbeddedClassId();
@@ -204,8 +232,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
       default:
         {
           ClassInfo classInfo = fieldInfo.getClassInfo(classId);
-          Serializer<Object> serializer = classInfo.getSerializer();
-          fury.writeRef(buffer, fieldValue, serializer);
+          writeEmbedFieldValue(fieldInfo, buffer, fieldValue, classInfo.getSerializer());
         }
     }
   }
@@ -314,6 +341,9 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   @SuppressWarnings("unchecked")
   @Override
   public T read(MemoryBuffer buffer) {
+    if (jitTask != null && ++numCalls % JITContext.JITTask.HIT_SAMPLE_INTERVAL == 0) {
+      jitTask.hit();
+    }
     if (isRecord) {
       Object[] fieldValues = new Object[fieldResolver.getNumFields()];
       readFields(buffer, fieldValues);
@@ -328,13 +358,15 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
       }
     }
     T obj = (T) newBean();
-    refResolver.reference(obj);
+    if (needToWriteRef) {
+      refResolver.reference(obj);
+    }
     return readAndSetFields(buffer, obj);
   }
 
   @Override
   public T readAndSetFields(MemoryBuffer buffer, T obj) {
-    long partFieldInfo = readEmbedTypes4Fields(buffer, obj, null, INDEX_FOR_SKIP_FILL_VALUES);
+    long partFieldInfo = readEmbedTypes4Fields(buffer, obj, null, null, INDEX_FOR_SKIP_FILL_VALUES);
     long endTag = fieldResolver.getEndTag();
     if (partFieldInfo == endTag) {
       return obj;
@@ -342,22 +374,32 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
     long tmp = buffer.readInt32();
     partFieldInfo = tmp << 32 | (partFieldInfo & 0x00000000ffffffffL);
     partFieldInfo =
-        readEmbedTypes9Fields(buffer, partFieldInfo, obj, null, INDEX_FOR_SKIP_FILL_VALUES);
+        readEmbedTypes9Fields(buffer, partFieldInfo, obj, null, null, INDEX_FOR_SKIP_FILL_VALUES);
     if (partFieldInfo == endTag) {
       return obj;
     }
     partFieldInfo =
-        readEmbedTypesHashFields(buffer, partFieldInfo, obj, null, INDEX_FOR_SKIP_FILL_VALUES);
+        readEmbedTypesHashFields(
+            buffer, partFieldInfo, obj, null, null, INDEX_FOR_SKIP_FILL_VALUES);
     if (partFieldInfo == endTag) {
       return obj;
     }
-    readSeparateTypesHashField(buffer, partFieldInfo, obj, null, INDEX_FOR_SKIP_FILL_VALUES);
+    readSeparateTypesHashField(buffer, partFieldInfo, obj, null, null, INDEX_FOR_SKIP_FILL_VALUES);
     return obj;
   }
 
   public void readFields(MemoryBuffer buffer, Object[] vals) {
+    readFields(buffer, vals, null);
+  }
+
+  /**
+   * Read field values into <code>vals</code> in {@link FieldResolver#getAllFieldsList} order. Only
+   * fields whose <code>selected</code> flag is set are read, others are skipped by their encoded
+   * size where possible. All fields are read if <code>selected</code> is null.
+   */
+  public void readFields(MemoryBuffer buffer, Object[] vals, boolean[] selected) {
     int startIndex = 0;
-    long partFieldInfo = readEmbedTypes4Fields(buffer, null, vals, startIndex);
+    long partFieldInfo = readEmbedTypes4Fields(buffer, null, vals, selected, startIndex);
     long endTag = fieldResolver.getEndTag();
     if (partFieldInfo == endTag) {
       return;
@@ -365,21 +407,22 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
     startIndex += fieldResolver.getEmbedTypes4Fields().length;
     long tmp = buffer.readInt32();
     partFieldInfo = tmp << 32 | (partFieldInfo & 0x00000000ffffffffL);
-    partFieldInfo = readEmbedTypes9Fields(buffer, partFieldInfo, null, vals, startIndex);
+    partFieldInfo = readEmbedTypes9Fields(buffer, partFieldInfo, null, vals, selected, startIndex);
     if (partFieldInfo == endTag) {
       return;
     }
     startIndex += fieldResolver.getEmbedTypes9Fields().length;
-    partFieldInfo = readEmbedTypesHashFields(buffer, partFieldInfo, null, vals, startIndex);
+    partFieldInfo =
+        readEmbedTypesHashFields(buffer, partFieldInfo, null, vals, selected, startIndex);
     if (partFieldInfo == endTag) {
       return;
     }
     startIndex += fieldResolver.getEmbedTypesHashFields().length;
-    readSeparateTypesHashField(buffer, partFieldInfo, null, vals, startIndex);
+    readSeparateTypesHashField(buffer, partFieldInfo, null, vals, selected, startIndex);
   }
 
   private long readEmbedTypes4Fields(
-      MemoryBuffer buffer, Object obj, Object[] vals, int startIndex) {
+      MemoryBuffer buffer, Object obj, Object[] vals, boolean[] selected, int startIndex) {
     long partFieldInfo = buffer.readInt32();
     FieldResolver.FieldInfo[] embedTypes4Fields = fieldResolver.getEmbedTypes4Fields();
     if (embedTypes4Fields.length > 0) {
@@ -399,7 +442,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           if (obj != null) {
             readAndSetFieldValue(fieldInfo, buffer, obj);
           } else {
-            vals[startIndex + i] = readFieldValue(fieldInfo, buffer);
+            readFieldValue(fieldInfo, buffer, vals, selected, startIndex + i);
           }
           partFieldInfo = buffer.readInt32();
         } else {
@@ -429,7 +472,12 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   }
 
   private long readEmbedTypes9Fields(
-      MemoryBuffer buffer, long partFieldInfo, Object obj, Object[] vals, int startIndex) {
+      MemoryBuffer buffer,
+      long partFieldInfo,
+      Object obj,
+      Object[] vals,
+      boolean[] selected,
+      int startIndex) {
     FieldResolver.FieldInfo[] embedTypes9Fields = fieldResolver.getEmbedTypes9Fields();
     if (embedTypes9Fields.length > 0) {
       long minFieldInfo = embedTypes9Fields[0].getEncodedFieldInfo();
@@ -449,7 +497,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           if (obj != null) {
             readAndSetFieldValue(fieldInfo, buffer, obj);
           } else {
-            vals[startIndex + i] = readFieldValue(fieldInfo, buffer);
+            readFieldValue(fieldInfo, buffer, vals, selected, startIndex + i);
           }
           partFieldInfo = buffer.readInt64();
         } else {
@@ -479,7 +527,12 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   }
 
   private long readEmbedTypesHashFields(
-      MemoryBuffer buffer, long partFieldInfo, Object obj, Object[] vals, int startIndex) {
+      MemoryBuffer buffer,
+      long partFieldInfo,
+      Object obj,
+      Object[] vals,
+      boolean[] selected,
+      int startIndex) {
     FieldResolver.FieldInfo[] embedTypesHashFields = fieldResolver.getEmbedTypesHashFields();
     if (embedTypesHashFields.length > 0) {
       long minFieldInfo = embedTypesHashFields[0].getEncodedFieldInfo();
@@ -499,7 +552,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           if (obj != null) {
             readAndSetFieldValue(fieldInfo, buffer, obj);
           } else {
-            vals[startIndex + i] = readFieldValue(fieldInfo, buffer);
+            readFieldValue(fieldInfo, buffer, vals, selected, startIndex + i);
           }
           partFieldInfo = buffer.readInt64();
         } else {
@@ -529,7 +582,12 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
   }
 
   private void readSeparateTypesHashField(
-      MemoryBuffer buffer, long partFieldInfo, Object obj, Object[] vals, int startIndex) {
+      MemoryBuffer buffer,
+      long partFieldInfo,
+      Object obj,
+      Object[] vals,
+      boolean[] selected,
+      int startIndex) {
     FieldResolver.FieldInfo[] separateTypesHashFields = fieldResolver.getSeparateTypesHashFields();
     if (separateTypesHashFields.length > 0) {
       long minFieldInfo = separateTypesHashFields[0].getEncodedFieldInfo();
@@ -548,7 +606,7 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
           if (obj != null) {
             readAndSetFieldValue(fieldInfo, buffer, obj);
           } else {
-            vals[startIndex + i] = readFieldValue(fieldInfo, buffer);
+            readFieldValue(fieldInfo, buffer, vals, selected, startIndex + i);
           }
           partFieldInfo = buffer.readInt64();
         } else {
@@ -584,12 +642,76 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
         fieldAccessor.putObject(targetObject, fieldValue);
       } else {
         ClassInfo classInfo = fieldInfo.getClassInfo(classId);
-        Serializer<Object> serializer = classInfo.getSerializer();
-        fieldAccessor.putObject(targetObject, fury.readRef(buffer, serializer));
+        Object fieldValue = readEmbedFieldValue(fieldInfo, buffer, classInfo.getSerializer());
+        fieldAccessor.putObject(targetObject, fieldValue);
       }
     }
   }
 
+  private void readFieldValue(
+      FieldResolver.FieldInfo fieldInfo,
+      MemoryBuffer buffer,
+      Object[] vals,
+      boolean[] selected,
+      int index) {
+    if (selected == null || selected[index]) {
+      vals[index] = readFieldValue(fieldInfo, buffer);
+    } else {
+      skipFieldValue(fieldInfo, buffer);
+    }
+  }
+
+  /**
+   * Skip value of a field which isn't needed by caller. Primitives and strings are skipped by their
+   * encoded size, other values are still deserialized since their ref ids and class info may be
+   * referenced by following data.
+   */
+  private void skipFieldValue(FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer) {
+    short classId = fieldInfo.getEmbeddedClassId();
+    switch (classId) {
+      case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
+      case ClassResolver.PRIMITIVE_BYTE_CLASS_ID:
+      case ClassResolver.PRIMITIVE_CHAR_CLASS_ID:
+      case ClassResolver.PRIMITIVE_SHORT_CLASS_ID:
+      case ClassResolver.PRIMITIVE_INT_CLASS_ID:
+      case ClassResolver.PRIMITIVE_FLOAT_CLASS_ID:
+      case ClassResolver.PRIMITIVE_LONG_CLASS_ID:
+      case ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID:
+        Serializers.skipPrimitiveValue(fury, buffer, classId);
+        return;
+      case ClassResolver.BOOLEAN_CLASS_ID:
+      case ClassResolver.BYTE_CLASS_ID:
+      case ClassResolver.CHAR_CLASS_ID:
+      case ClassResolver.SHORT_CLASS_ID:
+      case ClassResolver.INTEGER_CLASS_ID:
+      case ClassResolver.FLOAT_CLASS_ID:
+      case ClassResolver.LONG_CLASS_ID:
+      case ClassResolver.DOUBLE_CLASS_ID:
+        if (!fieldInfo.getClassInfo(classId).getSerializer().needToWriteRef()) {
+          if (buffer.readByte() != Fury.NULL_FLAG) {
+            // Boxed values have same encoding as primitive values.
+            short primitiveClassId =
+                (short)
+                    (classId - ClassResolver.VOID_CLASS_ID + ClassResolver.PRIMITIVE_VOID_CLASS_ID);
+            Serializers.skipPrimitiveValue(fury, buffer, primitiveClassId);
+          }
+          return;
+        }
+        break;
+      case ClassResolver.STRING_CLASS_ID:
+        if (!fury.getStringSerializer().needToWriteRef()) {
+          if (buffer.readByte() != Fury.NULL_FLAG) {
+            fury.getStringSerializer().skipJavaString(buffer);
+          }
+          return;
+        }
+        break;
+      default:
+        break;
+    }
+    readFieldValue(fieldInfo, buffer);
+  }
+
   private Object readFieldValue(FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer) {
     short classId = fieldInfo.getEmbeddedClassId();
     // PRIMITIVE fields, not need for null check.
@@ -621,12 +743,20 @@ public final class CompatibleSerializer<T> extends CompatibleSerializerBase<T> {
       default:
         {
           ClassInfo classInfo = fieldInfo.getClassInfo(classId);
-          Serializer<Object> serializer = classInfo.getSerializer();
-          return fury.readRef(buffer, serializer);
+          return readEmbedFieldValue(fieldInfo, buffer, classInfo.getSerializer());
         }
     }
   }
 
+  private Object readEmbedFieldValue(
+      FieldResolver.FieldInfo fieldInfo, MemoryBuffer buffer, Serializer<Object> serializer) {
+    if (fieldInfo.isRefIgnored()) {
+      return fury.readRefIgnored(buffer, serializer);
+    } else {
+      return fury.readRef(buffer, serializer);
+    }
+  }
+
   private Object newBean() {
     if (constructor != null) {
       try {
@@ -27,10 +27,22 @@ import org.apache.fury.memory.MemoryBuffer;
  * will extend this class.
  */
 public abstract class CompatibleSerializerBase<T> extends Serializer<T> {
+  private ObjectSerializer<T> copySerializer;
+
   public CompatibleSerializerBase(Fury fury, Class<T> type) {
     super(fury, type);
   }
 
+  /** Copy by reflection, since copy doesn't need to be compatible with any peer. */
+  @Override
+  public T copy(T value) {
+    ObjectSerializer<T> copySerializer = this.copySerializer;
+    if (copySerializer == null) {
+      this.copySerializer = copySerializer = new ObjectSerializer<>(fury, type);
+    }
+    return copySerializer.copy(value);
+  }
+
   public T readAndSetFields(MemoryBuffer buffer, T obj) {
     // java record object doesn't support update state.
     throw new UnsupportedOperationException();
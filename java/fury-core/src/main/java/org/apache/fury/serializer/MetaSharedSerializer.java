@@ -133,6 +133,16 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
     serializer.write(buffer, value);
   }
 
+  @Override
+  public T copy(T value) {
+    if (serializer == null) {
+      serializer =
+          fury.getClassResolver()
+              .createSerializerSafe(type, () -> new ObjectSerializer<>(fury, type));
+    }
+    return serializer.copy(value);
+  }
+
   @Override
   public T read(MemoryBuffer buffer) {
     if (isRecord) {
@@ -152,7 +162,9 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
     Fury fury = this.fury;
     RefResolver refResolver = fury.getRefResolver();
     ClassResolver classResolver = fury.getClassResolver();
-    refResolver.reference(obj);
+    if (needToWriteRef) {
+      refResolver.reference(obj);
+    }
     // read order: primitive,boxed,final,other,collection,map
     ObjectSerializer.FinalTypeField[] finalFields = this.finalFields;
     for (int i = 0; i < finalFields.length; i++) {
@@ -175,7 +187,7 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
         if (skipPrimitiveFieldValueFailed(fury, fieldInfo.classId, buffer)) {
           if (fieldInfo.classInfo == null) {
             // TODO(chaokunyang) support registered serializer in peer with ref tracking disabled.
-            fury.readRef(buffer, classInfoHolder);
+            fury.readRefIgnored(buffer, classInfoHolder);
           } else {
             ObjectSerializer.readFinalObjectFieldValue(
                 fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
@@ -229,7 +241,7 @@ public class MetaSharedSerializer<T> extends Serializer<T> {
         if (skipPrimitiveFieldValueFailed(fury, fieldInfo.classId, buffer)) {
           if (fieldInfo.classInfo == null) {
             // TODO(chaokunyang) support registered serializer in peer with ref tracking disabled.
-            fury.readRef(buffer, classInfoHolder);
+            fury.readRefIgnored(buffer, classInfoHolder);
           } else {
             ObjectSerializer.readFinalObjectFieldValue(
                 fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
@@ -94,11 +94,11 @@ public final class NonexistentClassSerializers {
       int newId = classMap.size;
       // class not exist, use class def id for identity.
       int id = classMap.putOrGet(value.classDef.getId(), newId);
+      ClassResolver classResolver = fury.getClassResolver();
       if (id >= 0) {
-        buffer.writeVarUint32(id);
+        classResolver.writeSharedClassDef(buffer, metaContext, id, null);
       } else {
-        buffer.writeVarUint32(newId);
-        metaContext.writingClassDefs.add(value.classDef);
+        classResolver.writeSharedClassDef(buffer, metaContext, newId, value.classDef);
       }
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.serializer;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.Fury;
+import org.apache.fury.builder.Generated;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.reflect.FieldAccessor;
+import org.apache.fury.reflect.ReflectionUtils;
+import org.apache.fury.resolver.FieldResolver;
+
+/**
+ * Reader of part of fields of a serialized object, see {@link Fury#deserializeFields}.
+ *
+ * <ul>
+ *   <li>Schema consistent mode: the object isn't created, reading stops after the last requested
+ *       field, unread primitive fields before it are skipped without decoding.
+ *   <li>Compatible mode: field values are read by {@link FieldResolver} layout and the object isn't
+ *       created. Fields missing in current class and unrequested primitive/string fields are
+ *       skipped by encoded size, other unrequested fields are still read to keep ref ids.
+ *   <li>Others such as meta share mode or custom serializers: the object is deserialized and field
+ *       values are got by reflection.
+ * </ul>
+ */
+@NotThreadSafe
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class ObjectFieldsReader {
+  private final Fury fury;
+  private final Class<?> cls;
+  private ObjectSerializer objectSerializer;
+  private Map<String, Integer> objectFieldIndexes;
+  private CompatibleSerializer compatibleSerializer;
+  private FieldResolver fieldResolver;
+  private Map<String, Integer> compatibleFieldIndexes;
+  private final Map<String, FieldAccessor> fieldAccessors = new HashMap<>();
+
+  public ObjectFieldsReader(Fury fury, Class<?> cls) {
+    this.fury = fury;
+    this.cls = cls;
+  }
+
+  /**
+   * Returns whether fields can be read from data of <code>serializer</code> without deserializing
+   * the object.
+   */
+  public boolean canReadFields(Serializer<?> serializer) {
+    if (fury.getConfig().isMetaShareEnabled()) {
+      // layout depends on class def of peer.
+      return false;
+    }
+    return serializer instanceof ObjectSerializer
+        || serializer instanceof Generated.GeneratedObjectSerializer
+        || serializer instanceof CompatibleSerializer
+        || serializer instanceof Generated.GeneratedCompatibleSerializer;
+  }
+
+  /**
+   * Read values of <code>fieldNames</code> from object data written by <code>serializer</code>,
+   * which must be accepted by {@link #canReadFields}.
+   */
+  public Object[] readFields(MemoryBuffer buffer, Serializer<?> serializer, String[] fieldNames) {
+    if (serializer instanceof CompatibleSerializer
+        || serializer instanceof Generated.GeneratedCompatibleSerializer) {
+      if (compatibleSerializer == null) {
+        fieldResolver = fury.getClassResolver().getFieldResolver(cls);
+        compatibleSerializer = new CompatibleSerializer(fury, cls, fieldResolver);
+        compatibleFieldIndexes = new HashMap<>();
+        List<FieldResolver.FieldInfo> fields = fieldResolver.getAllFieldsList();
+        for (int i = fields.size() - 1; i >= 0; i--) {
+          compatibleFieldIndexes.put(fields.get(i).getName(), i);
+        }
+      }
+      int[] fieldIndexes = getFieldIndexes(compatibleFieldIndexes, fieldNames);
+      Object[] values = new Object[fieldResolver.getNumFields()];
+      boolean[] selected = new boolean[values.length];
+      for (int fieldIndex : fieldIndexes) {
+        selected[fieldIndex] = true;
+      }
+      compatibleSerializer.readFields(buffer, values, selected);
+      Object[] fieldValues = new Object[fieldNames.length];
+      for (int i = 0; i < fieldIndexes.length; i++) {
+        fieldValues[i] = values[fieldIndexes[i]];
+      }
+      return fieldValues;
+    }
+    if (objectSerializer == null) {
+      if (serializer instanceof ObjectSerializer) {
+        objectSerializer = (ObjectSerializer) serializer;
+      } else {
+        // Jit serializer has same data layout as `ObjectSerializer`.
+        objectSerializer = new ObjectSerializer(fury, cls);
+      }
+      objectFieldIndexes = new HashMap<>();
+      List<String> names = objectSerializer.getFieldNames();
+      // Use first field in read order for duplicate field names in class hierarchy.
+      for (int i = names.size() - 1; i >= 0; i--) {
+        objectFieldIndexes.put(names.get(i), i);
+      }
+    }
+    return objectSerializer.readFields(buffer, getFieldIndexes(objectFieldIndexes, fieldNames));
+  }
+
+  /**
+   * Check all <code>fieldNames</code> exist in the class.
+   *
+   * @throws IllegalArgumentException if any field doesn't exist.
+   */
+  public void checkFieldNames(String[] fieldNames) {
+    for (String fieldName : fieldNames) {
+      getFieldAccessor(fieldName);
+    }
+  }
+
+  /** Returns values of <code>fieldNames</code> of a deserialized object by reflection. */
+  public Object[] getFieldValues(Object obj, String[] fieldNames) {
+    Object[] fieldValues = new Object[fieldNames.length];
+    for (int i = 0; i < fieldNames.length; i++) {
+      fieldValues[i] = getFieldAccessor(fieldNames[i]).get(obj);
+    }
+    return fieldValues;
+  }
+
+  private FieldAccessor getFieldAccessor(String fieldName) {
+    FieldAccessor accessor = fieldAccessors.get(fieldName);
+    if (accessor == null) {
+      Field field = ReflectionUtils.getField(cls, fieldName);
+      accessor = FieldAccessor.createAccessor(field);
+      fieldAccessors.put(fieldName, accessor);
+    }
+    return accessor;
+  }
+
+  private int[] getFieldIndexes(Map<String, Integer> indexes, String[] fieldNames) {
+    int[] fieldIndexes = new int[fieldNames.length];
+    for (int i = 0; i < fieldNames.length; i++) {
+      Integer index = indexes.get(fieldNames[i]);
+      if (index == null) {
+        throw new IllegalArgumentException(
+            String.format("Field %s doesn't exist in %s", fieldNames[i], cls));
+      }
+      fieldIndexes[i] = index;
+    }
+    return fieldIndexes;
+  }
+}
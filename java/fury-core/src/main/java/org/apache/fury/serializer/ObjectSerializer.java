@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apache.fury.Fury;
+import org.apache.fury.builder.JITContext;
 import org.apache.fury.collection.Tuple2;
 import org.apache.fury.collection.Tuple3;
 import org.apache.fury.exception.FuryException;
@@ -84,6 +85,10 @@ public final class ObjectSerializer<T> extends Serializer<T> {
   private final GenericTypeField[] containerFields;
   private final MethodHandle constructor;
   private final int classVersionHash;
+  // Pending async jit task of this class, usage is recorded to compile hot classes first.
+  private final JITContext.JITTask<?> jitTask;
+  // Sampled into `jitTask` hits.
+  private int numCalls;
 
   public ObjectSerializer(Fury fury, Class<T> cls) {
     this(fury, cls, true);
@@ -97,6 +102,7 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     // Use `setSerializerIfAbsent` to avoid overwriting existing serializer for class when used
     // as data serializer.
     classResolver.setSerializerIfAbsent(cls, this);
+    jitTask = fury.getJITContext().getPendingTask(cls);
     Collection<Descriptor> descriptors;
     boolean shareMeta = fury.getConfig().isMetaShareEnabled();
     if (shareMeta) {
@@ -208,6 +214,9 @@ public final class ObjectSerializer<T> extends Serializer<T> {
 
   @Override
   public void write(MemoryBuffer buffer, T value) {
+    if (jitTask != null && ++numCalls % JITContext.JITTask.HIT_SAMPLE_INTERVAL == 0) {
+      jitTask.hit();
+    }
     Fury fury = this.fury;
     RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
@@ -219,7 +228,7 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     for (GenericTypeField fieldInfo : otherFields) {
       FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
       Object fieldValue = fieldAccessor.getObject(value);
-      if (fieldInfo.trackingRef) {
+      if (fieldInfo.trackingRef && !fieldInfo.refIgnored) {
         fury.writeRef(buffer, fieldValue, fieldInfo.classInfoHolder);
       } else {
         fury.writeNullable(buffer, fieldValue, fieldInfo.classInfoHolder);
@@ -244,7 +253,10 @@ public final class ObjectSerializer<T> extends Serializer<T> {
         Object fieldValue = fieldAccessor.getObject(value);
         if (writeBasicObjectFieldValueFailed(fury, buffer, fieldValue, classId)) {
           Serializer<Object> serializer = fieldInfo.classInfo.getSerializer();
-          if (!metaShareEnabled || isFinal[i]) {
+          if (fieldInfo.refIgnored) {
+            writeFinalFieldValueIgnoreRef(
+                fury, buffer, fieldValue, fieldInfo, !metaShareEnabled || isFinal[i]);
+          } else if (!metaShareEnabled || isFinal[i]) {
             // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
             // consistent with jit serializer.
             fury.writeRef(buffer, fieldValue, serializer);
@@ -264,6 +276,28 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     }
   }
 
+  /**
+   * Write value of a field annotated by {@code @Ref(false)} with a not-null flag, which is read as
+   * a value without ref id by ref reading path too.
+   */
+  private static void writeFinalFieldValueIgnoreRef(
+      Fury fury,
+      MemoryBuffer buffer,
+      Object fieldValue,
+      FinalTypeField fieldInfo,
+      boolean isFinal) {
+    if (isFinal) {
+      if (fieldValue == null) {
+        buffer.writeByte(Fury.NULL_FLAG);
+      } else {
+        buffer.writeByte(Fury.NOT_NULL_VALUE_FLAG);
+        fury.writeNonRef(buffer, fieldValue, fieldInfo.classInfo.getSerializer());
+      }
+    } else {
+      fury.writeNullable(buffer, fieldValue, fieldInfo.classInfo);
+    }
+  }
+
   private void writeContainerFields(
       MemoryBuffer buffer,
       T value,
@@ -287,7 +321,7 @@ public final class ObjectSerializer<T> extends Serializer<T> {
       GenericTypeField fieldInfo,
       MemoryBuffer buffer,
       Object fieldValue) {
-    if (fieldInfo.trackingRef) {
+    if (fieldInfo.trackingRef && !fieldInfo.refIgnored) {
       if (!refResolver.writeRefOrNull(buffer, fieldValue)) {
         ClassInfo classInfo =
             classResolver.getClassInfo(fieldValue.getClass(), fieldInfo.classInfoHolder);
@@ -312,6 +346,9 @@ public final class ObjectSerializer<T> extends Serializer<T> {
 
   @Override
   public T read(MemoryBuffer buffer) {
+    if (jitTask != null && ++numCalls % JITContext.JITTask.HIT_SAMPLE_INTERVAL == 0) {
+      jitTask.hit();
+    }
     if (isRecord) {
       Object[] fields = readFields(buffer);
       RecordUtils.remapping(recordInfo, fields);
@@ -324,7 +361,9 @@ public final class ObjectSerializer<T> extends Serializer<T> {
       }
     }
     T obj = newBean(constructor, type);
-    refResolver.reference(obj);
+    if (needToWriteRef) {
+      refResolver.reference(obj);
+    }
     return readAndSetFields(buffer, obj);
   }
 
@@ -367,6 +406,95 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     return fieldValues;
   }
 
+  /**
+   * Returns names of fields in read order, the position of a name is the index used by {@link
+   * #readFields(MemoryBuffer, int[])}.
+   */
+  public List<String> getFieldNames() {
+    List<String> fieldNames = new ArrayList<>();
+    for (FinalTypeField fieldInfo : finalFields) {
+      fieldNames.add(fieldInfo.getFieldName());
+    }
+    for (GenericTypeField fieldInfo : otherFields) {
+      fieldNames.add(fieldInfo.getFieldName());
+    }
+    for (GenericTypeField fieldInfo : containerFields) {
+      fieldNames.add(fieldInfo.getFieldName());
+    }
+    return fieldNames;
+  }
+
+  /**
+   * Read values of fields at <code>fieldIndexes</code> of {@link #getFieldNames()} without creating
+   * the object. Reading stops after the last requested field, so the reader index of <code>buffer
+   * </code> is undefined after this call. Primitive fields before it are skipped without boxing,
+   * other fields are read and dropped since their size is not written.
+   */
+  public Object[] readFields(MemoryBuffer buffer, int[] fieldIndexes) {
+    Fury fury = this.fury;
+    RefResolver refResolver = this.refResolver;
+    ClassResolver classResolver = this.classResolver;
+    if (fury.checkClassVersion()) {
+      int hash = buffer.readInt32();
+      checkClassVersion(fury, hash, classVersionHash);
+    }
+    Object[] fieldValues = new Object[fieldIndexes.length];
+    int lastIndex = -1;
+    for (int fieldIndex : fieldIndexes) {
+      lastIndex = Math.max(lastIndex, fieldIndex);
+    }
+    int index = 0;
+    // read order: primitive,boxed,final,other,collection,map
+    FinalTypeField[] finalFields = this.finalFields;
+    boolean metaShareEnabled = fury.getConfig().isMetaShareEnabled();
+    for (int i = 0; i < finalFields.length && index <= lastIndex; i++, index++) {
+      FinalTypeField fieldInfo = finalFields[i];
+      boolean isFinal = !metaShareEnabled || this.isFinal[i];
+      short classId = fieldInfo.classId;
+      if (classId >= ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID
+          && classId <= ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID) {
+        if (isSelected(fieldIndexes, index)) {
+          Object fieldValue = Serializers.readPrimitiveValue(fury, buffer, classId);
+          setSelected(fieldValues, fieldIndexes, index, fieldValue);
+        } else {
+          Serializers.skipPrimitiveValue(fury, buffer, classId);
+        }
+      } else {
+        Object fieldValue =
+            readFinalObjectFieldValue(fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+        setSelected(fieldValues, fieldIndexes, index, fieldValue);
+      }
+    }
+    for (int i = 0; i < otherFields.length && index <= lastIndex; i++, index++) {
+      Object fieldValue = readOtherFieldValue(fury, otherFields[i], buffer);
+      setSelected(fieldValues, fieldIndexes, index, fieldValue);
+    }
+    Generics generics = fury.getGenerics();
+    for (int i = 0; i < containerFields.length && index <= lastIndex; i++, index++) {
+      Object fieldValue = readContainerFieldValue(fury, generics, containerFields[i], buffer);
+      setSelected(fieldValues, fieldIndexes, index, fieldValue);
+    }
+    return fieldValues;
+  }
+
+  private static boolean isSelected(int[] fieldIndexes, int index) {
+    for (int fieldIndex : fieldIndexes) {
+      if (fieldIndex == index) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void setSelected(
+      Object[] fieldValues, int[] fieldIndexes, int index, Object fieldValue) {
+    for (int i = 0; i < fieldIndexes.length; i++) {
+      if (fieldIndexes[i] == index) {
+        fieldValues[i] = fieldValue;
+      }
+    }
+  }
+
   public T readAndSetFields(MemoryBuffer buffer, T obj) {
     Fury fury = this.fury;
     RefResolver refResolver = this.refResolver;
@@ -420,11 +548,18 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     if (isFinal) {
       // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
       // consistent with jit serializer.
-      fieldValue = fury.readRef(buffer, serializer);
+      if (fieldInfo.refIgnored) {
+        fieldValue = fury.readRefIgnored(buffer, serializer);
+      } else {
+        fieldValue = fury.readRef(buffer, serializer);
+      }
     } else {
       if (serializer.needToWriteRef()) {
         int nextReadRefId = refResolver.tryPreserveRefId(buffer);
         if (nextReadRefId >= Fury.NOT_NULL_VALUE_FLAG) {
+          if (fieldInfo.refIgnored && nextReadRefId == Fury.NOT_NULL_VALUE_FLAG) {
+            refResolver.preserveStubRefId();
+          }
           classResolver.readClassInfo(buffer, fieldInfo.classInfo);
           fieldValue = serializer.read(buffer);
           refResolver.setReadObject(nextReadRefId, fieldValue);
@@ -447,7 +582,11 @@ public final class ObjectSerializer<T> extends Serializer<T> {
   static Object readOtherFieldValue(Fury fury, GenericTypeField fieldInfo, MemoryBuffer buffer) {
     Object fieldValue;
     if (fieldInfo.trackingRef) {
-      fieldValue = fury.readRef(buffer, fieldInfo.classInfoHolder);
+      if (fieldInfo.refIgnored) {
+        fieldValue = fury.readRefIgnored(buffer, fieldInfo.classInfoHolder);
+      } else {
+        fieldValue = fury.readRef(buffer, fieldInfo.classInfoHolder);
+      }
     } else {
       byte headFlag = buffer.readByte();
       if (headFlag == Fury.NULL_FLAG) {
@@ -464,7 +603,11 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     Object fieldValue;
     if (fieldInfo.trackingRef) {
       generics.pushGenericType(fieldInfo.genericType);
-      fieldValue = fury.readRef(buffer, fieldInfo.classInfoHolder);
+      if (fieldInfo.refIgnored) {
+        fieldValue = fury.readRefIgnored(buffer, fieldInfo.classInfoHolder);
+      } else {
+        fieldValue = fury.readRef(buffer, fieldInfo.classInfoHolder);
+      }
       generics.popGenericType();
     } else {
       byte headFlag = buffer.readByte();
@@ -866,6 +1009,102 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public T copy(T originObj) {
+    if (isRecord) {
+      Object[] fieldValues =
+          new Object[finalFields.length + otherFields.length + containerFields.length];
+      int counter = 0;
+      for (FinalTypeField fieldInfo : finalFields) {
+        fieldValues[counter++] = fury.copyObject(fieldInfo.fieldAccessor.getObject(originObj));
+      }
+      for (GenericTypeField fieldInfo : otherFields) {
+        fieldValues[counter++] = fury.copyObject(fieldInfo.fieldAccessor.getObject(originObj));
+      }
+      for (GenericTypeField fieldInfo : containerFields) {
+        fieldValues[counter++] = fury.copyObject(fieldInfo.fieldAccessor.getObject(originObj));
+      }
+      RecordUtils.remapping(recordInfo, fieldValues);
+      try {
+        T obj = (T) constructor.invokeWithArguments(recordInfo.getRecordComponents());
+        Arrays.fill(recordInfo.getRecordComponents(), null);
+        return obj;
+      } catch (Throwable e) {
+        Platform.throwException(e);
+      }
+    }
+    T newObj = newBean(constructor, type);
+    fury.reference(originObj, newObj);
+    copyFields(originObj, newObj);
+    return newObj;
+  }
+
+  /** Copy all fields of <code>originObj</code> into <code>newObj</code> deeply. */
+  public void copyFields(T originObj, T newObj) {
+    Fury fury = this.fury;
+    for (FinalTypeField fieldInfo : finalFields) {
+      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+      long fieldOffset = fieldAccessor.getFieldOffset();
+      if (fieldOffset == -1
+          || copyPrimitiveFieldValueFailed(originObj, newObj, fieldOffset, fieldInfo.classId)) {
+        fieldAccessor.putObject(newObj, fury.copyObject(fieldAccessor.getObject(originObj)));
+      }
+    }
+    for (GenericTypeField fieldInfo : otherFields) {
+      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+      fieldAccessor.putObject(newObj, fury.copyObject(fieldAccessor.getObject(originObj)));
+    }
+    for (GenericTypeField fieldInfo : containerFields) {
+      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+      fieldAccessor.putObject(newObj, fury.copyObject(fieldAccessor.getObject(originObj)));
+    }
+  }
+
+  private static boolean copyPrimitiveFieldValueFailed(
+      Object originObj, Object newObj, long fieldOffset, short classId) {
+    switch (classId) {
+      case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
+        Platform.putBoolean(newObj, fieldOffset, Platform.getBoolean(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_BYTE_CLASS_ID:
+        Platform.putByte(newObj, fieldOffset, Platform.getByte(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_CHAR_CLASS_ID:
+        Platform.putChar(newObj, fieldOffset, Platform.getChar(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_SHORT_CLASS_ID:
+        Platform.putShort(newObj, fieldOffset, Platform.getShort(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_INT_CLASS_ID:
+        Platform.putInt(newObj, fieldOffset, Platform.getInt(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_FLOAT_CLASS_ID:
+        Platform.putFloat(newObj, fieldOffset, Platform.getFloat(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_LONG_CLASS_ID:
+        Platform.putLong(newObj, fieldOffset, Platform.getLong(originObj, fieldOffset));
+        return false;
+      case ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID:
+        Platform.putDouble(newObj, fieldOffset, Platform.getDouble(originObj, fieldOffset));
+        return false;
+      case ClassResolver.BOOLEAN_CLASS_ID:
+      case ClassResolver.BYTE_CLASS_ID:
+      case ClassResolver.CHAR_CLASS_ID:
+      case ClassResolver.SHORT_CLASS_ID:
+      case ClassResolver.INTEGER_CLASS_ID:
+      case ClassResolver.FLOAT_CLASS_ID:
+      case ClassResolver.LONG_CLASS_ID:
+      case ClassResolver.DOUBLE_CLASS_ID:
+      case ClassResolver.STRING_CLASS_ID:
+        // immutable values can be shared between origin and copy.
+        Platform.putObject(newObj, fieldOffset, Platform.getObject(originObj, fieldOffset));
+        return false;
+      default:
+        return true;
+    }
+  }
+
   static <T> T newBean(MethodHandle constructor, Class<T> type) {
     if (constructor != null) {
       try {
@@ -881,12 +1120,20 @@ public final class ObjectSerializer<T> extends Serializer<T> {
     protected final short classId;
     protected final String qualifiedFieldName;
     protected final FieldAccessor fieldAccessor;
+    // Whether field values are written without ref tracking by `@Ref(false)`. Fields which don't
+    // exist in current class are read in this way too since peer may annotate them.
+    protected final boolean refIgnored;
 
     private InternalFieldInfo(
         short classId, String qualifiedFieldName, FieldAccessor fieldAccessor) {
       this.classId = classId;
       this.qualifiedFieldName = qualifiedFieldName;
       this.fieldAccessor = fieldAccessor;
+      refIgnored = fieldAccessor == null || ClassResolver.isRefIgnored(fieldAccessor.getField());
+    }
+
+    String getFieldName() {
+      return qualifiedFieldName.substring(qualifiedFieldName.lastIndexOf('.') + 1);
     }
 
     @Override
@@ -176,11 +176,14 @@ public class ObjectStreamSerializer extends Serializer {
     } else {
       obj = Platform.newInstance(type);
     }
-    fury.getRefResolver().reference(obj);
+    if (needToWriteRef) {
+      fury.getRefResolver().reference(obj);
+    }
     int numClasses = buffer.readInt16();
     int slotIndex = 0;
     try {
-      TreeMap<Integer, ObjectInputValidation> callbacks = new TreeMap<>(Collections.reverseOrder());
+      // Created lazily by `registerValidation`, which is rarely used.
+      TreeMap<Integer, ObjectInputValidation> callbacks = null;
       for (int i = 0; i < numClasses; i++) {
         Class<?> currentClass = classResolver.readClassInternal(buffer);
         SlotsInfo slotsInfo = slotsInfos[slotIndex++];
@@ -205,36 +208,39 @@ public class ObjectStreamSerializer extends Serializer {
           MemoryBuffer oldBuffer = objectInputStream.buffer;
           Object oldObject = objectInputStream.targetObject;
           FuryObjectInputStream.GetFieldImpl oldGetField = objectInputStream.getField;
-          FuryObjectInputStream.GetFieldImpl getField =
-              (FuryObjectInputStream.GetFieldImpl) slotsInfo.getFieldPool.popOrNull();
-          if (getField == null) {
-            getField = new FuryObjectInputStream.GetFieldImpl(slotsInfo);
-          }
+          TreeMap<Integer, ObjectInputValidation> oldCallbacks = objectInputStream.callbacks;
           boolean fieldsRead = objectInputStream.fieldsRead;
           try {
             objectInputStream.fieldsRead = false;
             objectInputStream.buffer = buffer;
             objectInputStream.targetObject = obj;
-            objectInputStream.getField = getField;
+            // `GetField` will be taken from pool only if `readFields` is invoked.
+            objectInputStream.getField = null;
             objectInputStream.callbacks = callbacks;
             if (streamClassInfo.readObjectFunc != null) {
               streamClassInfo.readObjectFunc.accept(obj, objectInputStream);
             } else {
               readObjectMethod.invoke(obj, objectInputStream);
             }
+            callbacks = objectInputStream.callbacks;
           } finally {
+            FuryObjectInputStream.GetFieldImpl getField = objectInputStream.getField;
+            if (getField != null) {
+              Arrays.fill(getField.vals, FuryObjectInputStream.NO_VALUE_STUB);
+              slotsInfo.getFieldPool.add(getField);
+            }
             objectInputStream.fieldsRead = fieldsRead;
             objectInputStream.buffer = oldBuffer;
             objectInputStream.targetObject = oldObject;
             objectInputStream.getField = oldGetField;
-            slotsInfo.getFieldPool.add(getField);
-            objectInputStream.callbacks = null;
-            Arrays.fill(getField.vals, FuryObjectInputStream.NO_VALUE_STUB);
+            objectInputStream.callbacks = oldCallbacks;
           }
         }
       }
-      for (ObjectInputValidation validation : callbacks.values()) {
-        validation.validateObject();
+      if (callbacks != null) {
+        for (ObjectInputValidation validation : callbacks.values()) {
+          validation.validateObject();
+        }
       }
     } catch (InvocationTargetException | IllegalAccessException | InvalidObjectException e) {
       throwSerializationException(type, e);
@@ -327,7 +333,12 @@ public class ObjectStreamSerializer extends Serializer {
 
     public SlotsInfo(Fury fury, Class<?> type) {
       this.cls = type;
-      classInfo = fury.getClassResolver().newClassInfo(type, null, ClassResolver.NO_CLASS_ID);
+      ClassResolver classResolver = fury.getClassResolver();
+      // Write registered class id instead of class name bytes for every slot if possible.
+      Short classId = classResolver.getRegisteredClassId(type);
+      classInfo =
+          classResolver.newClassInfo(
+              type, null, classId == null ? ClassResolver.NO_CLASS_ID : classId);
       ObjectStreamClass objectStreamClass = ObjectStreamClass.lookup(type);
       streamClassInfo = STREAM_CLASS_INFO_CACHE.get(type);
       // `putFields/writeFields` will convert to fields value to be written by
@@ -842,6 +853,11 @@ public class ObjectStreamSerializer extends Serializer {
       if (fieldsRead) {
         throw new NotActiveException("not in readObject invocation or fields already read");
       }
+      GetFieldImpl getField = (GetFieldImpl) slotsInfo.getFieldPool.popOrNull();
+      if (getField == null) {
+        getField = new GetFieldImpl(slotsInfo);
+      }
+      this.getField = getField;
       slotsInfo.compatibleStreamSerializer.readFields(buffer, getField.vals);
       fieldsRead = true;
       return getField;
@@ -869,6 +885,9 @@ public class ObjectStreamSerializer extends Serializer {
       if (obj == null) {
         throw new InvalidObjectException("null callback");
       }
+      if (callbacks == null) {
+        callbacks = new TreeMap<>(Collections.reverseOrder());
+      }
       callbacks.put(prio, obj);
     }
 
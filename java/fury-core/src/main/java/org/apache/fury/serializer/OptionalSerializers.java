@@ -47,6 +47,11 @@ public final class OptionalSerializers {
     public Optional read(MemoryBuffer buffer) {
       return Optional.ofNullable(fury.readRef(buffer));
     }
+
+    @Override
+    public Optional copy(Optional value) {
+      return value.isPresent() ? Optional.of(fury.copyObject(value.get())) : value;
+    }
   }
 
   public static final class OptionalIntSerializer extends Serializer<OptionalInt> {
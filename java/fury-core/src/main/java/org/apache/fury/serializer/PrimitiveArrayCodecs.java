@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.serializer;
+
+import org.apache.fury.Fury;
+import org.apache.fury.config.ArrayEncoding;
+import org.apache.fury.memory.MemoryBuffer;
+
+/**
+ * Codecs for <code>int[]</code>/<code>long[]</code> configured by {@link ArrayEncoding}. Data
+ * format is <code>| encoding ordinal byte | number of elements as var uint32 | payload |</code>.
+ * Arrays of {@link ArrayEncoding#RAW} are written by array serializers directly without header, so
+ * it's not a valid encoding here.
+ *
+ * <p>Written data are flushed every block of elements by {@link Fury#tryFlushStream}, so large
+ * arrays won't be buffered as a whole when writing to a stream.
+ */
+public class PrimitiveArrayCodecs {
+  /** Number of elements in a block of {@link ArrayEncoding#BIT_PACKING}. */
+  public static final int BLOCK_SIZE = 128;
+
+  private static final ArrayEncoding[] ENCODINGS = ArrayEncoding.values();
+
+  public static void writeInts(
+      Fury fury, MemoryBuffer buffer, int[] values, ArrayEncoding encoding) {
+    buffer.writeByte((byte) encoding.ordinal());
+    switch (encoding) {
+      case VARINT:
+        buffer.writeVarUint32Small7(values.length);
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          for (int i = start; i < end; i++) {
+            buffer.writeVarInt32(values[i]);
+          }
+          fury.tryFlushStream(buffer);
+        }
+        break;
+      case DELTA:
+        buffer.writeVarUint32Small7(values.length);
+        int prev = 0;
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          for (int i = start; i < end; i++) {
+            int value = values[i];
+            buffer.writeVarInt32(value - prev);
+            prev = value;
+          }
+          fury.tryFlushStream(buffer);
+        }
+        break;
+      case BIT_PACKING:
+        buffer.writeVarUint32Small7(values.length);
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          int min = values[start];
+          int max = min;
+          for (int i = start + 1; i < end; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+          }
+          int bitWidth = 64 - Long.numberOfLeadingZeros((long) max - min);
+          buffer.writeVarInt32(min);
+          buffer.writeByte((byte) bitWidth);
+          long bits = 0;
+          int numBits = 0;
+          for (int i = start; i < end; i++) {
+            bits |= ((long) values[i] - min) << numBits;
+            numBits += bitWidth;
+            while (numBits >= 8) {
+              buffer.writeByte((byte) bits);
+              bits >>>= 8;
+              numBits -= 8;
+            }
+          }
+          if (numBits > 0) {
+            buffer.writeByte((byte) bits);
+          }
+          fury.tryFlushStream(buffer);
+        }
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported encoding " + encoding);
+    }
+  }
+
+  public static int[] readInts(MemoryBuffer buffer) {
+    ArrayEncoding encoding = readEncoding(buffer);
+    int[] values = new int[buffer.readVarUint32Small7()];
+    switch (encoding) {
+      case VARINT:
+        for (int i = 0; i < values.length; i++) {
+          values[i] = buffer.readVarInt32();
+        }
+        break;
+      case DELTA:
+        int prev = 0;
+        for (int i = 0; i < values.length; i++) {
+          prev += buffer.readVarInt32();
+          values[i] = prev;
+        }
+        break;
+      default:
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          int min = buffer.readVarInt32();
+          int bitWidth = buffer.readByte();
+          long mask = (1L << bitWidth) - 1;
+          long bits = 0;
+          int numBits = 0;
+          for (int i = start; i < end; i++) {
+            while (numBits < bitWidth) {
+              bits |= (buffer.readByte() & 0xFFL) << numBits;
+              numBits += 8;
+            }
+            values[i] = (int) (min + (bits & mask));
+            bits >>>= bitWidth;
+            numBits -= bitWidth;
+          }
+        }
+    }
+    return values;
+  }
+
+  public static void writeLongs(
+      Fury fury, MemoryBuffer buffer, long[] values, ArrayEncoding encoding) {
+    buffer.writeByte((byte) encoding.ordinal());
+    switch (encoding) {
+      case VARINT:
+        buffer.writeVarUint32Small7(values.length);
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          for (int i = start; i < end; i++) {
+            buffer.writeVarInt64(values[i]);
+          }
+          fury.tryFlushStream(buffer);
+        }
+        break;
+      case DELTA:
+        buffer.writeVarUint32Small7(values.length);
+        long prev = 0;
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          for (int i = start; i < end; i++) {
+            long value = values[i];
+            buffer.writeVarInt64(value - prev);
+            prev = value;
+          }
+          fury.tryFlushStream(buffer);
+        }
+        break;
+      case BIT_PACKING:
+        buffer.writeVarUint32Small7(values.length);
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          long min = values[start];
+          long max = min;
+          for (int i = start + 1; i < end; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+          }
+          // `max - min` may overflow, but it's still right as an unsigned long.
+          int bitWidth = 64 - Long.numberOfLeadingZeros(max - min);
+          buffer.writeVarInt64(min);
+          buffer.writeByte((byte) bitWidth);
+          long bits = 0;
+          int numBits = 0;
+          for (int i = start; i < end; i++) {
+            long offset = values[i] - min;
+            int width = bitWidth;
+            if (width > 56) {
+              // Less than 8 bits are pending, write low 32 bits first to avoid losing high bits.
+              bits |= (offset & 0xFFFFFFFFL) << numBits;
+              numBits += 32;
+              offset >>>= 32;
+              width -= 32;
+              while (numBits >= 8) {
+                buffer.writeByte((byte) bits);
+                bits >>>= 8;
+                numBits -= 8;
+              }
+            }
+            bits |= offset << numBits;
+            numBits += width;
+            while (numBits >= 8) {
+              buffer.writeByte((byte) bits);
+              bits >>>= 8;
+              numBits -= 8;
+            }
+          }
+          if (numBits > 0) {
+            buffer.writeByte((byte) bits);
+          }
+          fury.tryFlushStream(buffer);
+        }
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported encoding " + encoding);
+    }
+  }
+
+  public static long[] readLongs(MemoryBuffer buffer) {
+    ArrayEncoding encoding = readEncoding(buffer);
+    long[] values = new long[buffer.readVarUint32Small7()];
+    switch (encoding) {
+      case VARINT:
+        for (int i = 0; i < values.length; i++) {
+          values[i] = buffer.readVarInt64();
+        }
+        break;
+      case DELTA:
+        long prev = 0;
+        for (int i = 0; i < values.length; i++) {
+          prev += buffer.readVarInt64();
+          values[i] = prev;
+        }
+        break;
+      default:
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+          int end = Math.min(start + BLOCK_SIZE, values.length);
+          long min = buffer.readVarInt64();
+          int bitWidth = buffer.readByte();
+          long bits = 0;
+          int numBits = 0;
+          for (int i = start; i < end; i++) {
+            long offset;
+            if (bitWidth > 56) {
+              while (numBits < 32) {
+                bits |= (buffer.readByte() & 0xFFL) << numBits;
+                numBits += 8;
+              }
+              offset = bits & 0xFFFFFFFFL;
+              bits >>>= 32;
+              numBits -= 32;
+              int highWidth = bitWidth - 32;
+              while (numBits < highWidth) {
+                bits |= (buffer.readByte() & 0xFFL) << numBits;
+                numBits += 8;
+              }
+              offset |= (bits & ((1L << highWidth) - 1)) << 32;
+              bits >>>= highWidth;
+              numBits -= highWidth;
+            } else {
+              while (numBits < bitWidth) {
+                bits |= (buffer.readByte() & 0xFFL) << numBits;
+                numBits += 8;
+              }
+              offset = bits & ((1L << bitWidth) - 1);
+              bits >>>= bitWidth;
+              numBits -= bitWidth;
+            }
+            values[i] = min + offset;
+          }
+        }
+    }
+    return values;
+  }
+
+  private static ArrayEncoding readEncoding(MemoryBuffer buffer) {
+    byte ordinal = buffer.readByte();
+    if (ordinal <= ArrayEncoding.RAW.ordinal() || ordinal >= ENCODINGS.length) {
+      throw new IllegalStateException("Unknown array encoding " + ordinal);
+    }
+    return ENCODINGS[ordinal];
+  }
+}
@@ -38,6 +38,7 @@ public abstract class Serializer<T> {
   protected final Class<T> type;
   protected final boolean isJava;
   protected final boolean needToWriteRef;
+  protected final boolean immutable;
 
   public void write(MemoryBuffer buffer, T value) {
     throw new UnsupportedOperationException();
@@ -47,6 +48,20 @@ public abstract class Serializer<T> {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Deep copy <code>value</code> for {@link Fury#copy}. Immutable values are returned directly,
+   * other values are copied by a serialization round trip by default. Subclasses should override
+   * this method to copy fields directly, nested objects should be copied by {@link
+   * Fury#copyObject}, and the new object should be registered by {@link Fury#reference} before
+   * copying nested objects which may reference it.
+   */
+  public T copy(T value) {
+    if (immutable) {
+      return value;
+    }
+    return fury.copyBySerialization(value);
+  }
+
   /**
    * Returns {@link Fury#NOT_SUPPORT_CROSS_LANGUAGE} if the serializer doesn't support
    * cross-language serialization. Return a number in range (0, 32767) if the serializer support
@@ -77,23 +92,41 @@ public abstract class Serializer<T> {
     this.type = type;
     this.isJava = fury.getLanguage() == Language.JAVA;
     if (fury.trackingRef()) {
-      needToWriteRef = !TypeUtils.isBoxed(TypeUtils.wrap(type)) || !fury.isBasicTypesRefIgnored();
+      needToWriteRef =
+          (!TypeUtils.isBoxed(TypeUtils.wrap(type)) || !fury.isBasicTypesRefIgnored())
+              && fury.getClassResolver().isRefTrackingEnabled(type);
     } else {
       needToWriteRef = false;
     }
+    this.immutable = TypeUtils.isImmutable(type);
   }
 
   public Serializer(Fury fury, Class<T> type, boolean needToWriteRef) {
+    this(fury, type, needToWriteRef, TypeUtils.isImmutable(type));
+  }
+
+  public Serializer(Fury fury, Class<T> type, boolean needToWriteRef, boolean immutable) {
     this.fury = fury;
     this.type = type;
     this.isJava = fury.getLanguage() == Language.JAVA;
     this.needToWriteRef = needToWriteRef;
+    this.immutable = immutable;
   }
 
+  /**
+   * Returns whether objects of this serializer are tracked by reference. If false, no reference id
+   * is preserved for objects of this serializer when reading, so {@link #read} must not invoke
+   * {@link org.apache.fury.resolver.RefResolver#reference}.
+   */
   public final boolean needToWriteRef() {
     return needToWriteRef;
   }
 
+  /** Returns true if objects of this serializer are shared instead of copied by {@link #copy}. */
+  public final boolean isImmutable() {
+    return immutable;
+  }
+
   public Class<T> getType() {
     return type;
   }
@@ -26,6 +26,7 @@ import com.google.common.cache.CacheBuilder;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
@@ -44,6 +45,7 @@ import java.util.function.ToIntFunction;
 import java.util.regex.Pattern;
 import org.apache.fury.Fury;
 import org.apache.fury.collection.Tuple2;
+import org.apache.fury.config.Config;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.reflect.ReflectionUtils;
@@ -177,6 +179,40 @@ public class Serializers {
     }
   }
 
+  /** Skip a primitive value written by {@link #readPrimitiveValue} without boxing it. */
+  public static void skipPrimitiveValue(Fury fury, MemoryBuffer buffer, short classId) {
+    switch (classId) {
+      case ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID:
+      case ClassResolver.PRIMITIVE_BYTE_CLASS_ID:
+        buffer.increaseReaderIndex(1);
+        return;
+      case ClassResolver.PRIMITIVE_CHAR_CLASS_ID:
+      case ClassResolver.PRIMITIVE_SHORT_CLASS_ID:
+        buffer.increaseReaderIndex(2);
+        return;
+      case ClassResolver.PRIMITIVE_INT_CLASS_ID:
+        if (fury.compressInt()) {
+          buffer.readVarInt32();
+        } else {
+          buffer.increaseReaderIndex(4);
+        }
+        return;
+      case ClassResolver.PRIMITIVE_FLOAT_CLASS_ID:
+        buffer.increaseReaderIndex(4);
+        return;
+      case ClassResolver.PRIMITIVE_LONG_CLASS_ID:
+        fury.readInt64(buffer);
+        return;
+      case ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID:
+        buffer.increaseReaderIndex(8);
+        return;
+      default:
+        {
+          throw new IllegalStateException("unreachable");
+        }
+    }
+  }
+
   public abstract static class CrossLanguageCompatibleSerializer<T> extends Serializer<T> {
     private final short typeId;
 
@@ -279,6 +315,11 @@ public class Serializers {
       return new StringBuilder(stringSerializer.readJavaString(buffer));
     }
 
+    @Override
+    public StringBuilder copy(StringBuilder value) {
+      return new StringBuilder(value);
+    }
+
     @Override
     public StringBuilder xread(MemoryBuffer buffer) {
       return new StringBuilder(stringSerializer.readUTF8String(buffer));
@@ -297,53 +338,144 @@ public class Serializers {
       return new StringBuffer(stringSerializer.readJavaString(buffer));
     }
 
+    @Override
+    public StringBuffer copy(StringBuffer value) {
+      return new StringBuffer(value);
+    }
+
     @Override
     public StringBuffer xread(MemoryBuffer buffer) {
       return new StringBuffer(stringSerializer.readUTF8String(buffer));
     }
   }
 
+  /**
+   * Serializer for {@link BigDecimal}. By default scale, precision and two's-complement bytes of
+   * unscaled value are written. If {@link Config#compressBigNumber()} is enabled, a header with
+   * zigzag encoded scale is written first, the lowest bit of header marks whether the unscaled
+   * value fits in a long. If it fits, unscaled value is written as a zigzag varint64, otherwise as
+   * a two's-complement byte array.
+   */
   public static final class BigDecimalSerializer extends Serializer<BigDecimal> {
+    // Make offset compatible with graalvm native image.
+    private static final Field INT_COMPACT_FIELD;
+    private static final long INT_COMPACT_FIELD_OFFSET;
+    // `BigDecimal.intCompact` is `Long.MIN_VALUE` if unscaled value doesn't fit in a long.
+    private static final long INFLATED = Long.MIN_VALUE;
+
+    static {
+      INT_COMPACT_FIELD = ReflectionUtils.getFieldNullable(BigDecimal.class, "intCompact");
+      INT_COMPACT_FIELD_OFFSET =
+          INT_COMPACT_FIELD == null ? -1 : Platform.objectFieldOffset(INT_COMPACT_FIELD);
+    }
+
+    private final boolean compressBigNumber;
+
     public BigDecimalSerializer(Fury fury) {
       super(fury, BigDecimal.class);
+      compressBigNumber = fury.getConfig().compressBigNumber();
     }
 
     @Override
     public void write(MemoryBuffer buffer, BigDecimal value) {
-      final byte[] bytes = value.unscaledValue().toByteArray();
-      buffer.writeVarUint32Small7(value.scale());
-      buffer.writeVarUint32Small7(value.precision());
-      buffer.writeVarUint32Small7(bytes.length);
-      buffer.writeBytes(bytes);
+      if (!compressBigNumber) {
+        final byte[] bytes = value.unscaledValue().toByteArray();
+        buffer.writeVarUint32Small7(value.scale());
+        buffer.writeVarUint32Small7(value.precision());
+        buffer.writeVarUint32Small7(bytes.length);
+        buffer.writeBytes(bytes);
+        return;
+      }
+      int scale = value.scale();
+      long header = (((scale << 1) ^ (scale >> 31)) & 0xFFFFFFFFL) << 1;
+      long unscaledValue = unscaledLongValue(value);
+      if (unscaledValue != INFLATED) {
+        buffer.writeVarUint64(header);
+        buffer.writeVarInt64(unscaledValue);
+      } else {
+        final byte[] bytes = value.unscaledValue().toByteArray();
+        buffer.writeVarUint64(header | 1);
+        buffer.writeVarUint32Small7(bytes.length);
+        buffer.writeBytes(bytes);
+      }
+    }
+
+    private static long unscaledLongValue(BigDecimal value) {
+      if (INT_COMPACT_FIELD_OFFSET != -1) {
+        // Read compact value directly to avoid creating `BigInteger` for unscaled value.
+        return Platform.getLong(value, INT_COMPACT_FIELD_OFFSET);
+      }
+      BigInteger unscaledValue = value.unscaledValue();
+      return unscaledValue.bitLength() < 64 ? unscaledValue.longValue() : INFLATED;
     }
 
     @Override
     public BigDecimal read(MemoryBuffer buffer) {
-      int scale = buffer.readVarUint32Small7();
-      int precision = buffer.readVarUint32Small7();
+      if (!compressBigNumber) {
+        int scale = buffer.readVarUint32Small7();
+        int precision = buffer.readVarUint32Small7();
+        int len = buffer.readVarUint32Small7();
+        byte[] bytes = buffer.readBytes(len);
+        final BigInteger bigInteger = new BigInteger(bytes);
+        return new BigDecimal(bigInteger, scale, new MathContext(precision));
+      }
+      long header = buffer.readVarUint64();
+      int zigzagScale = (int) (header >>> 1);
+      int scale = (zigzagScale >>> 1) ^ -(zigzagScale & 1);
+      if ((header & 1) == 0) {
+        return BigDecimal.valueOf(buffer.readVarInt64(), scale);
+      }
       int len = buffer.readVarUint32Small7();
       byte[] bytes = buffer.readBytes(len);
-      final BigInteger bigInteger = new BigInteger(bytes);
-      return new BigDecimal(bigInteger, scale, new MathContext(precision));
+      return new BigDecimal(new BigInteger(bytes), scale);
     }
   }
 
+  /**
+   * Serializer for {@link BigInteger}. By default byte array length and two's-complement bytes are
+   * written. If {@link Config#compressBigNumber()} is enabled, values which fit in 63 bits are
+   * written as a zigzag varint shifted left by one bit, otherwise byte array length with lowest bit
+   * set is written before two's-complement bytes.
+   */
   public static final class BigIntegerSerializer extends Serializer<BigInteger> {
+    private final boolean compressBigNumber;
+
     public BigIntegerSerializer(Fury fury) {
       super(fury, BigInteger.class);
+      compressBigNumber = fury.getConfig().compressBigNumber();
     }
 
     @Override
     public void write(MemoryBuffer buffer, BigInteger value) {
-      final byte[] bytes = value.toByteArray();
-      buffer.writeVarUint32Small7(bytes.length);
-      buffer.writeBytes(bytes);
+      if (!compressBigNumber) {
+        final byte[] bytes = value.toByteArray();
+        buffer.writeVarUint32Small7(bytes.length);
+        buffer.writeBytes(bytes);
+        return;
+      }
+      if (value.bitLength() < 63) {
+        long v = value.longValue();
+        buffer.writeVarUint64(((v << 1) ^ (v >> 63)) << 1);
+      } else {
+        final byte[] bytes = value.toByteArray();
+        buffer.writeVarUint64(((long) bytes.length << 1) | 1);
+        buffer.writeBytes(bytes);
+      }
     }
 
     @Override
     public BigInteger read(MemoryBuffer buffer) {
-      int len = buffer.readVarUint32Small7();
-      byte[] bytes = buffer.readBytes(len);
+      if (!compressBigNumber) {
+        int len = buffer.readVarUint32Small7();
+        byte[] bytes = buffer.readBytes(len);
+        return new BigInteger(bytes);
+      }
+      long header = buffer.readVarUint64();
+      if ((header & 1) == 0) {
+        long zigzag = header >>> 1;
+        return BigInteger.valueOf((zigzag >>> 1) ^ -(zigzag & 1));
+      }
+      byte[] bytes = buffer.readBytes((int) (header >>> 1));
       return new BigInteger(bytes);
     }
   }
@@ -363,6 +495,11 @@ public class Serializers {
     public AtomicBoolean read(MemoryBuffer buffer) {
       return new AtomicBoolean(buffer.readBoolean());
     }
+
+    @Override
+    public AtomicBoolean copy(AtomicBoolean value) {
+      return new AtomicBoolean(value.get());
+    }
   }
 
   public static final class AtomicIntegerSerializer extends Serializer<AtomicInteger> {
@@ -380,6 +517,11 @@ public class Serializers {
     public AtomicInteger read(MemoryBuffer buffer) {
       return new AtomicInteger(buffer.readInt32());
     }
+
+    @Override
+    public AtomicInteger copy(AtomicInteger value) {
+      return new AtomicInteger(value.get());
+    }
   }
 
   public static final class AtomicLongSerializer extends Serializer<AtomicLong> {
@@ -397,6 +539,11 @@ public class Serializers {
     public AtomicLong read(MemoryBuffer buffer) {
       return new AtomicLong(buffer.readInt64());
     }
+
+    @Override
+    public AtomicLong copy(AtomicLong value) {
+      return new AtomicLong(value.get());
+    }
   }
 
   public static final class AtomicReferenceSerializer extends Serializer<AtomicReference> {
@@ -414,6 +561,14 @@ public class Serializers {
     public AtomicReference read(MemoryBuffer buffer) {
       return new AtomicReference(fury.readRef(buffer));
     }
+
+    @Override
+    public AtomicReference copy(AtomicReference value) {
+      AtomicReference newValue = new AtomicReference();
+      fury.reference(value, newValue);
+      newValue.set(fury.copyObject(value.get()));
+      return newValue;
+    }
   }
 
   public static final class CurrencySerializer extends Serializer<Currency> {
@@ -71,6 +71,8 @@ public final class StringSerializer extends Serializer<String> {
   private static class Offset {
     // Make offset compatible with graalvm native image.
     private static final long STRING_CODER_FIELD_OFFSET;
+    // Latin strings can't be created if compact strings is disabled by `-XX:-CompactStrings`.
+    private static final boolean COMPACT_STRINGS;
 
     static {
       try {
@@ -79,6 +81,8 @@ public final class StringSerializer extends Serializer<String> {
       } catch (NoSuchFieldException e) {
         throw new RuntimeException(e);
       }
+      COMPACT_STRINGS =
+          Platform.getByte(new String(new char[] {'a'}), STRING_CODER_FIELD_OFFSET) == LATIN1;
     }
   }
 
@@ -149,7 +153,7 @@ public final class StringSerializer extends Serializer<String> {
   public Expression writeStringExpr(Expression strSerializer, Expression buffer, Expression str) {
     if (isJava) {
       if (STRING_VALUE_FIELD_IS_BYTES) {
-        return new StaticInvoke(StringSerializer.class, "writeBytesString", buffer, str);
+        return new Invoke(strSerializer, "writeJavaString", buffer, str);
       } else {
         if (!STRING_VALUE_FIELD_IS_CHARS) {
           throw new UnsupportedOperationException();
@@ -168,9 +172,7 @@ public final class StringSerializer extends Serializer<String> {
   // Invoked by jit
   public void writeCharsStringCompressed(MemoryBuffer buffer, String value) {
     final char[] chars = (char[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
-    if (StringUtils.isLatin(chars)) {
-      writeCharsLatin(buffer, chars, chars.length);
-    } else {
+    if (!tryWriteCharsLatin(buffer, chars, chars.length)) {
       writeCharsUTF16(buffer, chars, chars.length);
     }
   }
@@ -179,7 +181,7 @@ public final class StringSerializer extends Serializer<String> {
   public void writeCharsStringUncompressed(MemoryBuffer buffer, String value) {
     int numBytes = MathUtils.doubleExact(value.length());
     final char[] chars = (char[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
-    buffer.writePrimitiveArrayWithSize(chars, Platform.CHAR_ARRAY_OFFSET, numBytes);
+    fury.writePrimitiveArrayWithSize(buffer, chars, Platform.CHAR_ARRAY_OFFSET, numBytes);
   }
 
   public String readString(MemoryBuffer buffer) {
@@ -216,6 +218,9 @@ public final class StringSerializer extends Serializer<String> {
     long header = buffer.readVarUint36Small();
     byte coder = (byte) (header & 0b11);
     int numBytes = (int) (header >>> 2);
+    if (coder == UTF8) {
+      return readUTF8Bytes(buffer, numBytes);
+    }
     buffer.checkReadableBytes(numBytes);
     byte[] bytes;
     byte[] heapMemory = buffer.getHeapMemory();
@@ -225,13 +230,10 @@ public final class StringSerializer extends Serializer<String> {
       bytes = new byte[numBytes];
       System.arraycopy(heapMemory, arrIndex, bytes, 0, numBytes);
     } else {
+      // Copy off-heap bytes into value array of the string directly.
       bytes = buffer.readBytes(numBytes);
     }
-    if (coder != UTF8) {
-      return newBytesStringZeroCopy(coder, bytes);
-    } else {
-      return new String(bytes, 0, numBytes, StandardCharsets.UTF_8);
-    }
+    return newBytesStringZeroCopy(coder, bytes);
   }
 
   @CodegenInvoke
@@ -250,8 +252,7 @@ public final class StringSerializer extends Serializer<String> {
 
   private String readUtf8(MemoryBuffer buffer, byte coder, int numBytes) {
     Preconditions.checkArgument(coder == UTF8, UTF8);
-    byte[] bytes = buffer.readBytes(numBytes);
-    return new String(bytes, 0, numBytes, StandardCharsets.UTF_8);
+    return readUTF8Bytes(buffer, numBytes);
   }
 
   private byte[] getByteArray(int numElements) {
@@ -273,19 +274,29 @@ public final class StringSerializer extends Serializer<String> {
   // Invoked by fury JIT
   public void writeJavaString(MemoryBuffer buffer, String value) {
     if (STRING_VALUE_FIELD_IS_BYTES) {
-      writeBytesString(buffer, value);
+      byte[] bytes = (byte[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
+      if (bytes.length <= Fury.STREAM_CHUNK_SIZE) {
+        writeBytesString(buffer, value);
+      } else {
+        // Large strings may be flushed in chunks when writing to a stream.
+        long header =
+            ((long) bytes.length << 2) | Platform.getByte(value, Offset.STRING_CODER_FIELD_OFFSET);
+        int writerIndex = buffer.writerIndex();
+        buffer.ensure(writerIndex + 9);
+        buffer._unsafeWriterIndex(
+            writerIndex + buffer._unsafePutVarUint36Small(writerIndex, header));
+        fury.writePrimitiveArray(buffer, bytes, Platform.BYTE_ARRAY_OFFSET, bytes.length);
+      }
     } else {
       assert STRING_VALUE_FIELD_IS_CHARS;
       final char[] chars = (char[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
       if (compressString) {
-        if (StringUtils.isLatin(chars)) {
-          writeCharsLatin(buffer, chars, chars.length);
-        } else {
+        if (!tryWriteCharsLatin(buffer, chars, chars.length)) {
           writeCharsUTF16(buffer, chars, chars.length);
         }
       } else {
         int numBytes = MathUtils.doubleExact(value.length());
-        buffer.writePrimitiveArrayWithSize(chars, Platform.CHAR_ARRAY_OFFSET, numBytes);
+        fury.writePrimitiveArrayWithSize(buffer, chars, Platform.CHAR_ARRAY_OFFSET, numBytes);
       }
     }
   }
@@ -304,6 +315,16 @@ public final class StringSerializer extends Serializer<String> {
     }
   }
 
+  /** Skip a string written by {@link #writeJavaString} without decoding it. */
+  public void skipJavaString(MemoryBuffer buffer) {
+    if (STRING_VALUE_FIELD_IS_BYTES || compressString) {
+      long header = buffer.readVarUint36Small();
+      buffer.increaseReaderIndex((int) (header >>> 2));
+    } else {
+      buffer.increaseReaderIndex(buffer.readBinarySize());
+    }
+  }
+
   public static void writeBytesString(MemoryBuffer buffer, String value) {
     byte[] bytes = (byte[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
     int bytesLen = bytes.length;
@@ -333,6 +354,16 @@ public final class StringSerializer extends Serializer<String> {
   }
 
   public void writeCharsLatin(MemoryBuffer buffer, char[] chars, final int strLen) {
+    if (!tryWriteCharsLatin(buffer, chars, strLen)) {
+      throw new IllegalArgumentException("Chars contain non-latin char");
+    }
+  }
+
+  /**
+   * Write chars as latin string if all chars are latin, otherwise return false and leave writer
+   * index unchanged. Latin check is fused with compression to avoid scanning chars twice.
+   */
+  private boolean tryWriteCharsLatin(MemoryBuffer buffer, char[] chars, final int strLen) {
     int writerIndex = buffer.writerIndex();
     // The `ensure` ensure next operations are safe without bound checks,
     // and inner heap buffer doesn't change.
@@ -342,23 +373,22 @@ public final class StringSerializer extends Serializer<String> {
     if (targetArray != null) {
       int arrIndex = buffer._unsafeHeapWriterIndex();
       int written = LittleEndian.putVarUint36Small(targetArray, arrIndex, header);
-      arrIndex += written;
-      writerIndex += written + strLen;
-      for (int i = 0; i < strLen; i++) {
-        targetArray[arrIndex + i] = (byte) chars[i];
+      if (!StringUtils.compressLatin(chars, targetArray, arrIndex + written, strLen)) {
+        return false;
       }
-      buffer._unsafeWriterIndex(writerIndex);
+      writerIndex += written + strLen;
     } else {
-      writerIndex += buffer._unsafePutVarUint36Small(writerIndex, header);
       final byte[] tmpArray = getByteArray(strLen);
       // Write to heap memory then copy is 60% faster than unsafe write to direct memory.
-      for (int i = 0; i < strLen; i++) {
-        tmpArray[i] = (byte) chars[i];
+      if (!StringUtils.compressLatin(chars, tmpArray, 0, strLen)) {
+        return false;
       }
+      writerIndex += buffer._unsafePutVarUint36Small(writerIndex, header);
       buffer.put(writerIndex, tmpArray, 0, strLen);
       writerIndex += strLen;
-      buffer._unsafeWriterIndex(writerIndex);
     }
+    buffer._unsafeWriterIndex(writerIndex);
+    return true;
   }
 
   public void writeCharsUTF16(MemoryBuffer buffer, char[] chars, int strLen) {
@@ -422,18 +452,13 @@ public final class StringSerializer extends Serializer<String> {
     buffer.checkReadableBytes(numBytes);
     byte[] targetArray = buffer.getHeapMemory();
     if (targetArray != null) {
-      int srcIndex = buffer._unsafeHeapReaderIndex();
-      for (int i = 0; i < numBytes; i++) {
-        chars[i] = (char) (targetArray[srcIndex++] & 0xff);
-      }
-      buffer._increaseReaderIndexUnsafe(numBytes);
+      StringUtils.inflateLatin(targetArray, buffer._unsafeHeapReaderIndex(), chars, numBytes);
     } else {
-      byte[] byteArray = getByteArray(numBytes);
-      buffer.readBytes(byteArray, 0, numBytes);
-      for (int i = 0; i < numBytes; i++) {
-        chars[i] = (char) (byteArray[i] & 0xff);
-      }
+      // Inflate off-heap bytes into chars directly without a temp copy.
+      StringUtils.inflateLatin(
+          null, buffer.getUnsafeAddress() + buffer.readerIndex(), chars, numBytes);
     }
+    buffer._increaseReaderIndexUnsafe(numBytes);
     return chars;
   }
 
@@ -604,25 +629,190 @@ public final class StringSerializer extends Serializer<String> {
   }
 
   public void writeUTF8String(MemoryBuffer buffer, String value) {
-    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
-    buffer.writeVarUint32(bytes.length);
-    buffer.writeBytes(bytes);
+    // Encode string value into buffer directly instead of `String.getBytes`, which allocates
+    // a temp array and copies it again.
+    if (STRING_VALUE_FIELD_IS_BYTES) {
+      byte[] bytes = (byte[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
+      if (Platform.getByte(value, Offset.STRING_CODER_FIELD_OFFSET) == LATIN1) {
+        if (StringUtils.isAscii(bytes, 0, bytes.length)) {
+          buffer.writeVarUint32(bytes.length);
+          buffer.writeBytes(bytes);
+        } else {
+          writeLatinUTF8(buffer, bytes);
+        }
+      } else {
+        writeCharsUTF8(buffer, bytes, Platform.BYTE_ARRAY_OFFSET, bytes.length >> 1);
+      }
+    } else if (STRING_VALUE_FIELD_IS_CHARS) {
+      char[] chars = (char[]) Platform.getObject(value, STRING_VALUE_FIELD_OFFSET);
+      if (StringUtils.isAscii(chars)) {
+        buffer.writeVarUint32(chars.length);
+        writeCharsAscii(buffer, chars);
+      } else {
+        writeCharsUTF8(buffer, chars, Platform.CHAR_ARRAY_OFFSET, chars.length);
+      }
+    } else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      buffer.writeVarUint32(bytes.length);
+      buffer.writeBytes(bytes);
+    }
+  }
+
+  private void writeCharsAscii(MemoryBuffer buffer, char[] chars) {
+    int numChars = chars.length;
+    int writerIndex = buffer.writerIndex();
+    buffer.ensure(writerIndex + numChars);
+    byte[] targetArray = buffer.getHeapMemory();
+    if (targetArray != null) {
+      StringUtils.compressLatin(chars, targetArray, buffer._unsafeHeapWriterIndex(), numChars);
+    } else {
+      byte[] tmpArray = getByteArray(numChars);
+      StringUtils.compressLatin(chars, tmpArray, 0, numChars);
+      buffer.put(writerIndex, tmpArray, 0, numChars);
+    }
+    buffer._unsafeWriterIndex(writerIndex + numChars);
+  }
+
+  private void writeLatinUTF8(MemoryBuffer buffer, byte[] bytes) {
+    int numBytes = bytes.length;
+    for (byte b : bytes) {
+      if (b < 0) {
+        numBytes++;
+      }
+    }
+    buffer.writeVarUint32(numBytes);
+    int writerIndex = buffer.writerIndex();
+    buffer.ensure(writerIndex + numBytes);
+    byte[] targetArray = buffer.getHeapMemory();
+    boolean offHeap = targetArray == null;
+    int index;
+    if (offHeap) {
+      // Write to heap memory then copy is faster than unsafe write to direct memory.
+      targetArray = getByteArray(numBytes);
+      index = 0;
+    } else {
+      index = buffer._unsafeHeapWriterIndex();
+    }
+    for (byte b : bytes) {
+      if (b >= 0) {
+        targetArray[index++] = b;
+      } else {
+        targetArray[index++] = (byte) (0xc0 | ((b & 0xff) >> 6));
+        targetArray[index++] = (byte) (0x80 | (b & 0x3f));
+      }
+    }
+    if (offHeap) {
+      buffer.put(writerIndex, targetArray, 0, numBytes);
+    }
+    buffer._unsafeWriterIndex(writerIndex + numBytes);
+  }
+
+  /**
+   * Encode utf16 chars in <code>chars</code>, which is a char[] or a byte[] of native order utf16
+   * chars, as utf8. Malformed surrogates are replaced by '?' as {@link String#getBytes} does.
+   */
+  private void writeCharsUTF8(MemoryBuffer buffer, Object chars, long offset, int numChars) {
+    int numBytes = numChars;
+    for (int i = 0; i < numChars; i++) {
+      char c = Platform.getChar(chars, offset + ((long) i << 1));
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          numBytes += 1;
+        } else if (!Character.isSurrogate(c)) {
+          numBytes += 2;
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < numChars
+            && Character.isLowSurrogate(Platform.getChar(chars, offset + ((long) (i + 1) << 1)))) {
+          // A surrogate pair is encoded as 4 bytes.
+          numBytes += 2;
+          i++;
+        }
+      }
+    }
+    buffer.writeVarUint32(numBytes);
+    int writerIndex = buffer.writerIndex();
+    buffer.ensure(writerIndex + numBytes);
+    byte[] targetArray = buffer.getHeapMemory();
+    boolean offHeap = targetArray == null;
+    int index;
+    if (offHeap) {
+      // Write to heap memory then copy is faster than unsafe write to direct memory.
+      targetArray = getByteArray(numBytes);
+      index = 0;
+    } else {
+      index = buffer._unsafeHeapWriterIndex();
+    }
+    for (int i = 0; i < numChars; i++) {
+      char c = Platform.getChar(chars, offset + ((long) i << 1));
+      if (c < 0x80) {
+        targetArray[index++] = (byte) c;
+      } else if (c < 0x800) {
+        targetArray[index++] = (byte) (0xc0 | (c >> 6));
+        targetArray[index++] = (byte) (0x80 | (c & 0x3f));
+      } else if (!Character.isSurrogate(c)) {
+        targetArray[index++] = (byte) (0xe0 | (c >> 12));
+        targetArray[index++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        targetArray[index++] = (byte) (0x80 | (c & 0x3f));
+      } else {
+        char low;
+        if (Character.isHighSurrogate(c)
+            && i + 1 < numChars
+            && Character.isLowSurrogate(
+                low = Platform.getChar(chars, offset + ((long) (i + 1) << 1)))) {
+          int codePoint = Character.toCodePoint(c, low);
+          targetArray[index++] = (byte) (0xf0 | (codePoint >> 18));
+          targetArray[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+          targetArray[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+          targetArray[index++] = (byte) (0x80 | (codePoint & 0x3f));
+          i++;
+        } else {
+          targetArray[index++] = '?';
+        }
+      }
+    }
+    if (offHeap) {
+      buffer.put(writerIndex, targetArray, 0, numBytes);
+    }
+    buffer._unsafeWriterIndex(writerIndex + numBytes);
   }
 
   public String readUTF8String(MemoryBuffer buffer) {
-    int numBytes = buffer.readVarUint32Small14();
+    return readUTF8Bytes(buffer, buffer.readVarUint32Small14());
+  }
+
+  private String readUTF8Bytes(MemoryBuffer buffer, int numBytes) {
     buffer.checkReadableBytes(numBytes);
     final byte[] targetArray = buffer.getHeapMemory();
     if (targetArray != null) {
-      String str =
-          new String(
-              targetArray, buffer._unsafeHeapReaderIndex(), numBytes, StandardCharsets.UTF_8);
+      int arrIndex = buffer._unsafeHeapReaderIndex();
       buffer.increaseReaderIndex(numBytes);
-      return str;
-    } else {
-      final byte[] tmpArray = getByteArray(numBytes);
-      buffer.readBytes(tmpArray, 0, numBytes);
-      return new String(tmpArray, 0, numBytes, StandardCharsets.UTF_8);
+      return newUTF8String(targetArray, arrIndex, numBytes);
+    }
+    // Ascii bytes in off-heap memory are copied into the final string value directly, other bytes
+    // are copied into a reused temp array for decoding.
+    long address = buffer.getUnsafeAddress() + buffer.readerIndex();
+    if (StringUtils.isAscii(null, address, numBytes)) {
+      if (STRING_VALUE_FIELD_IS_CHARS) {
+        char[] chars = new char[numBytes];
+        StringUtils.inflateLatin(null, address, chars, numBytes);
+        buffer._increaseReaderIndexUnsafe(numBytes);
+        return newCharsStringZeroCopy(chars);
+      } else if (STRING_VALUE_FIELD_IS_BYTES && Offset.COMPACT_STRINGS) {
+        return newBytesStringZeroCopy(LATIN1, buffer.readBytes(numBytes));
+      }
+    }
+    final byte[] tmpArray = getByteArray(numBytes);
+    buffer.readBytes(tmpArray, 0, numBytes);
+    return new String(tmpArray, 0, numBytes, StandardCharsets.UTF_8);
+  }
+
+  private static String newUTF8String(byte[] bytes, int index, int numBytes) {
+    // JDK9+ already checks ascii in a vectorized way and creates latin string directly.
+    if (STRING_VALUE_FIELD_IS_CHARS && StringUtils.isAscii(bytes, index, numBytes)) {
+      char[] chars = new char[numBytes];
+      StringUtils.inflateLatin(bytes, index, chars, numBytes);
+      return newCharsStringZeroCopy(chars);
     }
+    return new String(bytes, index, numBytes, StandardCharsets.UTF_8);
   }
 }
@@ -40,20 +40,28 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
 import org.apache.fury.Fury;
+import org.apache.fury.codegen.Expression;
+import org.apache.fury.codegen.Expression.Literal;
+import org.apache.fury.codegen.Expression.StaticInvoke;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.reflect.TypeRef;
 import org.apache.fury.type.Type;
 import org.apache.fury.util.DateTimeUtils;
 
 /** Serializers for all time related types. */
 public class TimeSerializers {
   public abstract static class TimeSerializer<T> extends Serializer<T> {
+    protected final boolean compressTime;
+    protected final long epochSecond;
 
     public TimeSerializer(Fury fury, Class<T> type) {
-      super(fury, type, !fury.getConfig().isTimeRefIgnored());
+      this(fury, type, !fury.getConfig().isTimeRefIgnored());
     }
 
     public TimeSerializer(Fury fury, Class<T> type, boolean needToWriteRef) {
       super(fury, type, needToWriteRef);
+      compressTime = fury.getConfig().compressTime();
+      epochSecond = fury.getConfig().timeEpochSecond();
     }
   }
 
@@ -68,14 +76,26 @@ public class TimeSerializers {
 
     @Override
     public void write(MemoryBuffer buffer, T value) {
-      buffer.writeInt64(value.getTime());
+      if (compressTime) {
+        writeCompactMillis(buffer, value.getTime(), epochSecond);
+      } else {
+        buffer.writeInt64(value.getTime());
+      }
     }
 
     @Override
     public T read(MemoryBuffer buffer) {
+      if (compressTime) {
+        return newInstance(readCompactMillis(buffer, epochSecond));
+      }
       return newInstance(buffer.readInt64());
     }
 
+    @Override
+    public T copy(T value) {
+      return newInstance(value.getTime());
+    }
+
     protected abstract T newInstance(long time);
   }
 
@@ -156,6 +176,10 @@ public class TimeSerializers {
 
     @Override
     public void write(MemoryBuffer buffer, Timestamp value) {
+      if (compressTime) {
+        writeCompactTimestamp(buffer, value, epochSecond);
+        return;
+      }
       long time = value.getTime() - (value.getNanos() / 1_000_000);
       buffer.writeInt64(time);
       buffer.writeInt32(value.getNanos());
@@ -163,10 +187,20 @@ public class TimeSerializers {
 
     @Override
     public Timestamp read(MemoryBuffer buffer) {
+      if (compressTime) {
+        return readCompactTimestamp(buffer, epochSecond);
+      }
       Timestamp t = new Timestamp(buffer.readInt64());
       t.setNanos(buffer.readInt32());
       return t;
     }
+
+    @Override
+    public Timestamp copy(Timestamp value) {
+      Timestamp t = new Timestamp(value.getTime());
+      t.setNanos(value.getNanos());
+      return t;
+    }
   }
 
   public static final class LocalDateSerializer extends TimeSerializer<LocalDate> {
@@ -245,12 +279,19 @@ public class TimeSerializers {
 
     @Override
     public void write(MemoryBuffer buffer, Instant value) {
+      if (compressTime) {
+        writeCompactInstant(buffer, value, epochSecond);
+        return;
+      }
       buffer.writeInt64(value.getEpochSecond());
       buffer.writeInt32(value.getNano());
     }
 
     @Override
     public Instant read(MemoryBuffer buffer) {
+      if (compressTime) {
+        return readCompactInstant(buffer, epochSecond);
+      }
       long seconds = buffer.readInt64();
       int nanos = buffer.readInt32();
       return Instant.ofEpochSecond(seconds, nanos);
@@ -291,12 +332,19 @@ public class TimeSerializers {
 
     @Override
     public void write(MemoryBuffer buffer, LocalDateTime value) {
+      if (compressTime) {
+        writeCompactLocalDateTime(buffer, value, epochSecond);
+        return;
+      }
       LocalDateSerializer.writeLocalDate(buffer, value.toLocalDate());
       LocalTimeSerializer.writeLocalTime(buffer, value.toLocalTime());
     }
 
     @Override
     public LocalDateTime read(MemoryBuffer buffer) {
+      if (compressTime) {
+        return readCompactLocalDateTime(buffer, epochSecond);
+      }
       LocalDate date = LocalDateSerializer.readLocalDate(buffer);
       LocalTime time = LocalTimeSerializer.readLocalTime(buffer);
       return LocalDateTime.of(date, time);
@@ -384,6 +432,11 @@ public class TimeSerializers {
     public TimeZone read(MemoryBuffer buffer) {
       return TimeZone.getTimeZone(fury.readJavaString(buffer));
     }
+
+    @Override
+    public TimeZone copy(TimeZone value) {
+      return (TimeZone) value.clone();
+    }
   }
 
   public static final class CalendarSerializer extends TimeSerializer<Calendar> {
@@ -427,6 +480,11 @@ public class TimeSerializers {
       }
       return result;
     }
+
+    @Override
+    public Calendar copy(Calendar value) {
+      return (Calendar) value.clone();
+    }
   }
 
   public static class ZoneIdSerializer extends TimeSerializer<ZoneId> {
@@ -494,12 +552,20 @@ public class TimeSerializers {
     }
 
     public void write(MemoryBuffer buffer, ZonedDateTime obj) {
-      LocalDateSerializer.writeLocalDate(buffer, obj.toLocalDate());
-      LocalTimeSerializer.writeLocalTime(buffer, obj.toLocalTime());
+      if (compressTime) {
+        writeCompactLocalDateTime(buffer, obj.toLocalDateTime(), epochSecond);
+      } else {
+        LocalDateSerializer.writeLocalDate(buffer, obj.toLocalDate());
+        LocalTimeSerializer.writeLocalTime(buffer, obj.toLocalTime());
+      }
       fury.writeString(buffer, obj.getZone().getId());
     }
 
     public ZonedDateTime read(MemoryBuffer buffer) {
+      if (compressTime) {
+        LocalDateTime dateTime = readCompactLocalDateTime(buffer, epochSecond);
+        return ZonedDateTime.of(dateTime, ZoneId.of(fury.readString(buffer)));
+      }
       LocalDate date = LocalDateSerializer.readLocalDate(buffer);
       LocalTime time = LocalTimeSerializer.readLocalTime(buffer);
       ZoneId zone = ZoneId.of(fury.readString(buffer));
@@ -625,12 +691,20 @@ public class TimeSerializers {
     }
 
     public void write(MemoryBuffer buffer, OffsetDateTime obj) {
-      LocalDateSerializer.writeLocalDate(buffer, obj.toLocalDate());
-      LocalTimeSerializer.writeLocalTime(buffer, obj.toLocalTime());
+      if (compressTime) {
+        writeCompactLocalDateTime(buffer, obj.toLocalDateTime(), epochSecond);
+      } else {
+        LocalDateSerializer.writeLocalDate(buffer, obj.toLocalDate());
+        LocalTimeSerializer.writeLocalTime(buffer, obj.toLocalTime());
+      }
       ZoneOffsetSerializer.writeZoneOffset(buffer, obj.getOffset());
     }
 
     public OffsetDateTime read(MemoryBuffer buffer) {
+      if (compressTime) {
+        LocalDateTime dateTime = readCompactLocalDateTime(buffer, epochSecond);
+        return OffsetDateTime.of(dateTime, ZoneOffsetSerializer.readZoneOffset(buffer));
+      }
       LocalDate date = LocalDateSerializer.readLocalDate(buffer);
       LocalTime time = LocalTimeSerializer.readLocalTime(buffer);
       ZoneOffset offset = ZoneOffsetSerializer.readZoneOffset(buffer);
@@ -638,6 +712,144 @@ public class TimeSerializers {
     }
   }
 
+  // Precision of sub-second part of compressed time, stored in lowest two bits of time header.
+  private static final int PRECISION_SECOND = 0;
+  private static final int PRECISION_MILLI = 1;
+  private static final int PRECISION_MICRO = 2;
+  private static final int PRECISION_NANO = 3;
+
+  /**
+   * Write time as a varuint64 header `zigzag(seconds - epochSecond) << 2 | precision`, followed by
+   * sub-second part as varuint32 in unit of the precision if precision isn't second. Precision is
+   * the coarsest unit among second/milli/micro/nano which represents <code>nanos</code> exactly.
+   */
+  public static void writeCompactTime(
+      MemoryBuffer buffer, long seconds, int nanos, long epochSecond) {
+    long delta = seconds - epochSecond;
+    long header = ((delta << 1) ^ (delta >> 63)) << 2;
+    if (nanos == 0) {
+      buffer.writeVarUint64(header);
+    } else if (nanos % 1_000_000 == 0) {
+      buffer.writeVarUint64(header | PRECISION_MILLI);
+      buffer.writeVarUint32(nanos / 1_000_000);
+    } else if (nanos % 1000 == 0) {
+      buffer.writeVarUint64(header | PRECISION_MICRO);
+      buffer.writeVarUint32(nanos / 1000);
+    } else {
+      buffer.writeVarUint64(header | PRECISION_NANO);
+      buffer.writeVarUint32(nanos);
+    }
+  }
+
+  private static long readCompactSeconds(long header, long epochSecond) {
+    long zigzag = header >>> 2;
+    return ((zigzag >>> 1) ^ -(zigzag & 1)) + epochSecond;
+  }
+
+  private static int readCompactNanos(MemoryBuffer buffer, long header) {
+    switch ((int) header & 0b11) {
+      case PRECISION_SECOND:
+        return 0;
+      case PRECISION_MILLI:
+        return buffer.readVarUint32() * 1_000_000;
+      case PRECISION_MICRO:
+        return buffer.readVarUint32() * 1000;
+      default:
+        return buffer.readVarUint32();
+    }
+  }
+
+  public static void writeCompactMillis(MemoryBuffer buffer, long millis, long epochSecond) {
+    int nanos = (int) Math.floorMod(millis, 1000L) * 1_000_000;
+    writeCompactTime(buffer, Math.floorDiv(millis, 1000L), nanos, epochSecond);
+  }
+
+  public static long readCompactMillis(MemoryBuffer buffer, long epochSecond) {
+    long header = buffer.readVarUint64();
+    long seconds = readCompactSeconds(header, epochSecond);
+    return seconds * 1000 + readCompactNanos(buffer, header) / 1_000_000;
+  }
+
+  public static void writeCompactDate(MemoryBuffer buffer, Date value, long epochSecond) {
+    writeCompactMillis(buffer, value.getTime(), epochSecond);
+  }
+
+  public static Date readCompactDate(MemoryBuffer buffer, long epochSecond) {
+    return new Date(readCompactMillis(buffer, epochSecond));
+  }
+
+  public static void writeCompactTimestamp(MemoryBuffer buffer, Timestamp value, long epochSecond) {
+    long seconds = Math.floorDiv(value.getTime(), 1000L);
+    writeCompactTime(buffer, seconds, value.getNanos(), epochSecond);
+  }
+
+  public static Timestamp readCompactTimestamp(MemoryBuffer buffer, long epochSecond) {
+    long header = buffer.readVarUint64();
+    Timestamp t = new Timestamp(readCompactSeconds(header, epochSecond) * 1000);
+    t.setNanos(readCompactNanos(buffer, header));
+    return t;
+  }
+
+  public static void writeCompactInstant(MemoryBuffer buffer, Instant value, long epochSecond) {
+    writeCompactTime(buffer, value.getEpochSecond(), value.getNano(), epochSecond);
+  }
+
+  public static Instant readCompactInstant(MemoryBuffer buffer, long epochSecond) {
+    long header = buffer.readVarUint64();
+    long seconds = readCompactSeconds(header, epochSecond);
+    return Instant.ofEpochSecond(seconds, readCompactNanos(buffer, header));
+  }
+
+  public static void writeCompactLocalDateTime(
+      MemoryBuffer buffer, LocalDateTime value, long epochSecond) {
+    long seconds = value.toEpochSecond(ZoneOffset.UTC);
+    writeCompactTime(buffer, seconds, value.getNano(), epochSecond);
+  }
+
+  public static LocalDateTime readCompactLocalDateTime(MemoryBuffer buffer, long epochSecond) {
+    long header = buffer.readVarUint64();
+    long seconds = readCompactSeconds(header, epochSecond);
+    return LocalDateTime.ofEpochSecond(seconds, readCompactNanos(buffer, header), ZoneOffset.UTC);
+  }
+
+  /**
+   * Returns default serializer class of time type whose compressed encoding can be inlined in
+   * generated code, or null if not supported.
+   */
+  public static Class<? extends Serializer> getInlinedSerializerClass(Class<?> cls) {
+    if (cls == Instant.class) {
+      return InstantSerializer.class;
+    } else if (cls == LocalDateTime.class) {
+      return LocalDateTimeSerializer.class;
+    } else if (cls == Timestamp.class) {
+      return TimestampSerializer.class;
+    } else if (cls == Date.class) {
+      return DateSerializer.class;
+    }
+    return null;
+  }
+
+  /**
+   * Returns an expression which writes compressed time inline, <code>cls</code> must be supported
+   * by {@link #getInlinedSerializerClass}.
+   */
+  public static Expression writeCompactTimeExpr(
+      Class<?> cls, Expression buffer, Expression value, long epochSecond) {
+    String func = "writeCompact" + cls.getSimpleName();
+    return new StaticInvoke(
+        TimeSerializers.class, func, buffer, value, Literal.ofLong(epochSecond));
+  }
+
+  /**
+   * Returns an expression which reads compressed time inline, <code>cls</code> must be supported by
+   * {@link #getInlinedSerializerClass}.
+   */
+  public static Expression readCompactTimeExpr(Class<?> cls, Expression buffer, long epochSecond) {
+    String func = "readCompact" + cls.getSimpleName();
+    return new StaticInvoke(
+        TimeSerializers.class, func, TypeRef.of(cls), buffer, Literal.ofLong(epochSecond));
+  }
+
   public static void registerDefaultSerializers(Fury fury) {
     fury.registerSerializer(Date.class, new DateSerializer(fury));
     fury.registerSerializer(java.sql.Date.class, new SqlDateSerializer(fury));
@@ -328,6 +328,7 @@ public abstract class AbstractCollectionSerializer<T> extends Serializer<T> {
       boolean hasNull = (flags & CollectionFlags.HAS_NULL) == CollectionFlags.HAS_NULL;
       if (hasNull) {
         for (Object elem : value) {
+          fury.tryFlushStream(buffer);
           if (elem == null) {
             buffer.writeByte(Fury.NULL_FLAG);
           } else {
@@ -337,6 +338,7 @@ public abstract class AbstractCollectionSerializer<T> extends Serializer<T> {
         }
       } else {
         for (Object elem : value) {
+          fury.tryFlushStream(buffer);
           serializer.write(buffer, elem);
         }
       }
@@ -393,6 +395,7 @@ public abstract class AbstractCollectionSerializer<T> extends Serializer<T> {
     if ((flags & CollectionFlags.TRACKING_REF) == CollectionFlags.TRACKING_REF) {
       RefResolver refResolver = fury.getRefResolver();
       for (Object elem : collection) {
+        fury.tryFlushStream(buffer);
         if (!refResolver.writeRefOrNull(buffer, elem)) {
           serializer.write(buffer, elem);
         }
@@ -400,10 +403,12 @@ public abstract class AbstractCollectionSerializer<T> extends Serializer<T> {
     } else {
       if ((flags & CollectionFlags.HAS_NULL) != CollectionFlags.HAS_NULL) {
         for (Object elem : collection) {
+          fury.tryFlushStream(buffer);
           serializer.write(buffer, elem);
         }
       } else {
         for (Object elem : collection) {
+          fury.tryFlushStream(buffer);
           if (elem == null) {
             buffer.writeByte(Fury.NULL_FLAG);
           } else {
@@ -499,7 +504,9 @@ public abstract class AbstractCollectionSerializer<T> extends Serializer<T> {
     }
     try {
       T instance = (T) constructor.invoke();
-      fury.getRefResolver().reference(instance);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(instance);
+      }
       return (Collection) instance;
     } catch (Throwable e) {
       // reduce code size of critical path.
@@ -507,6 +514,33 @@ public abstract class AbstractCollectionSerializer<T> extends Serializer<T> {
     }
   }
 
+  /**
+   * Create an empty collection to be filled with copied elements of <code>originCollection</code>.
+   * Returned collection should be referenced by {@link Fury#reference} if it's the copy itself
+   * rather than a container, so that circular references can be copied.
+   */
+  public Collection newCollection(Collection originCollection) {
+    if (constructor == null) {
+      constructor = ReflectionUtils.getCtrHandle(type, true);
+    }
+    try {
+      Collection instance = (Collection) constructor.invoke();
+      fury.reference(originCollection, instance);
+      return instance;
+    } catch (Throwable e) {
+      // reduce code size of critical path.
+      throw buildException(e);
+    }
+  }
+
+  /** Copy elements of <code>originCollection</code> deeply into <code>newCollection</code>. */
+  protected void copyElements(Collection originCollection, Collection newCollection) {
+    Fury fury = this.fury;
+    for (Object element : originCollection) {
+      newCollection.add(fury.copyObject(element));
+    }
+  }
+
   private RuntimeException buildException(Throwable e) {
     return new IllegalArgumentException(
         "Please provide public no arguments constructor for class " + type, e);
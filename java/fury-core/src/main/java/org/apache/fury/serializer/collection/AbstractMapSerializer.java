@@ -29,6 +29,7 @@ import org.apache.fury.collection.Tuple2;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.reflect.TypeRef;
+import org.apache.fury.resolver.ClassInfo;
 import org.apache.fury.resolver.ClassInfoHolder;
 import org.apache.fury.resolver.ClassResolver;
 import org.apache.fury.resolver.RefResolver;
@@ -60,8 +61,10 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
   // we can't do it when jit `Serializer` for some class which contains one of such map
   // field. So we will write those extra kv classes to keep protocol consistency between
   // interpreter and jit mode although it seems unnecessary.
-  // With kv header in future, we can write this kv classes only once, the cost won't be too much.
   private int numElements;
+  // Write entries as chunks described in `MapChunkIterator`, see `FuryBuilder#withMapChunked`.
+  private final boolean chunkMap;
+  private MapChunkIterator chunkIterator;
 
   public AbstractMapSerializer(Fury fury, Class<T> cls) {
     this(fury, cls, !ReflectionUtils.isDynamicGeneratedCLass(cls));
@@ -75,6 +78,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     valueClassInfoWriteCache = fury.getClassResolver().nilClassInfoHolder();
     valueClassInfoReadCache = fury.getClassResolver().nilClassInfoHolder();
     partialGenericKVTypeMap = new IdentityMap<>();
+    chunkMap = fury.getConfig().chunkMap();
   }
 
   /**
@@ -113,12 +117,15 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     // TODO use generics for compatible serializer.
     this.keySerializer = null;
     this.valueSerializer = null;
-    if (keySerializer != null && valueSerializer != null) {
+    if (chunkMap) {
+      writeChunks(fury, buffer, map, keySerializer, valueSerializer);
+    } else if (keySerializer != null && valueSerializer != null) {
       javaWriteWithKVSerializers(fury, buffer, map, keySerializer, valueSerializer);
     } else if (keySerializer != null) {
       ClassResolver classResolver = fury.getClassResolver();
       RefResolver refResolver = fury.getRefResolver();
       for (Object object : map.entrySet()) {
+        fury.tryFlushStream(buffer);
         Map.Entry entry = (Map.Entry) object;
         fury.writeRef(buffer, entry.getKey(), keySerializer);
         Object value = entry.getValue();
@@ -129,6 +136,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
       ClassResolver classResolver = fury.getClassResolver();
       RefResolver refResolver = fury.getRefResolver();
       for (Object object : map.entrySet()) {
+        fury.tryFlushStream(buffer);
         Map.Entry entry = (Map.Entry) object;
         Object key = entry.getKey();
         writeJavaRefOptimized(
@@ -147,6 +155,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
       Serializer keySerializer,
       Serializer valueSerializer) {
     for (Object object : map.entrySet()) {
+      fury.tryFlushStream(buffer);
       Map.Entry entry = (Map.Entry) object;
       Object key = entry.getKey();
       Object value = entry.getValue();
@@ -212,6 +221,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     Serializer keySerializer = keyGenericType.getSerializer(fury.getClassResolver());
     Serializer valueSerializer = valueGenericType.getSerializer(fury.getClassResolver());
     for (Object object : map.entrySet()) {
+      fury.tryFlushStream(buffer);
       Map.Entry entry = (Map.Entry) object;
       generics.pushGenericType(keyGenericType);
       fury.writeRef(buffer, entry.getKey(), keySerializer);
@@ -234,6 +244,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     boolean trackingValueRef = fury.getClassResolver().needToWriteRef(valueGenericType.getCls());
     Serializer keySerializer = keyGenericType.getSerializer(fury.getClassResolver());
     for (Object object : map.entrySet()) {
+      fury.tryFlushStream(buffer);
       Map.Entry entry = (Map.Entry) object;
       generics.pushGenericType(keyGenericType);
       fury.writeRef(buffer, entry.getKey(), keySerializer);
@@ -263,6 +274,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     boolean trackingKeyRef = fury.getClassResolver().needToWriteRef(keyGenericType.getCls());
     Serializer valueSerializer = valueGenericType.getSerializer(fury.getClassResolver());
     for (Object object : map.entrySet()) {
+      fury.tryFlushStream(buffer);
       Map.Entry entry = (Map.Entry) object;
       generics.pushGenericType(keyGenericType);
       writeJavaRefOptimized(
@@ -292,6 +304,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     boolean trackingKeyRef = fury.getClassResolver().needToWriteRef(keyGenericType.getCls());
     boolean trackingValueRef = fury.getClassResolver().needToWriteRef(valueGenericType.getCls());
     for (Object object : map.entrySet()) {
+      fury.tryFlushStream(buffer);
       Map.Entry entry = (Map.Entry) object;
       generics.pushGenericType(keyGenericType);
       writeJavaRefOptimized(
@@ -320,6 +333,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     ClassResolver classResolver = fury.getClassResolver();
     RefResolver refResolver = fury.getRefResolver();
     for (Object object : map.entrySet()) {
+      fury.tryFlushStream(buffer);
       Map.Entry entry = (Map.Entry) object;
       writeJavaRefOptimized(
           fury, classResolver, refResolver, buffer, entry.getKey(), keyClassInfoWriteCache);
@@ -328,6 +342,188 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     }
   }
 
+  private void writeChunks(
+      Fury fury,
+      MemoryBuffer buffer,
+      Map map,
+      Serializer keySerializer,
+      Serializer valueSerializer) {
+    if (keySerializer != null && valueSerializer != null) {
+      finalKVChunkedJavaWrite(fury, buffer, map, keySerializer, valueSerializer, null, null);
+    } else if (keySerializer != null || valueSerializer != null) {
+      // Key or value class info is written once per chunk, no need to use the declared
+      // serializer, keep consistent with `BaseObjectCodecBuilder.serializeForMap` too.
+      chunkedJavaWrite(fury, buffer, map);
+    } else {
+      genericChunkedJavaWrite(fury, buffer, map);
+    }
+  }
+
+  private void genericChunkedJavaWrite(Fury fury, MemoryBuffer buffer, Map map) {
+    Generics generics = fury.getGenerics();
+    GenericType genericType = generics.nextGenericType();
+    if (genericType == null) {
+      chunkedJavaWrite(fury, buffer, map);
+    } else {
+      GenericType keyGenericType = genericType.getTypeParameter0();
+      GenericType valueGenericType = genericType.getTypeParameter1();
+      // type parameters count for `Map field` will be 0;
+      // type parameters count for `SubMap<V> field` which SubMap is
+      // `SubMap<V> implements Map<String, V>` will be 1;
+      if (genericType.getTypeParametersCount() < 2) {
+        Tuple2<GenericType, GenericType> kvGenericType = getKVGenericType(genericType);
+        if (keyGenericType == objType && valueGenericType == objType) {
+          chunkedJavaWrite(fury, buffer, map);
+          return;
+        }
+        keyGenericType = kvGenericType.f0;
+        valueGenericType = kvGenericType.f1;
+      }
+      if (keyGenericType.isMonomorphic() && valueGenericType.isMonomorphic()) {
+        ClassResolver classResolver = fury.getClassResolver();
+        finalKVChunkedJavaWrite(
+            fury,
+            buffer,
+            map,
+            keyGenericType.getSerializer(classResolver),
+            valueGenericType.getSerializer(classResolver),
+            keyGenericType,
+            valueGenericType);
+      } else {
+        // Keep consistent with `BaseObjectCodecBuilder.serializeForMap`, which won't push
+        // generics for maps whose key or value type is not final.
+        chunkedJavaWrite(fury, buffer, map);
+      }
+    }
+  }
+
+  /**
+   * Get a chunk iterator over entries of <code>map</code>, which should be returned by {@link
+   * #releaseChunkIterator} after all chunks are written.
+   */
+  public MapChunkIterator newChunkIterator(Map map) {
+    MapChunkIterator chunks = chunkIterator;
+    // Take it from the cache, so that nested maps of same type will create a new iterator.
+    chunkIterator = null;
+    if (chunks == null) {
+      chunks = new MapChunkIterator();
+    }
+    chunks.reset(map);
+    return chunks;
+  }
+
+  public void releaseChunkIterator(MapChunkIterator chunks) {
+    chunkIterator = chunks;
+  }
+
+  /**
+   * Write entries as chunks described in {@link MapChunkIterator}. Key/value class info is written
+   * only once per chunk, so entries in the chunk only write ref flag if ref tracking is needed, and
+   * the serializer lookup is hoisted out of the entries loop.
+   */
+  private void chunkedJavaWrite(Fury fury, MemoryBuffer buffer, Map map) {
+    ClassResolver classResolver = fury.getClassResolver();
+    RefResolver refResolver = fury.getRefResolver();
+    MapChunkIterator chunks = newChunkIterator(map);
+    while (chunks.nextChunk()) {
+      fury.tryFlushStream(buffer);
+      buffer.writeByte(chunks.header());
+      Class<?> keyCls = chunks.keyClass();
+      Class<?> valueCls = chunks.valueClass();
+      Serializer keySerializer = null;
+      Serializer valueSerializer = null;
+      if (keyCls != null) {
+        ClassInfo keyClassInfo = classResolver.getClassInfo(keyCls, keyClassInfoWriteCache);
+        classResolver.writeClass(buffer, keyClassInfo);
+        keySerializer = keyClassInfo.getSerializer();
+      }
+      if (valueCls != null) {
+        ClassInfo valueClassInfo = classResolver.getClassInfo(valueCls, valueClassInfoWriteCache);
+        classResolver.writeClass(buffer, valueClassInfo);
+        valueSerializer = valueClassInfo.getSerializer();
+      }
+      boolean trackingKeyRef = keySerializer != null && keySerializer.needToWriteRef();
+      boolean trackingValueRef = valueSerializer != null && valueSerializer.needToWriteRef();
+      int chunkSize = chunks.size();
+      for (int i = 0; i < chunkSize; i++) {
+        if (keySerializer != null) {
+          writeChunkElement(
+              fury, refResolver, trackingKeyRef, buffer, chunks.key(i), keySerializer);
+        }
+        if (valueSerializer != null) {
+          writeChunkElement(
+              fury, refResolver, trackingValueRef, buffer, chunks.value(i), valueSerializer);
+        }
+      }
+    }
+    releaseChunkIterator(chunks);
+  }
+
+  /**
+   * Write entries as chunks for map whose key and value types are final, key/value class info is
+   * skipped since it's known by the reader. Generics are pushed for key/value if provided.
+   */
+  private void finalKVChunkedJavaWrite(
+      Fury fury,
+      MemoryBuffer buffer,
+      Map map,
+      Serializer keySerializer,
+      Serializer valueSerializer,
+      GenericType keyGenericType,
+      GenericType valueGenericType) {
+    RefResolver refResolver = fury.getRefResolver();
+    Generics generics = fury.getGenerics();
+    boolean trackingKeyRef = keySerializer.needToWriteRef();
+    boolean trackingValueRef = valueSerializer.needToWriteRef();
+    MapChunkIterator chunks = newChunkIterator(map);
+    while (chunks.nextChunk()) {
+      fury.tryFlushStream(buffer);
+      buffer.writeByte(chunks.header());
+      boolean hasKey = chunks.hasKey();
+      boolean hasValue = chunks.hasValue();
+      int chunkSize = chunks.size();
+      for (int i = 0; i < chunkSize; i++) {
+        if (hasKey) {
+          if (keyGenericType != null) {
+            generics.pushGenericType(keyGenericType);
+          }
+          writeChunkElement(
+              fury, refResolver, trackingKeyRef, buffer, chunks.key(i), keySerializer);
+          if (keyGenericType != null) {
+            generics.popGenericType();
+          }
+        }
+        if (hasValue) {
+          if (valueGenericType != null) {
+            generics.pushGenericType(valueGenericType);
+          }
+          writeChunkElement(
+              fury, refResolver, trackingValueRef, buffer, chunks.value(i), valueSerializer);
+          if (valueGenericType != null) {
+            generics.popGenericType();
+          }
+        }
+      }
+    }
+    releaseChunkIterator(chunks);
+  }
+
+  private static void writeChunkElement(
+      Fury fury,
+      RefResolver refResolver,
+      boolean trackingRef,
+      MemoryBuffer buffer,
+      Object obj,
+      Serializer serializer) {
+    if (trackingRef) {
+      if (!refResolver.writeRefOrNull(buffer, obj)) {
+        fury.writeNonRef(buffer, obj, serializer);
+      }
+    } else {
+      fury.writeNonRef(buffer, obj, serializer);
+    }
+  }
+
   public static void xwriteElements(Fury fury, MemoryBuffer buffer, Map value) {
     Generics generics = fury.getGenerics();
     GenericType genericType = generics.nextGenericType();
@@ -414,7 +610,9 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     // TODO use generics for compatible serializer.
     this.keySerializer = null;
     this.valueSerializer = null;
-    if (keySerializer != null && valueSerializer != null) {
+    if (chunkMap) {
+      readChunks(fury, buffer, map, size, keySerializer, valueSerializer);
+    } else if (keySerializer != null && valueSerializer != null) {
       for (int i = 0; i < size; i++) {
         Object key = fury.readRef(buffer, keySerializer);
         Object value = fury.readRef(buffer, valueSerializer);
@@ -571,7 +769,161 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     }
   }
 
-  @SuppressWarnings("unchecked")
+  private void readChunks(
+      Fury fury,
+      MemoryBuffer buffer,
+      Map map,
+      int size,
+      Serializer keySerializer,
+      Serializer valueSerializer) {
+    if (keySerializer != null && valueSerializer != null) {
+      finalKVChunkedJavaRead(fury, buffer, map, size, keySerializer, valueSerializer, null, null);
+    } else if (keySerializer != null || valueSerializer != null) {
+      chunkedJavaRead(fury, buffer, map, size);
+    } else {
+      genericChunkedJavaRead(fury, buffer, map, size);
+    }
+  }
+
+  private void genericChunkedJavaRead(Fury fury, MemoryBuffer buffer, Map map, int size) {
+    Generics generics = fury.getGenerics();
+    GenericType genericType = generics.nextGenericType();
+    if (genericType == null) {
+      chunkedJavaRead(fury, buffer, map, size);
+    } else {
+      GenericType keyGenericType = genericType.getTypeParameter0();
+      GenericType valueGenericType = genericType.getTypeParameter1();
+      if (genericType.getTypeParametersCount() < 2) {
+        Tuple2<GenericType, GenericType> kvGenericType = getKVGenericType(genericType);
+        if (keyGenericType == objType && valueGenericType == objType) {
+          chunkedJavaRead(fury, buffer, map, size);
+          return;
+        }
+        keyGenericType = kvGenericType.f0;
+        valueGenericType = kvGenericType.f1;
+      }
+      if (keyGenericType.isMonomorphic() && valueGenericType.isMonomorphic()) {
+        ClassResolver classResolver = fury.getClassResolver();
+        finalKVChunkedJavaRead(
+            fury,
+            buffer,
+            map,
+            size,
+            keyGenericType.getSerializer(classResolver),
+            valueGenericType.getSerializer(classResolver),
+            keyGenericType,
+            valueGenericType);
+      } else {
+        chunkedJavaRead(fury, buffer, map, size);
+      }
+      generics.popGenericType();
+    }
+  }
+
+  /** Read entries written by {@link #chunkedJavaWrite}. */
+  private void chunkedJavaRead(Fury fury, MemoryBuffer buffer, Map map, int size) {
+    ClassResolver classResolver = fury.getClassResolver();
+    RefResolver refResolver = fury.getRefResolver();
+    while (size > 0) {
+      int header = MapChunkIterator.readChunkHeader(buffer, size);
+      int chunkSize = MapChunkIterator.chunkSize(header);
+      Serializer keySerializer = null;
+      Serializer valueSerializer = null;
+      if (MapChunkIterator.hasKey(header)) {
+        keySerializer = classResolver.readClassInfo(buffer, keyClassInfoReadCache).getSerializer();
+      }
+      if (MapChunkIterator.hasValue(header)) {
+        valueSerializer =
+            classResolver.readClassInfo(buffer, valueClassInfoReadCache).getSerializer();
+      }
+      boolean trackingKeyRef = keySerializer != null && keySerializer.needToWriteRef();
+      boolean trackingValueRef = valueSerializer != null && valueSerializer.needToWriteRef();
+      for (int i = 0; i < chunkSize; i++) {
+        Object key = null;
+        Object value = null;
+        if (keySerializer != null) {
+          key = readChunkElement(fury, refResolver, trackingKeyRef, buffer, keySerializer);
+        }
+        if (valueSerializer != null) {
+          value = readChunkElement(fury, refResolver, trackingValueRef, buffer, valueSerializer);
+        }
+        map.put(key, value);
+      }
+      size -= chunkSize;
+    }
+  }
+
+  /** Read entries written by {@link #finalKVChunkedJavaWrite}. */
+  private void finalKVChunkedJavaRead(
+      Fury fury,
+      MemoryBuffer buffer,
+      Map map,
+      int size,
+      Serializer keySerializer,
+      Serializer valueSerializer,
+      GenericType keyGenericType,
+      GenericType valueGenericType) {
+    RefResolver refResolver = fury.getRefResolver();
+    Generics generics = fury.getGenerics();
+    boolean trackingKeyRef = keySerializer.needToWriteRef();
+    boolean trackingValueRef = valueSerializer.needToWriteRef();
+    while (size > 0) {
+      int header = MapChunkIterator.readChunkHeader(buffer, size);
+      int chunkSize = MapChunkIterator.chunkSize(header);
+      boolean hasKey = MapChunkIterator.hasKey(header);
+      boolean hasValue = MapChunkIterator.hasValue(header);
+      for (int i = 0; i < chunkSize; i++) {
+        Object key = null;
+        Object value = null;
+        if (hasKey) {
+          if (keyGenericType != null) {
+            generics.pushGenericType(keyGenericType);
+          }
+          key = readChunkElement(fury, refResolver, trackingKeyRef, buffer, keySerializer);
+          if (keyGenericType != null) {
+            generics.popGenericType();
+          }
+        }
+        if (hasValue) {
+          if (valueGenericType != null) {
+            generics.pushGenericType(valueGenericType);
+          }
+          value = readChunkElement(fury, refResolver, trackingValueRef, buffer, valueSerializer);
+          if (valueGenericType != null) {
+            generics.popGenericType();
+          }
+        }
+        map.put(key, value);
+      }
+      size -= chunkSize;
+    }
+  }
+
+  private static Object readChunkElement(
+      Fury fury,
+      RefResolver refResolver,
+      boolean trackingRef,
+      MemoryBuffer buffer,
+      Serializer serializer) {
+    if (trackingRef) {
+      int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+      if (nextReadRefId >= Fury.NOT_NULL_VALUE_FLAG) {
+        fury.incDepth(1);
+        Object obj = serializer.read(buffer);
+        fury.incDepth(-1);
+        refResolver.setReadObject(nextReadRefId, obj);
+        return obj;
+      } else {
+        return refResolver.getReadObject();
+      }
+    } else {
+      fury.incDepth(1);
+      Object obj = serializer.read(buffer);
+      fury.incDepth(-1);
+      return obj;
+    }
+  }
+
   public static void xreadElements(Fury fury, MemoryBuffer buffer, Map map, int size) {
     Generics generics = fury.getGenerics();
     GenericType genericType = generics.nextGenericType();
@@ -710,7 +1062,9 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     }
     try {
       Map instance = (Map) constructor.invoke();
-      fury.getRefResolver().reference(instance);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(instance);
+      }
       return instance;
     } catch (Throwable e) {
       throw new IllegalArgumentException(
@@ -718,6 +1072,34 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     }
   }
 
+  /**
+   * Create an empty map to be filled with copied entries of <code>originMap</code>. Returned map
+   * should be referenced by {@link Fury#reference} if it's the copy itself rather than a container,
+   * so that circular references can be copied.
+   */
+  public Map newMap(Map originMap) {
+    if (constructor == null) {
+      constructor = ReflectionUtils.getCtrHandle(type, true);
+    }
+    try {
+      Map instance = (Map) constructor.invoke();
+      fury.reference(originMap, instance);
+      return instance;
+    } catch (Throwable e) {
+      throw new IllegalArgumentException(
+          "Please provide public no arguments constructor for class " + type, e);
+    }
+  }
+
+  /** Copy entries of <code>originMap</code> deeply and put them into <code>newMap</code>. */
+  protected void copyEntries(Map originMap, Map newMap) {
+    Fury fury = this.fury;
+    for (Object o : originMap.entrySet()) {
+      Map.Entry entry = (Map.Entry) o;
+      newMap.put(fury.copyObject(entry.getKey()), fury.copyObject(entry.getValue()));
+    }
+  }
+
   /**
    * Get and reset numElements of deserializing collection. Should be called after {@link #newMap}.
    * Nested read may overwrite this element, reset is necessary to avoid use wrong value by mistake.
@@ -129,6 +129,7 @@ public class ChildContainerSerializers {
             );
 
     protected final Serializer[] slotsSerializers;
+    private ObjectSerializer[] copySlotsSerializers;
 
     public ChildCollectionSerializer(Fury fury, Class<T> cls) {
       super(fury, cls);
@@ -149,6 +150,16 @@ public class ChildContainerSerializers {
       readAndSetFields(buffer, collection, slotsSerializers);
       return collection;
     }
+
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      Collection newCollection = super.newCollection(originCollection);
+      if (copySlotsSerializers == null) {
+        copySlotsSerializers = buildCopySlotsSerializers(fury, slotsSerializers);
+      }
+      copyFields(originCollection, newCollection, copySlotsSerializers);
+      return newCollection;
+    }
   }
 
   public static final class ChildArrayListSerializer<T extends ArrayList>
@@ -178,6 +189,7 @@ public class ChildContainerSerializers {
             // TreeMap/ConcurrentSkipListMap need comparator as constructor argument
             );
     private final Serializer[] slotsSerializers;
+    private ObjectSerializer[] copySlotsSerializers;
 
     public ChildMapSerializer(Fury fury, Class<T> cls) {
       super(fury, cls);
@@ -199,6 +211,16 @@ public class ChildContainerSerializers {
       readAndSetFields(buffer, map, slotsSerializers);
       return map;
     }
+
+    @Override
+    public Map newMap(Map originMap) {
+      Map newMap = super.newMap(originMap);
+      if (copySlotsSerializers == null) {
+        copySlotsSerializers = buildCopySlotsSerializers(fury, slotsSerializers);
+      }
+      copyFields(originMap, newMap, copySlotsSerializers);
+      return newMap;
+    }
   }
 
   private static <T> Serializer[] buildSlotsSerializers(
@@ -220,6 +242,28 @@ public class ChildContainerSerializers {
     return serializers.toArray(new Serializer[0]);
   }
 
+  /** Copy doesn't need to be compatible with any peer, so compatible slots copy by reflection. */
+  private static ObjectSerializer[] buildCopySlotsSerializers(
+      Fury fury, Serializer[] slotsSerializers) {
+    ObjectSerializer[] copySlotsSerializers = new ObjectSerializer[slotsSerializers.length];
+    for (int i = 0; i < slotsSerializers.length; i++) {
+      Serializer slotsSerializer = slotsSerializers[i];
+      if (slotsSerializer.getClass() == CompatibleSerializer.class) {
+        copySlotsSerializers[i] = new ObjectSerializer<>(fury, slotsSerializer.getType(), false);
+      } else {
+        copySlotsSerializers[i] = (ObjectSerializer) slotsSerializer;
+      }
+    }
+    return copySlotsSerializers;
+  }
+
+  private static void copyFields(
+      Object originObj, Object newObj, ObjectSerializer[] copySlotsSerializers) {
+    for (ObjectSerializer slotsSerializer : copySlotsSerializers) {
+      slotsSerializer.copyFields(originObj, newObj);
+    }
+  }
+
   private static void readAndSetFields(
       MemoryBuffer buffer, Object collection, Serializer[] slotsSerializers) {
     for (Serializer slotsSerializer : slotsSerializers) {
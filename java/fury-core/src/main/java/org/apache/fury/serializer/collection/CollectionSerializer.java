@@ -54,4 +54,13 @@ public class CollectionSerializer<T extends Collection> extends AbstractCollecti
     }
     return onCollectionRead(collection);
   }
+
+  @Override
+  public T copy(T originCollection) {
+    Collection newCollection = newCollection(originCollection);
+    if (!originCollection.isEmpty()) {
+      copyElements(originCollection, newCollection);
+    }
+    return onCollectionRead(newCollection);
+  }
 }
@@ -79,9 +79,18 @@ public class CollectionSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       ArrayList arrayList = new ArrayList(numElements);
-      fury.getRefResolver().reference(arrayList);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(arrayList);
+      }
       return arrayList;
     }
+
+    @Override
+    public ArrayList newCollection(Collection originCollection) {
+      ArrayList newCollection = new ArrayList(originCollection.size());
+      fury.reference(originCollection, newCollection);
+      return newCollection;
+    }
   }
 
   public static final class ArraysAsListSerializer extends CollectionSerializer<List<?>> {
@@ -129,6 +138,12 @@ public class CollectionSerializers {
       return Arrays.asList(array);
     }
 
+    @Override
+    public List<?> copy(List<?> originCollection) {
+      Object[] array = (Object[]) Platform.getObject(originCollection, arrayFieldOffset);
+      return Arrays.asList(fury.copyObject(array));
+    }
+
     @Override
     public List<?> xread(MemoryBuffer buffer) {
       int numElements = buffer.readVarUint32Small7();
@@ -156,9 +171,18 @@ public class CollectionSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       HashSet hashSet = new HashSet(numElements);
-      fury.getRefResolver().reference(hashSet);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(hashSet);
+      }
       return hashSet;
     }
+
+    @Override
+    public HashSet newCollection(Collection originCollection) {
+      HashSet newCollection = new HashSet(originCollection.size());
+      fury.reference(originCollection, newCollection);
+      return newCollection;
+    }
   }
 
   public static final class LinkedHashSetSerializer extends CollectionSerializer<LinkedHashSet> {
@@ -176,9 +200,18 @@ public class CollectionSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       LinkedHashSet hashSet = new LinkedHashSet(numElements);
-      fury.getRefResolver().reference(hashSet);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(hashSet);
+      }
       return hashSet;
     }
+
+    @Override
+    public LinkedHashSet newCollection(Collection originCollection) {
+      LinkedHashSet newCollection = new LinkedHashSet(originCollection.size());
+      fury.reference(originCollection, newCollection);
+      return newCollection;
+    }
   }
 
   public static class SortedSetSerializer<T extends SortedSet> extends CollectionSerializer<T> {
@@ -218,7 +251,27 @@ public class CollectionSerializers {
           throw new RuntimeException(e);
         }
       }
-      fury.getRefResolver().reference(collection);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(collection);
+      }
+      return collection;
+    }
+
+    /** Comparator is shared with the copied set, it's expected to be stateless. */
+    @Override
+    public T newCollection(Collection originCollection) {
+      T collection;
+      Comparator comparator = ((SortedSet) originCollection).comparator();
+      if (type == TreeSet.class) {
+        collection = (T) new TreeSet(comparator);
+      } else {
+        try {
+          collection = (T) constructor.invoke(comparator);
+        } catch (Throwable e) {
+          throw new RuntimeException(e);
+        }
+      }
+      fury.reference(originCollection, collection);
       return collection;
     }
   }
@@ -253,6 +306,11 @@ public class CollectionSerializers {
       return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public List<?> copy(List<?> originCollection) {
+      return originCollection;
+    }
+
     @Override
     public List<?> xread(MemoryBuffer buffer) {
       buffer.readVarUint32Small7();
@@ -274,6 +332,11 @@ public class CollectionSerializers {
       return new CollectionContainer<>(numElements);
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      return new CollectionContainer<>(originCollection.size());
+    }
+
     @Override
     public CopyOnWriteArrayList onCollectionRead(Collection collection) {
       Object[] elements = ((CollectionContainer) collection).elements;
@@ -306,6 +369,11 @@ public class CollectionSerializers {
       return Collections.EMPTY_SET;
     }
 
+    @Override
+    public Set<?> copy(Set<?> originCollection) {
+      return originCollection;
+    }
+
     @Override
     public Set<?> xread(MemoryBuffer buffer) {
       buffer.readVarUint32Small7();
@@ -326,6 +394,11 @@ public class CollectionSerializers {
     public SortedSet<?> read(MemoryBuffer buffer) {
       return Collections.emptySortedSet();
     }
+
+    @Override
+    public SortedSet<?> copy(SortedSet<?> originCollection) {
+      return originCollection;
+    }
   }
 
   public static final class CollectionsSingletonListSerializer
@@ -356,6 +429,11 @@ public class CollectionSerializers {
       return Collections.singletonList(fury.readRef(buffer));
     }
 
+    @Override
+    public List<?> copy(List<?> originCollection) {
+      return Collections.singletonList(fury.copyObject(originCollection.get(0)));
+    }
+
     @Override
     public List<?> xread(MemoryBuffer buffer) {
       buffer.readVarUint32Small7();
@@ -390,6 +468,11 @@ public class CollectionSerializers {
       return Collections.singleton(fury.readRef(buffer));
     }
 
+    @Override
+    public Set<?> copy(Set<?> originCollection) {
+      return Collections.singleton(fury.copyObject(originCollection.iterator().next()));
+    }
+
     @Override
     public Set<?> xread(MemoryBuffer buffer) {
       buffer.readVarUint32Small7();
@@ -410,7 +493,17 @@ public class CollectionSerializers {
       setNumElements(numElements);
       Comparator comparator = (Comparator) fury.readRef(buffer);
       ConcurrentSkipListSet skipListSet = new ConcurrentSkipListSet(comparator);
-      fury.getRefResolver().reference(skipListSet);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(skipListSet);
+      }
+      return skipListSet;
+    }
+
+    @Override
+    public ConcurrentSkipListSet newCollection(Collection originCollection) {
+      Comparator comparator = ((ConcurrentSkipListSet) originCollection).comparator();
+      ConcurrentSkipListSet skipListSet = new ConcurrentSkipListSet(comparator);
+      fury.reference(originCollection, skipListSet);
       return skipListSet;
     }
   }
@@ -441,7 +534,20 @@ public class CollectionSerializers {
       final int numElements = mapSerializer.getAndClearNumElements();
       setNumElements(numElements);
       final Set set = Collections.newSetFromMap(map);
-      fury.getRefResolver().reference(set);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(set);
+      }
+      return set;
+    }
+
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      final Map<?, Boolean> originMap =
+          (Map<?, Boolean>) Platform.getObject(originCollection, MAP_FIELD_OFFSET);
+      final AbstractMapSerializer mapSerializer =
+          (AbstractMapSerializer) fury.getClassResolver().getSerializer(originMap.getClass());
+      final Set set = Collections.newSetFromMap(mapSerializer.newMap(originMap));
+      fury.reference(originCollection, set);
       return set;
     }
 
@@ -468,9 +574,19 @@ public class CollectionSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       ConcurrentHashMap.KeySetView keySetView = ConcurrentHashMap.newKeySet(numElements);
-      fury.getRefResolver().reference(keySetView);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(keySetView);
+      }
       return keySetView;
     }
+
+    @Override
+    public ConcurrentHashMap.KeySetView newCollection(Collection originCollection) {
+      ConcurrentHashMap.KeySetView newCollection =
+          ConcurrentHashMap.newKeySet(originCollection.size());
+      fury.reference(originCollection, newCollection);
+      return newCollection;
+    }
   }
 
   public static final class VectorSerializer extends CollectionSerializer<Vector> {
@@ -484,9 +600,18 @@ public class CollectionSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       Vector<Object> vector = new Vector<>(numElements);
-      fury.getRefResolver().reference(vector);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(vector);
+      }
       return vector;
     }
+
+    @Override
+    public Vector newCollection(Collection originCollection) {
+      Vector newCollection = new Vector(originCollection.size());
+      fury.reference(originCollection, newCollection);
+      return newCollection;
+    }
   }
 
   public static final class ArrayDequeSerializer extends CollectionSerializer<ArrayDeque> {
@@ -500,9 +625,18 @@ public class CollectionSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       ArrayDeque deque = new ArrayDeque(numElements);
-      fury.getRefResolver().reference(deque);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(deque);
+      }
       return deque;
     }
+
+    @Override
+    public ArrayDeque newCollection(Collection originCollection) {
+      ArrayDeque newCollection = new ArrayDeque(originCollection.size());
+      fury.reference(originCollection, newCollection);
+      return newCollection;
+    }
   }
 
   public static class EnumSetSerializer extends CollectionSerializer<EnumSet> {
@@ -543,6 +677,11 @@ public class CollectionSerializers {
       }
       return object;
     }
+
+    @Override
+    public EnumSet copy(EnumSet originCollection) {
+      return EnumSet.copyOf(originCollection);
+    }
   }
 
   public static class BitSetSerializer extends Serializer<BitSet> {
@@ -562,6 +701,11 @@ public class CollectionSerializers {
       long[] values = buffer.readLongs(buffer.readVarUint32Small7());
       return BitSet.valueOf(values);
     }
+
+    @Override
+    public BitSet copy(BitSet originCollection) {
+      return (BitSet) originCollection.clone();
+    }
   }
 
   public static class PriorityQueueSerializer extends CollectionSerializer<PriorityQueue> {
@@ -581,7 +725,19 @@ public class CollectionSerializers {
       setNumElements(numElements);
       Comparator comparator = (Comparator) fury.readRef(buffer);
       PriorityQueue queue = new PriorityQueue(comparator);
-      fury.getRefResolver().reference(queue);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(queue);
+      }
+      return queue;
+    }
+
+    @Override
+    public PriorityQueue newCollection(Collection originCollection) {
+      PriorityQueue queue =
+          new PriorityQueue(
+              Math.max(originCollection.size(), 1),
+              ((PriorityQueue) originCollection).comparator());
+      fury.reference(originCollection, queue);
       return queue;
     }
   }
@@ -629,6 +785,11 @@ public class CollectionSerializers {
     public T read(MemoryBuffer buffer) {
       return dataSerializer.read(buffer);
     }
+
+    @Override
+    public T copy(T originCollection) {
+      return dataSerializer.copy(originCollection);
+    }
   }
 
   /** Collection serializer for class with JDK custom serialization methods defined. */
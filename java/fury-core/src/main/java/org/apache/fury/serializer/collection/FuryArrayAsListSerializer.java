@@ -48,6 +48,13 @@ public final class FuryArrayAsListSerializer
     return new ArrayAsList(numElements);
   }
 
+  @Override
+  public Collection newCollection(Collection originCollection) {
+    ArrayAsList list = new ArrayAsList(originCollection.size());
+    fury.reference(originCollection, list);
+    return list;
+  }
+
   /**
    * A List which wrap a Java array into a list, used for serialization only, do not use it in other
    * scenarios.
@@ -76,6 +76,11 @@ public class GuavaCollectionSerializers {
       return new CollectionContainer<>(numElements);
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      return new CollectionContainer<>(originCollection.size());
+    }
+
     @Override
     public T onCollectionRead(Collection collection) {
       Object[] elements = ((CollectionContainer) collection).elements;
@@ -127,6 +132,11 @@ public class GuavaCollectionSerializers {
       return new CollectionContainer(numElements);
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      return new CollectionContainer<>(originCollection.size());
+    }
+
     @Override
     public T onCollectionRead(Collection collection) {
       Object[] elements = ((CollectionContainer) collection).elements;
@@ -158,6 +168,11 @@ public class GuavaCollectionSerializers {
       return new CollectionContainer<>(numElements);
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      return new CollectionContainer<>(originCollection.size());
+    }
+
     @Override
     public T onCollectionRead(Collection collection) {
       Object[] elements = ((CollectionContainer) collection).elements;
@@ -197,6 +212,12 @@ public class GuavaCollectionSerializers {
       return new SortedCollectionContainer(comparator, numElements);
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      Comparator comparator = ((ImmutableSortedSet) originCollection).comparator();
+      return new SortedCollectionContainer(comparator, originCollection.size());
+    }
+
     @Override
     public T onCollectionRead(Collection collection) {
       SortedCollectionContainer data = (SortedCollectionContainer) collection;
@@ -221,6 +242,11 @@ public class GuavaCollectionSerializers {
       return new MapContainer(numElements);
     }
 
+    @Override
+    public Map newMap(Map originMap) {
+      return new MapContainer(originMap.size());
+    }
+
     @Override
     public T onMapRead(Map map) {
       MapContainer container = (MapContainer) map;
@@ -341,6 +367,12 @@ public class GuavaCollectionSerializers {
       return new SortedMapContainer<>(comparator, numElements);
     }
 
+    @Override
+    public Map newMap(Map originMap) {
+      Comparator comparator = ((ImmutableSortedMap) originMap).comparator();
+      return new SortedMapContainer<>(comparator, originMap.size());
+    }
+
     @Override
     public T onMapRead(Map map) {
       SortedMapContainer mapContainer = (SortedMapContainer) map;
@@ -118,6 +118,15 @@ public class ImmutableCollectionSerializers {
       }
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      if (Platform.JAVA_VERSION > 8) {
+        return new CollectionContainer<>(originCollection.size());
+      } else {
+        return new ArrayList(originCollection.size());
+      }
+    }
+
     @Override
     public Collection onCollectionRead(Collection collection) {
       if (Platform.JAVA_VERSION > 8) {
@@ -150,6 +159,15 @@ public class ImmutableCollectionSerializers {
       }
     }
 
+    @Override
+    public Collection newCollection(Collection originCollection) {
+      if (Platform.JAVA_VERSION > 8) {
+        return new CollectionContainer<>(originCollection.size());
+      } else {
+        return new HashSet(originCollection.size());
+      }
+    }
+
     @Override
     public Collection onCollectionRead(Collection collection) {
       if (Platform.JAVA_VERSION > 8) {
@@ -182,6 +200,15 @@ public class ImmutableCollectionSerializers {
       }
     }
 
+    @Override
+    public Map newMap(Map originMap) {
+      if (Platform.JAVA_VERSION > 8) {
+        return new JDKImmutableMapContainer(originMap.size());
+      } else {
+        return new HashMap(originMap.size());
+      }
+    }
+
     @Override
     public Map onMapRead(Map map) {
       if (Platform.JAVA_VERSION > 8) {
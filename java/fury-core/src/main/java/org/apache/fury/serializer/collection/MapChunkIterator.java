@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.serializer.collection;
+
+import java.util.Iterator;
+import java.util.Map;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.memory.MemoryBuffer;
+
+/**
+ * Iterator which groups adjacent map entries into chunks. Entries of a chunk have same key class
+ * and same value class, a {@code null} key/value is treated as a class too. A chunk is written as:
+ *
+ * <pre>
+ * | header: 1 byte | key class | value class | key0 value0 | key1 value1 | ...
+ * </pre>
+ *
+ * <p>The high 6 bits of header is chunk size minus one, the low 2 bits flag whether keys and values
+ * in the chunk are null. Key/value class is skipped if it's null or both key and value types are
+ * declared final.
+ *
+ * <p>Entries are taken from a single entry iterator and buffered until the chunk ends, so the
+ * header can be written before entries without back-patching, which may not be valid anymore when
+ * streaming writes flush the buffer. This is used by generated serializers too.
+ *
+ * <p>Chunks are written only if {@link org.apache.fury.config.FuryBuilder#withMapChunked} is
+ * enabled, map entries are written one by one otherwise.
+ */
+@SuppressWarnings("rawtypes")
+public final class MapChunkIterator {
+  public static final int KEY_NULL = 0b1;
+  public static final int VALUE_NULL = 0b10;
+  public static final int MAX_CHUNK_SIZE = 64;
+
+  private final Object[] keys = new Object[MAX_CHUNK_SIZE];
+  private final Object[] values = new Object[MAX_CHUNK_SIZE];
+  private Iterator iterator;
+  // First entry of next chunk, which is taken from iterator already.
+  private boolean hasPending;
+  private Object pendingKey;
+  private Object pendingValue;
+  private int size;
+  private Class<?> keyClass;
+  private Class<?> valueClass;
+
+  void reset(Map map) {
+    Iterator iterator = map.entrySet().iterator();
+    this.iterator = iterator;
+    if (iterator.hasNext()) {
+      Map.Entry entry = (Map.Entry) iterator.next();
+      setPending(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /** Move to next chunk, return false if all entries are iterated. */
+  public boolean nextChunk() {
+    Object[] keys = this.keys;
+    Object[] values = this.values;
+    // Clear entries of last chunk to avoid holding user objects.
+    for (int i = 0; i < size; i++) {
+      keys[i] = null;
+      values[i] = null;
+    }
+    if (!hasPending) {
+      size = 0;
+      iterator = null;
+      return false;
+    }
+    Object key = pendingKey;
+    Object value = pendingValue;
+    hasPending = false;
+    pendingKey = null;
+    pendingValue = null;
+    keys[0] = key;
+    values[0] = value;
+    Class<?> keyCls = key == null ? null : key.getClass();
+    Class<?> valueCls = value == null ? null : value.getClass();
+    int size = 1;
+    Iterator iterator = this.iterator;
+    while (iterator.hasNext()) {
+      Map.Entry entry = (Map.Entry) iterator.next();
+      key = entry.getKey();
+      value = entry.getValue();
+      if (size == MAX_CHUNK_SIZE || !isInstanceOf(key, keyCls) || !isInstanceOf(value, valueCls)) {
+        setPending(key, value);
+        break;
+      }
+      keys[size] = key;
+      values[size] = value;
+      size++;
+    }
+    this.size = size;
+    keyClass = keyCls;
+    valueClass = valueCls;
+    return true;
+  }
+
+  private void setPending(Object key, Object value) {
+    hasPending = true;
+    pendingKey = key;
+    pendingValue = value;
+  }
+
+  private static boolean isInstanceOf(Object obj, Class<?> cls) {
+    return obj == null ? cls == null : obj.getClass() == cls;
+  }
+
+  /** Returns header of current chunk. */
+  public int header() {
+    int header = (size - 1) << 2;
+    if (keyClass == null) {
+      header |= KEY_NULL;
+    }
+    if (valueClass == null) {
+      header |= VALUE_NULL;
+    }
+    return header;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Returns class of keys in current chunk, or null if the keys are null. */
+  public Class<?> keyClass() {
+    return keyClass;
+  }
+
+  /** Returns class of values in current chunk, or null if the values are null. */
+  public Class<?> valueClass() {
+    return valueClass;
+  }
+
+  public boolean hasKey() {
+    return keyClass != null;
+  }
+
+  public boolean hasValue() {
+    return valueClass != null;
+  }
+
+  public Object key(int index) {
+    return keys[index];
+  }
+
+  public Object value(int index) {
+    return values[index];
+  }
+
+  /**
+   * Read header of next chunk, <code>remaining</code> is the number of entries which are not read
+   * yet.
+   */
+  public static int readChunkHeader(MemoryBuffer buffer, int remaining) {
+    int header = buffer.readByte() & 0xFF;
+    int chunkSize = chunkSize(header);
+    if (chunkSize > remaining) {
+      throw new DeserializationException(
+          String.format("Map chunk size %s exceeds remaining entries %s", chunkSize, remaining));
+    }
+    return header;
+  }
+
+  public static int chunkSize(int header) {
+    return (header >>> 2) + 1;
+  }
+
+  public static boolean hasKey(int header) {
+    return (header & KEY_NULL) == 0;
+  }
+
+  public static boolean hasValue(int header) {
+    return (header & VALUE_NULL) == 0;
+  }
+}
@@ -47,6 +47,15 @@ public class MapSerializer<T extends Map> extends AbstractMapSerializer<T> {
     return onMapRead(map);
   }
 
+  @Override
+  public T copy(T originMap) {
+    Map newMap = newMap(originMap);
+    if (!originMap.isEmpty()) {
+      copyEntries(originMap, newMap);
+    }
+    return onMapRead(newMap);
+  }
+
   @Override
   public T onMapRead(Map map) {
     return (T) map;
@@ -66,9 +66,18 @@ public class MapSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       HashMap hashMap = new HashMap(numElements);
-      fury.getRefResolver().reference(hashMap);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(hashMap);
+      }
       return hashMap;
     }
+
+    @Override
+    public HashMap newMap(Map originMap) {
+      HashMap newMap = new HashMap(originMap.size());
+      fury.reference(originMap, newMap);
+      return newMap;
+    }
   }
 
   public static final class LinkedHashMapSerializer extends MapSerializer<LinkedHashMap> {
@@ -86,9 +95,18 @@ public class MapSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       LinkedHashMap hashMap = new LinkedHashMap(numElements);
-      fury.getRefResolver().reference(hashMap);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(hashMap);
+      }
       return hashMap;
     }
+
+    @Override
+    public LinkedHashMap newMap(Map originMap) {
+      LinkedHashMap newMap = new LinkedHashMap(originMap.size());
+      fury.reference(originMap, newMap);
+      return newMap;
+    }
   }
 
   public static final class LazyMapSerializer extends MapSerializer<LazyMap> {
@@ -106,9 +124,18 @@ public class MapSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       LazyMap map = new LazyMap(numElements);
-      fury.getRefResolver().reference(map);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(map);
+      }
       return map;
     }
+
+    @Override
+    public LazyMap newMap(Map originMap) {
+      LazyMap newMap = new LazyMap(originMap.size());
+      fury.reference(originMap, newMap);
+      return newMap;
+    }
   }
 
   public static class SortedMapSerializer<T extends SortedMap> extends MapSerializer<T> {
@@ -142,7 +169,28 @@ public class MapSerializers {
           throw new RuntimeException(e);
         }
       }
-      fury.getRefResolver().reference(map);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(map);
+      }
+      return map;
+    }
+
+    /** Comparator is shared with the copied map, it's expected to be stateless. */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map newMap(Map originMap) {
+      T map;
+      Comparator comparator = ((SortedMap) originMap).comparator();
+      if (type == TreeMap.class) {
+        map = (T) new TreeMap(comparator);
+      } else {
+        try {
+          map = (T) constructor.invoke(comparator);
+        } catch (Throwable e) {
+          throw new RuntimeException(e);
+        }
+      }
+      fury.reference(originMap, map);
       return map;
     }
   }
@@ -172,6 +220,11 @@ public class MapSerializers {
       return Collections.EMPTY_MAP;
     }
 
+    @Override
+    public Map<?, ?> copy(Map<?, ?> originMap) {
+      return originMap;
+    }
+
     @Override
     public Map<?, ?> xread(MemoryBuffer buffer) {
       buffer.readVarUint32Small7();
@@ -191,6 +244,11 @@ public class MapSerializers {
     public SortedMap<?, ?> read(MemoryBuffer buffer) {
       return Collections.emptySortedMap();
     }
+
+    @Override
+    public SortedMap<?, ?> copy(SortedMap<?, ?> originMap) {
+      return originMap;
+    }
   }
 
   public static final class SingletonMapSerializer extends MapSerializer<Map<?, ?>> {
@@ -226,6 +284,13 @@ public class MapSerializers {
       return Collections.singletonMap(key, value);
     }
 
+    @Override
+    public Map<?, ?> copy(Map<?, ?> originMap) {
+      Map.Entry entry = originMap.entrySet().iterator().next();
+      return Collections.singletonMap(
+          fury.copyObject(entry.getKey()), fury.copyObject(entry.getValue()));
+    }
+
     @Override
     public Map<?, ?> xread(MemoryBuffer buffer) {
       buffer.readVarUint32Small7();
@@ -246,10 +311,19 @@ public class MapSerializers {
       int numElements = buffer.readVarUint32Small7();
       setNumElements(numElements);
       ConcurrentHashMap map = new ConcurrentHashMap(numElements);
-      fury.getRefResolver().reference(map);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(map);
+      }
       return map;
     }
 
+    @Override
+    public ConcurrentHashMap newMap(Map originMap) {
+      ConcurrentHashMap newMap = new ConcurrentHashMap(originMap.size());
+      fury.reference(originMap, newMap);
+      return newMap;
+    }
+
     @Override
     public short getXtypeId() {
       return Fury.NOT_SUPPORT_CROSS_LANGUAGE;
@@ -269,7 +343,17 @@ public class MapSerializers {
       setNumElements(numElements);
       Comparator comparator = (Comparator) fury.readRef(buffer);
       ConcurrentSkipListMap map = new ConcurrentSkipListMap(comparator);
-      fury.getRefResolver().reference(map);
+      if (needToWriteRef) {
+        fury.getRefResolver().reference(map);
+      }
+      return map;
+    }
+
+    @Override
+    public ConcurrentSkipListMap newMap(Map originMap) {
+      Comparator comparator = ((ConcurrentSkipListMap) originMap).comparator();
+      ConcurrentSkipListMap map = new ConcurrentSkipListMap(comparator);
+      fury.reference(originMap, map);
       return map;
     }
 
@@ -311,6 +395,14 @@ public class MapSerializers {
       Class<?> keyType = fury.getClassResolver().readClassInfo(buffer).getCls();
       return new EnumMap(keyType);
     }
+
+    @Override
+    public EnumMap newMap(Map originMap) {
+      Class keyType = (Class) Platform.getObject(originMap, keyTypeFieldOffset);
+      EnumMap map = new EnumMap(keyType);
+      fury.reference(originMap, map);
+      return map;
+    }
   }
 
   public static class StringKeyMapSerializer<T> extends MapSerializer<Map<String, T>> {
@@ -384,6 +476,11 @@ public class MapSerializers {
     public T read(MemoryBuffer buffer) {
       return dataSerializer.read(buffer);
     }
+
+    @Override
+    public T copy(T originMap) {
+      return dataSerializer.copy(originMap);
+    }
   }
 
   /** Map serializer for class with JDK custom serialization methods defined. */
@@ -100,6 +100,14 @@ public class SynchronizedSerializers {
       final Object sourceCollection = fury.readRef(buffer);
       return (Collection) factory.apply(sourceCollection);
     }
+
+    @Override
+    public Collection copy(Collection originObj) {
+      Object unwrapped = Platform.getObject(originObj, offset);
+      synchronized (originObj) {
+        return (Collection) factory.apply(fury.copyObject(unwrapped));
+      }
+    }
   }
 
   public static final class SynchronizedMapSerializer extends MapSerializer<Map> {
@@ -126,6 +134,14 @@ public class SynchronizedSerializers {
       final Object sourceCollection = fury.readRef(buffer);
       return (Map) factory.apply(sourceCollection);
     }
+
+    @Override
+    public Map copy(Map originObj) {
+      Object unwrapped = Platform.getObject(originObj, offset);
+      synchronized (originObj) {
+        return (Map) factory.apply(fury.copyObject(unwrapped));
+      }
+    }
   }
 
   static Serializer createSerializer(Fury fury, Class<?> cls) {
@@ -99,6 +99,11 @@ public class UnmodifiableSerializers {
       final Object sourceCollection = fury.readRef(buffer);
       return (Collection) factory.apply(sourceCollection);
     }
+
+    @Override
+    public Collection copy(Collection originObj) {
+      return (Collection) factory.apply(fury.copyObject(Platform.getObject(originObj, offset)));
+    }
   }
 
   public static final class UnmodifiableMapSerializer extends MapSerializer<Map> {
@@ -123,6 +128,11 @@ public class UnmodifiableSerializers {
       final Object sourceCollection = fury.readRef(buffer);
       return (Map) factory.apply(sourceCollection);
     }
+
+    @Override
+    public Map copy(Map originObj) {
+      return (Map) factory.apply(fury.copyObject(Platform.getObject(originObj, offset)));
+    }
   }
 
   static Serializer createSerializer(Fury fury, Class<?> cls) {
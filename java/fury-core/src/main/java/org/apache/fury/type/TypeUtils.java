@@ -28,22 +28,43 @@ import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Currency;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.fury.collection.IdentityMap;
 import org.apache.fury.collection.Tuple2;
@@ -202,6 +223,36 @@ public class TypeUtils {
     add(primToWrap, wrapToPrim, void.class, Void.class);
   }
 
+  // JDK value types whose instances can be shared by copies of an object graph.
+  private static final Set<Class<?>> immutableClasses =
+      new HashSet<>(
+          Arrays.asList(
+              String.class,
+              BigDecimal.class,
+              BigInteger.class,
+              UUID.class,
+              URI.class,
+              URL.class,
+              Pattern.class,
+              Currency.class,
+              Locale.class,
+              Class.class,
+              Instant.class,
+              Duration.class,
+              LocalDate.class,
+              LocalTime.class,
+              LocalDateTime.class,
+              OffsetTime.class,
+              OffsetDateTime.class,
+              ZonedDateTime.class,
+              Year.class,
+              YearMonth.class,
+              MonthDay.class,
+              Period.class,
+              OptionalInt.class,
+              OptionalLong.class,
+              OptionalDouble.class));
+
   private static void add(
       IdentityMap<Class<?>, Class<?>> forward,
       IdentityMap<Class<?>, Class<?>> backward,
@@ -223,6 +274,20 @@ public class TypeUtils {
     return wrapToPrim.containsKey(clz);
   }
 
+  /**
+   * Returns true if instances of <code>clz</code> can't be changed after creation, such as boxed
+   * types, {@link String}, enums and {@code java.time} types. Those objects can be shared instead
+   * of being copied when copying an object graph.
+   */
+  public static boolean isImmutable(Class<?> clz) {
+    return clz.isPrimitive()
+        || wrapToPrim.containsKey(clz)
+        || immutableClasses.contains(clz)
+        || Enum.class.isAssignableFrom(clz)
+        || ZoneId.class.isAssignableFrom(clz)
+        || Charset.class.isAssignableFrom(clz);
+  }
+
   public static Class<?> wrap(Class<?> clz) {
     return boxedType(clz);
   }
@@ -291,4 +291,105 @@ public class StringUtils {
     }
     return isLatin;
   }
+
+  /**
+   * Compress latin chars <code>chars[0, numChars)</code> into <code>bytes</code> starting at <code>
+   * bytesIndex</code>, 4 chars are checked and compressed at a time. Returns false once a non-latin
+   * char is met, bytes written by this call should be discarded then.
+   */
+  public static boolean compressLatin(char[] chars, byte[] bytes, int bytesIndex, int numChars) {
+    int i = 0;
+    if (Platform.IS_LITTLE_ENDIAN) {
+      long bytesOffset = Platform.BYTE_ARRAY_OFFSET + bytesIndex;
+      for (int vectorizedChars = numChars & ~3; i < vectorizedChars; i += 4) {
+        long multiChars = Platform.getLong(chars, Platform.CHAR_ARRAY_OFFSET + ((long) i << 1));
+        if ((multiChars & MULTI_CHARS_NON_LATIN_MASK) != 0) {
+          return false;
+        }
+        // 0x00dd00cc00bb00aa -> 0x0000ddcc0000bbaa -> 0xddccbbaa
+        multiChars = (multiChars | (multiChars >>> 8)) & 0x0000ffff0000ffffL;
+        Platform.putInt(bytes, bytesOffset + i, (int) (multiChars | (multiChars >>> 16)));
+      }
+    }
+    for (; i < numChars; i++) {
+      char c = chars[i];
+      if (c > 0xFF) {
+        return false;
+      }
+      bytes[bytesIndex + i] = (byte) c;
+    }
+    return true;
+  }
+
+  /**
+   * Inflate latin bytes <code>bytes[bytesIndex, bytesIndex + numChars)</code> into <code>
+   * chars[0, numChars)</code>, 4 bytes are inflated at a time.
+   */
+  public static void inflateLatin(byte[] bytes, int bytesIndex, char[] chars, int numChars) {
+    inflateLatin(bytes, (long) Platform.BYTE_ARRAY_OFFSET + bytesIndex, chars, numChars);
+  }
+
+  /**
+   * Inflate latin bytes at <code>offset</code> of <code>base</code> into <code>
+   * chars[0, numChars)</code>. <code>base</code> is null if <code>offset</code> is an off-heap
+   * address, so that off-heap bytes can be inflated without a temp array.
+   */
+  public static void inflateLatin(Object base, long offset, char[] chars, int numChars) {
+    int i = 0;
+    if (Platform.IS_LITTLE_ENDIAN) {
+      for (int vectorizedChars = numChars & ~3; i < vectorizedChars; i += 4) {
+        long multiChars = Platform.getInt(base, offset + i) & 0xffffffffL;
+        // 0xddccbbaa -> 0x0000ddcc0000bbaa -> 0x00dd00cc00bb00aa
+        multiChars = (multiChars | (multiChars << 16)) & 0x0000ffff0000ffffL;
+        multiChars = (multiChars | (multiChars << 8)) & 0x00ff00ff00ff00ffL;
+        Platform.putLong(chars, Platform.CHAR_ARRAY_OFFSET + ((long) i << 1), multiChars);
+      }
+    }
+    for (; i < numChars; i++) {
+      chars[i] = (char) (Platform.getByte(base, offset + i) & 0xFF);
+    }
+  }
+
+  /** Returns true if all chars are ascii, 4 chars are checked at a time. */
+  public static boolean isAscii(char[] chars) {
+    int numChars = chars.length;
+    int i = 0;
+    for (int vectorizedChars = numChars & ~3; i < vectorizedChars; i += 4) {
+      // A long read in native order holds 4 chars as 16-bit lanes regardless of endianness.
+      long multiChars = Platform.getLong(chars, Platform.CHAR_ARRAY_OFFSET + ((long) i << 1));
+      if ((multiChars & 0xff80ff80ff80ff80L) != 0) {
+        return false;
+      }
+    }
+    for (; i < numChars; i++) {
+      if (chars[i] >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns true if <code>bytes[index, index + numBytes)</code> are ascii, 8 bytes at a time. */
+  public static boolean isAscii(byte[] bytes, int index, int numBytes) {
+    return isAscii(bytes, (long) Platform.BYTE_ARRAY_OFFSET + index, numBytes);
+  }
+
+  /**
+   * Returns true if <code>numBytes</code> bytes at <code>offset</code> of <code>base</code> are
+   * ascii, <code>base</code> is null if <code>offset</code> is an off-heap address.
+   */
+  public static boolean isAscii(Object base, long offset, int numBytes) {
+    int i = 0;
+    for (int vectorizedBytes = numBytes & ~7; i < vectorizedBytes; i += 8) {
+      if ((Platform.getLong(base, offset + i) & 0x8080808080808080L) != 0) {
+        return false;
+      }
+    }
+    for (; i < numBytes; i++) {
+      if (Platform.getByte(base, offset + i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
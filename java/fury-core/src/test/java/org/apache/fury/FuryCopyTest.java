@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Language;
+import org.apache.fury.resolver.MetaContext;
+import org.apache.fury.test.bean.BeanA;
+import org.apache.fury.test.bean.Cyclic;
+import org.testng.annotations.Test;
+
+public class FuryCopyTest extends FuryTestBase {
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCopyBean(boolean enableCodegen) {
+    Fury fury = builder().withCodegen(enableCodegen).build();
+    BeanA beanA = BeanA.createBeanA(2);
+    BeanA copy = fury.copy(beanA);
+    assertNotSame(copy, beanA);
+    assertEquals(copy, beanA);
+    assertNotSame(copy.getDoubleList(), beanA.getDoubleList());
+    assertNotSame(copy.getBeanB(), beanA.getBeanB());
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCopyCompatible(boolean enableCodegen) {
+    Fury fury =
+        builder().withCodegen(enableCodegen).withCompatibleMode(CompatibleMode.COMPATIBLE).build();
+    BeanA beanA = BeanA.createBeanA(2);
+    assertEquals(fury.copy(beanA), beanA);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCopyCyclic(boolean enableCodegen) {
+    Fury fury = builder().withCodegen(enableCodegen).withRefTracking(true).build();
+    Cyclic cyclic = Cyclic.create(true);
+    Cyclic copy = fury.copy(cyclic);
+    assertNotSame(copy, cyclic);
+    assertSame(copy.cyclic, copy);
+    assertEquals(copy, cyclic);
+  }
+
+  @Test(dataProvider = "referenceTrackingConfig")
+  public void testCopySharedReference(boolean referenceTracking) {
+    Fury fury = builder().withRefTracking(referenceTracking).build();
+    List<String> shared = new ArrayList<>(Arrays.asList("a", "b"));
+    List<Object> list = new ArrayList<>(Arrays.asList(shared, shared));
+    List<Object> copy = fury.copy(list);
+    assertEquals(copy, list);
+    assertNotSame(copy.get(0), shared);
+    if (referenceTracking) {
+      assertSame(copy.get(0), copy.get(1));
+    } else {
+      assertNotSame(copy.get(0), copy.get(1));
+    }
+  }
+
+  @Test
+  public void testCopyImmutable() {
+    Fury fury = getJavaFury();
+    String str = "abc";
+    assertSame(fury.copy(str), str);
+    assertSame(fury.copy(Language.JAVA), Language.JAVA);
+    Instant instant = Instant.now();
+    assertSame(fury.copy(instant), instant);
+    BigDecimal decimal = BigDecimal.valueOf(1.5);
+    assertSame(fury.copy(decimal), decimal);
+    assertSame(fury.copy(null), null);
+  }
+
+  @Test
+  public void testCopyContainers() {
+    Fury fury = builder().withRefTracking(true).build();
+    int[] ints = new int[] {1, 2, 3};
+    assertNotSame(fury.copy(ints), ints);
+    assertEquals(fury.copy(ints), ints);
+    Object[][] arr = new String[][] {{"a"}, {"b"}};
+    Object[][] arrCopy = fury.copy(arr);
+    assertEquals(arrCopy.getClass(), String[][].class);
+    assertNotSame(arrCopy[0], arr[0]);
+    assertEquals(arrCopy, arr);
+    Date date = new Date();
+    assertNotSame(fury.copy(date), date);
+    assertEquals(fury.copy(date), date);
+    TreeSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+    set.addAll(Arrays.asList("a", "b", "c"));
+    TreeSet<String> setCopy = fury.copy(set);
+    assertEquals(setCopy, set);
+    assertSame(setCopy.comparator(), set.comparator());
+    Map<String, List<Integer>> map = new ConcurrentHashMap<>();
+    map.put("k", new ArrayList<>(Arrays.asList(1, 2)));
+    Map<String, List<Integer>> mapCopy = fury.copy(map);
+    assertEquals(mapCopy, map);
+    assertNotSame(mapCopy.get("k"), map.get("k"));
+    List<List<Integer>> unmodifiableList =
+        Collections.unmodifiableList(Collections.singletonList(new ArrayList<>()));
+    List<List<Integer>> unmodifiableListCopy = fury.copy(unmodifiableList);
+    assertEquals(unmodifiableListCopy.getClass(), unmodifiableList.getClass());
+    assertNotSame(unmodifiableListCopy.get(0), unmodifiableList.get(0));
+    EnumSet<Language> enumSet = EnumSet.of(Language.JAVA, Language.PYTHON);
+    assertEquals(fury.copy(enumSet), enumSet);
+    ImmutableList<List<Integer>> immutableList = ImmutableList.of(new ArrayList<>());
+    assertNotSame(fury.copy(immutableList).get(0), immutableList.get(0));
+    ImmutableMap<String, Object> immutableMap = ImmutableMap.of("k", new HashMap<>());
+    assertEquals(fury.copy(immutableMap), immutableMap);
+    Optional<List<Integer>> optional = Optional.of(new ArrayList<>());
+    assertNotSame(fury.copy(optional).get(), optional.get());
+  }
+
+  public static class JDKCustomBean implements Serializable {
+    public List<String> list = new ArrayList<>();
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+      stream.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+      stream.defaultReadObject();
+    }
+  }
+
+  @Test(dataProvider = "referenceTrackingConfig")
+  public void testCopyBySerialization(boolean referenceTracking) {
+    Fury fury = builder().withRefTracking(referenceTracking).build();
+    JDKCustomBean bean = new JDKCustomBean();
+    bean.list.add("a");
+    JDKCustomBean copy = fury.copy(bean);
+    assertNotSame(copy, bean);
+    assertEquals(copy.list, bean.list);
+    assertNotSame(copy.list, bean.list);
+  }
+
+  public static class JDKCustomBeanHolder {
+    public JDKCustomBean bean1;
+    public JDKCustomBean bean2;
+    public List<Object> beans;
+  }
+
+  @Test
+  public void testCopyBySerializationWithMetaShare() {
+    testCopyBySerializationWithMetaShare(false);
+    testCopyBySerializationWithMetaShare(true);
+  }
+
+  private void testCopyBySerializationWithMetaShare(boolean scoped) {
+    Fury fury =
+        builder()
+            .withRefTracking(true)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withMetaShare(true)
+            .withScopedMetaShare(scoped)
+            .build();
+    JDKCustomBeanHolder holder = new JDKCustomBeanHolder();
+    holder.bean1 = new JDKCustomBean();
+    holder.bean1.list.add("a");
+    holder.bean2 = holder.bean1;
+    holder.beans = new ArrayList<>(Arrays.asList(holder.bean1, new JDKCustomBean()));
+    MetaContext metaContext = new MetaContext();
+    if (!scoped) {
+      fury.getSerializationContext().setMetaContext(metaContext);
+    }
+    for (int i = 0; i < 2; i++) {
+      JDKCustomBeanHolder copy = fury.copy(holder);
+      assertNotSame(copy.bean1, holder.bean1);
+      assertEquals(copy.bean1.list, holder.bean1.list);
+      assertSame(copy.bean2, copy.bean1);
+      assertEquals(((JDKCustomBean) copy.beans.get(0)).list, holder.bean1.list);
+    }
+    if (!scoped) {
+      // Meta context set by users is kept for next serialization.
+      assertSame(fury.getSerializationContext().getMetaContext(), metaContext);
+    }
+    byte[] bytes = fury.serialize(holder);
+    if (!scoped) {
+      fury.getSerializationContext().setMetaContext(new MetaContext());
+    }
+    JDKCustomBeanHolder newHolder = (JDKCustomBeanHolder) fury.deserialize(bytes);
+    assertEquals(newHolder.bean1.list, holder.bean1.list);
+  }
+
+  @Test
+  public void testThreadSafeCopy() {
+    BeanA beanA = BeanA.createBeanA(2);
+    assertEquals(builder().buildThreadSafeFury().copy(beanA), beanA);
+    assertEquals(builder().buildThreadSafeFuryPool(1, 2).copy(beanA), beanA);
+  }
+}
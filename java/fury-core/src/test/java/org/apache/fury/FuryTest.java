@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -54,10 +55,12 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.apache.fury.annotation.Ignore;
 import org.apache.fury.builder.Generated;
+import org.apache.fury.config.CompatibleMode;
 import org.apache.fury.config.FuryBuilder;
 import org.apache.fury.config.Language;
 import org.apache.fury.exception.FuryException;
 import org.apache.fury.exception.InsecureException;
+import org.apache.fury.io.SerializedBatch;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.memory.Platform;
@@ -560,4 +563,40 @@ public class FuryTest extends FuryTestBase {
       Assert.assertTrue(e.getMessage().contains("[a, b]"));
     }
   }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testSerializeBatch(boolean codegen) {
+    FuryBuilder builder =
+        Fury.builder().withRefTracking(true).withCodegen(codegen).requireClassRegistration(false);
+    Fury[] furies = {
+      builder.build(),
+      builder.withScopedMetaShare(true).withCompatibleMode(CompatibleMode.COMPATIBLE).build()
+    };
+    for (Fury fury : furies) {
+      List<Object> records = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        records.add(BeanA.createBeanA(2));
+        records.add(ImmutableList.of("str" + i));
+      }
+      records.add(null);
+      SerializedBatch sharedBatch = fury.serializeBatch(records, true);
+      assertEquals(sharedBatch.numRecords(), records.size());
+      assertEquals(fury.deserializeBatch(sharedBatch.getBytes()), records);
+      assertThrows(IllegalStateException.class, () -> fury.deserializeBatchRecord(sharedBatch, 1));
+      SerializedBatch batch = fury.serializeBatch(records, false);
+      for (int i = records.size() - 1; i >= 0; i--) {
+        assertEquals(fury.deserializeBatchRecord(batch, i), records.get(i));
+      }
+      MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(32);
+      int[] offsets = fury.serializeBatch(buffer, records, false);
+      assertEquals(offsets.length, records.size() + 1);
+      assertEquals(fury.deserializeBatch(buffer), records);
+      // Records without shared meta can be deserialized alone in any order.
+      for (int i = records.size() - 1; i >= 0; i--) {
+        buffer.readerIndex(offsets[i]);
+        assertEquals(fury.deserializeBatchRecord(buffer), records.get(i));
+        assertEquals(buffer.readerIndex(), offsets[i + 1]);
+      }
+    }
+  }
 }
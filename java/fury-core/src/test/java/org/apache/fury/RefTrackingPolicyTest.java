@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import org.apache.fury.annotation.Ref;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.FuryBuilder;
+import org.testng.annotations.Test;
+
+public class RefTrackingPolicyTest extends FuryTestBase {
+
+  @Ref(false)
+  public static class Leaf {
+    public String value;
+    public List<Integer> ints = new ArrayList<>();
+  }
+
+  public static class Plain {
+    public String value;
+  }
+
+  public static class Node {
+    public String name;
+    public Node self;
+    public Leaf leaf1;
+    public Leaf leaf2;
+    public Plain plain1;
+    public Plain plain2;
+
+    @Ref(false)
+    public Plain plain3;
+
+    @Ref(false)
+    public List<String> list1;
+
+    public List<String> list2;
+    public List<Object> objects = new ArrayList<>();
+    public Object any;
+
+    @Ref(false)
+    public Object anyPlain;
+  }
+
+  private static Node createNode() {
+    Node node = new Node();
+    node.name = "node";
+    node.self = node;
+    Leaf leaf = new Leaf();
+    leaf.value = "leaf";
+    leaf.ints.add(1);
+    node.leaf1 = leaf;
+    node.leaf2 = leaf;
+    Plain plain = new Plain();
+    plain.value = "plain";
+    node.plain1 = plain;
+    node.plain2 = plain;
+    node.plain3 = plain;
+    List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+    node.list1 = list;
+    node.list2 = list;
+    node.objects.addAll(Arrays.asList(leaf, plain, leaf, node));
+    node.any = leaf;
+    node.anyPlain = plain;
+    return node;
+  }
+
+  private static FuryBuilder furyBuilder(boolean enableCodegen, boolean metaShare) {
+    FuryBuilder builder = builder().withRefTracking(true).withCodegen(enableCodegen);
+    if (metaShare) {
+      builder.withCompatibleMode(CompatibleMode.COMPATIBLE).withScopedMetaShare(true);
+    }
+    return builder;
+  }
+
+  private static void checkNode(Node node) {
+    // Cycles and shared objects of tracked types are kept.
+    assertSame(node.self, node);
+    assertSame(node.plain1, node.plain2);
+    assertSame(node.objects.get(1), node.plain1);
+    assertSame(node.objects.get(3), node);
+    // Untracked type.
+    assertNotSame(node.leaf1, node.leaf2);
+    assertNotSame(node.objects.get(0), node.objects.get(2));
+    assertEquals(node.leaf1.value, "leaf");
+    assertEquals(node.leaf2.ints, Arrays.asList(1));
+    assertEquals(((Leaf) node.any).value, "leaf");
+    // Untracked fields.
+    assertNotSame(node.plain3, node.plain1);
+    assertEquals(node.plain3.value, "plain");
+    assertNotSame(node.anyPlain, node.plain1);
+    assertEquals(((Plain) node.anyPlain).value, "plain");
+    assertNotSame(node.list1, node.list2);
+    assertEquals(node.list1, node.list2);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testRefTrackingPolicy(boolean enableCodegen) {
+    for (boolean metaShare : new boolean[] {false, true}) {
+      Fury fury = furyBuilder(enableCodegen, metaShare).build();
+      checkNode(serDe(fury, createNode()));
+    }
+  }
+
+  public static final class Point {
+    public int x;
+    public Point self;
+  }
+
+  public static class Shape {
+    public Point p1;
+    public Point p2;
+
+    @Ref(false)
+    public Point p3;
+
+    public int[] ints1;
+
+    @Ref(false)
+    public int[] ints2;
+  }
+
+  @Test
+  public void testRefIgnoredFieldsAcrossSerializers() {
+    for (CompatibleMode mode : CompatibleMode.values()) {
+      Fury codegenFury = builder().withRefTracking(true).withCompatibleMode(mode).build();
+      Fury interpreterFury =
+          builder().withRefTracking(true).withCompatibleMode(mode).withCodegen(false).build();
+      Shape shape = new Shape();
+      shape.p1 = new Point();
+      shape.p1.x = 1;
+      shape.p1.self = shape.p1;
+      shape.p2 = shape.p1;
+      shape.p3 = shape.p1;
+      shape.ints1 = new int[] {1, 2};
+      shape.ints2 = shape.ints1;
+      // Generated and interpreter serializers must agree on `@Ref(false)` fields.
+      for (Fury[] furies :
+          new Fury[][] {{codegenFury, interpreterFury}, {interpreterFury, codegenFury}}) {
+        Shape newShape = (Shape) serDe(furies[0], furies[1], shape);
+        assertSame(newShape.p1, newShape.p2);
+        assertSame(newShape.p1.self, newShape.p1);
+        assertSame(newShape.p3.self, newShape.p1);
+        assertEquals(newShape.p3.x, 1);
+        assertNotSame(newShape.ints2, newShape.ints1);
+        assertEquals(newShape.ints2, shape.ints1);
+        if (mode == CompatibleMode.SCHEMA_CONSISTENT) {
+          // Compatible mode writes fields of unregistered types with ref always.
+          assertNotSame(newShape.p3, newShape.p1);
+          checkNode((Node) serDe(furies[0], furies[1], createNode()));
+        }
+      }
+    }
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testSetRefTracking(boolean enableCodegen) {
+    Fury fury = furyBuilder(enableCodegen, false).build();
+    fury.setRefTracking(Plain.class, false);
+    Node node = serDe(fury, createNode());
+    assertNotSame(node.plain1, node.plain2);
+    assertNotSame(node.objects.get(1), node.plain1);
+    assertSame(node.self, node);
+    fury.setRefTracking(ArrayList.class, false);
+    List<Object> shared = new ArrayList<>(Arrays.asList("a", 1));
+    List<Object> list = new LinkedList<>(Arrays.asList(shared, shared));
+    List<Object> newList = serDe(fury, list);
+    assertEquals(newList, list);
+    assertNotSame(newList.get(0), newList.get(1));
+  }
+
+  @Test
+  public void testRefTrackingDisabled() {
+    Fury fury = builder().withRefTracking(false).build();
+    assertFalse(fury.getClassResolver().isRefTrackingEnabled(Plain.class));
+    Node node = new Node();
+    node.plain3 = new Plain();
+    node.plain3.value = "plain";
+    node.list1 = new ArrayList<>(Arrays.asList("a"));
+    Node newNode = serDe(fury, node);
+    assertEquals(newNode.plain3.value, "plain");
+    assertEquals(newNode.list1, node.list1);
+  }
+}
@@ -28,12 +28,29 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fury.config.ArrayEncoding;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.io.FuryGatheringChannel;
 import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.io.FuryMappedFileReader;
+import org.apache.fury.io.FuryMappedFileWriter;
+import org.apache.fury.io.FuryOutputStream;
 import org.apache.fury.io.FuryReadableChannel;
 import org.apache.fury.io.FuryStreamReader;
+import org.apache.fury.io.FuryStreamWriter;
+import org.apache.fury.io.FuryWritableChannel;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.PooledMemoryAllocator;
 import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.test.bean.BeanA;
 import org.testng.annotations.Test;
@@ -320,4 +337,258 @@ public class StreamTest {
       }
     }
   }
+
+  @Test
+  public void testFuryOutputStream() throws IOException {
+    Fury fury = Fury.builder().requireClassRegistration(false).withRefTracking(true).build();
+    List<BeanA> beans = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      beans.add(BeanA.createBeanA(2));
+    }
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    int[] maxChunkSize = new int[1];
+    OutputStream sink =
+        new OutputStream() {
+          @Override
+          public void write(int b) {
+            bas.write(b);
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) {
+            maxChunkSize[0] = Math.max(maxChunkSize[0], len);
+            bas.write(b, off, len);
+          }
+        };
+    try (FuryOutputStream stream = FuryStreamWriter.of(sink)) {
+      fury.serialize(stream, beans);
+      fury.serialize(stream, beans);
+      assertEquals(stream.getBuffer().writerIndex(), 0);
+    }
+    byte[] bytes = bas.toByteArray();
+    assertTrue(bytes.length > 4096 * 4);
+    assertTrue(maxChunkSize[0] < 4096 * 2, String.valueOf(maxChunkSize[0]));
+    assertEquals(bytes.length, fury.serialize(beans).length * 2);
+    FuryInputStream input = of(new ByteArrayInputStream(bytes));
+    assertEquals(fury.deserialize(input), beans);
+    assertEquals(fury.deserialize(input), beans);
+  }
+
+  @Test
+  public void testFuryOutputStreamMetaShare() throws IOException {
+    Fury fury =
+        Fury.builder()
+            .requireClassRegistration(false)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(true)
+            .build();
+    List<BeanA> beans = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      beans.add(BeanA.createBeanA(2));
+    }
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = FuryStreamWriter.of(bas)) {
+      fury.serialize(stream, beans);
+    }
+    assertEquals(fury.deserialize(bas.toByteArray()), beans);
+  }
+
+  @Test
+  public void testLargeValueStreaming() throws IOException {
+    char[] chars = new char[100000];
+    Arrays.fill(chars, 'a');
+    String latinStr = new String(chars);
+    chars[10] = '\u4e2d';
+    String utf16Str = new String(chars);
+    byte[] bytes = new byte[100000];
+    Arrays.fill(bytes, (byte) 1);
+    long[] longs = new long[100000];
+    Arrays.fill(longs, 1L << 40);
+    List<Object> values = Arrays.asList(latinStr, utf16Str, bytes, new int[100000], longs);
+    for (ArrayEncoding encoding : new ArrayEncoding[] {ArrayEncoding.RAW, ArrayEncoding.VARINT}) {
+      Fury fury =
+          Fury.builder().requireClassRegistration(false).withArrayEncoding(encoding).build();
+      ByteArrayOutputStream bas = new ByteArrayOutputStream();
+      int[] maxChunkSize = new int[1];
+      OutputStream sink =
+          new OutputStream() {
+            @Override
+            public void write(int b) {
+              bas.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+              maxChunkSize[0] = Math.max(maxChunkSize[0], len);
+              bas.write(b, off, len);
+            }
+          };
+      try (FuryOutputStream stream = FuryStreamWriter.of(sink)) {
+        fury.serialize(stream, values);
+      }
+      // Large values are flushed in chunks instead of being buffered as a whole.
+      assertTrue(maxChunkSize[0] < 4096 * 3, String.valueOf(maxChunkSize[0]));
+      List<?> newValues = (List<?>) fury.deserialize(bas.toByteArray());
+      assertEquals(newValues.get(0), latinStr);
+      assertEquals(newValues.get(1), utf16Str);
+      assertEquals(newValues.get(2), bytes);
+      assertEquals(newValues.get(3), new int[100000]);
+      assertEquals(newValues.get(4), longs);
+    }
+  }
+
+  @Test
+  public void testLargeDirectWrite() throws IOException {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    byte[] large = new byte[10000];
+    Arrays.fill(large, (byte) 1);
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = FuryStreamWriter.of(bas)) {
+      stream.write(new byte[] {1, 2}, 0, 2);
+      stream.write(large, 0, large.length);
+      // large data is written to the sink directly without growing the buffer.
+      assertEquals(stream.getBuffer().size(), 4096);
+      fury.serialize(stream, "abc");
+    }
+    ByteArrayOutputStream channelBas = new ByteArrayOutputStream();
+    try (FuryWritableChannel channel = FuryStreamWriter.of(Channels.newChannel(channelBas))) {
+      channel.write(ByteBuffer.wrap(new byte[] {1, 2}));
+      channel.write(ByteBuffer.wrap(large));
+      assertEquals(channel.getBuffer().size(), 4096);
+      fury.serialize(channel, "abc");
+    }
+    for (byte[] bytes : new byte[][] {bas.toByteArray(), channelBas.toByteArray()}) {
+      assertEquals(bytes.length, 2 + large.length + fury.serialize("abc").length);
+      assertEquals(Arrays.copyOfRange(bytes, 2, 2 + large.length), large);
+      assertEquals(
+          fury.deserialize(Arrays.copyOfRange(bytes, 2 + large.length, bytes.length)), "abc");
+    }
+  }
+
+  @Test
+  public void testWritableChannel() throws IOException {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    BeanA beanA = BeanA.createBeanA(2);
+    List<BeanA> beans = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      beans.add(beanA);
+    }
+    Path tempFile = Files.createTempFile("writable_channel_test", "data_1");
+    try {
+      try (FuryWritableChannel channel =
+          FuryStreamWriter.of(Files.newByteChannel(tempFile, StandardOpenOption.WRITE))) {
+        fury.serialize(channel, beanA);
+        fury.serialize(channel, beans);
+      }
+      try (FuryReadableChannel channel = of(Files.newByteChannel(tempFile))) {
+        assertEquals(fury.deserialize(channel), beanA);
+        assertEquals(fury.deserialize(channel), beans);
+      }
+    } finally {
+      Files.delete(tempFile);
+    }
+  }
+
+  @Test
+  public void testMappedFile() throws IOException {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    BeanA beanA = BeanA.createBeanA(2);
+    List<BeanA> beans = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      beans.add(beanA);
+    }
+    Path tempFile = Files.createTempFile("mapped_file_test", "data_1");
+    try {
+      // Use a small window to cover window grow and move.
+      long size;
+      try (FuryMappedFileWriter writer = new FuryMappedFileWriter(tempFile, 64)) {
+        fury.serialize(writer, beanA);
+        fury.serialize(writer, beans);
+        fury.serialize(writer, "abc");
+        size = writer.position();
+      }
+      assertEquals(Files.size(tempFile), size);
+      try (FuryMappedFileReader reader = new FuryMappedFileReader(tempFile, 64)) {
+        assertEquals(fury.deserialize(reader), beanA);
+        assertEquals(fury.deserialize(reader), beans);
+        assertEquals(fury.deserialize(reader), "abc");
+        assertTrue(reader.isEnd());
+      }
+    } finally {
+      Files.delete(tempFile);
+    }
+  }
+
+  @Test
+  public void testPooledStreamSlicedBuffer() {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    for (int i = 0; i < 3; i++) {
+      byte[] bytes = new byte[10000];
+      Arrays.fill(bytes, (byte) i);
+      fury.serialize(bos, ByteBuffer.wrap(bytes));
+    }
+    PooledMemoryAllocator allocator = new PooledMemoryAllocator();
+    InputStream input =
+        new ByteArrayInputStream(bos.toByteArray()) {
+          @Override
+          public synchronized int read(byte[] b, int off, int len) {
+            // Read small chunks so that every value grows the buffer.
+            return super.read(b, off, Math.min(len, 100));
+          }
+        };
+    FuryInputStream stream = new FuryInputStream(input, 16, allocator);
+    // Buffer grows to hold every value, then shrinks after deserialization. The memory held by
+    // the returned slice must not be reused by the following pooled reads.
+    ByteBuffer buffer = (ByteBuffer) fury.deserialize(stream);
+    for (int i = 1; i < 3; i++) {
+      ByteBuffer newBuffer = (ByteBuffer) fury.deserialize(stream);
+      assertEquals(newBuffer.remaining(), 10000);
+      assertEquals(newBuffer.get(0), (byte) i);
+    }
+    assertEquals(buffer.remaining(), 10000);
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(buffer.get(i), (byte) 0);
+    }
+  }
+
+  @Test
+  public void testGatheringChannel() throws IOException {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      byte[] bytes = new byte[i * 100];
+      Arrays.fill(bytes, (byte) i);
+      list.add(bytes);
+      list.add("str" + i);
+    }
+    list.add(ByteBuffer.wrap(new byte[10000]));
+    Path tempFile = Files.createTempFile("gathering_channel_test", "data_1");
+    try {
+      // Use small segments to cover segment sealing and payload reference.
+      try (FuryGatheringChannel channel =
+          new FuryGatheringChannel(
+              FileChannel.open(tempFile, StandardOpenOption.WRITE),
+              1024,
+              512,
+              new PooledMemoryAllocator())) {
+        fury.serialize(channel, list);
+        fury.serialize(channel, list, o -> true);
+      }
+      try (FuryReadableChannel channel = of(Files.newByteChannel(tempFile))) {
+        List<?> list1 = (List<?>) fury.deserialize(channel);
+        List<?> list2 = (List<?>) fury.deserialize(channel, new ArrayList<>());
+        for (List<?> newList : Arrays.asList(list1, list2)) {
+          assertEquals(newList.size(), list.size());
+          for (int i = 0; i < 200; i += 2) {
+            assertEquals((byte[]) newList.get(i), (byte[]) list.get(i));
+            assertEquals(newList.get(i + 1), list.get(i + 1));
+          }
+          assertEquals(newList.get(200), list.get(200));
+        }
+      }
+    } finally {
+      Files.delete(tempFile);
+    }
+  }
 }
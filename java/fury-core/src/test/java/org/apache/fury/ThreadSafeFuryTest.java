@@ -23,11 +23,17 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.Data;
@@ -74,6 +80,83 @@ public class ThreadSafeFuryTest extends FuryTestBase {
     assertFalse(hasException);
   }
 
+  @Test
+  public void testBoundedFuryPool() throws Exception {
+    BeanA beanA = BeanA.createBeanA(2);
+    ThreadSafeFury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .requireClassRegistration(false)
+            .buildThreadSafeFuryPool(0, 2);
+    Set<Fury> furySet = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int j = 0; j < 10; j++) {
+                  assertEquals(fury.deserialize(fury.serialize(beanA)), beanA);
+                  fury.execute(furySet::add);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+    assertTrue(furySet.size() <= 2, furySet.toString());
+  }
+
+  @Test
+  public void testVirtualThreadSafeFury() throws Exception {
+    BeanA beanA = BeanA.createBeanA(2);
+    ThreadSafeFury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .requireClassRegistration(false)
+            .buildVirtualThreadSafeFury();
+    // Borrowing never blocks, a bounded pool would deadlock on nested borrowing.
+    List<Fury> borrowed = new ArrayList<>();
+    borrowNested(fury, borrowed, 32);
+    assertEquals(new HashSet<>(borrowed).size(), 32);
+    // Idle fury are reused.
+    Set<Fury> furySet = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(fury.deserialize(fury.serialize(beanA)), beanA);
+      fury.execute(furySet::add);
+    }
+    assertEquals(furySet.size(), 1);
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int j = 0; j < 10; j++) {
+                  assertEquals(fury.deserialize(fury.serialize(beanA)), beanA);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+  }
+
+  private static void borrowNested(ThreadSafeFury fury, List<Fury> borrowed, int depth) {
+    if (depth > 0) {
+      fury.execute(
+          f -> {
+            borrowed.add(f);
+            borrowNested(fury, borrowed, depth - 1);
+            return null;
+          });
+    }
+  }
+
   @Test
   public void testRegistration() throws Exception {
     BeanB bean = BeanB.createBeanB(2);
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.builder;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Language;
+import org.apache.fury.serializer.Serializer;
+import org.apache.fury.serializer.Serializers;
+import org.testng.annotations.Test;
+
+public class AotSerializersTest extends FuryTestBase {
+
+  public static class AotBean {
+    public int f1;
+    public String f2;
+    public long[] f3;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      AotBean aotBean = (AotBean) o;
+      return f1 == aotBean.f1 && Objects.equals(f2, aotBean.f2) && Arrays.equals(f3, aotBean.f3);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(f1, f2);
+    }
+  }
+
+  private static Fury createFury(CompatibleMode mode) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCompatibleMode(mode)
+            .withCodegen(true)
+            .build();
+    fury.register(AotBean.class);
+    return fury;
+  }
+
+  @Test
+  public void testFingerprint() {
+    assertEquals(
+        AotSerializers.fingerprint(createFury(CompatibleMode.SCHEMA_CONSISTENT)),
+        AotSerializers.fingerprint(createFury(CompatibleMode.SCHEMA_CONSISTENT)));
+    assertNotEquals(
+        AotSerializers.fingerprint(createFury(CompatibleMode.SCHEMA_CONSISTENT)),
+        AotSerializers.fingerprint(createFury(CompatibleMode.COMPATIBLE)));
+    Fury fury = createFury(CompatibleMode.SCHEMA_CONSISTENT);
+    String fingerprint = AotSerializers.fingerprint(fury);
+    fury.register(AotSerializersTest.class);
+    assertNotEquals(AotSerializers.fingerprint(fury), fingerprint);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void testGenerateAndLoad() throws Exception {
+    Path dir = Files.createTempDirectory("fury_aot");
+    Fury fury = createFury(CompatibleMode.SCHEMA_CONSISTENT);
+    List<String> generated = AotSerializers.generate(fury, dir);
+    assertEquals(generated.size(), 1);
+    List<String> index = Files.readAllLines(dir.resolve(AotSerializers.INDEX_RESOURCE));
+    assertEquals(index, generated);
+    try (URLClassLoader loader =
+        new URLClassLoader(new URL[] {dir.toUri().toURL()}, getClass().getClassLoader())) {
+      Fury fury2 = createFury(CompatibleMode.SCHEMA_CONSISTENT);
+      Class<? extends Serializer<AotBean>> cls =
+          AotSerializers.loadAotCodecClass(
+              loader, AotBean.class, fury2, new ObjectCodecBuilder(AotBean.class, fury2));
+      assertNotNull(cls);
+      assertEquals(cls.getName(), generated.get(0));
+      assertTrue(Generated.GeneratedSerializer.class.isAssignableFrom(cls));
+      fury2.registerSerializer(
+          AotBean.class, Serializers.newSerializer(fury2, AotBean.class, (Class) cls));
+      AotBean bean = new AotBean();
+      bean.f1 = 10;
+      bean.f2 = "abc";
+      bean.f3 = new long[] {1, 2, 3};
+      assertEquals(serDe(fury2, bean), bean);
+      // Different registrations won't match precompiled serializers.
+      Fury fury3 = createFury(CompatibleMode.SCHEMA_CONSISTENT);
+      fury3.register(AotSerializersTest.class);
+      assertNull(
+          AotSerializers.loadAotCodecClass(
+              loader, AotBean.class, fury3, new ObjectCodecBuilder(AotBean.class, fury3)));
+    }
+  }
+}
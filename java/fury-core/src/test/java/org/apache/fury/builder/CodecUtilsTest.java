@@ -21,7 +21,14 @@ package org.apache.fury.builder;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
 import org.apache.fury.Fury;
+import org.apache.fury.codegen.BytecodeCache;
+import org.apache.fury.codegen.CompileUnit;
+import org.apache.fury.codegen.JaninoUtils;
 import org.apache.fury.config.Language;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
@@ -52,4 +59,55 @@ public class CodecUtilsTest {
     Object obj = serializer.read(MemoryUtils.wrap(bytes));
     assertEquals(obj, beanA);
   }
+
+  @Test
+  public void testBytecodeCacheNestedTypeChange() throws Exception {
+    Path cacheDir = Files.createTempDirectory("fury_code_cache");
+    System.setProperty(BytecodeCache.CACHE_DIR_KEY, cacheDir.toString());
+    try {
+      // Declared fields of `Outer` are same, but generated code differs since `Inner` is final
+      // in first version only.
+      serializeOuter("public final class Inner {");
+      assertEquals(numCachedOuterCodecs(cacheDir), 1);
+      serializeOuter("public final class Inner {");
+      assertEquals(numCachedOuterCodecs(cacheDir), 1);
+      serializeOuter("public class Inner {");
+      assertEquals(numCachedOuterCodecs(cacheDir), 2);
+    } finally {
+      System.clearProperty(BytecodeCache.CACHE_DIR_KEY);
+    }
+  }
+
+  private void serializeOuter(String innerDecl) throws Exception {
+    CompileUnit outer =
+        new CompileUnit(
+            "demo.cache",
+            "Outer",
+            "package demo.cache;\npublic class Outer {\n  public Inner inner;\n}");
+    CompileUnit inner =
+        new CompileUnit(
+            "demo.cache", "Inner", "package demo.cache;\n" + innerDecl + "\n  public int x;\n}");
+    // A new class loader simulates a new process.
+    ClassLoader loader = JaninoUtils.compile(getClass().getClassLoader(), outer, inner);
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withClassLoader(loader)
+            .requireClassRegistration(false)
+            .build();
+    Class<?> outerClass = loader.loadClass("demo.cache.Outer");
+    Class<?> innerClass = loader.loadClass("demo.cache.Inner");
+    Object innerObj = innerClass.newInstance();
+    innerClass.getField("x").setInt(innerObj, 10);
+    Object outerObj = outerClass.newInstance();
+    outerClass.getField("inner").set(outerObj, innerObj);
+    Object newObj = fury.deserialize(fury.serialize(outerObj));
+    assertEquals(innerClass.getField("x").getInt(outerClass.getField("inner").get(newObj)), 10);
+  }
+
+  private static long numCachedOuterCodecs(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.filter(p -> p.getFileName().toString().startsWith("demo.cache.Outer")).count();
+    }
+  }
 }
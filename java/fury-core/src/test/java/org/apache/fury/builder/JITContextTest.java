@@ -20,9 +20,11 @@
 package org.apache.fury.builder;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import java.lang.reflect.Field;
 import java.util.List;
 import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
@@ -124,4 +126,73 @@ public class JITContextTest extends FuryTestBase {
     fury.getSerializationContext().setMetaContext(context);
     assertEquals(fury.deserialize(bytes2), beanA);
   }
+
+  public static final class NestedStruct {
+    public int f1;
+    public String f2;
+  }
+
+  public static class OuterStruct {
+    public NestedStruct f1;
+    public NestedStruct f2;
+    public long f3;
+  }
+
+  @Test(timeOut = 60_000)
+  public void testAsyncCompilationNested() throws Exception {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .requireClassRegistration(false)
+            .withAsyncCompilation(true)
+            .build();
+    OuterStruct struct = new OuterStruct();
+    struct.f1 = new NestedStruct();
+    struct.f1.f1 = 1;
+    struct.f1.f2 = "abc";
+    struct.f3 = 100;
+    byte[] bytes = fury.serialize(struct);
+    // Nested field serializers are compiled asynchronously too, and will be updated
+    // into outer jit serializer when finished.
+    while (!(getSerializer(fury, OuterStruct.class) instanceof Generated)
+        || !(getSerializer(fury, NestedStruct.class) instanceof Generated)) {
+      Thread.sleep(100);
+    }
+    // Field serializers of outer jit serializer are swapped to nested jit serializer.
+    while (!nestedSerializersJitted(fury)) {
+      Thread.sleep(100);
+    }
+    OuterStruct newStruct = (OuterStruct) fury.deserialize(bytes);
+    assertEquals(newStruct.f1.f2, "abc");
+    Assert.assertNull(newStruct.f2);
+    assertEquals(newStruct.f3, 100L);
+    newStruct = (OuterStruct) fury.deserialize(fury.serialize(struct));
+    assertEquals(newStruct.f1.f1, 1);
+    Assert.assertNull(fury.getJITContext().getPendingTask(OuterStruct.class));
+  }
+
+  private boolean nestedSerializersJitted(Fury fury) throws IllegalAccessException {
+    Serializer<?> outerSerializer = getSerializer(fury, OuterStruct.class);
+    int numNestedSerializers = 0;
+    try {
+      fury.getJITContext().lock();
+      for (Field field : outerSerializer.getClass().getDeclaredFields()) {
+        if (field.getType() != Serializer.class) {
+          continue;
+        }
+        field.setAccessible(true);
+        Serializer<?> fieldSerializer = (Serializer<?>) field.get(outerSerializer);
+        if (fieldSerializer != null && fieldSerializer.getType() == NestedStruct.class) {
+          if (!(fieldSerializer instanceof Generated)) {
+            return false;
+          }
+          numNestedSerializers++;
+        }
+      }
+    } finally {
+      fury.getJITContext().unlock();
+    }
+    assertTrue(numNestedSerializers > 0);
+    return true;
+  }
 }
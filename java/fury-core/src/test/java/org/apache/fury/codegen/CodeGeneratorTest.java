@@ -23,7 +23,10 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -32,6 +35,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.apache.fury.Fury;
 import org.apache.fury.builder.ObjectCodecBuilder;
 import org.apache.fury.collection.MultiKeyWeakMap;
@@ -205,4 +209,53 @@ public class CodeGeneratorTest {
     ClassLoader classLoader2 = codeGenerator.compile(unit1, unit2);
     Assert.assertSame(classLoader, classLoader2);
   }
+
+  @Test
+  public void testBytecodeCache() throws Exception {
+    Path cacheDir = Files.createTempDirectory("fury_code_cache");
+    System.setProperty(BytecodeCache.CACHE_DIR_KEY, cacheDir.toString());
+    try {
+      String code =
+          ""
+              + "package demo.cache;\n"
+              + "public class A {\n"
+              + "  public static String hello() { return \"HELLO\"; }\n"
+              + "}";
+      CompileUnit unit = new CompileUnit("demo.cache", "A", () -> code);
+      unit.setCacheKey("v1");
+      ClassLoader classLoader = new CodeGenerator(getClass().getClassLoader()).compile(unit);
+      Assert.assertEquals(
+          "HELLO", classLoader.loadClass("demo.cache.A").getMethod("hello").invoke(null));
+      Assert.assertEquals(numFiles(cacheDir), 1);
+      // A new generator simulates a new process, cached classes of same source are loaded.
+      CompileUnit unit2 = new CompileUnit("demo.cache", "A", () -> code);
+      unit2.setCacheKey("v1");
+      classLoader = new CodeGenerator(getClass().getClassLoader()).compile(unit2);
+      Assert.assertEquals(
+          "HELLO", classLoader.loadClass("demo.cache.A").getMethod("hello").invoke(null));
+      Assert.assertEquals(numFiles(cacheDir), 1);
+      // Changed source with same key doesn't hit cached classes.
+      CompileUnit unit3 = new CompileUnit("demo.cache", "A", () -> code.replace("HELLO", "HELLO2"));
+      unit3.setCacheKey("v1");
+      classLoader = new CodeGenerator(getClass().getClassLoader()).compile(unit3);
+      Assert.assertEquals(
+          "HELLO2", classLoader.loadClass("demo.cache.A").getMethod("hello").invoke(null));
+      Assert.assertEquals(numFiles(cacheDir), 2);
+      // Changed key invalidates cached classes.
+      CompileUnit unit4 = new CompileUnit("demo.cache", "A", () -> code);
+      unit4.setCacheKey("v2");
+      classLoader = new CodeGenerator(getClass().getClassLoader()).compile(unit4);
+      Assert.assertEquals(
+          "HELLO", classLoader.loadClass("demo.cache.A").getMethod("hello").invoke(null));
+      Assert.assertEquals(numFiles(cacheDir), 3);
+    } finally {
+      System.clearProperty(BytecodeCache.CACHE_DIR_KEY);
+    }
+  }
+
+  private static long numFiles(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.count();
+    }
+  }
 }
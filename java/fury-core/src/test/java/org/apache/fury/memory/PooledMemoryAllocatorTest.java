@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fury.Fury;
+import org.testng.annotations.Test;
+
+public class PooledMemoryAllocatorTest {
+
+  @Test
+  public void testAllocateHeap() {
+    PooledMemoryAllocator allocator = new PooledMemoryAllocator(1024, 4096);
+    byte[] bytes = allocator.allocateHeap(100);
+    assertEquals(bytes.length, 128);
+    allocator.releaseHeap(bytes);
+    assertEquals(allocator.getCachedHeapBytes(), 128);
+    assertSame(allocator.allocateHeap(65), bytes);
+    assertEquals(allocator.getCachedHeapBytes(), 0);
+    // not pooled
+    assertEquals(allocator.allocateHeap(2000).length, 2000);
+    allocator.releaseHeap(new byte[2048]);
+    allocator.releaseHeap(new byte[100]);
+    assertEquals(allocator.getCachedHeapBytes(), 0);
+    // size class is bounded by cached bytes.
+    for (int i = 0; i < 10; i++) {
+      allocator.releaseHeap(new byte[1024]);
+    }
+    assertEquals(allocator.getCachedHeapBytes(), 4096);
+  }
+
+  @Test
+  public void testAllocateDirect() {
+    PooledMemoryAllocator allocator = new PooledMemoryAllocator();
+    ByteBuffer buffer = allocator.allocateDirect(1000);
+    assertEquals(buffer.capacity(), 1024);
+    buffer.putInt(1);
+    allocator.releaseDirect(buffer);
+    ByteBuffer buffer2 = allocator.allocateDirect(1000);
+    assertSame(buffer2, buffer);
+    assertEquals(buffer2.position(), 0);
+    assertNotSame(allocator.allocateDirect(1000), buffer);
+  }
+
+  @Test
+  public void testBufferGrow() {
+    PooledMemoryAllocator allocator = new PooledMemoryAllocator();
+    MemoryBuffer buffer = allocator.newHeapBuffer(64);
+    for (int i = 0; i < 1000; i++) {
+      buffer.writeInt64(i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(buffer.readInt64(), i);
+    }
+    // arrays before growth are released to the allocator.
+    assertEquals(allocator.getCachedHeapBytes(), 64 + 512 + 4096);
+  }
+
+  @Test
+  public void testFuryWithAllocator() {
+    PooledMemoryAllocator allocator = new PooledMemoryAllocator();
+    Fury fury =
+        Fury.builder().requireClassRegistration(false).withMemoryAllocator(allocator).build();
+    List<String> list = new ArrayList<>();
+    for (int i = 0; i < 100000; i++) {
+      list.add("str" + i);
+    }
+    for (int i = 0; i < 3; i++) {
+      assertEquals(fury.deserialize(fury.serialize(list)), list);
+    }
+    assertEquals(fury.deserialize(fury.serialize("abc")), "abc");
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.ObjectName;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.Language;
+import org.apache.fury.io.FuryGatheringChannel;
+import org.apache.fury.io.FuryOutputStream;
+import org.apache.fury.io.SerializedBatch;
+import org.apache.fury.memory.MemoryBuffer;
+import org.testng.annotations.Test;
+
+public class FuryStatsTest extends FuryTestBase {
+
+  public static class MetricsStruct {
+    public int f1;
+    public List<String> f2;
+  }
+
+  private static Fury createFury(FuryStats stats, boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .withCodegen(codegen)
+            .withMetrics(stats)
+            .requireClassRegistration(false)
+            .build();
+    return fury;
+  }
+
+  private static MetricsStruct createStruct() {
+    MetricsStruct struct = new MetricsStruct();
+    struct.f1 = 1;
+    struct.f2 = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      struct.f2.add("str" + i);
+    }
+    return struct;
+  }
+
+  @Test
+  public void testTypeStats() {
+    FuryStats stats = new FuryStats();
+    Fury fury = createFury(stats, true);
+    MetricsStruct struct = createStruct();
+    byte[] bytes = fury.serialize(struct);
+    fury.deserialize(bytes);
+    fury.serialize("abc");
+    FuryStats.TypeStats typeStats = stats.getSerializeStats().get(MetricsStruct.class);
+    assertEquals(typeStats.getCount(), 1L);
+    assertEquals(typeStats.getBytes(), (long) bytes.length);
+    assertEquals(typeStats.getLatency().getCount(), 1L);
+    assertTrue(typeStats.getLatency().getPercentile(0.99) >= typeStats.getTotalNanos());
+    assertEquals(
+        stats.getDeserializeStats().get(MetricsStruct.class).getBytes(), (long) bytes.length);
+    assertEquals(stats.getSerializeCount(), 2L);
+    assertEquals(stats.getDeserializeCount(), 1L);
+    assertEquals(stats.getSerializeCountByType().get(String.class.getName()), Long.valueOf(1));
+    // list and string elements are tracked
+    assertTrue(stats.getMaxWriteRefTableSize() > 1);
+    assertTrue(stats.getMaxReadRefTableSize() > 1);
+    stats.reset();
+    assertEquals(stats.getSerializeCount(), 0L);
+  }
+
+  @Test
+  public void testJITStats() {
+    FuryStats stats = new FuryStats();
+    Fury fury = createFury(stats, true);
+    serDe(fury, createStruct());
+    assertEquals(stats.getJITCompiledCount(), 1L);
+    assertEquals(stats.getJITFailedCount(), 0L);
+    assertTrue(stats.getJITCompileNanos() > 0);
+    assertFalse(stats.getInterpreterModeTypes().contains(MetricsStruct.class.getName()));
+    FuryStats interpreterStats = new FuryStats();
+    serDe(createFury(interpreterStats, false), createStruct());
+    assertEquals(interpreterStats.getJITCompiledCount(), 0L);
+    assertTrue(interpreterStats.getInterpreterModeTypes().contains(MetricsStruct.class.getName()));
+  }
+
+  @Test
+  public void testBufferGrow() {
+    FuryStats stats = new FuryStats();
+    Fury fury = createFury(stats, false);
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(8);
+    fury.serialize(buffer, createStruct());
+    assertEquals(stats.getBufferGrowCount(), 1L);
+    assertTrue(stats.getBufferGrowBytes() > 0);
+    buffer.writerIndex(0);
+    fury.serialize(buffer, createStruct());
+    assertEquals(stats.getBufferGrowCount(), 1L);
+  }
+
+  @Test
+  public void testStreamBytes() throws IOException {
+    FuryStats stats = new FuryStats();
+    Fury fury = createFury(stats, false);
+    MetricsStruct struct = createStruct();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    // Small buffer makes data flushed in the middle of serialization.
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 64)) {
+      fury.serialize(stream, struct);
+    }
+    assertEquals(stats.getSerializeStats().get(MetricsStruct.class).getBytes(), (long) bas.size());
+    Path tempFile = Files.createTempFile("metrics_test", "data");
+    try {
+      try (FuryGatheringChannel channel =
+          new FuryGatheringChannel(
+              FileChannel.open(tempFile, StandardOpenOption.WRITE), 64, 16, null)) {
+        fury.serialize(channel, new byte[100]);
+      }
+      // Referenced payload is counted too.
+      assertEquals(stats.getSerializeStats().get(byte[].class).getBytes(), Files.size(tempFile));
+    } finally {
+      Files.delete(tempFile);
+    }
+  }
+
+  @Test
+  public void testBatch() {
+    FuryStats stats = new FuryStats();
+    Fury fury = createFury(stats, false);
+    List<Object> records = new ArrayList<>();
+    records.add(createStruct());
+    records.add("abc");
+    SerializedBatch batch = fury.serializeBatch(records, false);
+    fury.deserializeBatch(batch.getBytes());
+    fury.deserializeBatchRecord(batch, 0);
+    assertEquals(stats.getSerializeCount(), 2L);
+    assertEquals(
+        stats.getSerializeStats().get(MetricsStruct.class).getBytes(),
+        (long) batch.getRecordSize(0));
+    assertEquals(stats.getDeserializeCount(), 3L);
+    assertEquals(stats.getDeserializeStats().get(MetricsStruct.class).getCount(), 2L);
+  }
+
+  @Test
+  public void testHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(histogram.getPercentile(0.5), 0L);
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+    assertEquals(histogram.getCount(), 100L);
+    assertEquals(histogram.getPercentile(0.5), 63L);
+    assertEquals(histogram.getPercentile(1), 127L);
+    assertEquals(LatencyHistogram.bucketIndex(1), 0);
+    assertEquals(LatencyHistogram.bucketIndex(1024), 10);
+  }
+
+  @Test
+  public void testRegisterMBean() throws Exception {
+    FuryStats stats = new FuryStats();
+    serDe(createFury(stats, false), createStruct());
+    ObjectName name = stats.registerMBean("testRegisterMBean");
+    try {
+      assertEquals(
+          ManagementFactory.getPlatformMBeanServer().getAttribute(name, "SerializeCount"), 1L);
+    } finally {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+  }
+}
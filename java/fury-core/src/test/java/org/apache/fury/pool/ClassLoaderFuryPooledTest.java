@@ -19,10 +19,22 @@
 
 package org.apache.fury.pool;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.fury.Fury;
 import org.apache.fury.config.Language;
+import org.apache.fury.memory.Platform;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 public class ClassLoaderFuryPooledTest {
@@ -111,6 +123,76 @@ public class ClassLoaderFuryPooledTest {
     thread.join();
   }
 
+  @Test
+  public void testConcurrentGetFury() throws InterruptedException {
+    AtomicInteger created = new AtomicInteger();
+    Function<ClassLoader, Fury> furyFactory = getFuryFactory();
+    ClassLoaderFuryPooled pooled =
+        getPooled(
+            1,
+            2,
+            loader -> {
+              created.incrementAndGet();
+              return furyFactory.apply(loader);
+            });
+    Set<Fury> borrowed = ConcurrentHashMap.newKeySet();
+    AtomicInteger errors = new AtomicInteger();
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  Fury fury = pooled.getFury();
+                  if (!borrowed.add(fury)) {
+                    errors.incrementAndGet();
+                  }
+                  borrowed.remove(fury);
+                  pooled.returnFury(fury);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(errors.get(), 0);
+    Assert.assertTrue(created.get() <= 2, String.valueOf(created.get()));
+  }
+
+  @Test
+  public void testUnboundedPoolTrimIdle() throws Exception {
+    if (Platform.JAVA_VERSION < 21) {
+      throw new SkipException("Virtual threads require jdk21+");
+    }
+    ClassLoaderFuryPooled pooled = getPooled(0, ClassLoaderFuryPooled.UNBOUNDED);
+    int maxIdleSize = pooled.getMaxIdleSize();
+    int numTasks = maxIdleSize * 8;
+    CyclicBarrier barrier = new CyclicBarrier(numTasks);
+    Set<Fury> borrowed = ConcurrentHashMap.newKeySet();
+    ExecutorService executor =
+        (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < numTasks; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                Fury fury = pooled.getFury();
+                borrowed.add(fury);
+                // Hold fury until all tasks borrowed one, so every task creates a new fury.
+                barrier.await(60, TimeUnit.SECONDS);
+                pooled.returnFury(fury);
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+    Assert.assertEquals(borrowed.size(), numTasks);
+    Assert.assertEquals(pooled.getIdleSize(), maxIdleSize);
+  }
+
   @Test
   public void testReturnFury() {
     Function<ClassLoader, Fury> furyFactory = getFuryFactory();
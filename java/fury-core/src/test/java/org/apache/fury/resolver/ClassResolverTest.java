@@ -48,6 +48,8 @@ import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
 import org.apache.fury.ThreadSafeFury;
 import org.apache.fury.builder.Generated;
+import org.apache.fury.codegen.CompileUnit;
+import org.apache.fury.codegen.JaninoUtils;
 import org.apache.fury.config.Language;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
@@ -410,4 +412,39 @@ public class ClassResolverTest extends FuryTestBase {
           return null;
         });
   }
+
+  @Test
+  public void testShareClassMetadata() throws Exception {
+    Fury fury1 = Fury.builder().withMetaShare(true).requireClassRegistration(false).build();
+    Fury fury2 = Fury.builder().withMetaShare(true).requireClassRegistration(false).build();
+    ClassResolver resolver1 = fury1.getClassResolver();
+    ClassResolver resolver2 = fury2.getClassResolver();
+    assertSame(resolver1.getClassDef(BeanB.class, true), resolver2.getClassDef(BeanB.class, true));
+    assertSame(
+        resolver1.getAllDescriptorsMap(BeanB.class, true),
+        resolver2.getAllDescriptorsMap(BeanB.class, true));
+    // Registrations change class defs, so they can't be shared.
+    Fury fury3 = Fury.builder().withMetaShare(true).requireClassRegistration(false).build();
+    fury3.register(BeanB.class);
+    Assert.assertNotSame(
+        resolver1.getClassDef(BeanB.class, true),
+        fury3.getClassResolver().getClassDef(BeanB.class, true));
+    // Same registrations share metadata again.
+    fury2.register(BeanB.class);
+    assertSame(
+        resolver2.getClassDef(BeanB.class, true),
+        fury3.getClassResolver().getClassDef(BeanB.class, true));
+    // Classes with same name from different classloaders are different registrations.
+    CompileUnit unit =
+        new CompileUnit("demo.shared", "A", "package demo.shared;\npublic class A {}");
+    Fury fury4 = Fury.builder().withMetaShare(true).requireClassRegistration(false).build();
+    fury4.register(
+        JaninoUtils.compile(getClass().getClassLoader(), unit).loadClass("demo.shared.A"));
+    Fury fury5 = Fury.builder().withMetaShare(true).requireClassRegistration(false).build();
+    fury5.register(
+        JaninoUtils.compile(getClass().getClassLoader(), unit).loadClass("demo.shared.A"));
+    Assert.assertNotSame(
+        fury4.getClassResolver().getClassDef(BeanB.class, true),
+        fury5.getClassResolver().getClassDef(BeanB.class, true));
+  }
 }
@@ -20,6 +20,9 @@
 package org.apache.fury.resolver;
 
 import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -28,6 +31,8 @@ import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
 import org.apache.fury.config.CompatibleMode;
 import org.apache.fury.config.Language;
+import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.io.FuryOutputStream;
 import org.apache.fury.test.bean.BeanA;
 import org.apache.fury.test.bean.BeanB;
 import org.apache.fury.test.bean.Foo;
@@ -109,4 +114,55 @@ public class MetaContextTest extends FuryTestBase {
         new OuterPojo(new ArrayList<>(ImmutableList.of(new InnerPojo(1), new InnerPojo(2))));
     checkMetaShared(fury, outerPojo);
   }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testInlineClassDefs(boolean enableCodegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .withInlineClassDefs(true)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withCodegen(enableCodegen)
+            .requireClassRegistration(false)
+            .build();
+    for (Object o : new Object[] {Foo.create(), BeanB.createBeanB(2), BeanA.createBeanA(2)}) {
+      checkMetaShared(fury, o);
+    }
+    OuterPojo outerPojo =
+        new OuterPojo(new ArrayList<>(ImmutableList.of(new InnerPojo(1), new InnerPojo(2))));
+    checkMetaShared(fury, outerPojo);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testInlineClassDefsStreaming(boolean enableCodegen) throws IOException {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withInlineClassDefs(true)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withCodegen(enableCodegen)
+            .requireClassRegistration(false)
+            .build();
+    List<Object> beans = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      beans.add(BeanB.createBeanB(2));
+      beans.add(BeanA.createBeanA(2));
+    }
+    MetaContext writeContext = new MetaContext();
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 256)) {
+      for (int i = 0; i < 3; i++) {
+        fury.getSerializationContext().setMetaContext(writeContext);
+        fury.serialize(stream, beans);
+      }
+    }
+    MetaContext readContext = new MetaContext();
+    FuryInputStream input = new FuryInputStream(new ByteArrayInputStream(bas.toByteArray()));
+    for (int i = 0; i < 3; i++) {
+      fury.getSerializationContext().setMetaContext(readContext);
+      Assert.assertEquals(fury.deserialize(input), beans);
+    }
+    Assert.assertEquals(readContext.readClassDefs.size(), writeContext.classMap.size);
+  }
 }
@@ -24,20 +24,27 @@ import static org.testng.Assert.assertTrue;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.ArrayEncoding;
 import org.apache.fury.config.FuryBuilder;
 import org.apache.fury.config.Language;
+import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.test.bean.ArraysData;
 import org.apache.fury.type.Descriptor;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 public class ArraySerializersTest extends FuryTestBase {
@@ -121,6 +128,94 @@ public class ArraySerializersTest extends FuryTestBase {
             new double[] {1.0, 1.0}, (double[]) serDe(fury1, fury2, new double[] {1.0, 1.0})));
   }
 
+  @DataProvider
+  public static Object[][] arrayEncoding() {
+    return Arrays.stream(ArrayEncoding.values())
+        .map(encoding -> new Object[] {encoding})
+        .toArray(Object[][]::new);
+  }
+
+  @Test(dataProvider = "arrayEncoding")
+  public void testArrayEncoding(ArrayEncoding encoding) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withArrayEncoding(encoding)
+            .requireClassRegistration(false)
+            .build();
+    Random random = new Random(7);
+    List<int[]> intArrays = new ArrayList<>();
+    List<long[]> longArrays = new ArrayList<>();
+    intArrays.add(new int[0]);
+    intArrays.add(new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1});
+    longArrays.add(new long[0]);
+    longArrays.add(new long[] {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1});
+    for (int length : new int[] {1, 127, 128, 129, 300}) {
+      int[] ints = new int[length];
+      long[] longs = new long[length];
+      for (int i = 0; i < length; i++) {
+        ints[i] = random.nextInt();
+        longs[i] = random.nextLong();
+      }
+      intArrays.add(ints);
+      longArrays.add(longs);
+      int[] sortedInts = new int[length];
+      long[] sortedLongs = new long[length];
+      for (int i = 0; i < length; i++) {
+        sortedInts[i] = 1000 + i * 3 + random.nextInt(3);
+        sortedLongs[i] = 1700000000000L + i * 1000L + random.nextInt(1000);
+      }
+      intArrays.add(sortedInts);
+      longArrays.add(sortedLongs);
+      int[] constInts = new int[length];
+      Arrays.fill(constInts, -5);
+      intArrays.add(constInts);
+    }
+    for (int[] ints : intArrays) {
+      assertEquals(serDe(fury, ints), ints);
+      if (encoding != ArrayEncoding.RAW) {
+        MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(8);
+        PrimitiveArrayCodecs.writeInts(fury, buffer, ints, encoding);
+        assertEquals(PrimitiveArrayCodecs.readInts(buffer), ints);
+        assertEquals(buffer.readerIndex(), buffer.writerIndex());
+      }
+    }
+    for (long[] longs : longArrays) {
+      assertEquals(serDe(fury, longs), longs);
+      if (encoding != ArrayEncoding.RAW) {
+        MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(8);
+        PrimitiveArrayCodecs.writeLongs(fury, buffer, longs, encoding);
+        assertEquals(PrimitiveArrayCodecs.readLongs(buffer), longs);
+        assertEquals(buffer.readerIndex(), buffer.writerIndex());
+      }
+    }
+    ArraysData arraysData = new ArraysData(20);
+    assertEquals(serDe(fury, arraysData), arraysData);
+  }
+
+  @Test
+  public void testArrayEncodingSize() {
+    long[] timestamps = new long[1000];
+    for (int i = 0; i < timestamps.length; i++) {
+      timestamps[i] = 1700000000000L + i * 1000L;
+    }
+    int[] small = new int[1000];
+    for (int i = 0; i < small.length; i++) {
+      small[i] = i % 16;
+    }
+    Map<ArrayEncoding, Integer> timestampSizes = new HashMap<>();
+    Map<ArrayEncoding, Integer> smallSizes = new HashMap<>();
+    for (ArrayEncoding encoding : ArrayEncoding.values()) {
+      Fury fury =
+          Fury.builder().withArrayEncoding(encoding).requireClassRegistration(false).build();
+      timestampSizes.put(encoding, fury.serialize(timestamps).length);
+      smallSizes.put(encoding, fury.serialize(small).length);
+    }
+    assertTrue(timestampSizes.get(ArrayEncoding.DELTA) < timestampSizes.get(ArrayEncoding.RAW) / 3);
+    assertTrue(smallSizes.get(ArrayEncoding.VARINT) < smallSizes.get(ArrayEncoding.RAW) / 3);
+    assertTrue(smallSizes.get(ArrayEncoding.BIT_PACKING) < smallSizes.get(ArrayEncoding.RAW) / 6);
+  }
+
   @Test(dataProvider = "referenceTrackingConfig")
   public void testArrayZeroCopy(boolean referenceTracking) {
     FuryBuilder builder =
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Language;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryUtils;
+import org.testng.annotations.Test;
+
+public class ObjectFieldsReaderTest extends FuryTestBase {
+
+  @Data
+  public static class Inner {
+    public String f1;
+    public int f2;
+  }
+
+  @Data
+  public static class Message {
+    public int id;
+    public long timestamp;
+    public double score;
+    public String route;
+    public Inner inner;
+    public List<String> tags;
+    public Map<String, Integer> attrs;
+  }
+
+  private static Message createMessage() {
+    Message message = new Message();
+    message.id = 10;
+    message.timestamp = 1234567890123L;
+    message.score = 0.5;
+    message.route = "route-a";
+    message.inner = new Inner();
+    message.inner.f1 = "inner";
+    message.inner.f2 = 2;
+    message.tags = new ArrayList<>(Arrays.asList("a", "b"));
+    message.attrs = new HashMap<>(ImmutableMap.of("k", 1));
+    return message;
+  }
+
+  private static void checkFields(Fury fury) {
+    Message message = createMessage();
+    byte[] bytes = fury.serialize(message);
+    Object[] values = fury.deserializeFields(bytes, Message.class, "route", "id");
+    assertEquals(values, new Object[] {"route-a", 10});
+    values = fury.deserializeFields(bytes, Message.class, "attrs", "score", "inner", "route");
+    assertEquals(values, new Object[] {message.attrs, 0.5, message.inner, "route-a"});
+    values = fury.deserializeFields(bytes, Message.class, "tags", "tags", "timestamp");
+    assertEquals(values, new Object[] {message.tags, message.tags, 1234567890123L});
+    // fury is still usable after partial reads.
+    assertEquals(fury.deserialize(bytes), message);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> fury.deserializeFields(bytes, Message.class, "notExist"));
+    assertNull(fury.deserializeFields(fury.serialize(null), Message.class, "id"));
+  }
+
+  @Test(dataProvider = "compressNumberAndCodeGen")
+  public void testDeserializeFields(boolean compressNumber, boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withNumberCompressed(compressNumber)
+            .withCodegen(codegen)
+            .requireClassRegistration(false)
+            .build();
+    checkFields(fury);
+  }
+
+  @Test(dataProvider = "referenceTrackingConfig")
+  public void testDeserializeFieldsRefTracking(boolean refTracking) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(refTracking)
+            .requireClassRegistration(false)
+            .build();
+    checkFields(fury);
+    Message message = createMessage();
+    message.inner.f1 = message.route;
+    Object[] values =
+        fury.deserializeFields(fury.serialize(message), Message.class, "inner", "route");
+    assertEquals(values, new Object[] {message.inner, message.route});
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testDeserializeFieldsCompatible(boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(false)
+            .withCodegen(codegen)
+            .requireClassRegistration(false)
+            .build();
+    checkFields(fury);
+  }
+
+  @Data
+  public static class BoxedFields {
+    public Boolean f1;
+    public Byte f2;
+    public Character f3;
+    public Short f4;
+    public Integer f5;
+    public Float f6;
+    public Long f7;
+    public Double f8;
+    public String f9;
+    public String f10;
+    public char f11;
+    public short f12;
+    public int f13;
+  }
+
+  @Test(dataProvider = "refTrackingAndCompressNumber")
+  public void testDeserializeFieldsCompatibleSkip(boolean refTracking, boolean compressNumber) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(false)
+            .withRefTracking(refTracking)
+            .withNumberCompressed(compressNumber)
+            .withCodegen(false)
+            .requireClassRegistration(false)
+            .build();
+    BoxedFields obj = new BoxedFields();
+    obj.f1 = true;
+    obj.f2 = 2;
+    obj.f3 = 'c';
+    obj.f5 = -5;
+    obj.f6 = 6.0f;
+    obj.f7 = Long.MAX_VALUE;
+    obj.f8 = 8.0;
+    obj.f9 = "str";
+    obj.f11 = 'x';
+    obj.f12 = 12;
+    obj.f13 = 1 << 20;
+    byte[] bytes = fury.serialize(obj);
+    String[] names = {"f1", "f2", "f3", "f4", "f5", "f6", "f7", "f8", "f9", "f10", "f11", "f12"};
+    Object[] expected = {
+      true, (byte) 2, 'c', null, -5, 6.0f, Long.MAX_VALUE, 8.0, "str", null, 'x', (short) 12
+    };
+    // Read each field alone, so that all other fields are skipped.
+    for (int i = 0; i < names.length; i++) {
+      Object[] values = fury.deserializeFields(bytes, BoxedFields.class, names[i], "f13");
+      assertEquals(values, new Object[] {expected[i], 1 << 20});
+    }
+  }
+
+  @Test
+  public void testDeserializeFieldsMetaShared() {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(true)
+            .requireClassRegistration(false)
+            .build();
+    checkFields(fury);
+  }
+
+  @Test
+  public void testDeserializeFieldsFromBuffer() {
+    ThreadSafeFury fury = Fury.builder().requireClassRegistration(false).buildThreadSafeFury();
+    Message message = createMessage();
+    MemoryBuffer buffer = MemoryUtils.buffer(32);
+    fury.serialize(buffer, message);
+    Object[] values = fury.deserializeFields(buffer, Message.class, "id");
+    assertEquals(values, new Object[] {10});
+  }
+}
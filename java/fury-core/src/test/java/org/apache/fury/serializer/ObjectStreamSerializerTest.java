@@ -303,6 +303,54 @@ public class ObjectStreamSerializerTest extends FuryTestBase {
     assertEquals(obj2.state, realState);
   }
 
+  public static class ReadFieldsTestClass implements Serializable {
+    int id;
+    String name;
+    ReadFieldsTestClass child;
+    transient int validated;
+
+    public ReadFieldsTestClass(int id, String name, ReadFieldsTestClass child) {
+      this.id = id;
+      this.name = name;
+      this.child = child;
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+      s.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+      ObjectInputStream.GetField fields = s.readFields();
+      id = fields.get("id", 0);
+      name = (String) fields.get("name", null);
+      child = (ReadFieldsTestClass) fields.get("child", null);
+      s.registerValidation(() -> validated = id, 0);
+    }
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testNestedReadFields(boolean enableCodegen) {
+    Fury fury =
+        builder()
+            .withCodegen(enableCodegen)
+            .withRefTracking(true)
+            .requireClassRegistration(true)
+            .build();
+    // Slot class is written by registered id.
+    fury.register(ReadFieldsTestClass.class);
+    ReadFieldsTestClass obj =
+        new ReadFieldsTestClass(1, "a", new ReadFieldsTestClass(2, "b", null));
+    for (int i = 0; i < 2; i++) {
+      ReadFieldsTestClass newObj = serDe(fury, obj);
+      assertEquals(newObj.id, 1);
+      assertEquals(newObj.name, "a");
+      assertEquals(newObj.validated, 1);
+      assertEquals(newObj.child.id, 2);
+      assertEquals(newObj.child.name, "b");
+      assertEquals(newObj.child.validated, 2);
+    }
+  }
+
   @EqualsAndHashCode(callSuper = true)
   public static class WriteObjectTestClass4 extends WriteObjectTestClass {
 
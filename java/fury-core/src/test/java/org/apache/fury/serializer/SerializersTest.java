@@ -42,6 +42,7 @@ import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
 import org.apache.fury.config.FuryBuilder;
 import org.apache.fury.config.Language;
+import org.apache.fury.memory.MemoryBuffer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -79,6 +80,64 @@ public class SerializersTest extends FuryTestBase {
         fury1, new BigInteger("11111111110101010000283895380202208220050200000000111111111"));
   }
 
+  @Test
+  public void testBigIntDefaultFormat() {
+    Fury fury = getJavaFury();
+    BigInteger unscaled = new BigInteger("-123456789012345678901234567890");
+    BigDecimal decimal = new BigDecimal(unscaled, 20);
+    // Bytes written by serializers before compressed big number encoding is added.
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(64);
+    byte[] bytes = unscaled.toByteArray();
+    buffer.writeVarUint32Small7(decimal.scale());
+    buffer.writeVarUint32Small7(decimal.precision());
+    buffer.writeVarUint32Small7(bytes.length);
+    buffer.writeBytes(bytes);
+    buffer.writeVarUint32Small7(bytes.length);
+    buffer.writeBytes(bytes);
+    byte[] expected = buffer.getBytes(0, buffer.writerIndex());
+    Serializer<BigDecimal> decimalSerializer = new Serializers.BigDecimalSerializer(fury);
+    Serializer<BigInteger> integerSerializer = new Serializers.BigIntegerSerializer(fury);
+    assertEquals(decimalSerializer.read(buffer), decimal);
+    assertEquals(integerSerializer.read(buffer), unscaled);
+    assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    buffer.writerIndex(0);
+    decimalSerializer.write(buffer, decimal);
+    integerSerializer.write(buffer, unscaled);
+    assertEquals(buffer.getBytes(0, buffer.writerIndex()), expected);
+  }
+
+  @Test
+  public void testBigIntCompact() {
+    Fury fury = builder().withBigNumberCompressed(true).build();
+    long[] longs = {
+      0,
+      1,
+      -1,
+      63,
+      -64,
+      1L << 61,
+      -(1L << 61),
+      1L << 62,
+      -(1L << 62),
+      Long.MAX_VALUE,
+      Long.MIN_VALUE
+    };
+    int[] scales = {0, 2, -3, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    for (long v : longs) {
+      BigInteger bigInteger = BigInteger.valueOf(v);
+      serDeCheck(fury, bigInteger);
+      serDeCheck(fury, bigInteger.shiftLeft(1));
+      serDeCheck(fury, bigInteger.subtract(BigInteger.ONE));
+      for (int scale : scales) {
+        serDeCheck(fury, BigDecimal.valueOf(v, scale));
+        serDeCheck(fury, new BigDecimal(bigInteger.shiftLeft(1), scale));
+      }
+    }
+    // Small decimals are written as scale and a varint64 unscaled value.
+    assertTrue(fury.serialize(BigDecimal.valueOf(12345, 2)).length <= 7);
+    assertTrue(fury.serialize(BigInteger.valueOf(100)).length <= 5);
+  }
+
   @Test(dataProvider = "javaFury")
   public void testAtomic(Fury fury) {
     assertTrue(
@@ -33,6 +33,7 @@ import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
 import org.apache.fury.collection.Tuple2;
 import org.apache.fury.config.Language;
+import org.apache.fury.memory.ByteBufferUtil;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.memory.Platform;
@@ -182,6 +183,30 @@ public class StringSerializerTest extends FuryTestBase {
     assertEquals(fury.deserialize(buffer), o2);
   }
 
+  @Test
+  public void testReadStringFromNativeAddress() {
+    ByteBuffer byteBuffer = ByteBuffer.allocateDirect(2048);
+    MemoryBuffer buffer =
+        MemoryBuffer.fromNativeAddress(
+            ByteBufferUtil.getAddress(byteBuffer), byteBuffer.capacity());
+    StringSerializer serializer = new StringSerializer(getJavaFury());
+    String[] strings = {
+      "", StringUtils.random(67, 0), "caf\u00e9" + StringUtils.random(9), "你好, Fury"
+    };
+    byte UTF8 = 2;
+    for (String str : strings) {
+      serializer.writeJavaString(buffer, str);
+      assertEquals(serializer.readJavaString(buffer), str);
+      serializer.writeUTF8String(buffer, str);
+      assertEquals(serializer.readUTF8String(buffer), str);
+      byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+      buffer.writeVarUint64(((long) bytes.length) << 2 | UTF8);
+      buffer.writeBytes(bytes);
+      assertEquals(serializer.readJavaString(buffer), str);
+      assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    }
+  }
+
   @Test
   public void testJavaStringMemoryModel() {
     BlockingQueue<Tuple2<String, byte[]>> dataQueue = new ArrayBlockingQueue<>(1024);
@@ -288,6 +313,26 @@ public class StringSerializerTest extends FuryTestBase {
     }
   }
 
+  @Test
+  public void testWriteCharsLatin() {
+    String latinStr = StringUtils.random(37, 0) + "\u00e9";
+    for (MemoryBuffer buffer :
+        new MemoryBuffer[] {
+          MemoryUtils.buffer(8), MemoryUtils.wrap(ByteBuffer.allocateDirect(512)),
+        }) {
+      StringSerializer serializer = new StringSerializer(getJavaFury());
+      serializer.writeCharsLatin(buffer, latinStr.toCharArray(), latinStr.length());
+      assertEquals(buffer.readVarUint36Small(), (long) latinStr.length() << 2);
+      assertEquals(
+          buffer.readBytes(latinStr.length()), latinStr.getBytes(StandardCharsets.ISO_8859_1));
+      int writerIndex = buffer.writerIndex();
+      Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> serializer.writeCharsLatin(buffer, "ab你好".toCharArray(), 4));
+      assertEquals(buffer.writerIndex(), writerIndex);
+    }
+  }
+
   @Test
   public void testReadUtf8String() {
     Fury fury = getJavaFury();
@@ -306,4 +351,41 @@ public class StringSerializerTest extends FuryTestBase {
       assertEquals(buffer.readerIndex(), buffer.writerIndex());
     }
   }
+
+  @Test
+  public void testUTF8String() {
+    Fury fury = Fury.builder().withLanguage(Language.XLANG).requireClassRegistration(false).build();
+    String[] strings = {
+      "",
+      "Fury",
+      StringUtils.random(100, 0),
+      "caf\u00e9 \u00ff",
+      "abc你好" + StringUtils.random(20),
+      "\uD83D\uDE00 emoji \uD83D\uDC4D",
+      // malformed surrogates are replaced by '?'
+      "a\uD83Db",
+      "a\uDE00b",
+      "ab\uD83D",
+      "\uDE00\uD83D"
+    };
+    for (MemoryBuffer buffer :
+        new MemoryBuffer[] {
+          MemoryUtils.buffer(8), MemoryUtils.wrap(ByteBuffer.allocateDirect(2048))
+        }) {
+      StringSerializer serializer = new StringSerializer(fury);
+      for (String str : strings) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        int writerIndex = buffer.writerIndex();
+        serializer.writeUTF8String(buffer, str);
+        MemoryBuffer expected = MemoryUtils.buffer(8);
+        expected.writeVarUint32(bytes.length);
+        expected.writeBytes(bytes);
+        assertEquals(
+            buffer.getBytes(writerIndex, buffer.writerIndex() - writerIndex),
+            expected.getBytes(0, expected.writerIndex()));
+        assertEquals(serializer.readUTF8String(buffer), new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(buffer.readerIndex(), buffer.writerIndex());
+      }
+    }
+  }
 }
@@ -35,12 +35,15 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import lombok.Data;
 import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.FuryBuilder;
 import org.apache.fury.config.Language;
 import org.apache.fury.util.DateTimeUtils;
 import org.testng.Assert;
@@ -266,4 +269,85 @@ public class TimeSerializersTest extends FuryTestBase {
       }
     }
   }
+
+  private static FuryBuilder compactTimeBuilder() {
+    return builder().withTimeCompressed(true).withTimeEpoch(Instant.parse("2024-01-01T00:00:00Z"));
+  }
+
+  @Test
+  public void testCompressedTime() {
+    Fury fury = compactTimeBuilder().build();
+    Instant instant = Instant.parse("2024-06-01T12:30:45Z");
+    for (int nanos : new int[] {0, 1, 999_999_999, 123_000_000, 123_456_000, 123_456_789}) {
+      Instant value = instant.plusNanos(nanos);
+      serDeCheck(fury, value);
+      serDeCheck(fury, Instant.ofEpochSecond(-1, nanos));
+      serDeCheck(fury, LocalDateTime.ofInstant(value, ZoneOffset.UTC));
+      serDeCheck(fury, ZonedDateTime.ofInstant(value, ZoneId.of("Asia/Shanghai")));
+      serDeCheck(fury, OffsetDateTime.ofInstant(value, ZoneOffset.ofHours(-8)));
+      Timestamp timestamp = Timestamp.from(value);
+      serDeCheck(fury, timestamp);
+      timestamp = new Timestamp(-1500);
+      timestamp.setNanos(nanos);
+      serDeCheck(fury, timestamp);
+    }
+    serDeCheck(fury, Instant.MIN);
+    serDeCheck(fury, Instant.MAX);
+    serDeCheck(fury, LocalDateTime.MIN);
+    serDeCheck(fury, LocalDateTime.MAX);
+    for (long millis : new long[] {0, -1, -1500, 1717245045123L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+      serDeCheck(fury, new Date(millis));
+      serDeCheck(fury, new java.sql.Date(millis));
+      serDeCheck(fury, new java.sql.Time(millis));
+    }
+    // Seconds close to epoch and milliseconds take 5 bytes, rather than 12 bytes.
+    Fury defaultFury = builder().build();
+    int size = fury.serialize(instant.plusMillis(123)).length;
+    Assert.assertEquals(defaultFury.serialize(instant.plusMillis(123)).length - size, 7);
+  }
+
+  public static class CompactTimeStruct {
+    public Date date;
+    public Date timestampAsDate;
+    public java.sql.Date sqlDate;
+    public Timestamp timestamp;
+    public Instant instant;
+    public LocalDateTime localDateTime;
+    public ZonedDateTime zonedDateTime;
+    public OffsetDateTime offsetDateTime;
+    public List<Instant> instants;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCompressedTimeStruct(boolean enableCodegen) {
+    CompactTimeStruct struct = new CompactTimeStruct();
+    struct.date = new Date(1717245045123L);
+    struct.sqlDate = new java.sql.Date(1717245045000L);
+    struct.timestamp = Timestamp.from(Instant.parse("2024-06-01T12:30:45.123456789Z"));
+    // Subclass of the declared type isn't inlined.
+    struct.timestampAsDate = struct.timestamp;
+    struct.instant = Instant.parse("2024-06-01T12:30:45.123Z");
+    struct.localDateTime = LocalDateTime.of(2024, 6, 1, 12, 30, 45, 123_456_000);
+    struct.zonedDateTime = ZonedDateTime.of(struct.localDateTime, ZoneId.of("Europe/Paris"));
+    struct.offsetDateTime = OffsetDateTime.of(struct.localDateTime, ZoneOffset.ofHours(2));
+    struct.instants = Arrays.asList(struct.instant, null, Instant.parse("1960-01-01T00:00:00Z"));
+    Fury fury = compactTimeBuilder().withCodegen(enableCodegen).build();
+    // Generated serializers write time fields inline, which must be same as time serializers.
+    Fury fury2 = compactTimeBuilder().withCodegen(!enableCodegen).build();
+    for (Fury f : new Fury[] {fury, fury2}) {
+      CompactTimeStruct newStruct = (CompactTimeStruct) serDe(fury, f, struct);
+      Assert.assertEquals(newStruct.date, struct.date);
+      Assert.assertEquals(newStruct.timestampAsDate, struct.timestampAsDate);
+      Assert.assertEquals(newStruct.timestampAsDate.getClass(), Timestamp.class);
+      Assert.assertEquals(newStruct.sqlDate, struct.sqlDate);
+      Assert.assertEquals(newStruct.timestamp, struct.timestamp);
+      Assert.assertEquals(newStruct.instant, struct.instant);
+      Assert.assertEquals(newStruct.localDateTime, struct.localDateTime);
+      Assert.assertEquals(newStruct.zonedDateTime, struct.zonedDateTime);
+      Assert.assertEquals(newStruct.offsetDateTime, struct.offsetDateTime);
+      Assert.assertEquals(newStruct.instants, struct.instants);
+    }
+    Fury defaultFury = builder().withCodegen(enableCodegen).build();
+    Assert.assertTrue(fury.serialize(struct).length < defaultFury.serialize(struct).length);
+  }
 }
@@ -101,6 +101,154 @@ public class MapSerializersTest extends FuryTestBase {
     Assert.assertThrows(RuntimeException.class, () -> fury.deserialize(bytes2));
   }
 
+  @Test(dataProvider = "referenceTrackingConfig")
+  public void testChunkedMap(boolean referenceTrackingConfig) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(referenceTrackingConfig)
+            .withMapChunked(true)
+            .requireClassRegistration(false)
+            .build();
+    Map<Object, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < 200; i++) {
+      map.put("k" + i, i);
+    }
+    map.put(null, "v");
+    map.put("null", null);
+    map.put(1, 1L);
+    map.put(2L, ofArrayList("a", "b"));
+    List<String> list = ofArrayList("c", "d");
+    map.put("list1", list);
+    map.put("list2", list);
+    for (int i = 0; i < 100; i++) {
+      map.put("s" + i, "v" + i);
+    }
+    Map<Object, Object> newMap = serDeCheckSerializer(fury, map, "LinkedHashMap");
+    Assert.assertEquals(newMap, map);
+    if (referenceTrackingConfig) {
+      Assert.assertSame(newMap.get("list1"), newMap.get("list2"));
+    }
+    serDeCheck(fury, new HashMap<>(map));
+    serDeCheck(fury, new HashMap<>());
+    serDeCheck(fury, ofHashMap(null, null));
+  }
+
+  @Test
+  public void testChunkedMapSize() {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withMapChunked(true)
+            .requireClassRegistration(false)
+            .build();
+    Map<String, Object> map = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      map.put(String.valueOf(i), i);
+    }
+    byte[] bytes1 = fury.serialize(map);
+    fury.getGenerics().pushGenericType(GenericType.build(new TypeRef<Map<String, Integer>>() {}));
+    byte[] bytes2 = fury.serialize(map);
+    fury.getGenerics().popGenericType();
+    // Chunks write header for every 64 entries and no null flag for every entry, kv class info is
+    // written only if kv types are not final.
+    int numChunks = (map.size() + 63) / 64;
+    Assert.assertTrue(bytes1.length - bytes2.length >= numChunks * 2);
+    Assert.assertTrue(bytes2.length < 10 * 1000, String.valueOf(bytes2.length));
+    Assert.assertEquals(fury.deserialize(bytes1), map);
+  }
+
+  @Data
+  public static class ChunkedMapStruct {
+    public Map<String, Object> map1;
+    public Map<Object, String> map2;
+    public Map<String, Integer> map3;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testChunkedMapField(boolean enableCodegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCodegen(enableCodegen)
+            .withMapChunked(true)
+            .requireClassRegistration(false)
+            .build();
+    Fury fury2 =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCodegen(!enableCodegen)
+            .withMapChunked(true)
+            .requireClassRegistration(false)
+            .build();
+    ChunkedMapStruct struct = new ChunkedMapStruct();
+    struct.map1 = new HashMap<>();
+    struct.map2 = new HashMap<>();
+    struct.map3 = new LinkedHashMap<>();
+    for (int i = 0; i < 100; i++) {
+      struct.map1.put("k" + i, i % 3 == 0 ? "v" + i : i);
+      struct.map2.put(i % 2 == 0 ? i : "k" + i, i % 5 == 0 ? null : "v" + i);
+      struct.map3.put("k" + i, i % 7 == 0 ? null : i);
+    }
+    struct.map1.put("nested", ofHashMap("a", 1, "b", 2L));
+    struct.map3.put(null, 1);
+    struct.map3.put("k", 1);
+    serDeCheck(fury, struct);
+    // Generated serializers and interpreter mode write same chunks.
+    roundCheck(fury, fury2, struct);
+  }
+
+  @Test
+  public void testDefaultMapFormat() {
+    Map<Object, Object> map = new LinkedHashMap<>();
+    map.put("k1", 1);
+    map.put("k2", "v2");
+    map.put(null, 3L);
+    map.put(4, null);
+    // Entries are written one by one with ref/null flag and class info by default, same as data
+    // written by previous versions.
+    byte[] expected = {
+      2, -1, 80, 4, -1, 44, 8, 107, 49, -1, 36, 2, -1, 44, 8, 107, 50, -1, 44, 8, 118, 50, -3, -1,
+      40, 6, 0, 0, 0, -1, 36, 8, -3
+    };
+    Fury fury = Fury.builder().withLanguage(Language.JAVA).requireClassRegistration(false).build();
+    Assert.assertEquals(fury.serialize(map), expected);
+    Assert.assertEquals(fury.deserialize(expected), map);
+    Fury chunkFury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withMapChunked(true)
+            .requireClassRegistration(false)
+            .build();
+    byte[] chunkBytes = chunkFury.serialize(map);
+    Assert.assertNotEquals(chunkBytes, expected);
+    Assert.assertEquals(chunkFury.deserialize(chunkBytes), map);
+    Assert.assertNotEquals(fury.getConfig(), chunkFury.getConfig());
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testDefaultMapFormatField(boolean enableCodegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCodegen(enableCodegen)
+            .requireClassRegistration(false)
+            .build();
+    Fury fury2 =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withCodegen(!enableCodegen)
+            .requireClassRegistration(false)
+            .build();
+    ChunkedMapStruct struct = new ChunkedMapStruct();
+    struct.map1 = new HashMap<>(ofHashMap("k1", 1, "k2", "v2", null, null));
+    struct.map2 = new HashMap<>(ofHashMap(1, "v1", "k2", null));
+    struct.map3 = new LinkedHashMap<>(ofHashMap("k1", 1, null, 2, "k3", null));
+    serDeCheck(fury, struct);
+    // Generated serializers and interpreter mode write same entries.
+    roundCheck(fury, fury2, struct);
+  }
+
   @Test(dataProvider = "referenceTrackingConfig")
   public void testSortedMap(boolean referenceTrackingConfig) {
     Fury fury =
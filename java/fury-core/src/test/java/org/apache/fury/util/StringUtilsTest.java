@@ -23,6 +23,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
 import org.apache.fury.FuryTestBase;
 import org.apache.fury.memory.Platform;
 import org.testng.annotations.Test;
@@ -170,4 +171,41 @@ public class StringUtilsTest extends FuryTestBase {
     assertFalse(StringUtils.isLatin("abcd\u1234".toCharArray()));
     assertFalse(StringUtils.isLatin("Javaone Keynote\u1234".toCharArray()));
   }
+
+  @Test
+  public void testCompressLatin() {
+    for (int length = 0; length < 20; length++) {
+      String str = StringUtils.random(length, 0) + "\u00e9";
+      char[] chars = str.toCharArray();
+      byte[] bytes = new byte[chars.length + 3];
+      assertTrue(StringUtils.compressLatin(chars, bytes, 3, chars.length));
+      assertEquals(new String(bytes, 3, chars.length, StandardCharsets.ISO_8859_1), str);
+      char[] inflated = new char[chars.length];
+      StringUtils.inflateLatin(bytes, 3, inflated, chars.length);
+      assertEquals(inflated, chars);
+      for (int i = 0; i < chars.length; i++) {
+        char[] nonLatinChars = chars.clone();
+        nonLatinChars[i] = '\u1234';
+        assertFalse(StringUtils.compressLatin(nonLatinChars, bytes, 0, nonLatinChars.length));
+      }
+    }
+  }
+
+  @Test
+  public void testIsAscii() {
+    for (int length = 0; length < 20; length++) {
+      String str = StringUtils.random(length, 0);
+      byte[] bytes = ("ab" + str).getBytes(StandardCharsets.US_ASCII);
+      assertTrue(StringUtils.isAscii(str.toCharArray()));
+      assertTrue(StringUtils.isAscii(bytes, 2, length));
+      for (int i = 0; i < length; i++) {
+        char[] chars = str.toCharArray();
+        chars[i] = '\u0080';
+        assertFalse(StringUtils.isAscii(chars));
+        byte[] nonAsciiBytes = bytes.clone();
+        nonAsciiBytes[i + 2] = (byte) 0x80;
+        assertFalse(StringUtils.isAscii(nonAsciiBytes, 2, length));
+      }
+    }
+  }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Encoder to write java beans into columns of a {@link VectorSchemaRoot} and read them back. Field
+ * values are written to vectors directly without materializing a row for every bean.
+ */
+public interface ArrowEncoder<T> {
+  Schema schema();
+
+  VectorSchemaRoot root();
+
+  /** Append <code>obj</code> as next row. */
+  void write(T obj);
+
+  /** Returns bean at <code>rowIndex</code> of the root. */
+  T read(int rowIndex);
+
+  int rowCount();
+
+  VectorSchemaRoot finish();
+
+  ArrowRecordBatch finishAsRecordBatch();
+
+  void reset();
+}
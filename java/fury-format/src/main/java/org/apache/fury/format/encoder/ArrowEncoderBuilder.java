@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import static org.apache.fury.type.TypeUtils.CLASS_TYPE;
+import static org.apache.fury.type.TypeUtils.getRawType;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.fury.codegen.CodeGenerator;
+import org.apache.fury.codegen.CodegenContext;
+import org.apache.fury.codegen.Expression;
+import org.apache.fury.codegen.Expression.Invoke;
+import org.apache.fury.codegen.Expression.Literal;
+import org.apache.fury.codegen.Expression.Reference;
+import org.apache.fury.codegen.Expression.StaticInvoke;
+import org.apache.fury.codegen.ExpressionUtils;
+import org.apache.fury.format.type.TypeInference;
+import org.apache.fury.format.vectorized.ArrowVectors;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.reflect.TypeRef;
+import org.apache.fury.type.Descriptor;
+import org.apache.fury.type.TypeUtils;
+import org.apache.fury.util.DateTimeUtils;
+import org.apache.fury.util.GraalvmSupport;
+import org.apache.fury.util.Preconditions;
+import org.apache.fury.util.StringUtils;
+
+/**
+ * Expression builder for building jit arrow encoder class, which writes bean fields into arrow
+ * vectors directly and reads them back, without encoding beans into {@link
+ * org.apache.fury.format.row.binary.BinaryRow} and copying rows into vectors by {@link
+ * org.apache.fury.format.vectorized.ArrowWriter}.
+ *
+ * <p>Only beans whose fields are mapped to flat arrow types are supported: primitive and boxed
+ * types, String, enum, BigDecimal, BigInteger and date/time types. Use {@link RowEncoder} with
+ * {@link org.apache.fury.format.vectorized.ArrowWriter} for beans with nested fields.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ArrowEncoderBuilder extends BaseBinaryEncoderBuilder {
+  private static final Logger LOG = LoggerFactory.getLogger(ArrowEncoderBuilder.class);
+  static final String ROOT_NAME = "root";
+  static final String ROW_INDEX_NAME = "rowIndex";
+  static final String VECTOR_NAME_PREFIX = "vector";
+  private static final TypeRef<VectorSchemaRoot> ROOT_TYPE = TypeRef.of(VectorSchemaRoot.class);
+
+  private final SortedMap<String, Descriptor> descriptorsMap;
+  private final Schema schema;
+  private final List<Descriptor> descriptors;
+  private final List<Class<?>> vectorClasses;
+  protected static final String BEAN_CLASS_NAME = "beanClass";
+  protected Reference beanClassRef = new Reference(BEAN_CLASS_NAME, CLASS_TYPE);
+  private final Reference rowIndexRef =
+      new Reference(ROW_INDEX_NAME, TypeUtils.PRIMITIVE_INT_TYPE, false);
+
+  public ArrowEncoderBuilder(Class<?> beanClass) {
+    this(TypeRef.of(beanClass));
+  }
+
+  public ArrowEncoderBuilder(TypeRef<?> beanType) {
+    super(new CodegenContext(), beanType);
+    Preconditions.checkArgument(TypeUtils.isBean(beanType));
+    this.schema = TypeInference.inferSchema(getRawType(beanType));
+    this.descriptorsMap = Descriptor.getDescriptorsMap(beanClass);
+    descriptors = new ArrayList<>();
+    vectorClasses = new ArrayList<>();
+    // schema field's name must correspond to descriptor's name.
+    for (int i = 0; i < schema.getFields().size(); i++) {
+      String fieldName = schema.getFields().get(i).getName();
+      Descriptor d = descriptorsMap.get(StringUtils.lowerUnderscoreToLowerCamelCase(fieldName));
+      Preconditions.checkNotNull(d);
+      Class<?> vectorClass = vectorClass(getRawType(d.getTypeRef()));
+      if (vectorClass == null) {
+        throw new UnsupportedOperationException(
+            String.format(
+                "Field %s of type %s in %s isn't supported by arrow encoder, "
+                    + "please use row encoder and ArrowWriter instead.",
+                d.getName(), d.getTypeRef(), beanClass));
+      }
+      descriptors.add(d);
+      vectorClasses.add(vectorClass);
+    }
+    ctx.reserveName(ROOT_NAME);
+    ctx.reserveName(ROW_INDEX_NAME);
+    ctx.reserveName(BEAN_CLASS_NAME);
+    Expression clsExpr;
+    if (Modifier.isPublic(beanClass.getModifiers())) {
+      clsExpr = Literal.ofClass(beanClass);
+    } else {
+      // non-public class is not accessible in other class.
+      clsExpr =
+          new Expression.StaticInvoke(
+              Class.class, "forName", CLASS_TYPE, false, Literal.ofClass(beanClass));
+    }
+    ctx.addField(Class.class, BEAN_CLASS_NAME, clsExpr);
+    ctx.addImports(VectorSchemaRoot.class, ArrowVectors.class);
+  }
+
+  /** Returns whether beans of <code>beanClass</code> can be encoded by an arrow encoder. */
+  public static boolean isSupported(Class<?> beanClass) {
+    for (Descriptor d : Descriptor.getDescriptorsMap(beanClass).values()) {
+      if (vectorClass(getRawType(d.getTypeRef())) == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Class<?> vectorClass(Class<?> rawType) {
+    if (rawType == boolean.class || rawType == Boolean.class) {
+      return BitVector.class;
+    } else if (rawType == byte.class || rawType == Byte.class) {
+      return TinyIntVector.class;
+    } else if (rawType == short.class || rawType == Short.class) {
+      return SmallIntVector.class;
+    } else if (rawType == int.class || rawType == Integer.class) {
+      return IntVector.class;
+    } else if (rawType == long.class || rawType == Long.class) {
+      return BigIntVector.class;
+    } else if (rawType == float.class || rawType == Float.class) {
+      return Float4Vector.class;
+    } else if (rawType == double.class || rawType == Double.class) {
+      return Float8Vector.class;
+    } else if (rawType == BigDecimal.class || rawType == BigInteger.class) {
+      return DecimalVector.class;
+    } else if (rawType == java.time.LocalDate.class || rawType == java.sql.Date.class) {
+      return DateDayVector.class;
+    } else if (rawType == java.sql.Timestamp.class || rawType == java.time.Instant.class) {
+      return TimeStampVector.class;
+    } else if (rawType == String.class || rawType.isEnum()) {
+      return VarCharVector.class;
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  protected String codecSuffix() {
+    return "ArrowCodec";
+  }
+
+  @Override
+  public String genCode() {
+    ctx.setPackage(CodeGenerator.getPackage(beanClass));
+    String className = codecClassName(beanClass);
+    ctx.setClassName(className);
+    // don't addImport(beanClass), because user class may name collide.
+    ctx.implementsInterfaces(ctx.type(GeneratedArrowEncoder.class));
+    StringBuilder constructorCode =
+        new StringBuilder(
+            StringUtils.format(
+                "${root} = (${rootType})${references}[0];\n",
+                "root",
+                ROOT_NAME,
+                "rootType",
+                ctx.type(VectorSchemaRoot.class),
+                "references",
+                REFERENCES_NAME));
+    ctx.addField(ctx.type(VectorSchemaRoot.class), ROOT_NAME);
+    for (int i = 0; i < vectorClasses.size(); i++) {
+      String vectorType = ctx.type(vectorClasses.get(i));
+      ctx.addField(vectorType, VECTOR_NAME_PREFIX + i);
+      constructorCode.append(
+          StringUtils.format(
+              "${vector} = (${vectorType})${root}.getVector(${index});\n",
+              "vector",
+              VECTOR_NAME_PREFIX + i,
+              "vectorType",
+              vectorType,
+              "root",
+              ROOT_NAME,
+              "index",
+              String.valueOf(i)));
+    }
+
+    Expression encodeExpr = buildEncodeExpression();
+    Expression decodeExpr = buildDecodeExpression();
+    String encodeCode = encodeExpr.genCode(ctx).code();
+    String decodeCode = decodeExpr.genCode(ctx).code();
+    ctx.overrideMethod(
+        "write", encodeCode, void.class, Object.class, ROOT_OBJECT_NAME, int.class, ROW_INDEX_NAME);
+    ctx.overrideMethod("read", decodeCode, Object.class, int.class, ROW_INDEX_NAME);
+    ctx.addConstructor(constructorCode.toString(), Object[].class, REFERENCES_NAME);
+
+    long startTime = System.nanoTime();
+    String code = ctx.genCode();
+    long durationMs = (System.nanoTime() - startTime) / 1000;
+    LOG.info("Generate arrow codec for class {} take {} us", beanClass, durationMs);
+    return code;
+  }
+
+  private Reference vectorRef(int index) {
+    return new Reference(VECTOR_NAME_PREFIX + index, TypeRef.of(vectorClasses.get(index)), false);
+  }
+
+  /**
+   * Returns an expression that writes fields of java bean of type {@link #beanClass} into vectors
+   * at <code>rowIndex</code>.
+   */
+  @Override
+  public Expression buildEncodeExpression() {
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, TypeUtils.OBJECT_TYPE, false);
+    Expression.ListExpression expressions = new Expression.ListExpression();
+    Expression.Cast bean = new Expression.Cast(inputObject, beanType, ctx.newName(beanClass));
+    for (int i = 0; i < descriptors.size(); i++) {
+      Descriptor d = descriptors.get(i);
+      Class<?> rawType = getRawType(d.getTypeRef());
+      Reference vector = vectorRef(i);
+      Expression fieldValue = getFieldValue(bean, d);
+      Expression setValue = setVectorValue(vector, rawType, fieldValue);
+      if (rawType.isPrimitive()) {
+        expressions.add(setValue);
+      } else {
+        expressions.add(
+            new Expression.If(
+                ExpressionUtils.eqNull(fieldValue),
+                new Invoke(vector, "setNull", rowIndexRef),
+                setValue));
+      }
+    }
+    return expressions;
+  }
+
+  private Expression setVectorValue(Reference vector, Class<?> rawType, Expression value) {
+    if (rawType == boolean.class || rawType == Boolean.class) {
+      return new StaticInvoke(ArrowVectors.class, "setBoolean", vector, rowIndexRef, value);
+    } else if (TypeUtils.isBoxed(rawType)) {
+      Class<?> primitiveType = TypeUtils.unwrap(rawType);
+      Invoke unboxed =
+          new Invoke(value, primitiveType.getName() + "Value", TypeRef.of(primitiveType));
+      return new Invoke(vector, "setSafe", rowIndexRef, unboxed);
+    } else if (rawType == BigInteger.class) {
+      Expression decimal = new Expression.NewInstance(TypeUtils.BIG_DECIMAL_TYPE, value);
+      return new Invoke(vector, "setSafe", rowIndexRef, decimal);
+    } else if (rawType == java.time.LocalDate.class) {
+      return new Invoke(vector, "setSafe", rowIndexRef, toInt(value, "localDateToDays"));
+    } else if (rawType == java.sql.Date.class) {
+      return new Invoke(vector, "setSafe", rowIndexRef, toInt(value, "fromJavaDate"));
+    } else if (rawType == java.sql.Timestamp.class) {
+      return new Invoke(vector, "setSafe", rowIndexRef, toLong(value, "fromJavaTimestamp"));
+    } else if (rawType == java.time.Instant.class) {
+      return new Invoke(vector, "setSafe", rowIndexRef, toLong(value, "instantToMicros"));
+    } else if (rawType == String.class) {
+      return new StaticInvoke(ArrowVectors.class, "setString", vector, rowIndexRef, value);
+    } else if (rawType.isEnum()) {
+      Invoke name = new Invoke(value, "name", TypeUtils.STRING_TYPE);
+      return new StaticInvoke(ArrowVectors.class, "setString", vector, rowIndexRef, name);
+    } else {
+      // primitive types except boolean and BigDecimal.
+      return new Invoke(vector, "setSafe", rowIndexRef, value);
+    }
+  }
+
+  private static Expression toInt(Expression value, String method) {
+    return new StaticInvoke(
+        DateTimeUtils.class, method, TypeUtils.PRIMITIVE_INT_TYPE, false, value);
+  }
+
+  private static Expression toLong(Expression value, String method) {
+    return new StaticInvoke(
+        DateTimeUtils.class, method, TypeUtils.PRIMITIVE_LONG_TYPE, false, value);
+  }
+
+  /**
+   * Returns an expression that reads vectors at <code>rowIndex</code> as a java bean of type {@link
+   * #beanClass}.
+   */
+  @Override
+  public Expression buildDecodeExpression() {
+    Expression bean = newBean();
+    Expression.ListExpression expressions = new Expression.ListExpression();
+    expressions.add(bean);
+    for (int i = 0; i < descriptors.size(); i++) {
+      Descriptor d = descriptors.get(i);
+      TypeRef<?> fieldType = d.getTypeRef();
+      Class<?> rawType = getRawType(fieldType);
+      Reference vector = vectorRef(i);
+      Expression value = getVectorValue(vector, fieldType);
+      Expression setActionExpr = setFieldValue(bean, d, value);
+      if (rawType.isPrimitive()) {
+        expressions.add(setActionExpr);
+      } else {
+        Invoke isNull = new Invoke(vector, "isNull", TypeUtils.PRIMITIVE_BOOLEAN_TYPE, rowIndexRef);
+        expressions.add(new Expression.If(ExpressionUtils.not(isNull), setActionExpr));
+      }
+    }
+    expressions.add(new Expression.Return(bean));
+    return expressions;
+  }
+
+  private Expression getVectorValue(Reference vector, TypeRef<?> fieldType) {
+    Class<?> rawType = getRawType(fieldType);
+    if (rawType == boolean.class || rawType == Boolean.class) {
+      return new StaticInvoke(
+          ArrowVectors.class,
+          "getBoolean",
+          TypeUtils.PRIMITIVE_BOOLEAN_TYPE,
+          false,
+          vector,
+          rowIndexRef);
+    } else if (rawType.isPrimitive() || TypeUtils.isBoxed(rawType)) {
+      return new Invoke(vector, "get", TypeRef.of(TypeUtils.unwrap(rawType)), false, rowIndexRef);
+    } else if (rawType == BigDecimal.class) {
+      return new Invoke(vector, "getObject", TypeUtils.BIG_DECIMAL_TYPE, false, rowIndexRef);
+    } else if (rawType == BigInteger.class) {
+      Invoke decimal =
+          new Invoke(vector, "getObject", TypeUtils.BIG_DECIMAL_TYPE, false, rowIndexRef);
+      return new Invoke(decimal, "toBigInteger", TypeUtils.BIG_INTEGER_TYPE);
+    } else if (rawType == java.time.LocalDate.class || rawType == java.sql.Date.class) {
+      Invoke days = new Invoke(vector, "get", TypeUtils.PRIMITIVE_INT_TYPE, false, rowIndexRef);
+      return deserializeFor(days, fieldType);
+    } else if (rawType == java.sql.Timestamp.class || rawType == java.time.Instant.class) {
+      Invoke micros = new Invoke(vector, "get", TypeUtils.PRIMITIVE_LONG_TYPE, false, rowIndexRef);
+      return deserializeFor(micros, fieldType);
+    } else {
+      // String and enum.
+      StaticInvoke str =
+          new StaticInvoke(
+              ArrowVectors.class, "getString", TypeUtils.STRING_TYPE, false, vector, rowIndexRef);
+      return deserializeFor(str, fieldType);
+    }
+  }
+
+  @Override
+  protected Expression beanClassExpr() {
+    if (GraalvmSupport.isGraalBuildtime()) {
+      return staticBeanClassExpr();
+    }
+    return beanClassRef;
+  }
+}
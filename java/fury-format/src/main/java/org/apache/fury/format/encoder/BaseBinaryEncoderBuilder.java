@@ -122,6 +122,11 @@ public abstract class BaseBinaryEncoderBuilder extends CodecBuilder {
     return "RowCodec";
   }
 
+  /** Returns type of writer for nested beans, which decides layout of nested rows. */
+  protected TypeRef<? extends BinaryRowWriter> rowWriterType() {
+    return rowWriterTypeToken;
+  }
+
   public String codecQualifiedClassName(Class<?> beanClass) {
     return CodeGenerator.getPackage(beanClass) + "." + codecClassName(beanClass);
   }
@@ -399,8 +404,8 @@ public abstract class BaseBinaryEncoderBuilder extends CodecBuilder {
               DataTypes.class, "schemaFromStructField", "schema", SCHEMA_TYPE, false, structField);
       String rowWriterName =
           ctx.newName(StringUtils.uncapitalize(rawType.getSimpleName() + "RowWriter"));
-      NewInstance newRowWriter = new NewInstance(rowWriterTypeToken, schema, writer);
-      ctx.addField(ctx.type(rowWriterTypeToken), rowWriterName, newRowWriter);
+      NewInstance newRowWriter = new NewInstance(rowWriterType(), schema, writer);
+      ctx.addField(ctx.type(rowWriterType()), rowWriterName, newRowWriter);
 
       Preconditions.checkArgument(!codecClassName(rawType).contains("."));
       String encoderName = ctx.newName(StringUtils.uncapitalize(codecClassName(rawType)));
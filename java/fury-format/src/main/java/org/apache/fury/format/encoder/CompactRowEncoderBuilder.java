@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import org.apache.fury.format.row.binary.CompactBinaryRow;
+import org.apache.fury.format.row.binary.writer.BinaryRowWriter;
+import org.apache.fury.format.row.binary.writer.CompactBinaryRowWriter;
+import org.apache.fury.reflect.TypeRef;
+
+/**
+ * Expression builder for building jit row encoder class which writes nested beans using {@link
+ * CompactBinaryRow} layout. The root row writer is passed by caller and must be a {@link
+ * CompactBinaryRowWriter}.
+ */
+public class CompactRowEncoderBuilder extends RowEncoderBuilder {
+  private static final TypeRef<CompactBinaryRowWriter> COMPACT_ROW_WRITER_TYPE =
+      TypeRef.of(CompactBinaryRowWriter.class);
+
+  public CompactRowEncoderBuilder(Class<?> beanClass) {
+    super(beanClass);
+  }
+
+  public CompactRowEncoderBuilder(TypeRef<?> beanType) {
+    super(beanType);
+  }
+
+  @Override
+  protected String codecSuffix() {
+    return "CompactRowCodec";
+  }
+
+  @Override
+  protected TypeRef<? extends BinaryRowWriter> rowWriterType() {
+    return COMPACT_ROW_WRITER_TYPE;
+  }
+}
@@ -26,6 +26,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.VectorUnloader;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.fury.Fury;
@@ -36,10 +40,13 @@ import org.apache.fury.exception.ClassNotCompatibleException;
 import org.apache.fury.format.row.binary.BinaryArray;
 import org.apache.fury.format.row.binary.BinaryMap;
 import org.apache.fury.format.row.binary.BinaryRow;
+import org.apache.fury.format.row.binary.CompactBinaryRow;
 import org.apache.fury.format.row.binary.writer.BinaryArrayWriter;
 import org.apache.fury.format.row.binary.writer.BinaryRowWriter;
+import org.apache.fury.format.row.binary.writer.CompactBinaryRowWriter;
 import org.apache.fury.format.type.DataTypes;
 import org.apache.fury.format.type.TypeInference;
+import org.apache.fury.format.vectorized.ArrowUtils;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.memory.MemoryBuffer;
@@ -69,7 +76,30 @@ public class Encoders {
 
   public static <T> RowEncoder<T> bean(Class<T> beanClass, Fury fury, int initialBufferSize) {
     Schema schema = TypeInference.inferSchema(beanClass);
-    BinaryRowWriter writer = new BinaryRowWriter(schema);
+    return bean(beanClass, new BinaryRowWriter(schema), fury, initialBufferSize);
+  }
+
+  public static <T> RowEncoder<T> compactBean(Class<T> beanClass) {
+    return compactBean(beanClass, null, 16);
+  }
+
+  public static <T> RowEncoder<T> compactBean(Class<T> beanClass, Fury fury) {
+    return compactBean(beanClass, fury, 16);
+  }
+
+  /**
+   * Creates an encoder for Java Bean of type T which uses {@link CompactBinaryRow} layout. Fixed
+   * width fields take only their natural width instead of 8 bytes, which makes rows of beans with
+   * many small fields smaller. Rows written by this encoder can only be read by a compact encoder.
+   */
+  public static <T> RowEncoder<T> compactBean(
+      Class<T> beanClass, Fury fury, int initialBufferSize) {
+    Schema schema = TypeInference.inferSchema(beanClass);
+    return bean(beanClass, new CompactBinaryRowWriter(schema), fury, initialBufferSize);
+  }
+
+  private static <T> RowEncoder<T> bean(
+      Class<T> beanClass, BinaryRowWriter writer, Fury fury, int initialBufferSize) {
     RowEncoder<T> encoder = bean(beanClass, writer, fury);
     return new RowEncoder<T>() {
 
@@ -116,19 +146,26 @@ public class Encoders {
    * time related: java.sql.Date, java.sql.Timestamp, java.time.LocalDate, java.time.Instant -
    * collection types: only array and java.util.List currently, map support is in progress - nested
    * java bean.
+   *
+   * <p>If <code>writer</code> is a {@link CompactBinaryRowWriter}, rows are written and read using
+   * {@link CompactBinaryRow} layout.
    */
   public static <T> RowEncoder<T> bean(Class<T> beanClass, BinaryRowWriter writer, Fury fury) {
     Schema schema = writer.getSchema();
+    boolean compact = writer instanceof CompactBinaryRowWriter;
 
     try {
-      Class<?> rowCodecClass = loadOrGenRowCodecClass(beanClass);
+      Class<?> rowCodecClass =
+          compact ? loadOrGenCompactRowCodecClass(beanClass) : loadOrGenRowCodecClass(beanClass);
       Object references = new Object[] {schema, writer, fury};
       GeneratedRowEncoder codec =
           rowCodecClass
               .asSubclass(GeneratedRowEncoder.class)
               .getConstructor(Object[].class)
               .newInstance(references);
-      long schemaHash = DataTypes.computeSchemaHash(schema);
+      // Different layouts of same schema are not compatible, use a different hash to detect it.
+      long schemaHash =
+          compact ? ~DataTypes.computeSchemaHash(schema) : DataTypes.computeSchemaHash(schema);
 
       return new RowEncoder<T>() {
         private final MemoryBuffer buffer = MemoryUtils.buffer(16);
@@ -161,7 +198,7 @@ public class Encoders {
                         + "Please check writer schema.",
                     schema, schemaHash, peerSchemaHash));
           }
-          BinaryRow row = new BinaryRow(schema);
+          BinaryRow row = compact ? new CompactBinaryRow(schema) : new BinaryRow(schema);
           row.pointTo(buffer, buffer.readerIndex(), buffer.size());
           return fromRow(row);
         }
@@ -182,6 +219,93 @@ public class Encoders {
     }
   }
 
+  /**
+   * Creates an encoder which writes beans of type T into a new {@link VectorSchemaRoot} directly,
+   * see {@link ArrowEncoderBuilder} for supported field types.
+   */
+  public static <T> ArrowEncoder<T> arrowEncoder(Class<T> beanClass) {
+    VectorSchemaRoot root = ArrowUtils.createVectorSchemaRoot(TypeInference.inferSchema(beanClass));
+    root.allocateNew();
+    return arrowEncoder(beanClass, root);
+  }
+
+  /**
+   * Creates an encoder which reads beans of type T from <code>root</code>, or writes beans into it.
+   * The <code>root</code> must have same schema as the one inferred from <code>beanClass</code>,
+   * and its vectors must be allocated before writing.
+   */
+  public static <T> ArrowEncoder<T> arrowEncoder(Class<T> beanClass, VectorSchemaRoot root) {
+    Schema schema = TypeInference.inferSchema(beanClass);
+    Preconditions.checkArgument(
+        DataTypes.computeSchemaHash(schema) == DataTypes.computeSchemaHash(root.getSchema()),
+        "Schema of root %s is not consistent with schema %s of %s",
+        root.getSchema(),
+        schema,
+        beanClass);
+    // Unsupported field types are reported by codec builder directly.
+    Class<?> arrowCodecClass = loadOrGenArrowCodecClass(beanClass);
+    GeneratedArrowEncoder codec;
+    try {
+      Object references = new Object[] {root};
+      codec =
+          arrowCodecClass
+              .asSubclass(GeneratedArrowEncoder.class)
+              .getConstructor(Object[].class)
+              .newInstance(references);
+    } catch (Exception e) {
+      String msg = String.format("Create arrow encoder failed, \nbeanClass: %s", beanClass);
+      throw new EncoderException(msg, e);
+    }
+    return new ArrowEncoder<T>() {
+      private int rowCount = root.getRowCount();
+
+      @Override
+      public Schema schema() {
+        return schema;
+      }
+
+      @Override
+      public VectorSchemaRoot root() {
+        return root;
+      }
+
+      @Override
+      public void write(T obj) {
+        codec.write(obj, rowCount++);
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public T read(int rowIndex) {
+        return (T) codec.read(rowIndex);
+      }
+
+      @Override
+      public int rowCount() {
+        return rowCount;
+      }
+
+      @Override
+      public VectorSchemaRoot finish() {
+        root.setRowCount(rowCount);
+        return root;
+      }
+
+      @Override
+      public ArrowRecordBatch finishAsRecordBatch() {
+        root.setRowCount(rowCount);
+        return new VectorUnloader(root).getRecordBatch();
+      }
+
+      @Override
+      public void reset() {
+        root.getFieldVectors().forEach(ValueVector::reset);
+        root.setRowCount(0);
+        rowCount = 0;
+      }
+    };
+  }
+
   /**
    * Supported nested list format. For instance, nest collection can be expressed as Collection in
    * Collection. Input param must explicit specified type, like this: <code>
@@ -524,13 +648,23 @@ public class Encoders {
   }
 
   public static Class<?> loadOrGenRowCodecClass(Class<?> beanClass) {
+    return loadOrGenRowCodecClass(beanClass, false);
+  }
+
+  /** Load or generate row codec classes using {@link CompactBinaryRow} layout for nested beans. */
+  public static Class<?> loadOrGenCompactRowCodecClass(Class<?> beanClass) {
+    return loadOrGenRowCodecClass(beanClass, true);
+  }
+
+  private static Class<?> loadOrGenRowCodecClass(Class<?> beanClass, boolean compact) {
     Set<Class<?>> classes = TypeUtils.listBeansRecursiveInclusive(beanClass);
-    LOG.info("Create RowCodec for classes {}", classes);
+    LOG.info("Create {} for classes {}", compact ? "CompactRowCodec" : "RowCodec", classes);
     CompileUnit[] compileUnits =
         classes.stream()
             .map(
                 cls -> {
-                  RowEncoderBuilder codecBuilder = new RowEncoderBuilder(cls);
+                  RowEncoderBuilder codecBuilder =
+                      compact ? new CompactRowEncoderBuilder(cls) : new RowEncoderBuilder(cls);
                   // use genCodeFunc to avoid gen code repeatedly
                   return new CompileUnit(
                       CodeGenerator.getPackage(cls),
@@ -541,6 +675,17 @@ public class Encoders {
     return loadCls(compileUnits);
   }
 
+  public static Class<?> loadOrGenArrowCodecClass(Class<?> beanClass) {
+    LOG.info("Create ArrowCodec for class {}", beanClass);
+    ArrowEncoderBuilder codecBuilder = new ArrowEncoderBuilder(beanClass);
+    CompileUnit compileUnit =
+        new CompileUnit(
+            CodeGenerator.getPackage(beanClass),
+            codecBuilder.codecClassName(beanClass),
+            codecBuilder::genCode);
+    return loadCls(compileUnit);
+  }
+
   private static <B> Class<?> loadOrGenArrayCodecClass(
       TypeRef<? extends Collection> arrayCls, TypeRef<B> elementType) {
     LOG.info("Create ArrayCodec for classes {}", elementType);
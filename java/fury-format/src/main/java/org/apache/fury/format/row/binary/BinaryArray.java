@@ -48,6 +48,7 @@ import org.apache.fury.util.Preconditions;
 public class BinaryArray extends UnsafeTrait implements ArrayData {
   private final Field field;
   private final int elementSize;
+  private final boolean compactRows;
   private MemoryBuffer buffer;
   private int numElements;
   private int elementOffset;
@@ -55,7 +56,16 @@ public class BinaryArray extends UnsafeTrait implements ArrayData {
   private int sizeInBytes;
 
   public BinaryArray(Field field) {
+    this(field, false);
+  }
+
+  /**
+   * Create an array whose struct elements are read as {@link CompactBinaryRow} if <code>
+   * compactRows</code> is true.
+   */
+  public BinaryArray(Field field, boolean compactRows) {
     this.field = field;
+    this.compactRows = compactRows;
     int width = DataTypes.getTypeWidth(field.getChildren().get(0).getType());
     // variable-length element type
     if (width < 0) {
@@ -105,6 +115,11 @@ public class BinaryArray extends UnsafeTrait implements ArrayData {
     assert ordinal < numElements : "ordinal (" + ordinal + ") should < " + numElements;
   }
 
+  @Override
+  boolean compactRows() {
+    return compactRows;
+  }
+
   @Override
   int getOffset(int ordinal) {
     return elementOffset + ordinal * elementSize;
@@ -199,7 +214,7 @@ public class BinaryArray extends UnsafeTrait implements ArrayData {
   public ArrayData copy() {
     MemoryBuffer copyBuf = MemoryUtils.buffer(sizeInBytes);
     buffer.copyTo(baseOffset, copyBuf, 0, sizeInBytes);
-    BinaryArray arrayCopy = new BinaryArray(field);
+    BinaryArray arrayCopy = new BinaryArray(field, compactRows);
     arrayCopy.pointTo(copyBuf, 0, sizeInBytes);
     return arrayCopy;
   }
@@ -39,20 +39,31 @@ public class BinaryMap implements MapData {
   private final BinaryArray keys;
   private final BinaryArray values;
   private final Field field;
+  private final boolean compactRows;
   private MemoryBuffer buf;
   private int baseOffset;
   private int sizeInBytes;
 
   public BinaryMap(Field field) {
+    this(field, false);
+  }
+
+  /**
+   * Create a map whose struct keys/values are read as {@link CompactBinaryRow} if <code>
+   * compactRows</code> is true.
+   */
+  public BinaryMap(Field field, boolean compactRows) {
     this.field = field;
-    this.keys = new BinaryArray(DataTypes.keyArrayFieldForMap(field));
-    this.values = new BinaryArray(DataTypes.itemArrayFieldForMap(field));
+    this.compactRows = compactRows;
+    this.keys = new BinaryArray(DataTypes.keyArrayFieldForMap(field), compactRows);
+    this.values = new BinaryArray(DataTypes.itemArrayFieldForMap(field), compactRows);
   }
 
   public BinaryMap(BinaryArray keys, BinaryArray values, Field field) {
     this.keys = keys;
     this.values = values;
     this.field = field;
+    this.compactRows = keys.compactRows();
     this.baseOffset = 0;
     this.sizeInBytes = keys.getSizeInBytes() + values.getSizeInBytes() + 8;
 
@@ -116,7 +127,7 @@ public class BinaryMap implements MapData {
   public MapData copy() {
     MemoryBuffer copyBuf = MemoryUtils.buffer(sizeInBytes);
     buf.copyTo(baseOffset, copyBuf, 0, sizeInBytes);
-    BinaryMap mapCopy = new BinaryMap(field);
+    BinaryMap mapCopy = new BinaryMap(field, compactRows);
     mapCopy.pointTo(copyBuf, 0, sizeInBytes);
     return mapCopy;
   }
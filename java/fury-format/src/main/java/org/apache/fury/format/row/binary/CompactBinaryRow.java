@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.row.binary;
+
+import java.util.List;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.fury.format.row.Row;
+import org.apache.fury.format.type.DataTypes;
+import org.apache.fury.memory.BitUtils;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryUtils;
+
+/**
+ * A {@link BinaryRow} whose fixed-length region stores every field in a slot of its natural width
+ * instead of 8 bytes: 1 byte for boolean/int8, 2 bytes for int16, 4 bytes for int32/float32/date
+ * and 8 bytes for others. Variable-length fields still take an 8-byte offset&size slot.
+ *
+ * <p>Slots are sorted by width in descending order and fields of same width keep schema order, so
+ * every slot is aligned to its width. The fixed-length region is padded to multiple of 8 bytes to
+ * keep variable-length region aligned. Nested rows of a compact row use compact layout too.
+ *
+ * <p>This layout is not compatible with {@link BinaryRow}, rows must be read with the layout they
+ * are written by, see {@link org.apache.fury.format.row.binary.writer.CompactBinaryRowWriter}.
+ */
+public class CompactBinaryRow extends BinaryRow {
+  // slot offsets relative to start of row, bitmap included.
+  private final int[] fixedOffsets;
+  private final int[] slotWidths;
+  private final int fixedSizeInBytes;
+
+  public CompactBinaryRow(Schema schema) {
+    super(schema);
+    this.slotWidths = slotWidths(schema);
+    this.fixedOffsets = fixedOffsets(schema);
+    this.fixedSizeInBytes = fixedSizeInBytes(schema);
+  }
+
+  @Override
+  public int getOffset(int ordinal) {
+    return getBaseOffset() + fixedOffsets[ordinal];
+  }
+
+  @Override
+  boolean compactRows() {
+    return true;
+  }
+
+  @Override
+  public void setNullAt(int ordinal) {
+    assertIndexIsValid(ordinal);
+    MemoryBuffer buffer = getBuffer();
+    BitUtils.set(buffer, getBaseOffset(), ordinal);
+    // zero out only the slot of this field, neighbour slots may hold other fields.
+    int offset = getOffset(ordinal);
+    switch (slotWidths[ordinal]) {
+      case 1:
+        buffer.putByte(offset, (byte) 0);
+        break;
+      case 2:
+        buffer.putInt16(offset, (short) 0);
+        break;
+      case 4:
+        buffer.putInt32(offset, 0);
+        break;
+      default:
+        buffer.putInt64(offset, 0);
+    }
+  }
+
+  @Override
+  public Row copy() {
+    int sizeInBytes = getSizeInBytes();
+    MemoryBuffer copyBuf = MemoryUtils.buffer(sizeInBytes);
+    getBuffer().copyTo(getBaseOffset(), copyBuf, 0, sizeInBytes);
+    CompactBinaryRow copyRow = new CompactBinaryRow(getSchema());
+    copyRow.pointTo(copyBuf, 0, sizeInBytes);
+    return copyRow;
+  }
+
+  @Override
+  public String toDebugString() {
+    MemoryBuffer buffer = getBuffer();
+    if (buffer == null) {
+      return "null";
+    } else {
+      StringBuilder build = new StringBuilder();
+      for (int i = 0; i < fixedSizeInBytes; i += 8) {
+        if (i != 0) {
+          build.append(',');
+        }
+        build.append(Long.toHexString(buffer.getInt64(getBaseOffset() + i)));
+      }
+      return build.toString();
+    }
+  }
+
+  /** Returns slot width in compact layout for every field of <code>schema</code>. */
+  public static int[] slotWidths(Schema schema) {
+    List<Field> fields = schema.getFields();
+    int[] widths = new int[fields.size()];
+    for (int i = 0; i < widths.length; i++) {
+      int width = DataTypes.getTypeWidth(fields.get(i).getType());
+      // variable-length field
+      widths[i] = width > 0 ? width : 8;
+    }
+    return widths;
+  }
+
+  /**
+   * Returns slot offset in compact layout relative to start of the row for every field of <code>
+   * schema</code>.
+   */
+  public static int[] fixedOffsets(Schema schema) {
+    int[] widths = slotWidths(schema);
+    int[] offsets = new int[widths.length];
+    int offset = BitUtils.calculateBitmapWidthInBytes(widths.length);
+    for (int width = 8; width > 0; width >>= 1) {
+      for (int i = 0; i < widths.length; i++) {
+        if (widths[i] == width) {
+          offsets[i] = offset;
+          offset += width;
+        }
+      }
+    }
+    return offsets;
+  }
+
+  /** Returns size of bitmap and fixed-length region in compact layout, aligned to 8 bytes. */
+  public static int fixedSizeInBytes(Schema schema) {
+    int size = BitUtils.calculateBitmapWidthInBytes(schema.getFields().size());
+    for (int width : slotWidths(schema)) {
+      size += width;
+    }
+    return (size + 7) & ~7;
+  }
+}
@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.arrow.vector.util.DecimalUtility;
 import org.apache.fury.format.row.Getters;
 import org.apache.fury.format.row.Setters;
@@ -55,6 +56,11 @@ abstract class UnsafeTrait implements Getters, Setters {
 
   abstract int getOffset(int ordinal);
 
+  /** Whether nested rows use {@link CompactBinaryRow} layout. */
+  boolean compactRows() {
+    return false;
+  }
+
   // ###########################################################
   // ####################### getters #######################
   // ###########################################################
@@ -150,7 +156,8 @@ abstract class UnsafeTrait implements Getters, Setters {
     final long offsetAndSize = getInt64(ordinal);
     final int relativeOffset = (int) (offsetAndSize >> 32);
     final int size = (int) offsetAndSize;
-    BinaryRow row = new BinaryRow(DataTypes.createSchema(field));
+    Schema schema = DataTypes.createSchema(field);
+    BinaryRow row = compactRows() ? new CompactBinaryRow(schema) : new BinaryRow(schema);
     row.pointTo(getBuffer(), getBaseOffset() + relativeOffset, size);
     return row;
   }
@@ -162,7 +169,7 @@ abstract class UnsafeTrait implements Getters, Setters {
     final long offsetAndSize = getInt64(ordinal);
     final int relativeOffset = (int) (offsetAndSize >> 32);
     final int size = (int) offsetAndSize;
-    BinaryArray array = new BinaryArray(field);
+    BinaryArray array = new BinaryArray(field, compactRows());
     array.pointTo(getBuffer(), getBaseOffset() + relativeOffset, size);
     return array;
   }
@@ -174,7 +181,7 @@ abstract class UnsafeTrait implements Getters, Setters {
     final long offsetAndSize = getInt64(ordinal);
     final int relativeOffset = (int) (offsetAndSize >> 32);
     final int size = (int) offsetAndSize;
-    BinaryMap map = new BinaryMap(field);
+    BinaryMap map = new BinaryMap(field, compactRows());
     map.pointTo(getBuffer(), getBaseOffset() + relativeOffset, size);
     return map;
   }
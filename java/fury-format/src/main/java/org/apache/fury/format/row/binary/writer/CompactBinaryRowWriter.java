@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.row.binary.writer;
+
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.fury.format.row.binary.BinaryRow;
+import org.apache.fury.format.row.binary.CompactBinaryRow;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryUtils;
+
+/**
+ * Writer to write data into buffer using compact row format, see {@link CompactBinaryRow}.
+ *
+ * <p>The whole fixed-length region is zeroed once in {@code reset()}, so small values are stored
+ * with their natural width directly instead of clearing an 8-byte slot first.
+ */
+public class CompactBinaryRowWriter extends BinaryRowWriter {
+  private final int[] fixedOffsets;
+  private final int fixedSize;
+
+  public CompactBinaryRowWriter(Schema schema) {
+    super(schema);
+    this.fixedOffsets = CompactBinaryRow.fixedOffsets(schema);
+    this.fixedSize = CompactBinaryRow.fixedSizeInBytes(schema);
+  }
+
+  public CompactBinaryRowWriter(Schema schema, BinaryWriter writer) {
+    super(schema, writer);
+    this.fixedOffsets = CompactBinaryRow.fixedOffsets(schema);
+    this.fixedSize = CompactBinaryRow.fixedSizeInBytes(schema);
+  }
+
+  @Override
+  public void reset() {
+    super.startIndex = buffer.writerIndex();
+    grow(fixedSize);
+    buffer._increaseWriterIndexUnsafe(fixedSize);
+    int end = startIndex + fixedSize;
+    for (int i = startIndex; i < end; i += 8) {
+      buffer.putInt64(i, 0L);
+    }
+  }
+
+  @Override
+  public int getOffset(int ordinal) {
+    return startIndex + fixedOffsets[ordinal];
+  }
+
+  @Override
+  public void write(int ordinal, byte value) {
+    buffer.putByte(getOffset(ordinal), value);
+  }
+
+  @Override
+  public void write(int ordinal, boolean value) {
+    buffer.putBoolean(getOffset(ordinal), value);
+  }
+
+  @Override
+  public void write(int ordinal, short value) {
+    buffer.putInt16(getOffset(ordinal), value);
+  }
+
+  @Override
+  public void write(int ordinal, int value) {
+    buffer.putInt32(getOffset(ordinal), value);
+  }
+
+  @Override
+  public void write(int ordinal, float value) {
+    buffer.putFloat32(getOffset(ordinal), value);
+  }
+
+  @Override
+  public BinaryRow getRow() {
+    BinaryRow row = new CompactBinaryRow(getSchema());
+    row.pointTo(buffer, startIndex, size());
+    return row;
+  }
+
+  @Override
+  public BinaryRow copyToRow() {
+    BinaryRow row = new CompactBinaryRow(getSchema());
+    int size = size();
+    MemoryBuffer buffer = MemoryUtils.buffer(size);
+    this.buffer.copyTo(startIndex, buffer, 0, size);
+    row.pointTo(buffer, 0, size);
+    return row;
+  }
+}
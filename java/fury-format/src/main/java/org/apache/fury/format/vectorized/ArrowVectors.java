@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.vectorized;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.VarCharVector;
+
+/**
+ * Accessors for values of arrow vectors which can't be read or written by a single vector method,
+ * used by code generated by {@link org.apache.fury.format.encoder.ArrowEncoderBuilder}.
+ */
+public class ArrowVectors {
+
+  public static void setBoolean(BitVector vector, int index, boolean value) {
+    vector.setSafe(index, value ? 1 : 0);
+  }
+
+  public static boolean getBoolean(BitVector vector, int index) {
+    return vector.get(index) != 0;
+  }
+
+  public static void setString(VarCharVector vector, int index, String value) {
+    vector.setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String getString(VarCharVector vector, int index) {
+    return new String(vector.get(index), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Data;
+import org.apache.arrow.vector.VectorLoader;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.fury.format.row.binary.BinaryRow;
+import org.apache.fury.format.vectorized.ArrowUtils;
+import org.apache.fury.format.vectorized.ArrowWriter;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ArrowEncoderTest {
+
+  public enum Color {
+    RED,
+    GREEN
+  }
+
+  @Data
+  public static class Record {
+    private boolean f1;
+    private byte f2;
+    private short f3;
+    private int f4;
+    private long f5;
+    private float f6;
+    private double f7;
+    private Integer f8;
+    private Long f9;
+    private String f10;
+    private Color f11;
+    private BigDecimal f12;
+    private BigInteger f13;
+    private LocalDate f14;
+    private Instant f15;
+    private Boolean f16;
+  }
+
+  @Data
+  public static class FlatRecord {
+    private int f1;
+    private long f2;
+    private double f3;
+    private Integer f4;
+    private String f5;
+    private BigDecimal f6;
+    private LocalDate f7;
+  }
+
+  @Data
+  public static class NestedRecord {
+    private int f1;
+    private List<String> f2;
+  }
+
+  private static Record createRecord(int i) {
+    Record record = new Record();
+    record.f1 = i % 2 == 0;
+    record.f2 = (byte) i;
+    record.f3 = (short) i;
+    record.f4 = i;
+    record.f5 = i * 100L;
+    record.f6 = i / 2.0f;
+    record.f7 = i / 3.0;
+    if (i % 3 != 0) {
+      record.f8 = i;
+      record.f10 = "str" + i;
+      record.f11 = Color.values()[i % 2];
+      record.f12 = new BigDecimal(i).setScale(18);
+      record.f13 = BigInteger.valueOf(i);
+      record.f14 = LocalDate.ofEpochDay(i);
+      record.f15 = Instant.ofEpochSecond(i);
+      record.f16 = true;
+    }
+    record.f9 = (long) i;
+    return record;
+  }
+
+  @Test
+  public void testWriteAndRead() {
+    ArrowEncoder<Record> encoder = Encoders.arrowEncoder(Record.class);
+    for (int i = 0; i < 100; i++) {
+      encoder.write(createRecord(i));
+    }
+    VectorSchemaRoot root = encoder.finish();
+    Assert.assertEquals(root.getRowCount(), 100);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(encoder.read(i), createRecord(i));
+    }
+    ArrowEncoder<Record> decoder = Encoders.arrowEncoder(Record.class, root);
+    Assert.assertEquals(decoder.rowCount(), 100);
+    Assert.assertEquals(decoder.read(10), createRecord(10));
+    encoder.reset();
+    encoder.write(createRecord(1));
+    Assert.assertEquals(encoder.finish().getRowCount(), 1);
+    Assert.assertEquals(encoder.read(0), createRecord(1));
+    root.close();
+  }
+
+  private static FlatRecord createFlatRecord(int i) {
+    FlatRecord record = new FlatRecord();
+    record.f1 = i;
+    record.f2 = i * 100L;
+    record.f3 = i / 3.0;
+    if (i % 3 != 0) {
+      record.f4 = i;
+      record.f5 = "str" + i;
+      record.f6 = new BigDecimal(i).setScale(18);
+      record.f7 = LocalDate.ofEpochDay(i);
+    }
+    return record;
+  }
+
+  @Test
+  public void testConsistentWithArrowWriter() {
+    RowEncoder<FlatRecord> rowEncoder = Encoders.bean(FlatRecord.class);
+    ArrowWriter arrowWriter = ArrowUtils.createArrowWriter(rowEncoder.schema());
+    ArrowEncoder<FlatRecord> encoder = Encoders.arrowEncoder(FlatRecord.class);
+    for (int i = 0; i < 10; i++) {
+      BinaryRow row = rowEncoder.toRow(createFlatRecord(i));
+      arrowWriter.write(row);
+      encoder.write(createFlatRecord(i));
+    }
+    ArrowRecordBatch expected = arrowWriter.finishAsRecordBatch();
+    ArrowRecordBatch batch = encoder.finishAsRecordBatch();
+    Assert.assertEquals(batch.getLength(), expected.getLength());
+    VectorSchemaRoot root = ArrowUtils.createVectorSchemaRoot(rowEncoder.schema());
+    new VectorLoader(root).load(expected);
+    ArrowEncoder<FlatRecord> decoder = Encoders.arrowEncoder(FlatRecord.class, root);
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(decoder.read(i), createFlatRecord(i));
+    }
+    expected.close();
+    batch.close();
+  }
+
+  @Test
+  public void testUnsupported() {
+    Assert.assertTrue(ArrowEncoderBuilder.isSupported(Record.class));
+    Assert.assertFalse(ArrowEncoderBuilder.isSupported(NestedRecord.class));
+    Assert.assertFalse(ArrowEncoderBuilder.isSupported(BeanA.class));
+    Assert.assertThrows(
+        UnsupportedOperationException.class, () -> Encoders.arrowEncoder(NestedRecord.class));
+  }
+}
@@ -26,7 +26,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Data;
+import org.apache.fury.exception.ClassNotCompatibleException;
 import org.apache.fury.format.row.binary.BinaryRow;
+import org.apache.fury.format.row.binary.CompactBinaryRow;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.test.bean.BeanA;
@@ -87,6 +89,26 @@ public class RowEncoderTest {
     public String f2;
   }
 
+  @Test
+  public void testCompactEncoder() {
+    RowEncoder<BeanA> encoder = Encoders.compactBean(BeanA.class);
+    for (int i = 0; i < 3; i++) {
+      BeanA beanA = BeanA.createBeanA(2);
+      BinaryRow row = encoder.toRow(beanA);
+      Assert.assertTrue(row instanceof CompactBinaryRow);
+      Assert.assertEquals(encoder.fromRow(row), beanA);
+      Assert.assertEquals(encoder.decode(encoder.encode(beanA)), beanA);
+    }
+    Foo foo = new Foo();
+    RowEncoder<Foo> fooEncoder = Encoders.compactBean(Foo.class);
+    byte[] bytes = fooEncoder.encode(foo);
+    Assert.assertEquals(fooEncoder.decode(bytes), foo);
+    Assert.assertTrue(bytes.length < Encoders.bean(Foo.class).encode(foo).length);
+    // layouts are not compatible.
+    Assert.assertThrows(
+        ClassNotCompatibleException.class, () -> Encoders.bean(Foo.class).decode(bytes));
+  }
+
   @Test
   public void testImportInnerClass() {
     Foo foo = new Foo();
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.row.binary;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.fury.format.row.binary.writer.BinaryRowWriter;
+import org.apache.fury.format.row.binary.writer.CompactBinaryRowWriter;
+import org.apache.fury.format.type.DataTypes;
+import org.testng.annotations.Test;
+
+public class CompactBinaryRowTest {
+  private static final Schema SCHEMA =
+      new Schema(
+          Arrays.asList(
+              DataTypes.field("f_byte", false, DataTypes.int8()),
+              DataTypes.field("f_int", false, DataTypes.int32()),
+              DataTypes.field("f_long", false, DataTypes.int64()),
+              DataTypes.field("f_short", false, DataTypes.int16()),
+              DataTypes.field("f_boolean", false, DataTypes.bool()),
+              DataTypes.field("f_float", false, DataTypes.float32()),
+              DataTypes.field("f_string", DataTypes.utf8()),
+              DataTypes.field("f_date", true, DataTypes.date32())));
+
+  @Test
+  public void testLayout() {
+    // 8 bytes bitmap, then long/string slots, then int/float/date slots, then short, then bytes.
+    assertEquals(CompactBinaryRow.fixedOffsets(SCHEMA), new int[] {38, 24, 8, 36, 39, 28, 16, 32});
+    assertEquals(CompactBinaryRow.fixedSizeInBytes(SCHEMA), 40);
+    int[] offsets = CompactBinaryRow.fixedOffsets(SCHEMA);
+    int[] widths = CompactBinaryRow.slotWidths(SCHEMA);
+    for (int i = 0; i < offsets.length; i++) {
+      assertEquals(offsets[i] % widths[i], 0);
+    }
+  }
+
+  private static void write(BinaryRowWriter writer) {
+    writer.reset();
+    writer.write(0, (byte) -1);
+    writer.write(1, Integer.MIN_VALUE);
+    writer.write(2, Long.MAX_VALUE);
+    writer.write(3, (short) -2);
+    writer.write(4, true);
+    writer.write(5, 1.5f);
+    writer.write(6, "str");
+    writer.setNullAt(7);
+  }
+
+  @Test
+  public void testReadWrite() {
+    CompactBinaryRowWriter writer = new CompactBinaryRowWriter(SCHEMA);
+    write(writer);
+    BinaryRow row = writer.getRow();
+    assertTrue(row instanceof CompactBinaryRow);
+    assertEquals(row.getByte(0), (byte) -1);
+    assertEquals(row.getInt32(1), Integer.MIN_VALUE);
+    assertEquals(row.getInt64(2), Long.MAX_VALUE);
+    assertEquals(row.getInt16(3), (short) -2);
+    assertTrue(row.getBoolean(4));
+    assertEquals(row.getFloat32(5), 1.5f);
+    assertEquals(row.getString(6), "str");
+    assertTrue(row.isNullAt(7));
+    assertEquals(row.copy().toString(), row.toString());
+
+    BinaryRowWriter defaultWriter = new BinaryRowWriter(SCHEMA);
+    write(defaultWriter);
+    BinaryRow defaultRow = defaultWriter.getRow();
+    assertEquals(row.toString(), defaultRow.toString());
+    assertTrue(row.getSizeInBytes() < defaultRow.getSizeInBytes());
+  }
+
+  @Test
+  public void testSetNullAt() {
+    CompactBinaryRowWriter writer = new CompactBinaryRowWriter(SCHEMA);
+    write(writer);
+    BinaryRow row = writer.copyToRow();
+    row.setNullAt(3);
+    assertTrue(row.isNullAt(3));
+    // neighbour slots must be kept.
+    assertEquals(row.getByte(0), (byte) -1);
+    assertTrue(row.getBoolean(4));
+    assertEquals(row.getInt32(7), 0);
+    row.setInt16(3, (short) 3);
+    assertFalse(row.isNullAt(3));
+    assertEquals(row.getInt16(3), (short) 3);
+  }
+}